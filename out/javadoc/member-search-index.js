@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"chariot.model","c":"Enums.RatingGroup","l":"_0"},{"p":"chariot.model","c":"Enums.RatingGroup.Provider","l":"_0()"},{"p":"chariot.model","c":"Enums.Level","l":"_1"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"_1000"},{"p":"chariot.model","c":"Enums.RatingGroup.Provider","l":"_1000()"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"_1200"},{"p":"chariot.model","c":"Enums.RatingGroup.Provider","l":"_1200()"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"_1400"},{"p":"chariot.model","c":"Enums.RatingGroup.Provider","l":"_1400()"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"_1600"},{"p":"chariot.model","c":"Enums.RatingGroup.Provider","l":"_1600()"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"_1800"},{"p":"chariot.model","c":"Enums.RatingGroup.Provider","l":"_1800()"},{"p":"chariot.model","c":"Enums.Level","l":"_2"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"_2000"},{"p":"chariot.model","c":"Enums.RatingGroup.Provider","l":"_2000()"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"_2200"},{"p":"chariot.model","c":"Enums.RatingGroup.Provider","l":"_2200()"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"_2500"},{"p":"chariot.model","c":"Enums.RatingGroup.Provider","l":"_2500()"},{"p":"chariot.model","c":"Enums.Level","l":"_3"},{"p":"chariot.model","c":"Enums.Level","l":"_4"},{"p":"chariot.model","c":"Enums.Level","l":"_5"},{"p":"chariot.model","c":"Enums.Level","l":"_6"},{"p":"chariot.model","c":"Enums.Level","l":"_7"},{"p":"chariot.model","c":"Enums.Level","l":"_8"},{"p":"chariot.model","c":"StormDashboard.Day","l":"_id()"},{"p":"chariot.model","c":"UserData","l":"_id()"},{"p":"chariot.model","c":"UserData","l":"_name()"},{"p":"chariot.model","c":"UserData","l":"_userData()"},{"p":"chariot.model","c":"UserData","l":"_username()"},{"p":"chariot.api","c":"BoardAuth","l":"abort(String)","u":"abort(java.lang.String)"},{"p":"chariot.api","c":"BotAuth","l":"abort(String)","u":"abort(java.lang.String)"},{"p":"chariot.model","c":"Enums.Status","l":"aborted"},{"p":"chariot.model","c":"Swiss.Stats","l":"absences()"},{"p":"chariot.model","c":"SwissResult","l":"absent()"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"accept(String)","u":"accept(java.lang.String)"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"acceptChallenge(String)","u":"acceptChallenge(java.lang.String)"},{"p":"chariot.model","c":"Arena.Verdict","l":"accepted()"},{"p":"chariot.model","c":"TokenResult.AccessToken","l":"access_token()"},{"p":"chariot.model","c":"TokenResult.AccessToken","l":"AccessToken(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot","c":"ClientAuth","l":"account()"},{"p":"chariot.model","c":"GameInfo.Account","l":"Account(String, String, int, Opt<Integer>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,int,chariot.model.Opt)"},{"p":"chariot.model","c":"Player","l":"account(UserCommon, int, boolean)","u":"account(chariot.model.UserCommon,int,boolean)"},{"p":"chariot.model","c":"Player","l":"account(UserCommon, int, boolean, int)","u":"account(chariot.model.UserCommon,int,boolean,int)"},{"p":"chariot.model","c":"Player.Account","l":"Account(UserCommon, int, boolean, Opt<Integer>, Opt<Player.ArenaInfo>)","u":"%3Cinit%3E(chariot.model.UserCommon,int,boolean,chariot.model.Opt,chariot.model.Opt)"},{"p":"chariot.model","c":"GameStateEvent.Account","l":"Account(UserInfo, int, boolean)","u":"%3Cinit%3E(chariot.model.UserInfo,int,boolean)"},{"p":"chariot.model","c":"AccountPreferences","l":"AccountPreferences(AccountPreferences.Prefs)","u":"%3Cinit%3E(chariot.model.AccountPreferences.Prefs)"},{"p":"chariot.model","c":"User","l":"accountStats()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"accuracy()"},{"p":"chariot.model","c":"Analysis","l":"accuracy()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"accuracy(boolean)"},{"p":"chariot.model","c":"Analysis","l":"acpl()"},{"p":"chariot.api","c":"ExternalEngine","l":"acquire(String)","u":"acquire(java.lang.String)"},{"p":"chariot.api","c":"GameSessions.Metrics","l":"active()"},{"p":"chariot.api","c":"GameSessions","l":"activeGames()"},{"p":"chariot.model","c":"Activity","l":"activities()"},{"p":"chariot.api","c":"PuzzlesAuth","l":"activity()"},{"p":"chariot.model","c":"Activity","l":"Activity(Activity.Interval, Set<Activity.Type>)","u":"%3Cinit%3E(chariot.model.Activity.Interval,java.util.Set)"},{"p":"chariot.api","c":"PuzzlesAuth","l":"activity(Consumer<PuzzlesAuth.PuzzleActivityParams>)","u":"activity(java.util.function.Consumer)"},{"p":"chariot.api","c":"PuzzlesAuth","l":"activity(int)"},{"p":"chariot.api","c":"UsersBase","l":"activityById(String)","u":"activityById(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"addForbiddenPairing(String, String)","u":"addForbiddenPairing(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"addForbiddenPairing(TournamentsAuth.SwissParams.Pairing)","u":"addForbiddenPairing(chariot.api.TournamentsAuth.SwissParams.Pairing)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"addForbiddenPairings(Collection<TournamentsAuth.SwissParams.Pairing>)","u":"addForbiddenPairings(java.util.Collection)"},{"p":"chariot.api","c":"Games","l":"addGameIdsToStream(String, Set<String>)","u":"addGameIdsToStream(java.lang.String,java.util.Set)"},{"p":"chariot.api","c":"Games","l":"addGameIdsToStream(String, String...)","u":"addGameIdsToStream(java.lang.String,java.lang.String...)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"addManualBye(String)","u":"addManualBye(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"addManualPairing(String, String)","u":"addManualPairing(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"addManualPairing(TournamentsAuth.SwissParams.Pairing)","u":"addManualPairing(chariot.api.TournamentsAuth.SwissParams.Pairing)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"addManualPairings(Collection<TournamentsAuth.SwissParams.Pairing>)","u":"addManualPairings(java.util.Collection)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"addPairing(ChallengesAuth.BulkParams.Pairing)","u":"addPairing(chariot.api.ChallengesAuth.BulkParams.Pairing)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"addPairing(String, String)","u":"addPairing(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"addPairing(Supplier<char[]>, Supplier<char[]>)","u":"addPairing(java.util.function.Supplier,java.util.function.Supplier)"},{"p":"chariot.api","c":"ChallengesAuth","l":"addTimeToGame(String, int)","u":"addTimeToGame(java.lang.String,int)"},{"p":"chariot","c":"ClientAuth","l":"admin()"},{"p":"chariot.model","c":"Activity.Result.RP","l":"after()"},{"p":"chariot.model","c":"UserCount","l":"ai()"},{"p":"chariot.model","c":"AI","l":"AI(int)","u":"%3Cinit%3E(int)"},{"p":"chariot.model","c":"AI","l":"AI(int, String)","u":"%3Cinit%3E(int,java.lang.String)"},{"p":"chariot.api","c":"Builders.LogLevel","l":"all()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"all()"},{"p":"chariot.model","c":"UserCount","l":"all()"},{"p":"chariot.model","c":"Enums.ChatFor","l":"allLichessPlayers"},{"p":"chariot.model","c":"Enums.ChatFor.Provider","l":"allLichessPlayers()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"allowList(List<String>)","u":"allowList(java.util.List)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"allowList(List<String>)","u":"allowList(java.util.List)"},{"p":"chariot.model","c":"StormDashboard.High","l":"allTime()"},{"p":"chariot.api","c":"ExternalEngine","l":"analyse(String, Consumer<ExternalEngine.AnalysisParameters>)","u":"analyse(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"analysed()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"analysed(boolean)"},{"p":"chariot.model","c":"Player.Analysed","l":"Analysed(Player, Analysis)","u":"%3Cinit%3E(chariot.model.Player,chariot.model.Analysis)"},{"p":"chariot","c":"Client","l":"analysis()"},{"p":"chariot","c":"ClientAuth","l":"analysis()"},{"p":"chariot.model","c":"Game","l":"analysis()"},{"p":"chariot.model","c":"Player.Analysed","l":"analysis()"},{"p":"chariot.model","c":"Analysis","l":"Analysis(int, int, int, int, Opt<Integer>)","u":"%3Cinit%3E(int,int,int,int,chariot.model.Opt)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"animation()"},{"p":"chariot.model","c":"Game.AnnotatedEval","l":"AnnotatedEval(int, String, String, Game.Judgment)","u":"%3Cinit%3E(int,java.lang.String,java.lang.String,chariot.model.Game.Judgment)"},{"p":"chariot.model","c":"Anonymous","l":"Anonymous()","u":"%3Cinit%3E()"},{"p":"chariot.api","c":"ExternalEngine","l":"answer(String, InputStream)","u":"answer(java.lang.String,java.io.InputStream)"},{"p":"chariot.model","c":"Enums.Channel","l":"antichess"},{"p":"chariot.model","c":"Enums.GameVariant","l":"antichess"},{"p":"chariot.model","c":"Enums.PerfType","l":"antichess"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"antichess"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"antichess"},{"p":"chariot.model","c":"Enums.VariantName","l":"antichess"},{"p":"chariot.model","c":"StatsPerfType","l":"antichess"},{"p":"chariot.model","c":"VariantType.Variant","l":"antichess"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"antichess()"},{"p":"chariot.model","c":"Enums.GameVariant.Provider","l":"antichess()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"antichess()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"antichess()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"antichess()"},{"p":"chariot.model","c":"Enums.VariantName.Provider","l":"antichess()"},{"p":"chariot.model","c":"TVChannels","l":"antichess()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Antichess","l":"antichess()"},{"p":"chariot.model","c":"UserTopAll","l":"antichess()"},{"p":"chariot.api","c":"Tablebase","l":"antichess(String)","u":"antichess(java.lang.String)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Antichess","l":"Antichess(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot","c":"Client.Scope","l":"any"},{"p":"chariot.model","c":"ChallengeOpenEnded.Any","l":"Any()","u":"%3Cinit%3E()"},{"p":"chariot.api","c":"Builders.RateLimitsBuilder","l":"api(Consumer<Builders.RateLimitBuilder>)","u":"api(java.util.function.Consumer)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"api(String)","u":"api(java.lang.String)"},{"p":"chariot.api","c":"Builders.ServerBuilder","l":"api(String)","u":"api(java.lang.String)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"api(URI)","u":"api(java.net.URI)"},{"p":"chariot.api","c":"Builders.ServerBuilder","l":"api(URI)","u":"api(java.net.URI)"},{"p":"chariot.model","c":"TournamentId","l":"arena(String)","u":"arena(java.lang.String)"},{"p":"chariot.api","c":"Tournaments","l":"arenaById(String)","u":"arenaById(java.lang.String)"},{"p":"chariot.api","c":"Tournaments","l":"arenaById(String, int)","u":"arenaById(java.lang.String,int)"},{"p":"chariot.api","c":"Teams","l":"arenaByTeamId(String)","u":"arenaByTeamId(java.lang.String)"},{"p":"chariot.api","c":"Teams","l":"arenaByTeamId(String, int)","u":"arenaByTeamId(java.lang.String,int)"},{"p":"chariot.api","c":"TeamsAsync","l":"arenaByTeamId(String, int)","u":"arenaByTeamId(java.lang.String,int)"},{"p":"chariot.model","c":"TournamentId.ArenaId","l":"ArenaId(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"chariot.model","c":"Player.Account","l":"arenaInfo()"},{"p":"chariot.model","c":"Player.ArenaInfo","l":"ArenaInfo(Opt<Boolean>, Opt<String>)","u":"%3Cinit%3E(chariot.model.Opt,chariot.model.Opt)"},{"p":"chariot.model","c":"ArenaResult","l":"ArenaResult(Integer, Integer, Integer, String, String, Integer, String, String)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.String,java.lang.String,java.lang.Integer,java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"Tournaments","l":"arenasCreatedByUserId(String)","u":"arenasCreatedByUserId(java.lang.String)"},{"p":"chariot.api","c":"Tournaments","l":"arenasCreatedByUserId(String, Enums.TournamentState...)","u":"arenasCreatedByUserId(java.lang.String,chariot.model.Enums.TournamentState...)"},{"p":"chariot.api","c":"Tournaments","l":"arenasCreatedByUserId(String, Set<Enums.TournamentState>)","u":"arenasCreatedByUserId(java.lang.String,java.util.Set)"},{"p":"chariot.util","c":"Board.CastlingRights","l":"as960()"},{"p":"chariot.util","c":"Board.FEN","l":"as960()"},{"p":"chariot","c":"Client","l":"asAuth()"},{"p":"chariot.util","c":"Board.CastlingRights","l":"asStandard()"},{"p":"chariot.util","c":"Board.FEN","l":"asStandard()"},{"p":"chariot","c":"Client.Scope","l":"asString()"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"asString()"},{"p":"chariot.model","c":"PerformanceStatistics.DateResult","l":"at()"},{"p":"chariot.model","c":"PerformanceStatistics.Result","l":"at()"},{"p":"chariot.model","c":"PerformanceStatistics.StreakPoint","l":"at()"},{"p":"chariot.model","c":"Swiss.NextRound","l":"at()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.Provider","l":"atDate(Function<ZonedDateTime, ZonedDateTime>)","u":"atDate(java.util.function.Function)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.Provider","l":"atDate(long)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.AtDate","l":"AtDate(long)","u":"%3Cinit%3E(long)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.Provider","l":"atDate(ZonedDateTime)","u":"atDate(java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Enums.Channel","l":"atomic"},{"p":"chariot.model","c":"Enums.GameVariant","l":"atomic"},{"p":"chariot.model","c":"Enums.PerfType","l":"atomic"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"atomic"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"atomic"},{"p":"chariot.model","c":"Enums.VariantName","l":"atomic"},{"p":"chariot.model","c":"StatsPerfType","l":"atomic"},{"p":"chariot.model","c":"VariantType.Variant","l":"atomic"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"atomic()"},{"p":"chariot.model","c":"Enums.GameVariant.Provider","l":"atomic()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"atomic()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"atomic()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"atomic()"},{"p":"chariot.model","c":"Enums.VariantName.Provider","l":"atomic()"},{"p":"chariot.model","c":"TVChannels","l":"atomic()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Atomic","l":"atomic()"},{"p":"chariot.model","c":"UserTopAll","l":"atomic()"},{"p":"chariot.api","c":"Tablebase","l":"atomic(String)","u":"atomic(java.lang.String)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Atomic","l":"Atomic(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.api","c":"Builders.LoggingBuilder","l":"auth()"},{"p":"chariot","c":"Client","l":"auth(Consumer<Builders.ConfigBuilder>, Consumer<URI>, Consumer<Client.PkceConfig>)","u":"auth(java.util.function.Consumer,java.util.function.Consumer,java.util.function.Consumer)"},{"p":"chariot","c":"Client","l":"auth(Consumer<Builders.ConfigBuilder>, String)","u":"auth(java.util.function.Consumer,java.lang.String)"},{"p":"chariot","c":"Client","l":"auth(Consumer<Builders.ConfigBuilder>, Supplier<char[]>)","u":"auth(java.util.function.Consumer,java.util.function.Supplier)"},{"p":"chariot","c":"Client","l":"auth(Consumer<URI>, Consumer<Client.PkceConfig>)","u":"auth(java.util.function.Consumer,java.util.function.Consumer)"},{"p":"chariot","c":"Client","l":"auth(String)","u":"auth(java.lang.String)"},{"p":"chariot","c":"Client","l":"auth(Supplier<char[]>)","u":"auth(java.util.function.Supplier)"},{"p":"chariot","c":"Client.AuthFail","l":"AuthFail(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"chariot.model","c":"UserProfileData","l":"authFlags()"},{"p":"chariot","c":"Client.AuthOk","l":"AuthOk(ClientAuth)","u":"%3Cinit%3E(chariot.ClientAuth)"},{"p":"chariot.model","c":"Swiss.Quote","l":"author()"},{"p":"chariot.api","c":"UsersBase","l":"autocompleteNames(String)","u":"autocompleteNames(java.lang.String)"},{"p":"chariot.api","c":"UsersAuth","l":"autocompleteNames(String, boolean)","u":"autocompleteNames(java.lang.String,boolean)"},{"p":"chariot.api","c":"UsersBase","l":"autocompleteUsers(String)","u":"autocompleteUsers(java.lang.String)"},{"p":"chariot.api","c":"UsersAuth","l":"autocompleteUsers(String, boolean)","u":"autocompleteUsers(java.lang.String,boolean)"},{"p":"chariot.api","c":"BroadcastsAuth.BroadcastBuilder","l":"autoLeaderboard()"},{"p":"chariot.api","c":"BroadcastsAuth.BroadcastBuilder","l":"autoLeaderboard(boolean)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"autoQueen()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"autoThreefold()"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"averageOpponentRating()"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"averageRating()"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"averageRating()"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"averageRating()"},{"p":"chariot.model","c":"Swiss.Stats","l":"averageRating()"},{"p":"chariot","c":"Client","l":"basic()"},{"p":"chariot","c":"Client","l":"basic(Consumer<Builders.ConfigBuilder>)","u":"basic(java.util.function.Consumer)"},{"p":"chariot.model","c":"Pgn.BasicPgn","l":"BasicPgn(List<Pgn.Tag>, String)","u":"%3Cinit%3E(java.util.List,java.lang.String)"},{"p":"chariot.model","c":"Pgn.Tag.BasicTag","l":"BasicTag(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"MoveInfo.Move","l":"bc()"},{"p":"chariot.model","c":"Activity.Result.RP","l":"before()"},{"p":"chariot.api","c":"PuzzlesAuth.PuzzleActivityParams","l":"before(UnaryOperator<ZonedDateTime>)","u":"before(java.util.function.UnaryOperator)"},{"p":"chariot.api","c":"PuzzlesAuth.PuzzleActivityParams","l":"before(ZonedDateTime)","u":"before(java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Arena.Finished.Podium.NB","l":"berserk()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium.NB","l":"berserk()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"berserk()"},{"p":"chariot.model","c":"Player.ArenaInfo","l":"berserk()"},{"p":"chariot.api","c":"BoardAuth","l":"berserk(String)","u":"berserk(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"berserkable()"},{"p":"chariot.model","c":"Arena","l":"berserkable()"},{"p":"chariot.model","c":"Arena.Finished","l":"berserkable()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"berserkable()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"berserkable()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"berserkable()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"berserkable()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"berserkable()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"berserkable(boolean)"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"berserks()"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"berserks()"},{"p":"chariot.model","c":"Activity.Type.Tournaments","l":"best()"},{"p":"chariot.model","c":"Game.AnnotatedEval","l":"best()"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"bestWins()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"bgImg()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"binc()"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"bio"},{"p":"chariot.model","c":"ProvidedProfile","l":"bio()"},{"p":"chariot.model","c":"UserData.Provided","l":"bio()"},{"p":"chariot.util","c":"Board.PieceType","l":"BISHOP"},{"p":"chariot.model","c":"Enums.Color","l":"black"},{"p":"chariot.model","c":"Enums.ColorPref","l":"black"},{"p":"chariot.util","c":"Board.Side","l":"BLACK"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"black()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"black()"},{"p":"chariot.model","c":"BulkPairing.Game","l":"black()"},{"p":"chariot.model","c":"Enums.Color.Provider","l":"black()"},{"p":"chariot.model","c":"Enums.ColorPref.Provider","l":"black()"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"black()"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"black()"},{"p":"chariot.model","c":"ExploreResult.ERStats","l":"black()"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"black()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"black()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"black()"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"black()"},{"p":"chariot.model","c":"Game.Players","l":"black()"},{"p":"chariot.model","c":"GameMeta.Players","l":"black()"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"black()"},{"p":"chariot.model","c":"MoveInfo.Players","l":"black()"},{"p":"chariot.model","c":"TVFeedEvent.Fen","l":"blackTime()"},{"p":"chariot.util","c":"Board","l":"blackToMove()"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"blackWins()"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"blackWins()"},{"p":"chariot.model","c":"Swiss.Stats","l":"blackWins()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"blindfold()"},{"p":"chariot.model","c":"Enums.Channel","l":"blitz"},{"p":"chariot.model","c":"Enums.PerfType","l":"blitz"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"blitz"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"blitz"},{"p":"chariot.model","c":"Enums.Speed","l":"blitz"},{"p":"chariot.model","c":"StatsPerfType","l":"blitz"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"blitz()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"blitz()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"blitz()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"blitz()"},{"p":"chariot.model","c":"Enums.Speed.Provider","l":"blitz()"},{"p":"chariot.model","c":"TVChannels","l":"blitz()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Blitz","l":"blitz()"},{"p":"chariot.model","c":"UserTopAll","l":"blitz()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Blitz","l":"Blitz(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.model","c":"UserAuth","l":"blocked()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"blocking"},{"p":"chariot.model","c":"UserAuthFlags","l":"blocking()"},{"p":"chariot.model","c":"TimelineEntry.BlogPost","l":"BlogPost(String, String, String, ZonedDateTime)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Game.Severity","l":"Blunder"},{"p":"chariot.model","c":"Analysis","l":"blunder()"},{"p":"chariot","c":"Client.Scope","l":"board_play"},{"p":"chariot","c":"ClientAuth","l":"board()"},{"p":"chariot.model","c":"Event.Compat","l":"board()"},{"p":"chariot.util","c":"Board.BoardData","l":"BoardData(Map<Board.Coordinate, Board.Piece>, Board.FEN, List<Board.FEN>, Board.GameState)","u":"%3Cinit%3E(java.util.Map,chariot.util.Board.FEN,java.util.List,chariot.util.Board.GameState)"},{"p":"chariot.util","c":"Board.BoardData","l":"BoardData(Map<Board.Coordinate, Board.Piece>, Board.FEN, List<Board.FEN>, Board.GameState, long, List<Long>)","u":"%3Cinit%3E(java.util.Map,chariot.util.Board.FEN,java.util.List,chariot.util.Board.GameState,long,java.util.List)"},{"p":"chariot.api","c":"Custom.Request","l":"body(Map<String, Object>)","u":"body(java.util.Map)"},{"p":"chariot.api","c":"Custom.Request","l":"body(String)","u":"body(java.lang.String)"},{"p":"chariot.model","c":"UserCount","l":"bookmark()"},{"p":"chariot.model","c":"Enums.Channel","l":"bot"},{"p":"chariot","c":"Client.Scope","l":"bot_play"},{"p":"chariot","c":"Client","l":"bot()"},{"p":"chariot","c":"ClientAuth","l":"bot()"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"bot()"},{"p":"chariot.model","c":"Event.Compat","l":"bot()"},{"p":"chariot.model","c":"TVChannels","l":"bot()"},{"p":"chariot.api","c":"Bot","l":"botsOnline()"},{"p":"chariot.api","c":"Bot","l":"botsOnline(int)"},{"p":"chariot.model","c":"Broadcast","l":"Broadcast(Broadcast.Tour, List<Broadcast.Round>, List<Broadcast.Score>)","u":"%3Cinit%3E(chariot.model.Broadcast.Tour,java.util.List,java.util.List)"},{"p":"chariot.api","c":"Broadcasts","l":"broadcastById(String)","u":"broadcastById(java.lang.String)"},{"p":"chariot.api","c":"Broadcasts","l":"broadcastById(String, Consumer<Broadcasts.BroadcastParameters>)","u":"broadcastById(java.lang.String,java.util.function.Consumer)"},{"p":"chariot","c":"Client","l":"broadcasts()"},{"p":"chariot","c":"ClientAuth","l":"broadcasts()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"btime()"},{"p":"chariot.api","c":"ChallengesAuth","l":"bulk(String)","u":"bulk(java.lang.String)"},{"p":"chariot.model","c":"BulkPairing","l":"BulkPairing(String, String, boolean, Long, Long, Long, Long, BulkPairing.Clock, List<BulkPairing.Game>, List<String>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,boolean,java.lang.Long,java.lang.Long,java.lang.Long,java.lang.Long,chariot.model.BulkPairing.Clock,java.util.List,java.util.List)"},{"p":"chariot.api","c":"ChallengesAuth","l":"bulks()"},{"p":"chariot.model","c":"Enums.Channel","l":"bullet"},{"p":"chariot.model","c":"Enums.PerfType","l":"bullet"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"bullet"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"bullet"},{"p":"chariot.model","c":"Enums.Speed","l":"bullet"},{"p":"chariot.model","c":"StatsPerfType","l":"bullet"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"bullet()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"bullet()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"bullet()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"bullet()"},{"p":"chariot.model","c":"Enums.Speed.Provider","l":"bullet()"},{"p":"chariot.model","c":"TVChannels","l":"bullet()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Bullet","l":"bullet()"},{"p":"chariot.model","c":"UserTopAll","l":"bullet()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Bullet","l":"Bullet(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.api","c":"Builders.RateLimitBuilder","l":"burst(int)"},{"p":"chariot.api","c":"Games","l":"byChannel(Enums.Channel)","u":"byChannel(chariot.model.Enums.Channel)"},{"p":"chariot.api","c":"Games","l":"byChannel(Enums.Channel, Consumer<Games.ChannelFilter>)","u":"byChannel(chariot.model.Enums.Channel,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games","l":"byChannel(Function<Enums.Channel.Provider, Enums.Channel>)","u":"byChannel(java.util.function.Function)"},{"p":"chariot.api","c":"Games","l":"byChannel(Function<Enums.Channel.Provider, Enums.Channel>, Consumer<Games.ChannelFilter>)","u":"byChannel(java.util.function.Function,java.util.function.Consumer)"},{"p":"chariot.model","c":"Swiss.Stats","l":"byes()"},{"p":"chariot.api","c":"Games","l":"byGameId(String)","u":"byGameId(java.lang.String)"},{"p":"chariot.api","c":"GamesAsync","l":"byGameId(String)","u":"byGameId(java.lang.String)"},{"p":"chariot.api","c":"Games","l":"byGameId(String, Consumer<Games.GameParams>)","u":"byGameId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"GamesAsync","l":"byGameId(String, Consumer<Games.GameParams>)","u":"byGameId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games","l":"byGameIds(Consumer<Games.GameParams>, String...)","u":"byGameIds(java.util.function.Consumer,java.lang.String...)"},{"p":"chariot.api","c":"Games","l":"byGameIds(Set<String>)","u":"byGameIds(java.util.Set)"},{"p":"chariot.api","c":"Games","l":"byGameIds(Set<String>, Consumer<Games.GameParams>)","u":"byGameIds(java.util.Set,java.util.function.Consumer)"},{"p":"chariot.api","c":"GamesAsync","l":"byGameIds(Set<String>, Consumer<Games.GameParams>)","u":"byGameIds(java.util.Set,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games","l":"byGameIds(String...)","u":"byGameIds(java.lang.String...)"},{"p":"chariot.api","c":"GamesAsync","l":"byGameIds(String...)","u":"byGameIds(java.lang.String...)"},{"p":"chariot.api","c":"Puzzles","l":"byId(String)","u":"byId(java.lang.String)"},{"p":"chariot.api","c":"PuzzlesAsync","l":"byId(String)","u":"byId(java.lang.String)"},{"p":"chariot.api","c":"Users","l":"byId(String)","u":"byId(java.lang.String)"},{"p":"chariot.api","c":"UsersAsync","l":"byId(String)","u":"byId(java.lang.String)"},{"p":"chariot.api","c":"UsersAuth","l":"byId(String)","u":"byId(java.lang.String)"},{"p":"chariot.api","c":"Users","l":"byId(String, Consumer<Users.UserParams>)","u":"byId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"UsersAsync","l":"byId(String, Consumer<Users.UserParams>)","u":"byId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"UsersAuth","l":"byId(String, Consumer<Users.UserParams>)","u":"byId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Users","l":"byIds(List<String>)","u":"byIds(java.util.List)"},{"p":"chariot.api","c":"UsersAsync","l":"byIds(List<String>)","u":"byIds(java.util.List)"},{"p":"chariot.api","c":"UsersAuth","l":"byIds(List<String>)","u":"byIds(java.util.List)"},{"p":"chariot.api","c":"Users","l":"byIds(String...)","u":"byIds(java.lang.String...)"},{"p":"chariot.api","c":"UsersAsync","l":"byIds(String...)","u":"byIds(java.lang.String...)"},{"p":"chariot.api","c":"UsersAuth","l":"byIds(String...)","u":"byIds(java.lang.String...)"},{"p":"chariot.api","c":"Teams","l":"byTeamId(String)","u":"byTeamId(java.lang.String)"},{"p":"chariot.api","c":"TeamsAsync","l":"byTeamId(String)","u":"byTeamId(java.lang.String)"},{"p":"chariot.api","c":"Games","l":"byUserId(String)","u":"byUserId(java.lang.String)"},{"p":"chariot.api","c":"GamesAsync","l":"byUserId(String)","u":"byUserId(java.lang.String)"},{"p":"chariot.api","c":"Teams","l":"byUserId(String)","u":"byUserId(java.lang.String)"},{"p":"chariot.api","c":"TeamsAsync","l":"byUserId(String)","u":"byUserId(java.lang.String)"},{"p":"chariot.api","c":"Games","l":"byUserId(String, Consumer<Games.SearchFilter>)","u":"byUserId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"GamesAsync","l":"byUserId(String, Consumer<Games.SearchFilter>)","u":"byUserId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"ChallengesAuth","l":"cancelBulk(String)","u":"cancelBulk(java.lang.String)"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"cancelChallenge(String)","u":"cancelChallenge(java.lang.String)"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"cancelChallenge(String, Supplier<char[]>)","u":"cancelChallenge(java.lang.String,java.util.function.Supplier)"},{"p":"chariot.model","c":"GameStateEvent.OpponentGone","l":"canClaim()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"captured()"},{"p":"chariot.util","c":"Board.Castling","l":"Castling(Board.FromTo, Board.FromTo)","u":"%3Cinit%3E(chariot.util.Board.FromTo,chariot.util.Board.FromTo)"},{"p":"chariot.util","c":"Board.FEN","l":"castlingRights()"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder.Mode","l":"casual"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"casual"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder.Mode.Provider","l":"casual()"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"casual()"},{"p":"chariot.model","c":"TablebaseResult","l":"category()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"category()"},{"p":"chariot.model","c":"Event.Type","l":"challenge"},{"p":"chariot","c":"Client.Scope","l":"challenge_bulk"},{"p":"chariot","c":"Client.Scope","l":"challenge_read"},{"p":"chariot","c":"Client.Scope","l":"challenge_write"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"challenge()"},{"p":"chariot.model","c":"Challenge.ChallengeWithRules","l":"challenge()"},{"p":"chariot.model","c":"Challenge.DeclinedChallenge","l":"challenge()"},{"p":"chariot.model","c":"Challenge.RematchChallenge","l":"challenge()"},{"p":"chariot.model","c":"ChallengeOpenEnded","l":"challenge()"},{"p":"chariot.model","c":"Event.ChallengeCanceledEvent","l":"challenge()"},{"p":"chariot.model","c":"Event.ChallengeCreatedEvent","l":"challenge()"},{"p":"chariot.model","c":"Event.ChallengeDeclinedEvent","l":"challenge()"},{"p":"chariot.model","c":"Event.ChallengeEvent","l":"challenge()"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"challenge(String, Consumer<ChallengesAuthCommon.ChallengeBuilder>)","u":"challenge(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"challengeAI(Consumer<ChallengesAuthCommon.ChallengeAIBuilder>)","u":"challengeAI(java.util.function.Consumer)"},{"p":"chariot.model","c":"ChallengeAI","l":"ChallengeAI(String, Enums.Speed, String, Enums.Color, ZonedDateTime)","u":"%3Cinit%3E(java.lang.String,chariot.model.Enums.Speed,java.lang.String,chariot.model.Enums.Color,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Event.Type","l":"challengeCanceled"},{"p":"chariot.model","c":"Event.ChallengeCanceledEvent","l":"ChallengeCanceledEvent(ChallengeInfo)","u":"%3Cinit%3E(chariot.model.ChallengeInfo)"},{"p":"chariot.model","c":"Event.ChallengeCreatedEvent","l":"ChallengeCreatedEvent(ChallengeInfo, Opt<String>, Event.Compat)","u":"%3Cinit%3E(chariot.model.ChallengeInfo,chariot.model.Opt,chariot.model.Event.Compat)"},{"p":"chariot.model","c":"ChallengeInfo.FromTo","l":"challenged()"},{"p":"chariot.model","c":"Event.Type","l":"challengeDeclined"},{"p":"chariot.model","c":"Event.ChallengeDeclinedEvent","l":"ChallengeDeclinedEvent(ChallengeInfo, Event.DeclineReason)","u":"%3Cinit%3E(chariot.model.ChallengeInfo,chariot.model.Event.DeclineReason)"},{"p":"chariot.model","c":"ChallengeInfo.Players","l":"challengedOpt()"},{"p":"chariot.model","c":"ChallengeInfo","l":"ChallengeInfo(String, URI, ChallengeInfo.Players, GameType, ChallengeInfo.ColorInfo)","u":"%3Cinit%3E(java.lang.String,java.net.URI,chariot.model.ChallengeInfo.Players,chariot.model.GameType,chariot.model.ChallengeInfo.ColorInfo)"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"challengeKeepAlive(String, Consumer<ChallengesAuthCommon.ChallengeBuilder>)","u":"challengeKeepAlive(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"ChallengeOpenEnded","l":"ChallengeOpenEnded(ChallengeInfo, String, String, ChallengeOpenEnded.Players, List<String>)","u":"%3Cinit%3E(chariot.model.ChallengeInfo,java.lang.String,java.lang.String,chariot.model.ChallengeOpenEnded.Players,java.util.List)"},{"p":"chariot.api","c":"Challenges","l":"challengeOpenEnded(Consumer<Challenges.OpenEndedBuilder>)","u":"challengeOpenEnded(java.util.function.Consumer)"},{"p":"chariot.model","c":"ChallengeInfo.From","l":"challenger()"},{"p":"chariot.model","c":"ChallengeInfo.FromTo","l":"challenger()"},{"p":"chariot.model","c":"ChallengeInfo.Players","l":"challengerOpt()"},{"p":"chariot.api","c":"ChallengesAuth","l":"challenges()"},{"p":"chariot","c":"Client","l":"challenges()"},{"p":"chariot","c":"ClientAuth","l":"challenges()"},{"p":"chariot.model","c":"ChallengeTokens","l":"ChallengeTokens(Map<String, String>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"chariot.model","c":"Challenge.ChallengeWithRules","l":"ChallengeWithRules(List<String>, Challenge)","u":"%3Cinit%3E(java.util.List,chariot.model.Challenge)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"channelInfo"},{"p":"chariot.model","c":"UserData.ChannelInfo","l":"ChannelInfo(Map<String, String>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"chariot.model","c":"UserData.ChannelInfo","l":"channels()"},{"p":"chariot.model","c":"ChapterMeta","l":"ChapterMeta(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"BoardAuth","l":"chat(String, String)","u":"chat(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"BotAuth","l":"chat(String, String)","u":"chat(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"GameStateEvent.Chat","l":"Chat(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"chatFor(Enums.ChatFor)","u":"chatFor(chariot.model.Enums.ChatFor)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"chatFor(Function<Enums.ChatFor.Provider, Enums.ChatFor>)","u":"chatFor(java.util.function.Function)"},{"p":"chariot.model","c":"GameStateEvent.Type","l":"chatLine"},{"p":"chariot.model","c":"ChatMessage","l":"ChatMessage(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"BoardAuth","l":"chatSpectators(String, String)","u":"chatSpectators(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"BotAuth","l":"chatSpectators(String, String)","u":"chatSpectators(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Enums.Status","l":"cheat"},{"p":"chariot.util","c":"Board.GameState","l":"checkmate"},{"p":"chariot.model","c":"TablebaseResult","l":"checkmate()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"checkmate()"},{"p":"chariot.model","c":"Enums.Channel","l":"chess960"},{"p":"chariot.model","c":"Enums.GameVariant","l":"chess960"},{"p":"chariot.model","c":"Enums.PerfType","l":"chess960"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"chess960"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"chess960"},{"p":"chariot.model","c":"Enums.VariantName","l":"chess960"},{"p":"chariot.model","c":"StatsPerfType","l":"chess960"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"chess960()"},{"p":"chariot.model","c":"Enums.GameVariant.Provider","l":"chess960()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"chess960()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"chess960()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"chess960()"},{"p":"chariot.model","c":"Enums.VariantName.Provider","l":"chess960()"},{"p":"chariot.model","c":"TVChannels","l":"chess960()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Chess960","l":"chess960()"},{"p":"chariot.model","c":"UserTopAll","l":"chess960()"},{"p":"chariot.util","c":"Board.CastlingRights.Chess960","l":"Chess960(Board.CastlingRights.RookFiles)","u":"%3Cinit%3E(chariot.util.Board.CastlingRights.RookFiles)"},{"p":"chariot.model","c":"VariantType.Chess960","l":"Chess960(Opt<String>)","u":"%3Cinit%3E(chariot.model.Opt)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Chess960","l":"Chess960(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.model","c":"GameStateEvent.OpponentGone","l":"claimable()"},{"p":"chariot.api","c":"BoardAuth","l":"claimVictory(String)","u":"claimVictory(java.lang.String)"},{"p":"chariot.model","c":"Enums.Channel","l":"classical"},{"p":"chariot.model","c":"Enums.PerfType","l":"classical"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"classical"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"classical"},{"p":"chariot.model","c":"Enums.Speed","l":"classical"},{"p":"chariot.model","c":"StatsPerfType","l":"classical"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"classical()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"classical()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"classical()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"classical()"},{"p":"chariot.model","c":"Enums.Speed.Provider","l":"classical()"},{"p":"chariot.model","c":"TVChannels","l":"classical()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Classical","l":"classical()"},{"p":"chariot.model","c":"UserTopAll","l":"classical()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Classical","l":"Classical(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot","c":"ClientAuth","l":"clearAuth(Preferences)","u":"clearAuth(java.util.prefs.Preferences)"},{"p":"chariot","c":"Client.AuthOk","l":"client()"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"clientSecret()"},{"p":"chariot.api","c":"ExternalEngine.AnalysisParameters","l":"clientSecret(String)","u":"clientSecret(java.lang.String)"},{"p":"chariot.model","c":"Arena","l":"clock()"},{"p":"chariot.model","c":"Arena.Finished","l":"clock()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"clock()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"clock()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"clock()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"clock()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"clock()"},{"p":"chariot.model","c":"BulkPairing","l":"clock()"},{"p":"chariot.model","c":"Game","l":"clock()"},{"p":"chariot.model","c":"GameMeta","l":"clock()"},{"p":"chariot.model","c":"Puzzle.GameInfo","l":"clock()"},{"p":"chariot.model","c":"Swiss","l":"clock()"},{"p":"chariot.model","c":"Tournament","l":"clock()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"clock()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"clock()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"clock()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clock(float, int)","u":"clock(float,int)"},{"p":"chariot.api","c":"Builders.Clock","l":"clock(int, int)","u":"clock(int,int)"},{"p":"chariot.model","c":"Game.Clock","l":"Clock(int, int, int)","u":"%3Cinit%3E(int,int,int)"},{"p":"chariot.model","c":"Arena.Clock","l":"Clock(Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"BulkPairing.Clock","l":"Clock(Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"Swiss.Clock","l":"Clock(Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"Tournament.Clock","l":"Clock(Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"GameMeta.Clock","l":"Clock(Integer, Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"clockBar()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockBlitz3m1s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockBlitz3m1s()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockBlitz3m2s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockBlitz3m2s()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockBlitz5m0s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockBlitz5m0s()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockBlitz5m3s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockBlitz5m3s()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockBullet1m0s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockBullet1m0s()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockBullet2m1s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockBullet2m1s()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockClassical30m0s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockClassical30m0s()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockClassical30m20s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockClassical30m20s()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockRapid10m0s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockRapid10m0s()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockRapid10m5s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockRapid10m5s()"},{"p":"chariot.api","c":"Builders.Clock","l":"clockRapid15m10s()"},{"p":"chariot.api","c":"Builders.ClockMinute","l":"clockRapid15m10s()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"clocks()"},{"p":"chariot.api","c":"Studies.Params","l":"clocks()"},{"p":"chariot.model","c":"Game","l":"clocks()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"clocks(boolean)"},{"p":"chariot.api","c":"Studies.Params","l":"clocks(boolean)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"clockSound()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"clockTenths()"},{"p":"chariot.api","c":"GameSessions","l":"close()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"closed"},{"p":"chariot.api","c":"Analysis","l":"cloudEval(String)","u":"cloudEval(java.lang.String)"},{"p":"chariot.api","c":"Analysis","l":"cloudEval(String, Consumer<Analysis.Params>)","u":"cloudEval(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"CloudEvalCacheEntry","l":"CloudEvalCacheEntry(String, int, int, List<CloudEvalCacheEntry.PV>)","u":"%3Cinit%3E(java.lang.String,int,int,java.util.List)"},{"p":"chariot","c":"Client.CodeAndState","l":"code()"},{"p":"chariot","c":"Client.CodeAndState","l":"CodeAndState(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.util","c":"Board.Coordinate","l":"col()"},{"p":"chariot.util","c":"Board.RowCol","l":"col()"},{"p":"chariot.model","c":"Activity.Game","l":"color()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"color()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"color()"},{"p":"chariot.model","c":"GameInfo","l":"color()"},{"p":"chariot.model","c":"Puzzle.GameInfo.Player","l":"color()"},{"p":"chariot.model","c":"TVChannels.TVChannel","l":"color()"},{"p":"chariot.model","c":"TVFeedEvent.PlayerInfo","l":"color()"},{"p":"chariot.util","c":"Board.Piece","l":"color()"},{"p":"chariot.util","c":"Board.StandardPiece","l":"color()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"color(Enums.Color)","u":"color(chariot.model.Enums.Color)"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder","l":"color(Enums.Color)","u":"color(chariot.model.Enums.Color)"},{"p":"chariot.api","c":"BoardAuth.SeekParams","l":"color(Enums.ColorPref)","u":"color(chariot.model.Enums.ColorPref)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeAIParams","l":"color(Enums.ColorPref)","u":"color(chariot.model.Enums.ColorPref)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"color(Enums.ColorPref)","u":"color(chariot.model.Enums.ColorPref)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"color(Function<Enums.Color.Provider, Enums.Color>)","u":"color(java.util.function.Function)"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder","l":"color(Function<Enums.Color.Provider, Enums.Color>)","u":"color(java.util.function.Function)"},{"p":"chariot.api","c":"BoardAuth.SeekParams","l":"color(Function<Enums.ColorPref.Provider, Enums.ColorPref>)","u":"color(java.util.function.Function)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeAIParams","l":"color(Function<Enums.ColorPref.Provider, Enums.ColorPref>)","u":"color(java.util.function.Function)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"color(Function<Enums.ColorPref.Provider, Enums.ColorPref>)","u":"color(java.util.function.Function)"},{"p":"chariot.model","c":"ChallengeInfo","l":"colorInfo()"},{"p":"chariot.model","c":"ChallengeInfo.ColorOutcome","l":"ColorOutcome(Enums.ColorPref, Enums.Color)","u":"%3Cinit%3E(chariot.model.Enums.ColorPref,chariot.model.Enums.Color)"},{"p":"chariot.model","c":"ChallengeInfo.ColorRequest","l":"ColorRequest(Enums.ColorPref)","u":"%3Cinit%3E(chariot.model.Enums.ColorPref)"},{"p":"chariot.model","c":"StormDashboard.Day","l":"combo()"},{"p":"chariot.model","c":"Game.Judgment","l":"comment()"},{"p":"chariot.model","c":"Pgn.Comment","l":"comment()"},{"p":"chariot.model","c":"Pgn.Comment","l":"Comment(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"chariot.api","c":"Studies.Params","l":"comments()"},{"p":"chariot.api","c":"Studies.Params","l":"comments(boolean)"},{"p":"chariot.model","c":"UserProfileData","l":"common()"},{"p":"chariot.model","c":"UserStatusData","l":"common()"},{"p":"chariot.model","c":"Event.ChallengeCreatedEvent","l":"compat()"},{"p":"chariot.model","c":"Event.GameStartEvent","l":"compat()"},{"p":"chariot.model","c":"Event.GameStopEvent","l":"compat()"},{"p":"chariot.model","c":"Event.Compat","l":"Compat(boolean, boolean)","u":"%3Cinit%3E(boolean,boolean)"},{"p":"chariot.api","c":"GameSessions.Metrics","l":"completed()"},{"p":"chariot.model","c":"Enums.Channel","l":"computer"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"computer()"},{"p":"chariot.model","c":"TVChannels","l":"computer()"},{"p":"chariot.model","c":"Arena.Verdict.Condition","l":"condition()"},{"p":"chariot.model","c":"Arena.Verdict.Condition","l":"Condition(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"conditionMaxRating(int)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"conditionMaxRating(int)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"conditionMinRatedGames(int)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"conditionMinRatedGames(int)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"conditionMinRating(int)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"conditionMinRating(int)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"conditionPlayYourGames()"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"conditionPlayYourGames(boolean)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"conditionTeam(String)","u":"conditionTeam(java.lang.String)"},{"p":"chariot.api","c":"Builders.LogLevel","l":"config()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"confirmResign()"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"connect()"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"connectResilient()"},{"p":"chariot.api","c":"BoardAuth","l":"connectToGame(String)","u":"connectToGame(java.lang.String)"},{"p":"chariot.api","c":"BotAuth","l":"connectToGame(String)","u":"connectToGame(java.lang.String)"},{"p":"chariot.api","c":"BoardAuth","l":"connectToGameResilient(String)","u":"connectToGameResilient(java.lang.String)"},{"p":"chariot.api","c":"BotAuth","l":"connectToGameResilient(String)","u":"connectToGameResilient(java.lang.String)"},{"p":"chariot.util","c":"ConsoleRenderer","l":"ConsoleRenderer()","u":"%3Cinit%3E()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"coordColor()"},{"p":"chariot.util","c":"ConsoleRenderer.Config","l":"coordinates()"},{"p":"chariot.util","c":"ConsoleRenderer.Config","l":"coordinates(boolean)"},{"p":"chariot.util","c":"Board","l":"coordinatesAttackedByPiece(Board.Coordinate, Map<Board.Coordinate, Board.Piece>)","u":"coordinatesAttackedByPiece(chariot.util.Board.Coordinate,java.util.Map)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"coords()"},{"p":"chariot.model","c":"Enums.PerfType","l":"correspondence"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"correspondence"},{"p":"chariot.model","c":"Enums.Speed","l":"correspondence"},{"p":"chariot.model","c":"StatsPerfType","l":"correspondence"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"correspondence()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"correspondence()"},{"p":"chariot.model","c":"Enums.Speed.Provider","l":"correspondence()"},{"p":"chariot.model","c":"Correspondence","l":"Correspondence(int)","u":"%3Cinit%3E(int)"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceEnds","l":"CorrespondenceEnds(Activity.Result, List<Activity.Game>)","u":"%3Cinit%3E(chariot.model.Activity.Result,java.util.List)"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceMoves","l":"CorrespondenceMoves(Integer, List<Activity.Game>)","u":"%3Cinit%3E(java.lang.Integer,java.util.List)"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"count()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"Count(Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"country"},{"p":"chariot.model","c":"ProvidedProfile","l":"country()"},{"p":"chariot.model","c":"UserData.Provided","l":"country()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"counts"},{"p":"chariot.model","c":"UserStats","l":"counts()"},{"p":"chariot.model","c":"CloudEvalCacheEntry.PV","l":"cp()"},{"p":"chariot.model","c":"ExternalEngineAnalysis.Pvs","l":"cp()"},{"p":"chariot.model","c":"Enums.Channel","l":"crazyhouse"},{"p":"chariot.model","c":"Enums.GameVariant","l":"crazyhouse"},{"p":"chariot.model","c":"Enums.PerfType","l":"crazyhouse"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"crazyhouse"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"crazyhouse"},{"p":"chariot.model","c":"Enums.VariantName","l":"crazyhouse"},{"p":"chariot.model","c":"StatsPerfType","l":"crazyhouse"},{"p":"chariot.model","c":"VariantType.Variant","l":"crazyhouse"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"crazyhouse()"},{"p":"chariot.model","c":"Enums.GameVariant.Provider","l":"crazyhouse()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"crazyhouse()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"crazyhouse()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"crazyhouse()"},{"p":"chariot.model","c":"Enums.VariantName.Provider","l":"crazyhouse()"},{"p":"chariot.model","c":"TVChannels","l":"crazyhouse()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Crazyhouse","l":"crazyhouse()"},{"p":"chariot.model","c":"UserTopAll","l":"crazyhouse()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Crazyhouse","l":"Crazyhouse(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.api","c":"BroadcastsAuth","l":"create(Consumer<BroadcastsAuth.BroadcastBuilder>)","u":"create(java.util.function.Consumer)"},{"p":"chariot.api","c":"ExternalEngineAuth","l":"create(ExternalEngineRegistration)","u":"create(chariot.model.ExternalEngineRegistration)"},{"p":"chariot.api","c":"PuzzlesAuth","l":"createAndJoinRace()"},{"p":"chariot.api","c":"TournamentsAuth","l":"createArena(Consumer<TournamentsAuth.ArenaBuilder>)","u":"createArena(java.util.function.Consumer)"},{"p":"chariot.api","c":"ChallengesAuth","l":"createBulk(Consumer<ChallengesAuth.BulkBuilder>)","u":"createBulk(java.util.function.Consumer)"},{"p":"chariot.model","c":"Enums.Status","l":"created"},{"p":"chariot.model","c":"Enums.TournamentState","l":"created"},{"p":"chariot.model","c":"CurrentSimuls","l":"created()"},{"p":"chariot.model","c":"Enums.TournamentState.Provider","l":"created()"},{"p":"chariot.model","c":"TournamentStatus","l":"created()"},{"p":"chariot.model","c":"UserTimes","l":"created()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"createdAt"},{"p":"chariot.model","c":"Broadcast.Round","l":"createdAt()"},{"p":"chariot.model","c":"Broadcast.RoundTour","l":"createdAt()"},{"p":"chariot.model","c":"Broadcast.Tour","l":"createdAt()"},{"p":"chariot.model","c":"ChallengeAI","l":"createdAt()"},{"p":"chariot.model","c":"Game","l":"createdAt()"},{"p":"chariot.model","c":"GameMeta","l":"createdAt()"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"createdAt()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"createdAt()"},{"p":"chariot.model","c":"MyRound.Round","l":"createdAt()"},{"p":"chariot.model","c":"MyRound.Tour","l":"createdAt()"},{"p":"chariot.model","c":"RoundInfo.Round","l":"createdAt()"},{"p":"chariot.model","c":"RoundInfo.Tour","l":"createdAt()"},{"p":"chariot.model","c":"StudyMeta","l":"createdAt()"},{"p":"chariot.model","c":"User","l":"createdAt()"},{"p":"chariot.model","c":"Arena","l":"createdBy()"},{"p":"chariot.model","c":"Arena.Finished","l":"createdBy()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"createdBy()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"createdBy()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"createdBy()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"createdBy()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"createdBy()"},{"p":"chariot.model","c":"Swiss","l":"createdBy()"},{"p":"chariot.model","c":"Tournament","l":"createdBy()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"createdBy()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"createdBy()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"createdBy()"},{"p":"chariot.model","c":"GameMeta","l":"createdTime()"},{"p":"chariot.api","c":"BroadcastsAuth","l":"createRound(String, Consumer<BroadcastsAuth.RoundBuilder>)","u":"createRound(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"TournamentsAuth","l":"createSwiss(String, Consumer<TournamentsAuth.SwissBuilder>)","u":"createSwiss(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"Crosstable","l":"Crosstable(Crosstable.Results, Optional<Crosstable.Results>)","u":"%3Cinit%3E(chariot.model.Crosstable.Results,java.util.Optional)"},{"p":"chariot.api","c":"UsersBase","l":"crosstable(String, String)","u":"crosstable(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"UsersBase","l":"crosstable(String, String, boolean)","u":"crosstable(java.lang.String,java.lang.String,boolean)"},{"p":"chariot.api","c":"UsersBase","l":"crosstable(String, String, Consumer<Users.CrosstableParams>)","u":"crosstable(java.lang.String,java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"PerformanceStatistics.Streak","l":"cur()"},{"p":"chariot.api","c":"Games","l":"currentByUserId(String)","u":"currentByUserId(java.lang.String)"},{"p":"chariot.api","c":"GamesAsync","l":"currentByUserId(String)","u":"currentByUserId(java.lang.String)"},{"p":"chariot.api","c":"Games","l":"currentByUserId(String, Consumer<Games.GameParams>)","u":"currentByUserId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"GamesAsync","l":"currentByUserId(String, Consumer<Games.GameParams>)","u":"currentByUserId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"Page","l":"currentPage()"},{"p":"chariot.model","c":"PageTeam","l":"currentPage()"},{"p":"chariot.model","c":"Page","l":"currentPageResults()"},{"p":"chariot.model","c":"PageTeam","l":"currentPageResults()"},{"p":"chariot.model","c":"CurrentSimuls","l":"CurrentSimuls(List<CurrentSimuls.Simul>, List<CurrentSimuls.Simul>, List<CurrentSimuls.Simul>)","u":"%3Cinit%3E(java.util.List,java.util.List,java.util.List)"},{"p":"chariot.api","c":"Tournaments","l":"currentTournaments()"},{"p":"chariot","c":"Client","l":"custom()"},{"p":"chariot","c":"ClientAuth","l":"custom()"},{"p":"chariot","c":"Client.PkceConfig","l":"customRedirect(URI, Supplier<Client.CodeAndState>)","u":"customRedirect(java.net.URI,java.util.function.Supplier)"},{"p":"chariot.api","c":"Puzzles","l":"dailyPuzzle()"},{"p":"chariot.api","c":"PuzzlesAsync","l":"dailyPuzzle()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"dark()"},{"p":"chariot.util","c":"Board.CastlingRights","l":"dashIfEmpty(String)","u":"dashIfEmpty(java.lang.String)"},{"p":"chariot.model","c":"Note","l":"date()"},{"p":"chariot.model","c":"PuzzleActivity","l":"date()"},{"p":"chariot.model","c":"RatingHistory.DateResult","l":"date()"},{"p":"chariot.model","c":"TeamRequest.Request","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.BlogPost","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.Follow","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.ForumPost","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.GameEnd","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.PlanRenew","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.PlanStart","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.SimulCreate","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.SimulJoin","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.StreamStart","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.StudyLike","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.TeamCreate","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.TeamJoin","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.TourJoin","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.UblogPost","l":"date()"},{"p":"chariot.model","c":"TimelineEntry.UblogPostLike","l":"date()"},{"p":"chariot.model","c":"Trophy","l":"date()"},{"p":"chariot.model","c":"PuzzleActivity","l":"dateAt()"},{"p":"chariot.model","c":"Trophy","l":"dateAt()"},{"p":"chariot.model","c":"PerformanceStatistics.DateResult","l":"DateResult(Integer, ZonedDateTime, String)","u":"%3Cinit%3E(java.lang.Integer,java.time.ZonedDateTime,java.lang.String)"},{"p":"chariot.model","c":"RatingHistory.DateResult","l":"DateResult(LocalDate, Integer)","u":"%3Cinit%3E(java.time.LocalDate,java.lang.Integer)"},{"p":"chariot.model","c":"TeamRequest.Request","l":"dateTime()"},{"p":"chariot.model","c":"StormDashboard.High","l":"day()"},{"p":"chariot.model","c":"StormDashboard.Day","l":"Day(String, int, int, int, int, int, int, int)","u":"%3Cinit%3E(java.lang.String,int,int,int,int,int,int,int)"},{"p":"chariot.model","c":"PuzzleDashboard","l":"days()"},{"p":"chariot.model","c":"StormDashboard","l":"days()"},{"p":"chariot.api","c":"Puzzles.PuzzleParams","l":"days(int)"},{"p":"chariot.model","c":"Correspondence","l":"daysPerTurn()"},{"p":"chariot.model","c":"Game","l":"daysPerTurn()"},{"p":"chariot.api","c":"Builders.ClockCorrespondence","l":"daysPerTurn(int)"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"DBGame(String, String, Optional<Enums.Color>, Enums.Speed, String, ExploreResult.ERPlayer, ExploreResult.ERPlayer, int, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.util.Optional,chariot.model.Enums.Speed,java.lang.String,chariot.model.ExploreResult.ERPlayer,chariot.model.ExploreResult.ERPlayer,int,java.lang.String)"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"DBMove(String, String, long, long, long, int, Optional<ExploreResult.DBGame>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,long,long,long,int,java.util.Optional)"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"declineChallenge(String)","u":"declineChallenge(java.lang.String)"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"declineChallenge(String, Enums.DeclineReason)","u":"declineChallenge(java.lang.String,chariot.model.Enums.DeclineReason)"},{"p":"chariot.api","c":"ChallengesAuthCommon","l":"declineChallenge(String, Function<Enums.DeclineReason.Provider, Enums.DeclineReason>)","u":"declineChallenge(java.lang.String,java.util.function.Function)"},{"p":"chariot.model","c":"Challenge.DeclinedChallenge","l":"DeclinedChallenge(String, String, Challenge)","u":"%3Cinit%3E(java.lang.String,java.lang.String,chariot.model.Challenge)"},{"p":"chariot.model","c":"Event.DeclineReason","l":"DeclineReason(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"defaultDepth()"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"defaultDepth()"},{"p":"chariot.model","c":"MyRound.Round","l":"delay()"},{"p":"chariot.api","c":"BroadcastsAuth.RoundBuilder","l":"delay(Duration)","u":"delay(java.time.Duration)"},{"p":"chariot.api","c":"BroadcastsAuth.RoundBuilder","l":"delay(long)"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"delete()"},{"p":"chariot.api","c":"ExternalEngineAuth","l":"delete(String)","u":"delete(java.lang.String)"},{"p":"chariot.model","c":"CloudEvalCacheEntry","l":"depth()"},{"p":"chariot.model","c":"ExternalEngineAnalysis","l":"depth()"},{"p":"chariot.model","c":"ExternalEngineAnalysis.Pvs","l":"depth()"},{"p":"chariot.model","c":"UserData.StreamerInfoPropertyEnum","l":"description"},{"p":"chariot.model","c":"Arena","l":"description()"},{"p":"chariot.model","c":"Arena.Finished","l":"description()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"description()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"description()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"description()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"description()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"description()"},{"p":"chariot.model","c":"Broadcast.RoundTour","l":"description()"},{"p":"chariot.model","c":"Broadcast.Tour","l":"description()"},{"p":"chariot.model","c":"MyRound.Tour","l":"description()"},{"p":"chariot.model","c":"RoundInfo.Tour","l":"description()"},{"p":"chariot.model","c":"StreamerInfo","l":"description()"},{"p":"chariot.model","c":"Team","l":"description()"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"description()"},{"p":"chariot.api","c":"AdminAuth.Params","l":"description(String)","u":"description(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"description(String)","u":"description(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"description(String)","u":"description(java.lang.String)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"destination()"},{"p":"chariot.model","c":"PerformanceStatistics.Glicko","l":"deviation()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"disabled"},{"p":"chariot.model","c":"User","l":"disabled()"},{"p":"chariot.model","c":"UserFlags","l":"disabled()"},{"p":"chariot.model","c":"Disabled","l":"Disabled(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"disconnects()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"division()"},{"p":"chariot.model","c":"Game","l":"division()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"division(boolean)"},{"p":"chariot.model","c":"Enums.Outcome","l":"draw"},{"p":"chariot.model","c":"Enums.Status","l":"draw"},{"p":"chariot.util","c":"Board.GameState","l":"draw_by_fifty_move_rule"},{"p":"chariot.util","c":"Board.GameState","l":"draw_by_threefold_repetition"},{"p":"chariot.model","c":"Activity.Result","l":"draw()"},{"p":"chariot.model","c":"Activity.Result.ResultHelper","l":"draw()"},{"p":"chariot.model","c":"Activity.Simul.Score","l":"draw()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"draw()"},{"p":"chariot.model","c":"UserCount","l":"draw()"},{"p":"chariot.model","c":"UserCount","l":"drawH()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"drawOffer()"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"draws()"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"draws()"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"draws()"},{"p":"chariot.model","c":"ExploreResult.ERStats","l":"draws()"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"draws()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"draws()"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"draws()"},{"p":"chariot.model","c":"Swiss.Stats","l":"draws()"},{"p":"chariot.model","c":"TablebaseResult","l":"dtm()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"dtm()"},{"p":"chariot.model","c":"TablebaseResult","l":"dtz()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"dtz()"},{"p":"chariot.model","c":"Arena.Duel","l":"Duel(String, List<Arena.Duel.P>)","u":"%3Cinit%3E(java.lang.String,java.util.List)"},{"p":"chariot.model","c":"Arena","l":"duels()"},{"p":"chariot.model","c":"Arena.Finished","l":"duels()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"duels()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"duels()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"duels()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"duels()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"duels()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"duelTeams()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"duelTeams()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"duelTeams()"},{"p":"chariot.model","c":"Arena.DuelTeams","l":"DuelTeams()","u":"%3Cinit%3E()"},{"p":"chariot.model","c":"ExploreResult.EROpening","l":"eco()"},{"p":"chariot.model","c":"Game.Opening","l":"eco()"},{"p":"chariot.model","c":"Opening","l":"eco()"},{"p":"chariot.model","c":"Tournament.Pos.Position","l":"eco()"},{"p":"chariot.model","c":"Enums.Level.Provider","l":"eight()"},{"p":"chariot","c":"Client.Scope","l":"email_read"},{"p":"chariot.api","c":"AccountAuth","l":"emailAddress()"},{"p":"chariot.model","c":"Opt","l":"empty()"},{"p":"chariot.model","c":"Empty","l":"Empty()","u":"%3Cinit%3E()"},{"p":"chariot.model","c":"Err.Empty","l":"Empty()","u":"%3Cinit%3E()"},{"p":"chariot.model","c":"Pgn.Empty","l":"Empty()","u":"%3Cinit%3E()"},{"p":"chariot.model","c":"UserData.Provided","l":"emptyProfile"},{"p":"chariot.model","c":"Activity.Interval","l":"end()"},{"p":"chariot.model","c":"Game.MiddleEnd","l":"end()"},{"p":"chariot.model","c":"Pgn.End","l":"End(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"chariot.util","c":"Board","l":"ended()"},{"p":"chariot","c":"Client.Scope","l":"engine_read"},{"p":"chariot","c":"Client.Scope","l":"engine_write"},{"p":"chariot.model","c":"ExternalEngineRequest","l":"engine()"},{"p":"chariot.api","c":"Builders.RateLimitsBuilder","l":"engine(Consumer<Builders.RateLimitBuilder>)","u":"engine(java.util.function.Consumer)"},{"p":"chariot.api","c":"Builders.ServerBuilder","l":"engine(String)","u":"engine(java.lang.String)"},{"p":"chariot.api","c":"Builders.ServerBuilder","l":"engine(URI)","u":"engine(java.net.URI)"},{"p":"chariot.model","c":"Many","l":"entries(Stream<T>)","u":"entries(java.util.stream.Stream)"},{"p":"chariot.model","c":"Entries","l":"Entries(Stream<T>)","u":"%3Cinit%3E(java.util.stream.Stream)"},{"p":"chariot.model","c":"Entry","l":"entry()"},{"p":"chariot.model","c":"One","l":"entry(T)"},{"p":"chariot.model","c":"Entry","l":"Entry(T)","u":"%3Cinit%3E(T)"},{"p":"chariot.api","c":"TeamsAuth.JoinParams","l":"entryCode(String)","u":"entryCode(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"entryCode(String)","u":"entryCode(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.JoinArenaParams","l":"entryCode(String)","u":"entryCode(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.JoinSwissParams","l":"entryCode(String)","u":"entryCode(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"entryCode(String)","u":"entryCode(java.lang.String)"},{"p":"chariot.util","c":"Board.FEN","l":"ep()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams.Pairing","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.api","c":"GameSessions.Metrics","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.AtDate","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.InMinutes","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams.Pairing","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot","c":"Client.AuthFail","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot","c":"Client.AuthOk","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot","c":"Client.CodeAndState","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"AccountPreferences","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Game","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Game.Opponent","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Interval","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Practice","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Result","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Result.ResultHelper","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Result.RP","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Simul","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Simul.Score","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Team","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Topic","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Topic.Post","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Tournament","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Tournament.Info","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceEnds","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceMoves","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.Follows","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.Games","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.Patron","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.Posts","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.Practices","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.Puzzles","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.Simuls","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.Teams","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.Tournaments","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Activity.Type.Unknown","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"AI","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Analysis","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Anonymous","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Clock","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Duel","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Duel.P","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.DuelTeams","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Finished","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Finished.Podium.NB","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.GreatPlayer","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Ongoing","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Ongoing.Featured.Player","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Perf","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Sheet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Standing","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamBattle","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium.NB","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured.Player","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamStanding","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamStanding.Player","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamStanding.Player.User","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Upcoming","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Verdict.Condition","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Arena.Verdict","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ArenaResult","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Broadcast","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Broadcast.Round","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Broadcast.RoundTour","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Broadcast.Score","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Broadcast.Tour","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"BulkPairing.Clock","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"BulkPairing","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"BulkPairing.Game","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Challenge.ChallengeWithRules","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Challenge.DeclinedChallenge","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Challenge.RematchChallenge","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeAI","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeInfo.ColorOutcome","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeInfo.ColorRequest","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeInfo.From","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeInfo.FromTo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeInfo.OpenEnded","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeInfo.Player","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeOpenEnded.Any","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeOpenEnded","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeOpenEnded.Reserved","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChallengeTokens","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChapterMeta","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ChatMessage","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"CloudEvalCacheEntry","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"CloudEvalCacheEntry.PV","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Correspondence","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Crosstable","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Crosstable.Points","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Crosstable.Results","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Crosstable.Results.Result","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"CurrentSimuls","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Host","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Variant","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Disabled","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Empty","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Entries","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Entry","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Err.Empty","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Err.Info","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Event.ChallengeCanceledEvent","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Event.ChallengeCreatedEvent","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Event.ChallengeDeclinedEvent","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Event.Compat","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Event.DeclineReason","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Event.GameStartEvent","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Event.GameStopEvent","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExploreResult.EROpening","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExploreResult.ERPlayer","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExploreResult.ERStats","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExternalEngineAnalysis","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExternalEngineAnalysis.Pvs","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExternalEngineRequest","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExternalEngineWork","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Fail","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Game.AnnotatedEval","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Game.Clock","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Game","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Game.Eval","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Game.ForcedMate","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Game.Judgment","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Game.Middle","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Game.MiddleEnd","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Game.Opening","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Game.Players","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameImport","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameInfo.Account","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameInfo.TimeInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameMeta.Clock","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameMeta","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameMeta.Players","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameMeta.Players.Player","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameStateEvent.Account","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameStateEvent.Chat","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameStateEvent.No","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameStateEvent.OpponentGone","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameStateEvent.Soon","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameStateEvent.State","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameStateEvent.Yes","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"GameType","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"IdName","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"IdNameTitle","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Leaderboard","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"LightUser","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"LiveStreamer","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"MoveInfo.Move","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"MoveInfo.Players","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"MoveInfo.Status","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"MyRound","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"MyRound.Round","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"MyRound.Study","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"MyRound.Tour","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"None","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Note","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Opening","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PageTeam","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PendingChallenges","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.DateResult","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.Glicko","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.OpId","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.Perf","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.PerfType","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.PlayStreak","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.Result","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.Results","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.ResultStreak","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.Streak","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.StreakPoint","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.WithoutStreak","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PerformanceStatistics.WithStreak","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Pgn.BasicPgn","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Pgn.Comment","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Pgn.Empty","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Pgn.End","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Pgn.NumBegin","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Pgn.NumEnd","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Pgn.Result","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Pgn.Tag.BasicTag","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Pgn.Variation","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Player.Account","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Player.Analysed","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Player.ArenaInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PushResult.Fail","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PushResult.Pass","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Puzzle","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Puzzle.GameInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Puzzle.GameInfo.Perf","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Puzzle.GameInfo.Player","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Puzzle.PuzzleInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PuzzleActivity","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PuzzleDashboard","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PuzzleDashboard.PuzzleResult","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PuzzleDashboard.Theme","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"PuzzleRace","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"RatingHistory.DateResult","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"RatingHistory","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"RealTime","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"RoundInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"RoundInfo.Game","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"RoundInfo.Round","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"RoundInfo.Study","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"RoundInfo.Tour","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"SeekAck","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Some","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"StatsPerf.StatsPerfGame","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"StatsPerf.StatsPerfRun","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"StormDashboard.Day","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"StormDashboard","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"StormDashboard.High","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"StudyMeta","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Swiss.Clock","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Swiss","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Swiss.GreatPlayer","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Swiss.NextRound","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Swiss.Quote","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Swiss.Stats","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"SwissResult","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TablebaseResult","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Team","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TeamBattleResults","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TeamBattleResults.Teams","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player.User","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TeamMember","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TeamRequest","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TeamRequest.Request","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.BlogPost","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.Follow","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.ForumPost","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.GameEnd","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.PlanRenew","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.PlanStart","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.SimulCreate","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.SimulJoin","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.StreamStart","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.StudyLike","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.TeamCreate","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.TeamJoin","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.TourJoin","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.UblogPost","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TimelineEntry.UblogPostLike","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TokenBulkResult","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TokenBulkResult.TokenInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TokenResult.AccessToken","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TokenResult.Error","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Tournament.Clock","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Tournament.Perf","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Tournament.Pos.None","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Tournament.Pos.Position","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Tournament.Scheduled.Schedule","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Tournament.TeamBattle.Teams","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TournamentId.ArenaId","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TournamentId.SwissId","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TournamentStatus","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Trophy","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TVChannels","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TVChannels.TVChannel","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TVFeedEvent.Featured","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TVFeedEvent.Fen","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"TVFeedEvent.PlayerInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Unlimited","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserAuthFlags","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserCount","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserData.ChannelInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserData","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserData.PlayTime","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserData.Property","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserData.Provided","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserData.Ratings","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserData.StreamInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserData.Trophies","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserFlags","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perf","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Antichess","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Atomic","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Blitz","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Bullet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Chess960","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Classical","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Crazyhouse","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Horde","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.KingOfTheHill","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.RacingKings","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.Rapid","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.ThreeCheck","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserPerformance.Perfs.UltraBullet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserProfileData","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserStats","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserStatusData","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserTimes","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"UserTopAll","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"Variant","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"VariantType.Chess960","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"VariantType.FromPosition","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.BoardData","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.Castling","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.CastlingRights.Chess960","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.CastlingRights.RookFiles","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.CastlingRights.Standard","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.FEN","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.FromTo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.Invalid","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.Promotion","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.RowCol","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Board.StandardPiece","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"ConsoleRenderer","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.util","c":"Replay.Ply","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"chariot.model","c":"ExploreResult.EROpening","l":"EROpening(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"ExploreResult.ERPlayer","l":"ERPlayer(String, int)","u":"%3Cinit%3E(java.lang.String,int)"},{"p":"chariot.model","c":"TokenResult.Error","l":"error_description()"},{"p":"chariot.model","c":"PushResult","l":"error()"},{"p":"chariot.model","c":"PushResult.Fail","l":"error()"},{"p":"chariot.model","c":"TokenResult.Error","l":"error()"},{"p":"chariot.model","c":"TokenResult.Error","l":"Error(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"StormDashboard.Day","l":"errors()"},{"p":"chariot.model","c":"ExploreResult.ERStats","l":"ERStats(String, long, long, long)","u":"%3Cinit%3E(java.lang.String,long,long,long)"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"estimatedStartAt()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"estimatedStartTime()"},{"p":"chariot.model","c":"Game.AnnotatedEval","l":"eval()"},{"p":"chariot.model","c":"Game.Eval","l":"eval()"},{"p":"chariot.model","c":"Game.Eval","l":"Eval(int)","u":"%3Cinit%3E(int)"},{"p":"chariot.api","c":"Games.EvalsAndPlayers","l":"evals()"},{"p":"chariot.api","c":"Games.Filter","l":"evals()"},{"p":"chariot.api","c":"Games.EvalsAndPlayers","l":"evals(boolean)"},{"p":"chariot.api","c":"Games.Filter","l":"evals(boolean)"},{"p":"chariot.api","c":"GameSessions.Params","l":"executor(Executor)","u":"executor(java.util.concurrent.Executor)"},{"p":"chariot.model","c":"TokenBulkResult.TokenInfo","l":"expires()"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"expiresIn(Duration)","u":"expiresIn(java.time.Duration)"},{"p":"chariot.api","c":"Builders.RateLimitsBuilder","l":"explorer(Consumer<Builders.RateLimitBuilder>)","u":"explorer(java.util.function.Consumer)"},{"p":"chariot.api","c":"Builders.ServerBuilder","l":"explorer(String)","u":"explorer(java.lang.String)"},{"p":"chariot.api","c":"Builders.ServerBuilder","l":"explorer(URI)","u":"explorer(java.net.URI)"},{"p":"chariot.api","c":"Studies","l":"exportChapterByStudyAndChapterId(String, String)","u":"exportChapterByStudyAndChapterId(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"Studies","l":"exportChapterByStudyAndChapterId(String, String, Consumer<Studies.Params>)","u":"exportChapterByStudyAndChapterId(java.lang.String,java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Studies","l":"exportChaptersByStudyId(String)","u":"exportChaptersByStudyId(java.lang.String)"},{"p":"chariot.api","c":"Studies","l":"exportChaptersByStudyId(String, Consumer<Studies.Params>)","u":"exportChaptersByStudyId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Broadcasts","l":"exportOneRoundPgn(String)","u":"exportOneRoundPgn(java.lang.String)"},{"p":"chariot.api","c":"Broadcasts","l":"exportPgn(String)","u":"exportPgn(java.lang.String)"},{"p":"chariot.api","c":"Studies","l":"exportStudiesByUserId(String)","u":"exportStudiesByUserId(java.lang.String)"},{"p":"chariot.api","c":"Studies","l":"exportStudiesByUserId(String, Consumer<Studies.Params>)","u":"exportStudiesByUserId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot","c":"Client","l":"externalEngine()"},{"p":"chariot","c":"ClientAuth","l":"externalEngine()"},{"p":"chariot.model","c":"ExternalEngineAnalysis","l":"ExternalEngineAnalysis(int, int, int, List<ExternalEngineAnalysis.Pvs>)","u":"%3Cinit%3E(int,int,int,java.util.List)"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"ExternalEngineInfo(String, String, String, String, int, int, int, List<String>, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,int,int,int,java.util.List,java.lang.String)"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"ExternalEngineRegistration(String, int, int, int, List<String>, String)","u":"%3Cinit%3E(java.lang.String,int,int,int,java.util.List,java.lang.String)"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"ExternalEngineRegistration(String, int, int, int, List<String>, String, String)","u":"%3Cinit%3E(java.lang.String,int,int,int,java.util.List,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"ExternalEngineRequest","l":"ExternalEngineRequest(String, ExternalEngineWork, ExternalEngineInfo)","u":"%3Cinit%3E(java.lang.String,chariot.model.ExternalEngineWork,chariot.model.ExternalEngineInfo)"},{"p":"chariot.model","c":"ExternalEngineWork","l":"ExternalEngineWork(String, int, int, boolean, int, String, String, List<String>)","u":"%3Cinit%3E(java.lang.String,int,int,boolean,int,java.lang.String,java.lang.String,java.util.List)"},{"p":"chariot.model","c":"Many","l":"fail(int, Err)","u":"fail(int,chariot.model.Err)"},{"p":"chariot.model","c":"One","l":"fail(int, Err)","u":"fail(int,chariot.model.Err)"},{"p":"chariot.model","c":"Fail","l":"Fail(int, Err)","u":"%3Cinit%3E(int,chariot.model.Err)"},{"p":"chariot.model","c":"PushResult.Fail","l":"Fail(Map<String, String>, String)","u":"%3Cinit%3E(java.util.Map,java.lang.String)"},{"p":"chariot.model","c":"Arena.Ongoing","l":"featured()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"featured()"},{"p":"chariot.model","c":"UserTimes","l":"featured()"},{"p":"chariot.model","c":"TVFeedEvent.Featured","l":"Featured(String, Enums.Color, List<TVFeedEvent.PlayerInfo>, String)","u":"%3Cinit%3E(java.lang.String,chariot.model.Enums.Color,java.util.List,java.lang.String)"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"Featured(String, String, String, Enums.Color, String, Arena.Ongoing.Featured.Player, Arena.Ongoing.Featured.Player, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,chariot.model.Enums.Color,java.lang.String,chariot.model.Arena.Ongoing.Featured.Player,chariot.model.Arena.Ongoing.Featured.Player,java.lang.String)"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"Featured(String, String, String, String, String, Arena.TeamOngoing.Featured.Player, Arena.TeamOngoing.Featured.Player, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,chariot.model.Arena.TeamOngoing.Featured.Player,chariot.model.Arena.TeamOngoing.Featured.Player,java.lang.String)"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"fen()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"fen()"},{"p":"chariot.model","c":"ChallengeAI","l":"fen()"},{"p":"chariot.model","c":"CloudEvalCacheEntry","l":"fen()"},{"p":"chariot.model","c":"GameInfo","l":"fen()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"fen()"},{"p":"chariot.model","c":"MoveInfo.Move","l":"fen()"},{"p":"chariot.model","c":"Tournament.Pos.Position","l":"fen()"},{"p":"chariot.model","c":"TVFeedEvent.Featured","l":"fen()"},{"p":"chariot.model","c":"TVFeedEvent.Fen","l":"fen()"},{"p":"chariot.model","c":"VariantType.Chess960","l":"fen()"},{"p":"chariot.model","c":"VariantType.FromPosition","l":"fen()"},{"p":"chariot.util","c":"Board.BoardData","l":"fen()"},{"p":"chariot.util","c":"Replay.Ply","l":"fen()"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"fen(String)","u":"fen(java.lang.String)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"fen(String)","u":"fen(java.lang.String)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeAIParams","l":"fen(String)","u":"fen(java.lang.String)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"fen(String)","u":"fen(java.lang.String)"},{"p":"chariot.api","c":"OpeningExplorer.CommonOpeningExplorer","l":"fen(String)","u":"fen(java.lang.String)"},{"p":"chariot.api","c":"OpeningExplorer.HistoryBuilder","l":"fen(String)","u":"fen(java.lang.String)"},{"p":"chariot.util","c":"Board.FEN","l":"FEN(String, Board.Side, Board.CastlingRights, String, int, int)","u":"%3Cinit%3E(java.lang.String,chariot.util.Board.Side,chariot.util.Board.CastlingRights,java.lang.String,int,int)"},{"p":"chariot.model","c":"TVFeedEvent.Fen","l":"Fen(String, String, Duration, Duration)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.time.Duration,java.time.Duration)"},{"p":"chariot.api","c":"BoardAuth","l":"fetchChat(String)","u":"fetchChat(java.lang.String)"},{"p":"chariot.api","c":"BotAuth","l":"fetchChat(String)","u":"fetchChat(java.lang.String)"},{"p":"chariot.util","c":"Board.CastlingRights.Chess960","l":"files()"},{"p":"chariot.util","c":"Board.CastlingRights","l":"files()"},{"p":"chariot.util","c":"Board.CastlingRights.Standard","l":"files()"},{"p":"chariot.api","c":"Builders.LogLevel","l":"fine()"},{"p":"chariot.api","c":"Builders.LogLevel","l":"finer()"},{"p":"chariot.api","c":"Builders.LogLevel","l":"finest()"},{"p":"chariot.model","c":"Enums.TournamentState","l":"finished"},{"p":"chariot.api","c":"Games.SearchFilter","l":"finished()"},{"p":"chariot.model","c":"Broadcast.Round","l":"finished()"},{"p":"chariot.model","c":"Enums.TournamentState.Provider","l":"finished()"},{"p":"chariot.model","c":"MyRound.Round","l":"finished()"},{"p":"chariot.model","c":"RoundInfo.Round","l":"finished()"},{"p":"chariot.model","c":"TournamentStatus","l":"finished()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"finished(boolean)"},{"p":"chariot.model","c":"Arena.Finished","l":"Finished(String, String, String, String, String, Integer, Arena.Perf, Arena.Clock, Enums.VariantName, boolean, boolean, Arena.Verdict, Integer, List<Arena.Duel>, Arena.Standing, boolean, boolean, boolean, List<Arena.Finished.Podium>, Arena.Finished.Stats, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,chariot.model.Arena.Perf,chariot.model.Arena.Clock,chariot.model.Enums.VariantName,boolean,boolean,chariot.model.Arena.Verdict,java.lang.Integer,java.util.List,chariot.model.Arena.Standing,boolean,boolean,boolean,java.util.List,chariot.model.Arena.Finished.Stats,java.lang.String)"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"finishedAt()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"finishedAtTime()"},{"p":"chariot.model","c":"Tournament","l":"finishesAt()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"finishesAt()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"finishesAt()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"finishesAt()"},{"p":"chariot.model","c":"Tournament","l":"finishesTime()"},{"p":"chariot.model","c":"Arena.Sheet","l":"fire()"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"firstName"},{"p":"chariot.model","c":"ProvidedProfile","l":"firstName()"},{"p":"chariot.model","c":"UserData.Provided","l":"firstName()"},{"p":"chariot.model","c":"PuzzleDashboard.PuzzleResult","l":"firstWins()"},{"p":"chariot.model","c":"Enums.Level.Provider","l":"five()"},{"p":"chariot.model","c":"UserProfileData","l":"flags()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"flair"},{"p":"chariot.model","c":"LightUser","l":"flair()"},{"p":"chariot.model","c":"UserCommon","l":"flair()"},{"p":"chariot.util","c":"ConsoleRenderer.Config","l":"flipped()"},{"p":"chariot.util","c":"ConsoleRenderer.Config","l":"flipped(boolean)"},{"p":"chariot","c":"Client.Scope","l":"follow_read"},{"p":"chariot","c":"Client.Scope","l":"follow_write"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"follow()"},{"p":"chariot.model","c":"TimelineEntry.Follow","l":"Follow(LightUser, LightUser, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,chariot.model.LightUser,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"followable"},{"p":"chariot.model","c":"UserAuth","l":"followable()"},{"p":"chariot.model","c":"UserAuthFlags","l":"followable()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"following"},{"p":"chariot.api","c":"AccountAuth","l":"following()"},{"p":"chariot.model","c":"UserAuth","l":"following()"},{"p":"chariot.model","c":"UserAuthFlags","l":"following()"},{"p":"chariot.model","c":"Activity.Type.Follows","l":"Follows(List<String>, List<String>)","u":"%3Cinit%3E(java.util.List,java.util.List)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"followsYou"},{"p":"chariot.model","c":"UserAuth","l":"followsYou()"},{"p":"chariot.model","c":"UserAuthFlags","l":"followsYou()"},{"p":"chariot.api","c":"UsersAuth","l":"followUser(String)","u":"followUser(java.lang.String)"},{"p":"chariot.model","c":"Game.ForcedMate","l":"ForcedMate(int)","u":"%3Cinit%3E(int)"},{"p":"chariot.model","c":"TimelineEntry.ForumPost","l":"ForumPost(LightUser, String, String, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Enums.Level.Provider","l":"four()"},{"p":"chariot.util","c":"ConsoleRenderer.Config","l":"frame()"},{"p":"chariot.util","c":"ConsoleRenderer.Config","l":"frame(boolean)"},{"p":"chariot.model","c":"Tournament.Scheduled.Schedule","l":"freq()"},{"p":"chariot.model","c":"Note","l":"from()"},{"p":"chariot.model","c":"PerformanceStatistics.WithStreak","l":"from()"},{"p":"chariot.util","c":"Board.FromTo","l":"from()"},{"p":"chariot.model","c":"ChallengeInfo.From","l":"From(ChallengeInfo.Player)","u":"%3Cinit%3E(chariot.model.ChallengeInfo.Player)"},{"p":"chariot.model","c":"Err","l":"from(String)","u":"from(java.lang.String)"},{"p":"chariot.util","c":"Board","l":"fromFEN(Board.FEN)","u":"fromFEN(chariot.util.Board.FEN)"},{"p":"chariot.util","c":"Board","l":"fromFEN(String)","u":"fromFEN(java.lang.String)"},{"p":"chariot.util","c":"Position","l":"fromFEN(String)","u":"fromFEN(java.lang.String)"},{"p":"chariot.util","c":"Position","l":"fromMove(Board.Move)","u":"fromMove(chariot.util.Board.Move)"},{"p":"chariot.model","c":"Enums.GameVariant","l":"fromPosition"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"fromPosition"},{"p":"chariot.model","c":"Enums.GameVariant.Provider","l":"fromPosition()"},{"p":"chariot.model","c":"VariantType.FromPosition","l":"FromPosition(Opt<String>)","u":"%3Cinit%3E(chariot.model.Opt)"},{"p":"chariot.util","c":"Replay","l":"fromSAN(Board, List<String>)","u":"fromSAN(chariot.util.Board,java.util.List)"},{"p":"chariot.util","c":"Replay","l":"fromSAN(List<String>)","u":"fromSAN(java.util.List)"},{"p":"chariot.util","c":"Board","l":"fromStandardPosition()"},{"p":"chariot","c":"Client.Scope","l":"fromString(String)","u":"fromString(java.lang.String)"},{"p":"chariot.util","c":"Board.FromTo","l":"FromTo(Board.Coordinate, Board.Coordinate)","u":"%3Cinit%3E(chariot.util.Board.Coordinate,chariot.util.Board.Coordinate)"},{"p":"chariot.model","c":"ChallengeInfo.FromTo","l":"FromTo(ChallengeInfo.Player, ChallengeInfo.Player)","u":"%3Cinit%3E(chariot.model.ChallengeInfo.Player,chariot.model.ChallengeInfo.Player)"},{"p":"chariot.util","c":"Replay","l":"fromUCI(Board, List<String>)","u":"fromUCI(chariot.util.Board,java.util.List)"},{"p":"chariot.util","c":"Replay","l":"fromUCI(List<String>)","u":"fromUCI(java.util.List)"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"Full(String, GameType, ZonedDateTime, GameStateEvent.Side, GameStateEvent.Side, Opt<TournamentId>, GameStateEvent.State)","u":"%3Cinit%3E(java.lang.String,chariot.model.GameType,java.time.ZonedDateTime,chariot.model.GameStateEvent.Side,chariot.model.GameStateEvent.Side,chariot.model.Opt,chariot.model.GameStateEvent.State)"},{"p":"chariot.model","c":"GameInfo","l":"fullId()"},{"p":"chariot.model","c":"TimelineEntry.GameEnd","l":"fullId()"},{"p":"chariot.util","c":"Position","l":"fullMoveNumber()"},{"p":"chariot.model","c":"Arena.Finished","l":"fullName()"},{"p":"chariot.model","c":"Arena","l":"fullName()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"fullName()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"fullName()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"fullName()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"fullName()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"fullName()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"fullName()"},{"p":"chariot.model","c":"Tournament","l":"fullName()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"fullName()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"fullName()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"fullName()"},{"p":"chariot.model","c":"Arena.Finished.Podium.NB","l":"game()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium.NB","l":"game()"},{"p":"chariot.model","c":"Event.GameEvent","l":"game()"},{"p":"chariot.model","c":"Event.GameStartEvent","l":"game()"},{"p":"chariot.model","c":"Event.GameStopEvent","l":"game()"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"game()"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"game()"},{"p":"chariot.model","c":"Puzzle","l":"game()"},{"p":"chariot.model","c":"Game","l":"Game(String, boolean, Enums.GameVariant, String, String, String, ZonedDateTime, ZonedDateTime, Enums.Status, Game.Players, String, String, String, String, String, String, Integer, Enums.Color, Game.Opening, Game.Clock, List<Integer>, List<Game.AnalysisEntry>, Opt<Game.Division>)","u":"%3Cinit%3E(java.lang.String,boolean,chariot.model.Enums.GameVariant,java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime,java.time.ZonedDateTime,chariot.model.Enums.Status,chariot.model.Game.Players,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,chariot.model.Enums.Color,chariot.model.Game.Opening,chariot.model.Game.Clock,java.util.List,java.util.List,chariot.model.Opt)"},{"p":"chariot.model","c":"Activity.Game","l":"Game(String, Enums.Color, String, String, String, String, Boolean, Activity.Game.Opponent)","u":"%3Cinit%3E(java.lang.String,chariot.model.Enums.Color,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.Boolean,chariot.model.Activity.Game.Opponent)"},{"p":"chariot.model","c":"RoundInfo.Game","l":"Game(String, String, boolean, String, URI)","u":"%3Cinit%3E(java.lang.String,java.lang.String,boolean,java.lang.String,java.net.URI)"},{"p":"chariot.model","c":"BulkPairing.Game","l":"Game(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"TimelineEntry.GameEnd","l":"GameEnd(String, String, Opt<LightUser>, Opt<Boolean>, ZonedDateTime)","u":"%3Cinit%3E(java.lang.String,java.lang.String,chariot.model.Opt,chariot.model.Opt,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Event.Type","l":"gameFinish"},{"p":"chariot.model","c":"GameStateEvent.Type","l":"gameFull"},{"p":"chariot.model","c":"Event.GameEvent","l":"gameId()"},{"p":"chariot.model","c":"GameInfo","l":"gameId()"},{"p":"chariot.model","c":"PerformanceStatistics.DateResult","l":"gameId()"},{"p":"chariot.model","c":"PerformanceStatistics.Result","l":"gameId()"},{"p":"chariot.model","c":"PerformanceStatistics.StreakPoint","l":"gameId()"},{"p":"chariot.model","c":"TVChannels.TVChannel","l":"gameId()"},{"p":"chariot.model","c":"GameImport","l":"GameImport(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Puzzle.GameInfo","l":"GameInfo(String, String, String, boolean, Puzzle.GameInfo.Perf, List<Puzzle.GameInfo.Player>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,boolean,chariot.model.Puzzle.GameInfo.Perf,java.util.List)"},{"p":"chariot.model","c":"GameInfo","l":"GameInfo(String, String, String, Enums.Color, Enums.Status, VariantType, GameInfo.TimeInfo, boolean, boolean, boolean, GameInfo.Opponent, String, Opt<String>, Opt<Integer>, Opt<TournamentId>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,chariot.model.Enums.Color,chariot.model.Enums.Status,chariot.model.VariantType,chariot.model.GameInfo.TimeInfo,boolean,boolean,boolean,chariot.model.GameInfo.Opponent,java.lang.String,chariot.model.Opt,chariot.model.Opt,chariot.model.Opt)"},{"p":"chariot.api","c":"Games","l":"gameInfosByGameIds(String, Set<String>)","u":"gameInfosByGameIds(java.lang.String,java.util.Set)"},{"p":"chariot.api","c":"Games","l":"gameInfosByGameIds(String, String...)","u":"gameInfosByGameIds(java.lang.String,java.lang.String...)"},{"p":"chariot.api","c":"Games","l":"gameInfosByUserIds(Set<String>)","u":"gameInfosByUserIds(java.util.Set)"},{"p":"chariot.api","c":"Games","l":"gameInfosByUserIds(Set<String>, Consumer<Games.GamesParameters>)","u":"gameInfosByUserIds(java.util.Set,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games","l":"gameInfosByUserIds(String...)","u":"gameInfosByUserIds(java.lang.String...)"},{"p":"chariot.model","c":"GameMeta","l":"GameMeta(String, Enums.VariantName, String, String, boolean, Integer, String, Long, GameMeta.Clock, GameMeta.Players)","u":"%3Cinit%3E(java.lang.String,chariot.model.Enums.VariantName,java.lang.String,java.lang.String,boolean,java.lang.Integer,java.lang.String,java.lang.Long,chariot.model.GameMeta.Clock,chariot.model.GameMeta.Players)"},{"p":"chariot","c":"Client","l":"games()"},{"p":"chariot","c":"ClientAuth","l":"games()"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceEnds","l":"games()"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceMoves","l":"games()"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"games()"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"games()"},{"p":"chariot.model","c":"BulkPairing","l":"games()"},{"p":"chariot.model","c":"RoundInfo","l":"games()"},{"p":"chariot.model","c":"StatsPerf.StatsPerfGame","l":"games()"},{"p":"chariot.model","c":"Swiss.Stats","l":"games()"},{"p":"chariot.model","c":"Activity.Type.Games","l":"Games(List<Activity.Result>)","u":"%3Cinit%3E(java.util.List)"},{"p":"chariot","c":"Client","l":"gamesAsync()"},{"p":"chariot.api","c":"Tournaments","l":"gamesByArenaId(String)","u":"gamesByArenaId(java.lang.String)"},{"p":"chariot.api","c":"Tournaments","l":"gamesByArenaId(String, Consumer<Games.Filter>)","u":"gamesByArenaId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Tournaments","l":"gamesBySwissId(String)","u":"gamesBySwissId(java.lang.String)"},{"p":"chariot.api","c":"Tournaments","l":"gamesBySwissId(String, Consumer<Games.Filter>)","u":"gamesBySwissId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"BoardAuth","l":"gameSessions(Function<GameInfo, Consumer<GameStateEvent>>)","u":"gameSessions(java.util.function.Function)"},{"p":"chariot.api","c":"BotAuth","l":"gameSessions(Function<GameInfo, Consumer<GameStateEvent>>)","u":"gameSessions(java.util.function.Function)"},{"p":"chariot.api","c":"BoardAuth","l":"gameSessions(Function<GameInfo, Consumer<GameStateEvent>>, Consumer<GameSessions.Params>)","u":"gameSessions(java.util.function.Function,java.util.function.Consumer)"},{"p":"chariot.api","c":"BotAuth","l":"gameSessions(Function<GameInfo, Consumer<GameStateEvent>>, Consumer<GameSessions.Params>)","u":"gameSessions(java.util.function.Function,java.util.function.Consumer)"},{"p":"chariot.model","c":"Event.Type","l":"gameStart"},{"p":"chariot.model","c":"Event.GameStartEvent","l":"GameStartEvent(GameInfo, Event.Compat)","u":"%3Cinit%3E(chariot.model.GameInfo,chariot.model.Event.Compat)"},{"p":"chariot.model","c":"GameStateEvent.Type","l":"gameState"},{"p":"chariot.util","c":"Board.BoardData","l":"gameState()"},{"p":"chariot.util","c":"Board","l":"gameState()"},{"p":"chariot.model","c":"Event.GameStopEvent","l":"GameStopEvent(GameInfo, Enums.Outcome, Event.Compat)","u":"%3Cinit%3E(chariot.model.GameInfo,chariot.model.Enums.Outcome,chariot.model.Event.Compat)"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"GameSummary(String, String, String, String, String, MoveInfo.Status, String, String, int, int, ZonedDateTime, boolean, Variant, Enums.Color, MoveInfo.Players)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,chariot.model.MoveInfo.Status,java.lang.String,java.lang.String,int,int,java.time.ZonedDateTime,boolean,chariot.model.Variant,chariot.model.Enums.Color,chariot.model.MoveInfo.Players)"},{"p":"chariot.model","c":"ChallengeInfo","l":"gameType()"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"gameType()"},{"p":"chariot.model","c":"GameType","l":"GameType(boolean, VariantType, TimeControl)","u":"%3Cinit%3E(boolean,chariot.model.VariantType,chariot.model.TimeControl)"},{"p":"chariot.api","c":"TournamentsAuth","l":"generateUserEntryCode(String, String)","u":"generateUserEntryCode(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth","l":"generateUserEntryCodes(String, Set<String>)","u":"generateUserEntryCodes(java.lang.String,java.util.Set)"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"generic"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"generic()"},{"p":"chariot.model","c":"One","l":"get()"},{"p":"chariot.util","c":"Board.BoardData","l":"get(Board.Coordinate)","u":"get(chariot.util.Board.Coordinate)"},{"p":"chariot.util","c":"Board","l":"get(Board.Coordinate)","u":"get(chariot.util.Board.Coordinate)"},{"p":"chariot.util","c":"Position","l":"get(Board.Coordinate)","u":"get(chariot.util.Board.Coordinate)"},{"p":"chariot.util","c":"Board","l":"get(int, int)","u":"get(int,int)"},{"p":"chariot.api","c":"ExternalEngineAuth","l":"get(String)","u":"get(java.lang.String)"},{"p":"chariot.util","c":"Board","l":"get(String)","u":"get(java.lang.String)"},{"p":"chariot.model","c":"PerformanceStatistics.Perf","l":"glicko()"},{"p":"chariot.model","c":"PerformanceStatistics.Glicko","l":"Glicko(Float, Float, boolean)","u":"%3Cinit%3E(java.lang.Float,java.lang.Float,boolean)"},{"p":"chariot.model","c":"PuzzleDashboard","l":"global()"},{"p":"chariot.model","c":"GameStateEvent.OpponentGone","l":"gone()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"greatPlayer()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"greatPlayer()"},{"p":"chariot.model","c":"Swiss","l":"greatPlayer()"},{"p":"chariot.model","c":"Arena.GreatPlayer","l":"GreatPlayer(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Swiss.GreatPlayer","l":"GreatPlayer(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.util","c":"Board.FEN","l":"halfMoveClock()"},{"p":"chariot.util","c":"Position","l":"halfMoveClock()"},{"p":"chariot.api","c":"BoardAuth","l":"handleDrawOffer(String, boolean)","u":"handleDrawOffer(java.lang.String,boolean)"},{"p":"chariot.api","c":"BotAuth","l":"handleDrawOffer(String, boolean)","u":"handleDrawOffer(java.lang.String,boolean)"},{"p":"chariot.api","c":"BoardAuth","l":"handleTakebackOffer(String, boolean)","u":"handleTakebackOffer(java.lang.String,boolean)"},{"p":"chariot.api","c":"BotAuth","l":"handleTakebackOffer(String, boolean)","u":"handleTakebackOffer(java.lang.String,boolean)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"hasChat()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"hasChat(boolean)"},{"p":"chariot.model","c":"ExternalEngineWork","l":"hash()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams.Pairing","l":"hashCode()"},{"p":"chariot.api","c":"GameSessions.Metrics","l":"hashCode()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.AtDate","l":"hashCode()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.InMinutes","l":"hashCode()"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams.Pairing","l":"hashCode()"},{"p":"chariot","c":"Client.AuthFail","l":"hashCode()"},{"p":"chariot","c":"Client.AuthOk","l":"hashCode()"},{"p":"chariot","c":"Client.CodeAndState","l":"hashCode()"},{"p":"chariot.model","c":"AccountPreferences","l":"hashCode()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Game","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Game.Opponent","l":"hashCode()"},{"p":"chariot.model","c":"Activity","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Interval","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Practice","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Result","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Result.ResultHelper","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Result.RP","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Simul","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Simul.Score","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Team","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Topic","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Topic.Post","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Tournament","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Tournament.Info","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceEnds","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceMoves","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.Follows","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.Games","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.Patron","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.Posts","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.Practices","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.Puzzles","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.Simuls","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.Teams","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.Tournaments","l":"hashCode()"},{"p":"chariot.model","c":"Activity.Type.Unknown","l":"hashCode()"},{"p":"chariot.model","c":"AI","l":"hashCode()"},{"p":"chariot.model","c":"Analysis","l":"hashCode()"},{"p":"chariot.model","c":"Anonymous","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Clock","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Duel","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Duel.P","l":"hashCode()"},{"p":"chariot.model","c":"Arena.DuelTeams","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Finished","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Finished.Podium.NB","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"hashCode()"},{"p":"chariot.model","c":"Arena.GreatPlayer","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured.Player","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Perf","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Sheet","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Standing","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamBattle","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium.NB","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured.Player","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamStanding","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamStanding.Player","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamStanding.Player.User","l":"hashCode()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Verdict.Condition","l":"hashCode()"},{"p":"chariot.model","c":"Arena.Verdict","l":"hashCode()"},{"p":"chariot.model","c":"ArenaResult","l":"hashCode()"},{"p":"chariot.model","c":"Broadcast","l":"hashCode()"},{"p":"chariot.model","c":"Broadcast.Round","l":"hashCode()"},{"p":"chariot.model","c":"Broadcast.RoundTour","l":"hashCode()"},{"p":"chariot.model","c":"Broadcast.Score","l":"hashCode()"},{"p":"chariot.model","c":"Broadcast.Tour","l":"hashCode()"},{"p":"chariot.model","c":"BulkPairing.Clock","l":"hashCode()"},{"p":"chariot.model","c":"BulkPairing.Game","l":"hashCode()"},{"p":"chariot.model","c":"BulkPairing","l":"hashCode()"},{"p":"chariot.model","c":"Challenge.ChallengeWithRules","l":"hashCode()"},{"p":"chariot.model","c":"Challenge.DeclinedChallenge","l":"hashCode()"},{"p":"chariot.model","c":"Challenge.RematchChallenge","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeAI","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeInfo.ColorOutcome","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeInfo.ColorRequest","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeInfo.From","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeInfo.FromTo","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeInfo","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeInfo.OpenEnded","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeInfo.Player","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeOpenEnded.Any","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeOpenEnded","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeOpenEnded.Reserved","l":"hashCode()"},{"p":"chariot.model","c":"ChallengeTokens","l":"hashCode()"},{"p":"chariot.model","c":"ChapterMeta","l":"hashCode()"},{"p":"chariot.model","c":"ChatMessage","l":"hashCode()"},{"p":"chariot.model","c":"CloudEvalCacheEntry","l":"hashCode()"},{"p":"chariot.model","c":"CloudEvalCacheEntry.PV","l":"hashCode()"},{"p":"chariot.model","c":"Correspondence","l":"hashCode()"},{"p":"chariot.model","c":"Crosstable","l":"hashCode()"},{"p":"chariot.model","c":"Crosstable.Points","l":"hashCode()"},{"p":"chariot.model","c":"Crosstable.Results","l":"hashCode()"},{"p":"chariot.model","c":"Crosstable.Results.Result","l":"hashCode()"},{"p":"chariot.model","c":"CurrentSimuls","l":"hashCode()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"hashCode()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Host","l":"hashCode()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Variant","l":"hashCode()"},{"p":"chariot.model","c":"Disabled","l":"hashCode()"},{"p":"chariot.model","c":"Empty","l":"hashCode()"},{"p":"chariot.model","c":"Entries","l":"hashCode()"},{"p":"chariot.model","c":"Entry","l":"hashCode()"},{"p":"chariot.model","c":"Err.Empty","l":"hashCode()"},{"p":"chariot.model","c":"Err.Info","l":"hashCode()"},{"p":"chariot.model","c":"Event.ChallengeCanceledEvent","l":"hashCode()"},{"p":"chariot.model","c":"Event.ChallengeCreatedEvent","l":"hashCode()"},{"p":"chariot.model","c":"Event.ChallengeDeclinedEvent","l":"hashCode()"},{"p":"chariot.model","c":"Event.Compat","l":"hashCode()"},{"p":"chariot.model","c":"Event.DeclineReason","l":"hashCode()"},{"p":"chariot.model","c":"Event.GameStartEvent","l":"hashCode()"},{"p":"chariot.model","c":"Event.GameStopEvent","l":"hashCode()"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"hashCode()"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"hashCode()"},{"p":"chariot.model","c":"ExploreResult.EROpening","l":"hashCode()"},{"p":"chariot.model","c":"ExploreResult.ERPlayer","l":"hashCode()"},{"p":"chariot.model","c":"ExploreResult.ERStats","l":"hashCode()"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"hashCode()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"hashCode()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"hashCode()"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"hashCode()"},{"p":"chariot.model","c":"ExternalEngineAnalysis","l":"hashCode()"},{"p":"chariot.model","c":"ExternalEngineAnalysis.Pvs","l":"hashCode()"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"hashCode()"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"hashCode()"},{"p":"chariot.model","c":"ExternalEngineRequest","l":"hashCode()"},{"p":"chariot.model","c":"ExternalEngineWork","l":"hashCode()"},{"p":"chariot.model","c":"Fail","l":"hashCode()"},{"p":"chariot.model","c":"Game.AnnotatedEval","l":"hashCode()"},{"p":"chariot.model","c":"Game.Clock","l":"hashCode()"},{"p":"chariot.model","c":"Game.Eval","l":"hashCode()"},{"p":"chariot.model","c":"Game.ForcedMate","l":"hashCode()"},{"p":"chariot.model","c":"Game","l":"hashCode()"},{"p":"chariot.model","c":"Game.Judgment","l":"hashCode()"},{"p":"chariot.model","c":"Game.Middle","l":"hashCode()"},{"p":"chariot.model","c":"Game.MiddleEnd","l":"hashCode()"},{"p":"chariot.model","c":"Game.Opening","l":"hashCode()"},{"p":"chariot.model","c":"Game.Players","l":"hashCode()"},{"p":"chariot.model","c":"GameImport","l":"hashCode()"},{"p":"chariot.model","c":"GameInfo.Account","l":"hashCode()"},{"p":"chariot.model","c":"GameInfo","l":"hashCode()"},{"p":"chariot.model","c":"GameInfo.TimeInfo","l":"hashCode()"},{"p":"chariot.model","c":"GameMeta.Clock","l":"hashCode()"},{"p":"chariot.model","c":"GameMeta","l":"hashCode()"},{"p":"chariot.model","c":"GameMeta.Players","l":"hashCode()"},{"p":"chariot.model","c":"GameMeta.Players.Player","l":"hashCode()"},{"p":"chariot.model","c":"GameStateEvent.Account","l":"hashCode()"},{"p":"chariot.model","c":"GameStateEvent.Chat","l":"hashCode()"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"hashCode()"},{"p":"chariot.model","c":"GameStateEvent.No","l":"hashCode()"},{"p":"chariot.model","c":"GameStateEvent.OpponentGone","l":"hashCode()"},{"p":"chariot.model","c":"GameStateEvent.Soon","l":"hashCode()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"hashCode()"},{"p":"chariot.model","c":"GameStateEvent.Yes","l":"hashCode()"},{"p":"chariot.model","c":"GameType","l":"hashCode()"},{"p":"chariot.model","c":"IdName","l":"hashCode()"},{"p":"chariot.model","c":"IdNameTitle","l":"hashCode()"},{"p":"chariot.model","c":"Leaderboard","l":"hashCode()"},{"p":"chariot.model","c":"LightUser","l":"hashCode()"},{"p":"chariot.model","c":"LiveStreamer","l":"hashCode()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"hashCode()"},{"p":"chariot.model","c":"MoveInfo.Move","l":"hashCode()"},{"p":"chariot.model","c":"MoveInfo.Players","l":"hashCode()"},{"p":"chariot.model","c":"MoveInfo.Status","l":"hashCode()"},{"p":"chariot.model","c":"MyRound","l":"hashCode()"},{"p":"chariot.model","c":"MyRound.Round","l":"hashCode()"},{"p":"chariot.model","c":"MyRound.Study","l":"hashCode()"},{"p":"chariot.model","c":"MyRound.Tour","l":"hashCode()"},{"p":"chariot.model","c":"None","l":"hashCode()"},{"p":"chariot.model","c":"Note","l":"hashCode()"},{"p":"chariot.model","c":"Opening","l":"hashCode()"},{"p":"chariot.model","c":"PageTeam","l":"hashCode()"},{"p":"chariot.model","c":"PendingChallenges","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.DateResult","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.Glicko","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.OpId","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.Perf","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.PerfType","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.PlayStreak","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.Result","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.Results","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.ResultStreak","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.Streak","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.StreakPoint","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.WithoutStreak","l":"hashCode()"},{"p":"chariot.model","c":"PerformanceStatistics.WithStreak","l":"hashCode()"},{"p":"chariot.model","c":"Pgn.BasicPgn","l":"hashCode()"},{"p":"chariot.model","c":"Pgn.Comment","l":"hashCode()"},{"p":"chariot.model","c":"Pgn.Empty","l":"hashCode()"},{"p":"chariot.model","c":"Pgn.End","l":"hashCode()"},{"p":"chariot.model","c":"Pgn.NumBegin","l":"hashCode()"},{"p":"chariot.model","c":"Pgn.NumEnd","l":"hashCode()"},{"p":"chariot.model","c":"Pgn.Result","l":"hashCode()"},{"p":"chariot.model","c":"Pgn.Tag.BasicTag","l":"hashCode()"},{"p":"chariot.model","c":"Pgn.Variation","l":"hashCode()"},{"p":"chariot.model","c":"Player.Account","l":"hashCode()"},{"p":"chariot.model","c":"Player.Analysed","l":"hashCode()"},{"p":"chariot.model","c":"Player.ArenaInfo","l":"hashCode()"},{"p":"chariot.model","c":"PushResult.Fail","l":"hashCode()"},{"p":"chariot.model","c":"PushResult.Pass","l":"hashCode()"},{"p":"chariot.model","c":"Puzzle.GameInfo","l":"hashCode()"},{"p":"chariot.model","c":"Puzzle.GameInfo.Perf","l":"hashCode()"},{"p":"chariot.model","c":"Puzzle.GameInfo.Player","l":"hashCode()"},{"p":"chariot.model","c":"Puzzle","l":"hashCode()"},{"p":"chariot.model","c":"Puzzle.PuzzleInfo","l":"hashCode()"},{"p":"chariot.model","c":"PuzzleActivity","l":"hashCode()"},{"p":"chariot.model","c":"PuzzleDashboard","l":"hashCode()"},{"p":"chariot.model","c":"PuzzleDashboard.PuzzleResult","l":"hashCode()"},{"p":"chariot.model","c":"PuzzleDashboard.Theme","l":"hashCode()"},{"p":"chariot.model","c":"PuzzleRace","l":"hashCode()"},{"p":"chariot.model","c":"RatingHistory.DateResult","l":"hashCode()"},{"p":"chariot.model","c":"RatingHistory","l":"hashCode()"},{"p":"chariot.model","c":"RealTime","l":"hashCode()"},{"p":"chariot.model","c":"RoundInfo.Game","l":"hashCode()"},{"p":"chariot.model","c":"RoundInfo","l":"hashCode()"},{"p":"chariot.model","c":"RoundInfo.Round","l":"hashCode()"},{"p":"chariot.model","c":"RoundInfo.Study","l":"hashCode()"},{"p":"chariot.model","c":"RoundInfo.Tour","l":"hashCode()"},{"p":"chariot.model","c":"SeekAck","l":"hashCode()"},{"p":"chariot.model","c":"Some","l":"hashCode()"},{"p":"chariot.model","c":"StatsPerf.StatsPerfGame","l":"hashCode()"},{"p":"chariot.model","c":"StatsPerf.StatsPerfRun","l":"hashCode()"},{"p":"chariot.model","c":"StormDashboard.Day","l":"hashCode()"},{"p":"chariot.model","c":"StormDashboard","l":"hashCode()"},{"p":"chariot.model","c":"StormDashboard.High","l":"hashCode()"},{"p":"chariot.model","c":"StudyMeta","l":"hashCode()"},{"p":"chariot.model","c":"Swiss.Clock","l":"hashCode()"},{"p":"chariot.model","c":"Swiss.GreatPlayer","l":"hashCode()"},{"p":"chariot.model","c":"Swiss","l":"hashCode()"},{"p":"chariot.model","c":"Swiss.NextRound","l":"hashCode()"},{"p":"chariot.model","c":"Swiss.Quote","l":"hashCode()"},{"p":"chariot.model","c":"Swiss.Stats","l":"hashCode()"},{"p":"chariot.model","c":"SwissResult","l":"hashCode()"},{"p":"chariot.model","c":"TablebaseResult","l":"hashCode()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"hashCode()"},{"p":"chariot.model","c":"Team","l":"hashCode()"},{"p":"chariot.model","c":"TeamBattleResults","l":"hashCode()"},{"p":"chariot.model","c":"TeamBattleResults.Teams","l":"hashCode()"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player","l":"hashCode()"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player.User","l":"hashCode()"},{"p":"chariot.model","c":"TeamMember","l":"hashCode()"},{"p":"chariot.model","c":"TeamRequest","l":"hashCode()"},{"p":"chariot.model","c":"TeamRequest.Request","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.BlogPost","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.Follow","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.ForumPost","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.GameEnd","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.PlanRenew","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.PlanStart","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.SimulCreate","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.SimulJoin","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.StreamStart","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.StudyLike","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.TeamCreate","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.TeamJoin","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.TourJoin","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.UblogPost","l":"hashCode()"},{"p":"chariot.model","c":"TimelineEntry.UblogPostLike","l":"hashCode()"},{"p":"chariot.model","c":"TokenBulkResult","l":"hashCode()"},{"p":"chariot.model","c":"TokenBulkResult.TokenInfo","l":"hashCode()"},{"p":"chariot.model","c":"TokenResult.AccessToken","l":"hashCode()"},{"p":"chariot.model","c":"TokenResult.Error","l":"hashCode()"},{"p":"chariot.model","c":"Tournament.Clock","l":"hashCode()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"hashCode()"},{"p":"chariot.model","c":"Tournament.Perf","l":"hashCode()"},{"p":"chariot.model","c":"Tournament.Pos.None","l":"hashCode()"},{"p":"chariot.model","c":"Tournament.Pos.Position","l":"hashCode()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"hashCode()"},{"p":"chariot.model","c":"Tournament.Scheduled.Schedule","l":"hashCode()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"hashCode()"},{"p":"chariot.model","c":"Tournament.TeamBattle.Teams","l":"hashCode()"},{"p":"chariot.model","c":"TournamentId.ArenaId","l":"hashCode()"},{"p":"chariot.model","c":"TournamentId.SwissId","l":"hashCode()"},{"p":"chariot.model","c":"TournamentStatus","l":"hashCode()"},{"p":"chariot.model","c":"Trophy","l":"hashCode()"},{"p":"chariot.model","c":"TVChannels","l":"hashCode()"},{"p":"chariot.model","c":"TVChannels.TVChannel","l":"hashCode()"},{"p":"chariot.model","c":"TVFeedEvent.Featured","l":"hashCode()"},{"p":"chariot.model","c":"TVFeedEvent.Fen","l":"hashCode()"},{"p":"chariot.model","c":"TVFeedEvent.PlayerInfo","l":"hashCode()"},{"p":"chariot.model","c":"Unlimited","l":"hashCode()"},{"p":"chariot.model","c":"UserAuthFlags","l":"hashCode()"},{"p":"chariot.model","c":"UserCount","l":"hashCode()"},{"p":"chariot.model","c":"UserData.ChannelInfo","l":"hashCode()"},{"p":"chariot.model","c":"UserData","l":"hashCode()"},{"p":"chariot.model","c":"UserData.PlayTime","l":"hashCode()"},{"p":"chariot.model","c":"UserData.Property","l":"hashCode()"},{"p":"chariot.model","c":"UserData.Provided","l":"hashCode()"},{"p":"chariot.model","c":"UserData.Ratings","l":"hashCode()"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"hashCode()"},{"p":"chariot.model","c":"UserData.StreamInfo","l":"hashCode()"},{"p":"chariot.model","c":"UserData.Trophies","l":"hashCode()"},{"p":"chariot.model","c":"UserFlags","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perf","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Antichess","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Atomic","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Blitz","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Bullet","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Chess960","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Classical","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Crazyhouse","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Horde","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.KingOfTheHill","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.RacingKings","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Rapid","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.ThreeCheck","l":"hashCode()"},{"p":"chariot.model","c":"UserPerformance.Perfs.UltraBullet","l":"hashCode()"},{"p":"chariot.model","c":"UserProfileData","l":"hashCode()"},{"p":"chariot.model","c":"UserStats","l":"hashCode()"},{"p":"chariot.model","c":"UserStatusData","l":"hashCode()"},{"p":"chariot.model","c":"UserTimes","l":"hashCode()"},{"p":"chariot.model","c":"UserTopAll","l":"hashCode()"},{"p":"chariot.model","c":"Variant","l":"hashCode()"},{"p":"chariot.model","c":"VariantType.Chess960","l":"hashCode()"},{"p":"chariot.model","c":"VariantType.FromPosition","l":"hashCode()"},{"p":"chariot.util","c":"Board.BoardData","l":"hashCode()"},{"p":"chariot.util","c":"Board.Castling","l":"hashCode()"},{"p":"chariot.util","c":"Board.CastlingRights.Chess960","l":"hashCode()"},{"p":"chariot.util","c":"Board.CastlingRights.RookFiles","l":"hashCode()"},{"p":"chariot.util","c":"Board.CastlingRights.Standard","l":"hashCode()"},{"p":"chariot.util","c":"Board.FEN","l":"hashCode()"},{"p":"chariot.util","c":"Board.FromTo","l":"hashCode()"},{"p":"chariot.util","c":"Board.Invalid","l":"hashCode()"},{"p":"chariot.util","c":"Board.Promotion","l":"hashCode()"},{"p":"chariot.util","c":"Board.RowCol","l":"hashCode()"},{"p":"chariot.util","c":"Board.StandardPiece","l":"hashCode()"},{"p":"chariot.util","c":"ConsoleRenderer","l":"hashCode()"},{"p":"chariot.util","c":"Replay.Ply","l":"hashCode()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"hasMaxRating()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"hasMaxRating()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"hasMaxRating()"},{"p":"chariot.model","c":"GameInfo","l":"hasMoved()"},{"p":"chariot.api","c":"Custom.Request","l":"headers(Map<String, String>)","u":"headers(java.util.Map)"},{"p":"chariot.model","c":"UserData.StreamerInfoPropertyEnum","l":"headline"},{"p":"chariot.model","c":"StreamerInfo","l":"headline()"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"headline()"},{"p":"chariot.model","c":"StormDashboard","l":"high()"},{"p":"chariot.model","c":"StormDashboard.High","l":"High(int, int, int, int)","u":"%3Cinit%3E(int,int,int,int)"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"highest()"},{"p":"chariot.model","c":"StormDashboard.Day","l":"highest()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"highlight()"},{"p":"chariot.api","c":"OpeningExplorer.LichessBuilder","l":"history()"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"history()"},{"p":"chariot.util","c":"Board.BoardData","l":"history()"},{"p":"chariot.api","c":"OpeningExplorer.LichessBuilder","l":"history(boolean)"},{"p":"chariot.model","c":"Enums.Channel","l":"horde"},{"p":"chariot.model","c":"Enums.GameVariant","l":"horde"},{"p":"chariot.model","c":"Enums.PerfType","l":"horde"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"horde"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"horde"},{"p":"chariot.model","c":"Enums.VariantName","l":"horde"},{"p":"chariot.model","c":"StatsPerfType","l":"horde"},{"p":"chariot.model","c":"VariantType.Variant","l":"horde"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"horde()"},{"p":"chariot.model","c":"Enums.GameVariant.Provider","l":"horde()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"horde()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"horde()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"horde()"},{"p":"chariot.model","c":"Enums.VariantName.Provider","l":"horde()"},{"p":"chariot.model","c":"TVChannels","l":"horde()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Horde","l":"horde()"},{"p":"chariot.model","c":"UserTopAll","l":"horde()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Horde","l":"Horde(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"host()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Host","l":"Host(String, String, int, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,int,java.lang.String)"},{"p":"chariot","c":"Client.PkceConfig","l":"htmlSuccess(String)","u":"htmlSuccess(java.lang.String)"},{"p":"chariot.model","c":"Arena.Perf","l":"icon()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Variant","l":"icon()"},{"p":"chariot.model","c":"Puzzle.GameInfo.Perf","l":"icon()"},{"p":"chariot.model","c":"Tournament.Perf","l":"icon()"},{"p":"chariot.model","c":"Trophy","l":"icon()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"id"},{"p":"chariot.model","c":"Enums.ChatFor","l":"id"},{"p":"chariot.model","c":"Activity.Game","l":"id()"},{"p":"chariot.model","c":"Activity.Simul","l":"id()"},{"p":"chariot.model","c":"Activity.Tournament.Info","l":"id()"},{"p":"chariot.model","c":"AI","l":"id()"},{"p":"chariot.model","c":"Anonymous","l":"id()"},{"p":"chariot.model","c":"Arena.Duel","l":"id()"},{"p":"chariot.model","c":"Arena.Finished","l":"id()"},{"p":"chariot.model","c":"Arena","l":"id()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"id()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"id()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"id()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"id()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"id()"},{"p":"chariot.model","c":"Arena.TeamStanding","l":"id()"},{"p":"chariot.model","c":"Arena.TeamStanding.Player.User","l":"id()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"id()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"id()"},{"p":"chariot.model","c":"Broadcast","l":"id()"},{"p":"chariot.model","c":"Broadcast.Round","l":"id()"},{"p":"chariot.model","c":"Broadcast.RoundTour","l":"id()"},{"p":"chariot.model","c":"Broadcast.Tour","l":"id()"},{"p":"chariot.model","c":"BulkPairing.Game","l":"id()"},{"p":"chariot.model","c":"BulkPairing","l":"id()"},{"p":"chariot.model","c":"ChallengeAI","l":"id()"},{"p":"chariot.model","c":"ChallengeInfo","l":"id()"},{"p":"chariot.model","c":"ChapterMeta","l":"id()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Host","l":"id()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"id()"},{"p":"chariot.model","c":"Disabled","l":"id()"},{"p":"chariot.model","c":"Event.ChallengeEvent","l":"id()"},{"p":"chariot.model","c":"Event","l":"id()"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"id()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"id()"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"id()"},{"p":"chariot.model","c":"ExternalEngineRequest","l":"id()"},{"p":"chariot.model","c":"Game","l":"id()"},{"p":"chariot.model","c":"GameImport","l":"id()"},{"p":"chariot.model","c":"GameInfo.Account","l":"id()"},{"p":"chariot.model","c":"GameInfo.Opponent","l":"id()"},{"p":"chariot.model","c":"GameMeta","l":"id()"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"id()"},{"p":"chariot.model","c":"IdName","l":"id()"},{"p":"chariot.model","c":"IdNameTitle","l":"id()"},{"p":"chariot.model","c":"LightUser","l":"id()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"id()"},{"p":"chariot.model","c":"MoveInfo.Status","l":"id()"},{"p":"chariot.model","c":"MyRound","l":"id()"},{"p":"chariot.model","c":"MyRound.Round","l":"id()"},{"p":"chariot.model","c":"MyRound.Tour","l":"id()"},{"p":"chariot.model","c":"PerformanceStatistics.OpId","l":"id()"},{"p":"chariot.model","c":"Puzzle.GameInfo","l":"id()"},{"p":"chariot.model","c":"Puzzle.PuzzleInfo","l":"id()"},{"p":"chariot.model","c":"PuzzleActivity","l":"id()"},{"p":"chariot.model","c":"PuzzleRace","l":"id()"},{"p":"chariot.model","c":"RoundInfo.Game","l":"id()"},{"p":"chariot.model","c":"RoundInfo","l":"id()"},{"p":"chariot.model","c":"RoundInfo.Round","l":"id()"},{"p":"chariot.model","c":"RoundInfo.Tour","l":"id()"},{"p":"chariot.model","c":"SeekAck","l":"id()"},{"p":"chariot.model","c":"StudyMeta","l":"id()"},{"p":"chariot.model","c":"Swiss","l":"id()"},{"p":"chariot.model","c":"Team","l":"id()"},{"p":"chariot.model","c":"TeamBattleResults","l":"id()"},{"p":"chariot.model","c":"TeamBattleResults.Teams","l":"id()"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player","l":"id()"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player.User","l":"id()"},{"p":"chariot.model","c":"TimelineEntry.BlogPost","l":"id()"},{"p":"chariot.model","c":"TimelineEntry.UblogPost","l":"id()"},{"p":"chariot.model","c":"TimelineEntry.UblogPostLike","l":"id()"},{"p":"chariot.model","c":"Tournament","l":"id()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"id()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"id()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"id()"},{"p":"chariot.model","c":"TournamentId.ArenaId","l":"id()"},{"p":"chariot.model","c":"TournamentId","l":"id()"},{"p":"chariot.model","c":"TournamentId.SwissId","l":"id()"},{"p":"chariot.model","c":"TVFeedEvent.Featured","l":"id()"},{"p":"chariot.model","c":"UserCommon","l":"id()"},{"p":"chariot.model","c":"UserInfo","l":"id()"},{"p":"chariot.model","c":"UserPerformance","l":"id()"},{"p":"chariot.model","c":"IdName","l":"IdName(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"IdNameTitle","l":"IdNameTitle(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"One","l":"ifPresent(Consumer<? super T>)","u":"ifPresent(java.util.function.Consumer)"},{"p":"chariot.model","c":"Tournament.Pos","l":"ifPresent(Consumer<Tournament.Pos.Position>)","u":"ifPresent(java.util.function.Consumer)"},{"p":"chariot.model","c":"One","l":"ifPresentOrElse(Consumer<? super T>, Runnable)","u":"ifPresentOrElse(java.util.function.Consumer,java.lang.Runnable)"},{"p":"chariot.model","c":"UserData.StreamerInfoPropertyEnum","l":"image"},{"p":"chariot.model","c":"StreamerInfo","l":"image()"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"image()"},{"p":"chariot.api","c":"GamesAuth","l":"imported()"},{"p":"chariot.model","c":"UserCount","l":"imported()"},{"p":"chariot.api","c":"Games","l":"importGame(String)","u":"importGame(java.lang.String)"},{"p":"chariot.api","c":"StudiesAuth","l":"importPgn(String, Consumer<StudiesAuth.ImportParams>)","u":"importPgn(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"Enums.Direction","l":"in"},{"p":"chariot.model","c":"PendingChallenges","l":"in()"},{"p":"chariot.model","c":"Swiss.NextRound","l":"in()"},{"p":"chariot.model","c":"Game.Severity","l":"Inaccuracy"},{"p":"chariot.model","c":"Analysis","l":"inaccuracy()"},{"p":"chariot.util","c":"Position","l":"inCheck()"},{"p":"chariot.model","c":"Arena.Clock","l":"increment()"},{"p":"chariot.model","c":"BulkPairing.Clock","l":"increment()"},{"p":"chariot.model","c":"Game.Clock","l":"increment()"},{"p":"chariot.model","c":"GameMeta.Clock","l":"increment()"},{"p":"chariot.model","c":"RealTime","l":"increment()"},{"p":"chariot.model","c":"Swiss.Clock","l":"increment()"},{"p":"chariot.model","c":"Tournament.Clock","l":"increment()"},{"p":"chariot.model","c":"ExternalEngineWork","l":"infinite()"},{"p":"chariot.api","c":"Builders.LogLevel","l":"info()"},{"p":"chariot.model","c":"Fail","l":"info()"},{"p":"chariot.util","c":"Board.Invalid","l":"info()"},{"p":"chariot.model","c":"Err.Info","l":"Info(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"chariot.model","c":"Activity.Tournament.Info","l":"Info(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Activity.Type.Follows","l":"inIds()"},{"p":"chariot.model","c":"Game.Clock","l":"initial()"},{"p":"chariot.model","c":"GameMeta.Clock","l":"initial()"},{"p":"chariot.model","c":"RealTime","l":"initial()"},{"p":"chariot.model","c":"ExternalEngineWork","l":"initialFen()"},{"p":"chariot.model","c":"Game","l":"initialFen()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"initialFen()"},{"p":"chariot.model","c":"Puzzle.PuzzleInfo","l":"initialPly()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.Provider","l":"inMinutes(int)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.InMinutes","l":"InMinutes(int)","u":"%3Cinit%3E(int)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"insightShare()"},{"p":"chariot.model","c":"TablebaseResult","l":"insufficient_material()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"insufficient_material()"},{"p":"chariot.model","c":"Activity","l":"interval()"},{"p":"chariot.model","c":"Activity.Interval","l":"Interval(ZonedDateTime, ZonedDateTime)","u":"%3Cinit%3E(java.time.ZonedDateTime,java.time.ZonedDateTime)"},{"p":"chariot.util","c":"Board.Invalid","l":"Invalid(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"is3d()"},{"p":"chariot.util","c":"Board","l":"isCoordinateAttacked(Board.Coordinate, Board.Side, Map<Board.Coordinate, Board.Piece>)","u":"isCoordinateAttacked(chariot.util.Board.Coordinate,chariot.util.Board.Side,java.util.Map)"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"isCreated()"},{"p":"chariot.model","c":"Arena.Finished","l":"isFinished()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"isFinished()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"isFinished()"},{"p":"chariot.model","c":"Activity.Simul","l":"isHost()"},{"p":"chariot.model","c":"GameInfo","l":"isMyTurn()"},{"p":"chariot.model","c":"One","l":"isPresent()"},{"p":"chariot.model","c":"Arena.Finished","l":"isRecentlyFinished()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"isRecentlyFinished()"},{"p":"chariot.model","c":"Swiss","l":"isRecentlyFinished()"},{"p":"chariot.model","c":"Event.ChallengeEvent","l":"isRematch()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"isRunning()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"isStarted()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"isStarted()"},{"p":"chariot.api","c":"TournamentsAuth","l":"joinArena(String)","u":"joinArena(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth","l":"joinArena(String, Consumer<TournamentsAuth.JoinArenaParams>)","u":"joinArena(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"joinedTeamAt"},{"p":"chariot.model","c":"TeamMember","l":"joinedTeamAt()"},{"p":"chariot.api","c":"TournamentsAuth","l":"joinSwiss(String)","u":"joinSwiss(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth","l":"joinSwiss(String, Consumer<TournamentsAuth.JoinSwissParams>)","u":"joinSwiss(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"TeamsAuth","l":"joinTeam(String)","u":"joinTeam(java.lang.String)"},{"p":"chariot.api","c":"TeamsAuth","l":"joinTeam(String, Consumer<TeamsAuth.JoinParams>)","u":"joinTeam(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"Game.AnnotatedEval","l":"judgment()"},{"p":"chariot.model","c":"Game.Judgment","l":"Judgment(Game.Severity, String)","u":"%3Cinit%3E(chariot.model.Game.Severity,java.lang.String)"},{"p":"chariot.model","c":"Arena.Duel.P","l":"k()"},{"p":"chariot.util","c":"Board.CastlingRights.RookFiles","l":"k()"},{"p":"chariot.util","c":"Board.CastlingRights.RookFiles","l":"K()"},{"p":"chariot.model","c":"Arena.Perf","l":"key()"},{"p":"chariot.model","c":"Challenge.DeclinedChallenge","l":"key()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Variant","l":"key()"},{"p":"chariot.model","c":"Event.DeclineReason","l":"key()"},{"p":"chariot.model","c":"PerformanceStatistics.PerfType","l":"key()"},{"p":"chariot.model","c":"Tournament.Perf","l":"key()"},{"p":"chariot.model","c":"UserData.Property","l":"key()"},{"p":"chariot.model","c":"Variant","l":"key()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"keyboardMove()"},{"p":"chariot.util","c":"Board.BoardData","l":"keyHistory()"},{"p":"chariot.api","c":"TeamsAuth","l":"kickFromTeam(String, String)","u":"kickFromTeam(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"AccountAuth","l":"kidMode()"},{"p":"chariot.api","c":"AccountAuth","l":"kidMode(boolean)"},{"p":"chariot.util","c":"Board.PieceType","l":"KING"},{"p":"chariot.util","c":"Board.Castling","l":"king()"},{"p":"chariot.model","c":"Enums.Channel","l":"kingOfTheHill"},{"p":"chariot.model","c":"Enums.GameVariant","l":"kingOfTheHill"},{"p":"chariot.model","c":"Enums.PerfType","l":"kingOfTheHill"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"kingOfTheHill"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"kingOfTheHill"},{"p":"chariot.model","c":"Enums.VariantName","l":"kingOfTheHill"},{"p":"chariot.model","c":"StatsPerfType","l":"kingOfTheHill"},{"p":"chariot.model","c":"VariantType.Variant","l":"kingOfTheHill"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"kingOfTheHill()"},{"p":"chariot.model","c":"Enums.GameVariant.Provider","l":"kingOfTheHill()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"kingOfTheHill()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"kingOfTheHill()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"kingOfTheHill()"},{"p":"chariot.model","c":"Enums.VariantName.Provider","l":"kingOfTheHill()"},{"p":"chariot.model","c":"TVChannels","l":"kingOfTheHill()"},{"p":"chariot.model","c":"UserPerformance.Perfs.KingOfTheHill","l":"kingOfTheHill()"},{"p":"chariot.model","c":"UserTopAll","l":"kingOfTheHill()"},{"p":"chariot.model","c":"UserPerformance.Perfs.KingOfTheHill","l":"KingOfTheHill(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.util","c":"Board.PieceType","l":"KNIGHT"},{"p":"chariot.model","c":"CloudEvalCacheEntry","l":"knodes()"},{"p":"chariot.model","c":"StreamInfo","l":"lang()"},{"p":"chariot.model","c":"UserData.StreamInfo","l":"lang()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"language()"},{"p":"chariot.model","c":"PerformanceStatistics.PlayStreak","l":"lastDate()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"lastFen()"},{"p":"chariot.model","c":"Game","l":"lastFen()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"lastFen(boolean)"},{"p":"chariot.api","c":"Studies","l":"lastModifiedByStudyId(String)","u":"lastModifiedByStudyId(java.lang.String)"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"lastMove()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"lastMove()"},{"p":"chariot.model","c":"GameInfo","l":"lastMove()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"lastMove()"},{"p":"chariot.model","c":"TVFeedEvent.Fen","l":"lastMove()"},{"p":"chariot.model","c":"Game","l":"lastMoveAt()"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"lastName"},{"p":"chariot.model","c":"ProvidedProfile","l":"lastName()"},{"p":"chariot.model","c":"UserData.Provided","l":"lastName()"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"later"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"later()"},{"p":"chariot.model","c":"Team","l":"leader()"},{"p":"chariot.api","c":"Broadcasts.BroadcastParameters","l":"leaderboard()"},{"p":"chariot.model","c":"Broadcast","l":"leaderboard()"},{"p":"chariot.api","c":"Broadcasts.BroadcastParameters","l":"leaderboard(boolean)"},{"p":"chariot.api","c":"UsersBase","l":"leaderboard(int, Enums.PerfTypeNoCorr)","u":"leaderboard(int,chariot.model.Enums.PerfTypeNoCorr)"},{"p":"chariot.model","c":"Leaderboard","l":"Leaderboard(List<UserPerformance>)","u":"%3Cinit%3E(java.util.List)"},{"p":"chariot.model","c":"Team","l":"leaders()"},{"p":"chariot.api","c":"TeamsAuth","l":"leaveTeam(String)","u":"leaveTeam(java.lang.String)"},{"p":"chariot.util","c":"Position","l":"legalMoves(int[])"},{"p":"chariot.util","c":"Board.Piece","l":"letter()"},{"p":"chariot.util","c":"ConsoleRenderer.Config","l":"letter()"},{"p":"chariot.util","c":"ConsoleRenderer.Config","l":"letter(boolean)"},{"p":"chariot.model","c":"Enums.Level","l":"level"},{"p":"chariot.model","c":"AI","l":"level()"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeAIParams","l":"level(Enums.Level)","u":"level(chariot.model.Enums.Level)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeAIParams","l":"level(Function<Enums.Level.Provider, Enums.Level>)","u":"level(java.util.function.Function)"},{"p":"chariot.api","c":"OpeningExplorer","l":"lichess()"},{"p":"chariot.api","c":"OpeningExplorer","l":"lichess(Consumer<OpeningExplorer.LichessBuilder>)","u":"lichess(java.util.function.Consumer)"},{"p":"chariot.model","c":"LightUser","l":"LightUser(String, Opt<String>, String, boolean, Opt<String>)","u":"%3Cinit%3E(java.lang.String,chariot.model.Opt,java.lang.String,boolean,chariot.model.Opt)"},{"p":"chariot.model","c":"Arena.Clock","l":"limit()"},{"p":"chariot.model","c":"BulkPairing.Clock","l":"limit()"},{"p":"chariot.model","c":"Swiss.Clock","l":"limit()"},{"p":"chariot.model","c":"Tournament.Clock","l":"limit()"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"links"},{"p":"chariot.model","c":"ProvidedProfile","l":"links()"},{"p":"chariot.model","c":"UserData.Provided","l":"links()"},{"p":"chariot.api","c":"ExternalEngineAuth","l":"list()"},{"p":"chariot.model","c":"Arena.Verdict","l":"list()"},{"p":"chariot.api","c":"Studies","l":"listStudiesByUser(String)","u":"listStudiesByUser(java.lang.String)"},{"p":"chariot.api","c":"Games.GameParams","l":"literate()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"literate()"},{"p":"chariot.api","c":"Games.GameParams","l":"literate(boolean)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"literate(boolean)"},{"p":"chariot.model","c":"LiveStreamer","l":"LiveStreamer(UserCommon, StreamInfo, StreamerInfo)","u":"%3Cinit%3E(chariot.model.UserCommon,chariot.model.StreamInfo,chariot.model.StreamerInfo)"},{"p":"chariot.api","c":"UsersBase","l":"liveStreamers()"},{"p":"chariot.model","c":"MoveInfo.Move","l":"lm()"},{"p":"chariot","c":"Client","l":"load(Preferences)","u":"load(java.util.prefs.Preferences)"},{"p":"chariot","c":"Client","l":"load(Preferences, String)","u":"load(java.util.prefs.Preferences,java.lang.String)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"local()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"LocalArena(String, String, String, Integer, Tournament.Clock, boolean, String, Integer, Variant, Long, Long, Enums.TournamentState, Tournament.Perf, Tournament.Pos, boolean, Long, UserCommon)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,chariot.model.Tournament.Clock,boolean,java.lang.String,java.lang.Integer,chariot.model.Variant,java.lang.Long,java.lang.Long,chariot.model.Enums.TournamentState,chariot.model.Tournament.Perf,chariot.model.Tournament.Pos,boolean,java.lang.Long,chariot.model.UserCommon)"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"location"},{"p":"chariot.model","c":"ProvidedProfile","l":"location()"},{"p":"chariot.model","c":"UserData.Provided","l":"location()"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"logging(Consumer<Builders.LoggingBuilder>)","u":"logging(java.util.function.Consumer)"},{"p":"chariot","c":"Client","l":"logging(Consumer<Builders.LoggingBuilder>)","u":"logging(java.util.function.Consumer)"},{"p":"chariot.api","c":"BroadcastsAuth.BroadcastBuilder","l":"longDescription(String)","u":"longDescription(java.lang.String)"},{"p":"chariot.model","c":"Enums.Outcome","l":"loss"},{"p":"chariot.model","c":"Activity.Result","l":"loss()"},{"p":"chariot.model","c":"Activity.Result.ResultHelper","l":"loss()"},{"p":"chariot.model","c":"Activity.Simul.Score","l":"loss()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"loss()"},{"p":"chariot.model","c":"PerformanceStatistics.ResultStreak","l":"loss()"},{"p":"chariot.model","c":"UserCount","l":"loss()"},{"p":"chariot.model","c":"UserCount","l":"lossH()"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"lowest()"},{"p":"chariot.util","c":"Position","l":"makeMove(int)"},{"p":"chariot.model","c":"TokenBulkResult","l":"map()"},{"p":"chariot.model","c":"One","l":"map(Function<? super T, ? extends R>)","u":"map(java.util.function.Function)"},{"p":"chariot.model","c":"Opt","l":"map(Function<T, R>)","u":"map(java.util.function.Function)"},{"p":"chariot.model","c":"Some","l":"map(Function<T, R>)","u":"map(java.util.function.Function)"},{"p":"chariot.model","c":"Many","l":"mapMany(Function<T, R>)","u":"mapMany(java.util.function.Function)"},{"p":"chariot.model","c":"One","l":"mapOne(Function<T, R>)","u":"mapOne(java.util.function.Function)"},{"p":"chariot.model","c":"Broadcast.Tour","l":"markup()"},{"p":"chariot.api","c":"OpeningExplorer","l":"masters()"},{"p":"chariot.api","c":"OpeningExplorer","l":"masters(Consumer<OpeningExplorer.MastersBuilder>)","u":"masters(java.util.function.Consumer)"},{"p":"chariot.api","c":"Users.CrosstableParams","l":"matchup()"},{"p":"chariot.model","c":"Crosstable","l":"matchup()"},{"p":"chariot.model","c":"Crosstable.Points","l":"matchup()"},{"p":"chariot.api","c":"Users.CrosstableParams","l":"matchup(boolean)"},{"p":"chariot.model","c":"Enums.Status","l":"mate"},{"p":"chariot.model","c":"ExternalEngineAnalysis.Pvs","l":"mate()"},{"p":"chariot.model","c":"Game.ForcedMate","l":"mate()"},{"p":"chariot.util","c":"Position","l":"MAX_MOVES"},{"p":"chariot.model","c":"PerformanceStatistics.Streak","l":"max()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"max(int)"},{"p":"chariot.api","c":"PuzzlesAuth.PuzzleActivityParams","l":"max(int)"},{"p":"chariot.api","c":"Tournaments.ArenaResultParams","l":"max(int)"},{"p":"chariot.api","c":"Tournaments.SwissResultParams","l":"max(int)"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"maxHash()"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"maxHash()"},{"p":"chariot.model","c":"Page","l":"maxPerPage()"},{"p":"chariot.model","c":"PageTeam","l":"maxPerPage()"},{"p":"chariot.api","c":"GameSessions.Metrics","l":"maxQueueTime()"},{"p":"chariot.api","c":"GameSessions.Params","l":"maxStreams(int)"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"maxThreads()"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"maxThreads()"},{"p":"chariot.model","c":"One","l":"maybe()"},{"p":"chariot.model","c":"UserCount","l":"me()"},{"p":"chariot","c":"Client.AuthFail","l":"message()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"message()"},{"p":"chariot.model","c":"Err.Info","l":"message()"},{"p":"chariot.model","c":"Err","l":"message()"},{"p":"chariot.model","c":"Fail","l":"message()"},{"p":"chariot.model","c":"TeamRequest.Request","l":"message()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"message(String)","u":"message(java.lang.String)"},{"p":"chariot.api","c":"TeamsAuth.JoinParams","l":"message(String)","u":"message(java.lang.String)"},{"p":"chariot.api","c":"TeamsAuth","l":"messageTeam(String, String)","u":"messageTeam(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"GameSessions","l":"metrics()"},{"p":"chariot.api","c":"GameSessions.Metrics","l":"Metrics(int, int, long, long, Duration)","u":"%3Cinit%3E(int,int,long,long,java.time.Duration)"},{"p":"chariot.model","c":"Game.Middle","l":"middle()"},{"p":"chariot.model","c":"Game.MiddleEnd","l":"middle()"},{"p":"chariot.model","c":"Game.Middle","l":"Middle(int)","u":"%3Cinit%3E(int)"},{"p":"chariot.model","c":"Game.MiddleEnd","l":"MiddleEnd(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"chariot.model","c":"Arena.Finished","l":"minutes()"},{"p":"chariot.model","c":"Arena","l":"minutes()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"minutes()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"minutes()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"minutes()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"minutes()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"minutes()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"minutes()"},{"p":"chariot.model","c":"Tournament","l":"minutes()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"minutes()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"minutes()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"minutes(int)"},{"p":"chariot.model","c":"Game.Severity","l":"Mistake"},{"p":"chariot.model","c":"Analysis","l":"mistake()"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"mode()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"mode()"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder","l":"modes(Function<OpeningExplorer.PlayerBuilder.Mode.Provider, OpeningExplorer.PlayerBuilder.Mode>...)","u":"modes(java.util.function.Function...)"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder","l":"modes(OpeningExplorer.PlayerBuilder.Mode...)","u":"modes(chariot.api.OpeningExplorer.PlayerBuilder.Mode...)"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder","l":"modes(Set<OpeningExplorer.PlayerBuilder.Mode>)","u":"modes(java.util.Set)"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"month()"},{"p":"chariot.model","c":"ExploreResult.ERStats","l":"month()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"month()"},{"p":"chariot.model","c":"StormDashboard.High","l":"month()"},{"p":"chariot.model","c":"Activity.Type.Patron","l":"months()"},{"p":"chariot.model","c":"TimelineEntry.PlanRenew","l":"months()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"moretime()"},{"p":"chariot.model","c":"Pgn.NumBegin","l":"move()"},{"p":"chariot.model","c":"Pgn.NumEnd","l":"move()"},{"p":"chariot.util","c":"Board.FEN","l":"move()"},{"p":"chariot.api","c":"BoardAuth","l":"move(String, String)","u":"move(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"BotAuth","l":"move(String, String)","u":"move(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"BoardAuth","l":"move(String, String, boolean)","u":"move(java.lang.String,java.lang.String,boolean)"},{"p":"chariot.api","c":"BotAuth","l":"move(String, String, boolean)","u":"move(java.lang.String,java.lang.String,boolean)"},{"p":"chariot.model","c":"MoveInfo.Move","l":"Move(String, String, int, int)","u":"%3Cinit%3E(java.lang.String,java.lang.String,int,int)"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"Move(String, String, Integer, Integer, Integer, boolean, boolean, boolean, boolean, boolean, boolean, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.Integer,java.lang.Integer,java.lang.Integer,boolean,boolean,boolean,boolean,boolean,boolean,java.lang.String)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"moveEvent()"},{"p":"chariot.api","c":"Games","l":"moveInfosByGameId(String)","u":"moveInfosByGameId(java.lang.String)"},{"p":"chariot.model","c":"GameStateEvent.State","l":"moveList()"},{"p":"chariot.model","c":"Pgn.BasicPgn","l":"moveList()"},{"p":"chariot.model","c":"Pgn","l":"moveList()"},{"p":"chariot.model","c":"Pgn","l":"moveListSAN()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"moves()"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"moves()"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"moves()"},{"p":"chariot.model","c":"CloudEvalCacheEntry.PV","l":"moves()"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"moves()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"moves()"},{"p":"chariot.model","c":"ExternalEngineAnalysis.Pvs","l":"moves()"},{"p":"chariot.model","c":"ExternalEngineWork","l":"moves()"},{"p":"chariot.model","c":"Game","l":"moves()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"moves()"},{"p":"chariot.model","c":"Pgn.BasicPgn","l":"moves()"},{"p":"chariot.model","c":"Pgn","l":"moves()"},{"p":"chariot.model","c":"PushResult","l":"moves()"},{"p":"chariot.model","c":"PushResult.Pass","l":"moves()"},{"p":"chariot.model","c":"StormDashboard.Day","l":"moves()"},{"p":"chariot.model","c":"TablebaseResult","l":"moves()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"moves(boolean)"},{"p":"chariot.api","c":"OpeningExplorer.CommonOpeningExplorer","l":"moves(int)"},{"p":"chariot","c":"Client.Scope","l":"msg_write"},{"p":"chariot.model","c":"ExternalEngineWork","l":"multiPv()"},{"p":"chariot.api","c":"Analysis.Params","l":"multiPv(int)"},{"p":"chariot.model","c":"MyRound","l":"MyRound(MyRound.Tour, MyRound.Round, MyRound.Study)","u":"%3Cinit%3E(chariot.model.MyRound.Tour,chariot.model.MyRound.Round,chariot.model.MyRound.Study)"},{"p":"chariot.api","c":"BroadcastsAuth","l":"myRounds()"},{"p":"chariot.api","c":"BroadcastsAuth","l":"myRounds(Consumer<BroadcastsAuth.RoundsParameters>)","u":"myRounds(java.util.function.Consumer)"},{"p":"chariot.model","c":"Arena.Duel.P","l":"n()"},{"p":"chariot.model","c":"UserData.StreamerInfoPropertyEnum","l":"name"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"name"},{"p":"chariot.model","c":"Activity.Practice","l":"name()"},{"p":"chariot.model","c":"Activity.Result","l":"name()"},{"p":"chariot.model","c":"Activity.Simul","l":"name()"},{"p":"chariot.model","c":"Activity.Team","l":"name()"},{"p":"chariot.model","c":"Activity.Tournament.Info","l":"name()"},{"p":"chariot.model","c":"Activity.Type.Unknown","l":"name()"},{"p":"chariot.model","c":"AI","l":"name()"},{"p":"chariot.model","c":"Anonymous","l":"name()"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"name()"},{"p":"chariot.model","c":"Arena.GreatPlayer","l":"name()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured.Player","l":"name()"},{"p":"chariot.model","c":"Arena.Perf","l":"name()"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"name()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"name()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured.Player","l":"name()"},{"p":"chariot.model","c":"Arena.TeamStanding.Player.User","l":"name()"},{"p":"chariot.model","c":"Broadcast.Round","l":"name()"},{"p":"chariot.model","c":"Broadcast.RoundTour","l":"name()"},{"p":"chariot.model","c":"Broadcast.Score","l":"name()"},{"p":"chariot.model","c":"Broadcast.Tour","l":"name()"},{"p":"chariot.model","c":"ChapterMeta","l":"name()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Host","l":"name()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"name()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Variant","l":"name()"},{"p":"chariot.model","c":"Disabled","l":"name()"},{"p":"chariot.model","c":"ExploreResult.EROpening","l":"name()"},{"p":"chariot.model","c":"ExploreResult.ERPlayer","l":"name()"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"name()"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"name()"},{"p":"chariot.model","c":"Game.Judgment","l":"name()"},{"p":"chariot.model","c":"Game.Opening","l":"name()"},{"p":"chariot.model","c":"GameInfo.Account","l":"name()"},{"p":"chariot.model","c":"GameInfo.Opponent","l":"name()"},{"p":"chariot.model","c":"GameStateEvent.Account","l":"name()"},{"p":"chariot.model","c":"GameStateEvent.Side","l":"name()"},{"p":"chariot.model","c":"IdName","l":"name()"},{"p":"chariot.model","c":"IdNameTitle","l":"name()"},{"p":"chariot.model","c":"LightUser","l":"name()"},{"p":"chariot.model","c":"MoveInfo.Status","l":"name()"},{"p":"chariot.model","c":"MyRound.Round","l":"name()"},{"p":"chariot.model","c":"MyRound.Tour","l":"name()"},{"p":"chariot.model","c":"Opening","l":"name()"},{"p":"chariot.model","c":"PerformanceStatistics.OpId","l":"name()"},{"p":"chariot.model","c":"PerformanceStatistics.PerfType","l":"name()"},{"p":"chariot.model","c":"Pgn.Tag.BasicTag","l":"name()"},{"p":"chariot.model","c":"Pgn.Tag","l":"name()"},{"p":"chariot.model","c":"Player.Account","l":"name()"},{"p":"chariot.model","c":"Player.Analysed","l":"name()"},{"p":"chariot.model","c":"Player","l":"name()"},{"p":"chariot.model","c":"Puzzle.GameInfo.Perf","l":"name()"},{"p":"chariot.model","c":"Puzzle.GameInfo.Player","l":"name()"},{"p":"chariot.model","c":"RatingHistory","l":"name()"},{"p":"chariot.model","c":"RoundInfo.Game","l":"name()"},{"p":"chariot.model","c":"RoundInfo.Round","l":"name()"},{"p":"chariot.model","c":"RoundInfo.Tour","l":"name()"},{"p":"chariot.model","c":"StreamerInfo","l":"name()"},{"p":"chariot.model","c":"StudyMeta","l":"name()"},{"p":"chariot.model","c":"Swiss.GreatPlayer","l":"name()"},{"p":"chariot.model","c":"Swiss","l":"name()"},{"p":"chariot.model","c":"Team","l":"name()"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player.User","l":"name()"},{"p":"chariot.model","c":"TimelineEntry.StreamStart","l":"name()"},{"p":"chariot.model","c":"Tournament.Perf","l":"name()"},{"p":"chariot.model","c":"Tournament.Pos.Position","l":"name()"},{"p":"chariot.model","c":"Trophy","l":"name()"},{"p":"chariot.model","c":"UserCommon","l":"name()"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"name()"},{"p":"chariot.model","c":"UserInfo","l":"name()"},{"p":"chariot.model","c":"Variant","l":"name()"},{"p":"chariot.util","c":"Board.Coordinate","l":"name()"},{"p":"chariot.api","c":"BroadcastsAuth.BroadcastBuilder","l":"name(String)","u":"name(java.lang.String)"},{"p":"chariot.api","c":"BroadcastsAuth.RoundBuilder","l":"name(String)","u":"name(java.lang.String)"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"name(String)","u":"name(java.lang.String)"},{"p":"chariot.api","c":"StudiesAuth.ImportParams","l":"name(String)","u":"name(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"name(String)","u":"name(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"name(String)","u":"name(java.lang.String)"},{"p":"chariot.util","c":"Board.Coordinate","l":"name(String)","u":"name(java.lang.String)"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceMoves","l":"nb()"},{"p":"chariot.model","c":"Activity.Type.Tournaments","l":"nb()"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"nb()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"nb()"},{"p":"chariot.model","c":"PerformanceStatistics.Perf","l":"nb()"},{"p":"chariot.model","c":"PerformanceStatistics.PlayStreak","l":"nb()"},{"p":"chariot.model","c":"PuzzleDashboard.PuzzleResult","l":"nb()"},{"p":"chariot.api","c":"AccountAuth.TimelineParams","l":"nb(int)"},{"p":"chariot.api","c":"Broadcasts.BroadcastParameters","l":"nb(int)"},{"p":"chariot.api","c":"BroadcastsAuth.RoundsParameters","l":"nb(int)"},{"p":"chariot.api","c":"Games.ChannelFilter","l":"nb(int)"},{"p":"chariot.model","c":"Arena.Finished.Podium.NB","l":"NB(Integer, Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium.NB","l":"NB(Integer, Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"nbApplicants()"},{"p":"chariot.model","c":"Activity.Tournament","l":"nbGames()"},{"p":"chariot.model","c":"Crosstable.Results","l":"nbGames()"},{"p":"chariot.model","c":"Arena.TeamBattle","l":"nbLeaders()"},{"p":"chariot.model","c":"Tournament.TeamBattle.Teams","l":"nbLeaders()"},{"p":"chariot.model","c":"Team","l":"nbMembers()"},{"p":"chariot.model","c":"Swiss","l":"nbOngoing()"},{"p":"chariot.model","c":"Page","l":"nbPages()"},{"p":"chariot.model","c":"PageTeam","l":"nbPages()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"nbPairings()"},{"p":"chariot.model","c":"Arena.Finished","l":"nbPlayers()"},{"p":"chariot.model","c":"Arena","l":"nbPlayers()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"nbPlayers()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"nbPlayers()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"nbPlayers()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"nbPlayers()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"nbPlayers()"},{"p":"chariot.model","c":"Swiss","l":"nbPlayers()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"nbPlayers()"},{"p":"chariot.model","c":"Tournament","l":"nbPlayers()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"nbPlayers()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"nbPlayers()"},{"p":"chariot.model","c":"Activity.Practice","l":"nbPositions()"},{"p":"chariot.model","c":"Page","l":"nbResults()"},{"p":"chariot.model","c":"PageTeam","l":"nbResults()"},{"p":"chariot.model","c":"Swiss","l":"nbRounds()"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"nbRounds(int)"},{"p":"chariot.model","c":"Page","l":"nextPage()"},{"p":"chariot.model","c":"PageTeam","l":"nextPage()"},{"p":"chariot.model","c":"Swiss","l":"nextRound()"},{"p":"chariot.model","c":"Swiss.NextRound","l":"NextRound(String, Integer)","u":"%3Cinit%3E(java.lang.String,java.lang.Integer)"},{"p":"chariot.model","c":"GameStateEvent.No","l":"No()","u":"%3Cinit%3E()"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"noAbort()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"noAbort()"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"noAbort()"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"noBot"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"noBot()"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"noClaimWin()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"noClaimWin()"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"noClaimWin()"},{"p":"chariot.model","c":"ExternalEngineAnalysis","l":"nodes()"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"noEarlyDraw()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"noEarlyDraw()"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"noEarlyDraw()"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"noGiveTime()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"noGiveTime()"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"noGiveTime()"},{"p":"chariot.model","c":"Enums.ChatFor","l":"none"},{"p":"chariot.model","c":"Enums.Outcome","l":"none"},{"p":"chariot.model","c":"Tournament.Pos","l":"none"},{"p":"chariot.model","c":"Enums.ChatFor.Provider","l":"none()"},{"p":"chariot.model","c":"One","l":"none()"},{"p":"chariot.model","c":"None","l":"None()","u":"%3Cinit%3E()"},{"p":"chariot.model","c":"Tournament.Pos.None","l":"None()","u":"%3Cinit%3E()"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"noRematch()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"noRematch()"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"noRematch()"},{"p":"chariot.model","c":"Enums.Status","l":"noStart"},{"p":"chariot.model","c":"Note","l":"Note(UserCommon, UserCommon, ZonedDateTime, String)","u":"%3Cinit%3E(chariot.model.UserCommon,chariot.model.UserCommon,java.time.ZonedDateTime,java.lang.String)"},{"p":"chariot.model","c":"Pgn.NumBegin","l":"NumBegin(int, String)","u":"%3Cinit%3E(int,java.lang.String)"},{"p":"chariot.api","c":"Teams","l":"numberOfTeams()"},{"p":"chariot.model","c":"Pgn.NumEnd","l":"NumEnd(int, String)","u":"%3Cinit%3E(int,java.lang.String)"},{"p":"chariot.api","c":"AdminAuth","l":"obtainChallengeTokens(Consumer<AdminAuth.Params>, String...)","u":"obtainChallengeTokens(java.util.function.Consumer,java.lang.String...)"},{"p":"chariot.api","c":"AdminAuth","l":"obtainChallengeTokens(Set<String>)","u":"obtainChallengeTokens(java.util.Set)"},{"p":"chariot.api","c":"AdminAuth","l":"obtainChallengeTokens(Set<String>, Consumer<AdminAuth.Params>)","u":"obtainChallengeTokens(java.util.Set,java.util.function.Consumer)"},{"p":"chariot.api","c":"AdminAuth","l":"obtainChallengeTokens(String...)","u":"obtainChallengeTokens(java.lang.String...)"},{"p":"chariot.util","c":"Position","l":"of(Board)","u":"of(chariot.util.Board)"},{"p":"chariot.api","c":"Custom","l":"of(Class<T>)","u":"of(java.lang.Class)"},{"p":"chariot.api","c":"Custom","l":"of(Function<String, T>)","u":"of(java.util.function.Function)"},{"p":"chariot.model","c":"Pgn","l":"of(List<Pgn.Tag>, String)","u":"of(java.util.List,java.lang.String)"},{"p":"chariot.model","c":"Pgn.Tag","l":"of(String, String)","u":"of(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"UserInfo","l":"of(String, String)","u":"of(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"UserInfo","l":"of(String, String, String)","u":"of(java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Opt","l":"of(T)"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"of(T)"},{"p":"chariot.model","c":"UserData.StreamerInfoPropertyEnum","l":"of(T)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"of(T)"},{"p":"chariot.api","c":"Builders.LogLevel","l":"off()"},{"p":"chariot.api","c":"Broadcasts","l":"official()"},{"p":"chariot.model","c":"RoundInfo.Tour","l":"official()"},{"p":"chariot.api","c":"Broadcasts","l":"official(Consumer<Broadcasts.BroadcastParameters>)","u":"official(java.util.function.Consumer)"},{"p":"chariot.api","c":"Broadcasts","l":"official(int)"},{"p":"chariot.model","c":"Enums.Level.Provider","l":"one()"},{"p":"chariot.api","c":"GameSessions.Params","l":"onEvent(Consumer<Event>)","u":"onEvent(java.util.function.Consumer)"},{"p":"chariot.util","c":"Board.GameState","l":"ongoing"},{"p":"chariot.api","c":"Games.SearchFilter","l":"ongoing()"},{"p":"chariot.api","c":"GamesAuth","l":"ongoing()"},{"p":"chariot.model","c":"Broadcast.Round","l":"ongoing()"},{"p":"chariot.model","c":"MyRound.Round","l":"ongoing()"},{"p":"chariot.model","c":"RoundInfo.Game","l":"ongoing()"},{"p":"chariot.model","c":"RoundInfo.Round","l":"ongoing()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"ongoing(boolean)"},{"p":"chariot.api","c":"GamesAuth","l":"ongoing(int)"},{"p":"chariot.model","c":"Arena.Ongoing","l":"Ongoing(String, String, String, String, String, Integer, Arena.Perf, Arena.Clock, Enums.VariantName, boolean, boolean, Arena.Verdict, Integer, List<Arena.Duel>, Arena.Standing, boolean, Integer, Arena.Ongoing.Featured, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,chariot.model.Arena.Perf,chariot.model.Arena.Clock,chariot.model.Enums.VariantName,boolean,boolean,chariot.model.Arena.Verdict,java.lang.Integer,java.util.List,chariot.model.Arena.Standing,boolean,java.lang.Integer,chariot.model.Arena.Ongoing.Featured,java.lang.String)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"online"},{"p":"chariot.model","c":"ChallengeInfo.Player","l":"online()"},{"p":"chariot.model","c":"LiveStreamer","l":"online()"},{"p":"chariot.model","c":"UserPerformance","l":"online()"},{"p":"chariot.model","c":"UserStatus","l":"online()"},{"p":"chariot.model","c":"UserStatusData","l":"online()"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"onlyBot"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"onlyBot()"},{"p":"chariot.model","c":"Enums.ChatFor","l":"onlyTeamLeaders"},{"p":"chariot.model","c":"Enums.ChatFor.Provider","l":"onlyTeamLeaders()"},{"p":"chariot.model","c":"Enums.ChatFor","l":"onlyTeamMembers"},{"p":"chariot.model","c":"Enums.ChatFor.Provider","l":"onlyTeamMembers()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"opAvg()"},{"p":"chariot.model","c":"Team","l":"open()"},{"p":"chariot.api","c":"GameSessions.Metrics","l":"opened()"},{"p":"chariot.model","c":"ChallengeInfo.OpenEnded","l":"OpenEnded()","u":"%3Cinit%3E()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"opening()"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"opening()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"opening()"},{"p":"chariot.model","c":"Game","l":"opening()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"opening(boolean)"},{"p":"chariot.model","c":"Opening","l":"Opening(String, String, int)","u":"%3Cinit%3E(java.lang.String,java.lang.String,int)"},{"p":"chariot.model","c":"Game.Opening","l":"Opening(String, String, Integer)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.Integer)"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"OpeningDB(long, long, long, List<ExploreResult.DBMove>, List<ExploreResult.DBGame>, List<ExploreResult.DBGame>, List<ExploreResult.ERStats>, Optional<ExploreResult.EROpening>)","u":"%3Cinit%3E(long,long,long,java.util.List,java.util.List,java.util.List,java.util.List,java.util.Optional)"},{"p":"chariot","c":"Client","l":"openingExplorer()"},{"p":"chariot","c":"ClientAuth","l":"openingExplorer()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"OpeningPlayer(long, long, long, List<ExploreResult.PlayerMove>, List<ExploreResult.PlayerGame>, List<ExploreResult.PlayerGame>, Optional<ExploreResult.EROpening>, Optional<Integer>)","u":"%3Cinit%3E(long,long,long,java.util.List,java.util.List,java.util.List,java.util.Optional,java.util.Optional)"},{"p":"chariot.model","c":"PerformanceStatistics.Result","l":"opId()"},{"p":"chariot.model","c":"PerformanceStatistics.OpId","l":"OpId(String, String, Optional<String>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.util.Optional)"},{"p":"chariot.model","c":"Activity.Game","l":"opponent()"},{"p":"chariot.model","c":"GameInfo","l":"opponent()"},{"p":"chariot.model","c":"TimelineEntry.GameEnd","l":"opponent()"},{"p":"chariot.model","c":"Activity.Game.Opponent","l":"Opponent(String, Integer)","u":"%3Cinit%3E(java.lang.String,java.lang.Integer)"},{"p":"chariot.model","c":"GameStateEvent.Type","l":"opponentGone"},{"p":"chariot.model","c":"GameStateEvent.OpponentGone","l":"OpponentGone(boolean, GameStateEvent.Claim)","u":"%3Cinit%3E(boolean,chariot.model.GameStateEvent.Claim)"},{"p":"chariot.model","c":"PerformanceStatistics.Result","l":"opRating()"},{"p":"chariot.model","c":"One","l":"orElse(T)"},{"p":"chariot.model","c":"Opt","l":"orElse(T)"},{"p":"chariot.model","c":"One","l":"orElseGet(Supplier<? extends T>)","u":"orElseGet(java.util.function.Supplier)"},{"p":"chariot.model","c":"Opt","l":"orElseGet(Supplier<T>)","u":"orElseGet(java.util.function.Supplier)"},{"p":"chariot.api","c":"Studies.Params","l":"orientation()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"orientation()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"orientation()"},{"p":"chariot.model","c":"TVFeedEvent.Featured","l":"orientation()"},{"p":"chariot.api","c":"Studies.Params","l":"orientation(boolean)"},{"p":"chariot.api","c":"StudiesAuth.ImportParams","l":"orientationBlack()"},{"p":"chariot.api","c":"StudiesAuth.ImportParams","l":"orientationWhite()"},{"p":"chariot.model","c":"Enums.Color","l":"other()"},{"p":"chariot.model","c":"TimelineEntry.Follow","l":"otherUser()"},{"p":"chariot.model","c":"Enums.Direction","l":"out"},{"p":"chariot.model","c":"PendingChallenges","l":"out()"},{"p":"chariot.model","c":"ChallengeInfo.ColorOutcome","l":"outcome()"},{"p":"chariot.model","c":"Event.GameStopEvent","l":"outcome()"},{"p":"chariot.model","c":"Activity.Type.Follows","l":"outIds()"},{"p":"chariot.model","c":"Enums.Status","l":"outoftime"},{"p":"chariot.model","c":"Arena.Duel","l":"p()"},{"p":"chariot.model","c":"Arena.Duel.P","l":"P(String, Integer, Integer)","u":"%3Cinit%3E(java.lang.String,java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"Arena.Standing","l":"page()"},{"p":"chariot.api","c":"Teams.PageParams","l":"page(int)"},{"p":"chariot.model","c":"PageTeam","l":"PageTeam(Integer, Integer, List<Team>, Integer, Integer, Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer,java.util.List,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"BulkPairing","l":"pairAt()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"pairAt(Function<ZonedDateTime, ZonedDateTime>)","u":"pairAt(java.util.function.Function)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"pairAt(long)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"pairAt(ZonedDateTime)","u":"pairAt(java.time.ZonedDateTime)"},{"p":"chariot.model","c":"BulkPairing","l":"pairedAt()"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams.Pairing","l":"Pairing(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams.Pairing","l":"Pairing(Supplier<char[]>, Supplier<char[]>)","u":"%3Cinit%3E(java.util.function.Supplier,java.util.function.Supplier)"},{"p":"chariot.model","c":"Arena.Finished","l":"pairingsClosed()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"pairingsClosed()"},{"p":"chariot.api","c":"TournamentsAuth.JoinArenaParams","l":"pairMeAsap()"},{"p":"chariot.api","c":"TournamentsAuth.JoinArenaParams","l":"pairMeAsap(boolean)"},{"p":"chariot.api","c":"Builders.RateLimitBuilder","l":"parallel(int)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"parallelDecoding(int)"},{"p":"chariot.util","c":"Board.Piece","l":"parse(char)"},{"p":"chariot.api","c":"Builders.LogLevel","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"chariot.model","c":"Pgn.Move","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"chariot.model","c":"Pgn.Tag","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"chariot.util","c":"Board.CastlingRights","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"chariot.util","c":"Board.CastlingRights","l":"parse(String, String)","u":"parse(java.lang.String,java.lang.String)"},{"p":"chariot.util","c":"Board.Move","l":"parse(String, String)","u":"parse(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"PushResult.Pass","l":"Pass(Map<String, String>, int)","u":"%3Cinit%3E(java.util.Map,int)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"password(String)","u":"password(java.lang.String)"},{"p":"chariot.api","c":"Custom.Request","l":"path(Object...)","u":"path(java.lang.Object...)"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"path(String)","u":"path(java.lang.String)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"patron"},{"p":"chariot.model","c":"LightUser","l":"patron()"},{"p":"chariot.model","c":"UserCommon","l":"patron()"},{"p":"chariot.model","c":"UserPerformance","l":"patron()"},{"p":"chariot.model","c":"Activity.Type.Patron","l":"Patron(int)","u":"%3Cinit%3E(int)"},{"p":"chariot.util","c":"Board.PieceType","l":"PAWN"},{"p":"chariot.util","c":"Board.Promotion","l":"pawn()"},{"p":"chariot.model","c":"CurrentSimuls","l":"pending()"},{"p":"chariot.model","c":"PendingChallenges","l":"PendingChallenges(List<Challenge>, List<Challenge>)","u":"%3Cinit%3E(java.util.List,java.util.List)"},{"p":"chariot.model","c":"PerformanceStatistics","l":"percentile()"},{"p":"chariot.model","c":"Activity.Game","l":"perf()"},{"p":"chariot.model","c":"Arena.Finished","l":"perf()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"perf()"},{"p":"chariot.model","c":"Arena","l":"perf()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"perf()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"perf()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"perf()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"perf()"},{"p":"chariot.model","c":"Game","l":"perf()"},{"p":"chariot.model","c":"GameMeta","l":"perf()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"perf()"},{"p":"chariot.model","c":"PerformanceStatistics","l":"perf()"},{"p":"chariot.model","c":"Puzzle.GameInfo","l":"perf()"},{"p":"chariot.model","c":"TimelineEntry.GameEnd","l":"perf()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"perf()"},{"p":"chariot.model","c":"Tournament","l":"perf()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"perf()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"perf()"},{"p":"chariot.model","c":"UserPerformance.Perf","l":"Perf(Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"PerformanceStatistics.Perf","l":"Perf(PerformanceStatistics.Glicko, Integer, Integer)","u":"%3Cinit%3E(chariot.model.PerformanceStatistics.Glicko,java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"Puzzle.GameInfo.Perf","l":"Perf(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Arena.Perf","l":"Perf(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Tournament.Perf","l":"Perf(String, String, String, Integer)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.Integer)"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"performance()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"performance()"},{"p":"chariot.model","c":"ArenaResult","l":"performance()"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"performance()"},{"p":"chariot.model","c":"PuzzleDashboard.PuzzleResult","l":"performance()"},{"p":"chariot.model","c":"SwissResult","l":"performance()"},{"p":"chariot.model","c":"PerformanceStatistics","l":"PerformanceStatistics(PerformanceStatistics.Perf, Integer, Float, PerformanceStatistics.Stat)","u":"%3Cinit%3E(chariot.model.PerformanceStatistics.Perf,java.lang.Integer,java.lang.Float,chariot.model.PerformanceStatistics.Stat)"},{"p":"chariot.api","c":"UsersBase","l":"performanceStatisticsByIdAndType(String, Enums.PerfType)","u":"performanceStatisticsByIdAndType(java.lang.String,chariot.model.Enums.PerfType)"},{"p":"chariot.model","c":"UserPerformance","l":"perfs()"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"perfType()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"perfType(Enums.PerfType...)","u":"perfType(chariot.model.Enums.PerfType...)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"perfType(Set<Function<Enums.PerfType.Provider, Enums.PerfType>>)","u":"perfType(java.util.Set)"},{"p":"chariot.model","c":"PerformanceStatistics.PerfType","l":"PerfType(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"pgn()"},{"p":"chariot.model","c":"Game","l":"pgn()"},{"p":"chariot.model","c":"Puzzle.GameInfo","l":"pgn()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"pgn(boolean)"},{"p":"chariot.api","c":"StudiesAuth.ImportParams","l":"pgn(List<String>)","u":"pgn(java.util.List)"},{"p":"chariot.api","c":"StudiesAuth.ImportParams","l":"pgn(String)","u":"pgn(java.lang.String)"},{"p":"chariot.api","c":"Games","l":"pgnByChannel(Enums.Channel)","u":"pgnByChannel(chariot.model.Enums.Channel)"},{"p":"chariot.api","c":"Games","l":"pgnByChannel(Enums.Channel, Consumer<Games.ChannelFilter>)","u":"pgnByChannel(chariot.model.Enums.Channel,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games","l":"pgnByChannel(Function<Enums.Channel.Provider, Enums.Channel>)","u":"pgnByChannel(java.util.function.Function)"},{"p":"chariot.api","c":"Games","l":"pgnByChannel(Function<Enums.Channel.Provider, Enums.Channel>, Consumer<Games.ChannelFilter>)","u":"pgnByChannel(java.util.function.Function,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games","l":"pgnByGameId(String)","u":"pgnByGameId(java.lang.String)"},{"p":"chariot.api","c":"GamesAsync","l":"pgnByGameId(String)","u":"pgnByGameId(java.lang.String)"},{"p":"chariot.api","c":"Games","l":"pgnByGameId(String, Consumer<Games.GameParams>)","u":"pgnByGameId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"GamesAsync","l":"pgnByGameId(String, Consumer<Games.GameParams>)","u":"pgnByGameId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games","l":"pgnByGameIds(Consumer<Games.GameParams>, String...)","u":"pgnByGameIds(java.util.function.Consumer,java.lang.String...)"},{"p":"chariot.api","c":"Games","l":"pgnByGameIds(Set<String>)","u":"pgnByGameIds(java.util.Set)"},{"p":"chariot.api","c":"Games","l":"pgnByGameIds(Set<String>, Consumer<Games.GameParams>)","u":"pgnByGameIds(java.util.Set,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games","l":"pgnByGameIds(String...)","u":"pgnByGameIds(java.lang.String...)"},{"p":"chariot.api","c":"OpeningExplorer","l":"pgnByMastersGameId(String)","u":"pgnByMastersGameId(java.lang.String)"},{"p":"chariot.api","c":"Games","l":"pgnByUserId(String)","u":"pgnByUserId(java.lang.String)"},{"p":"chariot.api","c":"Games","l":"pgnByUserId(String, Consumer<Games.SearchFilter>)","u":"pgnByUserId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games","l":"pgnCurrentByUserId(String)","u":"pgnCurrentByUserId(java.lang.String)"},{"p":"chariot.api","c":"GamesAsync","l":"pgnCurrentByUserId(String)","u":"pgnCurrentByUserId(java.lang.String)"},{"p":"chariot.api","c":"Games","l":"pgnCurrentByUserId(String, Consumer<Games.GameParams>)","u":"pgnCurrentByUserId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"GamesAsync","l":"pgnCurrentByUserId(String, Consumer<Games.GameParams>)","u":"pgnCurrentByUserId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Tournaments","l":"pgnGamesByArenaId(String)","u":"pgnGamesByArenaId(java.lang.String)"},{"p":"chariot.api","c":"Tournaments","l":"pgnGamesByArenaId(String, Consumer<Games.Filter>)","u":"pgnGamesByArenaId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Tournaments","l":"pgnGamesBySwissId(String)","u":"pgnGamesBySwissId(java.lang.String)"},{"p":"chariot.api","c":"Tournaments","l":"pgnGamesBySwissId(String, Consumer<Games.Filter>)","u":"pgnGamesBySwissId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"pgnInJson(boolean)"},{"p":"chariot.util","c":"Board.Promotion","l":"piece()"},{"p":"chariot.util","c":"Board.Piece","l":"piece(Board.PieceType, Board.Side)","u":"piece(chariot.util.Board.PieceType,chariot.util.Board.Side)"},{"p":"chariot.util","c":"Board.BoardData","l":"pieceMap()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"pieceSet()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"pieceSet3d()"},{"p":"chariot.model","c":"TimelineEntry.PlanRenew","l":"PlanRenew(LightUser, int, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,int,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"TimelineEntry.PlanStart","l":"PlanStart(LightUser, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.time.ZonedDateTime)"},{"p":"chariot.util","c":"Board.BoardData","l":"play(Board.Move)","u":"play(chariot.util.Board.Move)"},{"p":"chariot.util","c":"Board","l":"play(Board.Move)","u":"play(chariot.util.Board.Move)"},{"p":"chariot.api","c":"OpeningExplorer.CommonOpeningExplorer","l":"play(String)","u":"play(java.lang.String)"},{"p":"chariot.api","c":"OpeningExplorer.HistoryBuilder","l":"play(String)","u":"play(java.lang.String)"},{"p":"chariot.util","c":"Board.BoardData","l":"play(String)","u":"play(java.lang.String)"},{"p":"chariot.util","c":"Board","l":"play(String)","u":"play(java.lang.String)"},{"p":"chariot.model","c":"Broadcast.Score","l":"played()"},{"p":"chariot.model","c":"UserTimes","l":"played()"},{"p":"chariot.model","c":"ChallengeAI","l":"player()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"player()"},{"p":"chariot.model","c":"Player.Analysed","l":"player()"},{"p":"chariot.model","c":"Arena.TeamStanding.Player","l":"Player(Arena.TeamStanding.Player.User, Integer)","u":"%3Cinit%3E(chariot.model.Arena.TeamStanding.Player.User,java.lang.Integer)"},{"p":"chariot.model","c":"Puzzle.GameInfo.Player","l":"Player(Enums.Color, String, String)","u":"%3Cinit%3E(chariot.model.Enums.Color,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Arena.Ongoing.Featured.Player","l":"Player(int, String, int)","u":"%3Cinit%3E(int,java.lang.String,int)"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured.Player","l":"Player(int, String, int)","u":"%3Cinit%3E(int,java.lang.String,int)"},{"p":"chariot.api","c":"Games.Filter","l":"player(String)","u":"player(java.lang.String)"},{"p":"chariot.api","c":"OpeningExplorer","l":"player(String)","u":"player(java.lang.String)"},{"p":"chariot.api","c":"OpeningExplorer","l":"player(String, Consumer<OpeningExplorer.PlayerBuilder>)","u":"player(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"GameMeta.Players.Player","l":"Player(String, Integer)","u":"%3Cinit%3E(java.lang.String,java.lang.Integer)"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"Player(String, Integer, Integer, Integer, Arena.Sheet, String, boolean)","u":"%3Cinit%3E(java.lang.String,java.lang.Integer,java.lang.Integer,java.lang.Integer,chariot.model.Arena.Sheet,java.lang.String,boolean)"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player","l":"Player(TeamBattleResults.Teams.Player.User, String, Integer)","u":"%3Cinit%3E(chariot.model.TeamBattleResults.Teams.Player.User,java.lang.String,java.lang.Integer)"},{"p":"chariot.model","c":"ChallengeInfo.Player","l":"Player(UserInfo, int, boolean, boolean)","u":"%3Cinit%3E(chariot.model.UserInfo,int,boolean,boolean)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams.Pairing","l":"player1()"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams.Pairing","l":"player2()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"PlayerGame(String, String, Optional<Enums.Color>, String, String, ExploreResult.ERPlayer, ExploreResult.ERPlayer, int, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.util.Optional,java.lang.String,java.lang.String,chariot.model.ExploreResult.ERPlayer,chariot.model.ExploreResult.ERPlayer,int,java.lang.String)"},{"p":"chariot.model","c":"TVFeedEvent.PlayerInfo","l":"PlayerInfo(UserInfo, Enums.Color, int, Duration)","u":"%3Cinit%3E(chariot.model.UserInfo,chariot.model.Enums.Color,int,java.time.Duration)"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"PlayerMove(String, String, long, long, long, int, int, Optional<ExploreResult.PlayerGame>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,long,long,long,int,int,java.util.Optional)"},{"p":"chariot.model","c":"Arena.Standing","l":"players()"},{"p":"chariot.model","c":"Arena.TeamStanding","l":"players()"},{"p":"chariot.model","c":"ChallengeInfo","l":"players()"},{"p":"chariot.model","c":"ChallengeOpenEnded","l":"players()"},{"p":"chariot.model","c":"Game","l":"players()"},{"p":"chariot.model","c":"GameMeta","l":"players()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"players()"},{"p":"chariot.model","c":"Puzzle.GameInfo","l":"players()"},{"p":"chariot.model","c":"TeamBattleResults.Teams","l":"players()"},{"p":"chariot.model","c":"TVFeedEvent.Featured","l":"players()"},{"p":"chariot.model","c":"GameMeta.Players","l":"Players(GameMeta.Players.Player, GameMeta.Players.Player)","u":"%3Cinit%3E(chariot.model.GameMeta.Players.Player,chariot.model.GameMeta.Players.Player)"},{"p":"chariot.model","c":"Game.Players","l":"Players(Player, Player)","u":"%3Cinit%3E(chariot.model.Player,chariot.model.Player)"},{"p":"chariot.model","c":"MoveInfo.Players","l":"Players(Player, Player)","u":"%3Cinit%3E(chariot.model.Player,chariot.model.Player)"},{"p":"chariot.api","c":"BroadcastsAuth.BroadcastBuilder","l":"players(String)","u":"players(java.lang.String)"},{"p":"chariot.api","c":"Games.EvalsAndPlayers","l":"players(URL)","u":"players(java.net.URL)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"playing"},{"p":"chariot.model","c":"UserCount","l":"playing()"},{"p":"chariot.model","c":"UserStatus","l":"playing()"},{"p":"chariot.model","c":"UserStatusData","l":"playing()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"playingGameId"},{"p":"chariot.model","c":"UserStatus","l":"playingGameId()"},{"p":"chariot.model","c":"UserStatusData","l":"playingGameId()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"playingUrl"},{"p":"chariot.model","c":"User","l":"playingUrl()"},{"p":"chariot.model","c":"UserProfileData","l":"playingUrl()"},{"p":"chariot.model","c":"Puzzle.PuzzleInfo","l":"plays()"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"playStreak()"},{"p":"chariot.model","c":"PerformanceStatistics.PlayStreak","l":"PlayStreak(PerformanceStatistics.Streak, PerformanceStatistics.Streak, String)","u":"%3Cinit%3E(chariot.model.PerformanceStatistics.Streak,chariot.model.PerformanceStatistics.Streak,java.lang.String)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"playTime"},{"p":"chariot.model","c":"UserData.PlayTime","l":"PlayTime(Duration, Duration)","u":"%3Cinit%3E(java.time.Duration,java.time.Duration)"},{"p":"chariot.model","c":"User","l":"playTimeTotal()"},{"p":"chariot.model","c":"User","l":"playTimeTv()"},{"p":"chariot.util","c":"Position","l":"plies()"},{"p":"chariot.model","c":"Game.Opening","l":"ply()"},{"p":"chariot.model","c":"Opening","l":"ply()"},{"p":"chariot.util","c":"Replay.Ply","l":"Ply(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Arena.Finished","l":"podium()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"podium()"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"Podium(String, Integer, Integer, Integer, Arena.Sheet, String, Arena.Finished.Podium.NB, Integer)","u":"%3Cinit%3E(java.lang.String,java.lang.Integer,java.lang.Integer,java.lang.Integer,chariot.model.Arena.Sheet,java.lang.String,chariot.model.Arena.Finished.Podium.NB,java.lang.Integer)"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"Podium(String, Integer, Integer, Integer, Arena.Sheet, String, Arena.TeamFinished.Podium.NB, Integer)","u":"%3Cinit%3E(java.lang.String,java.lang.Integer,java.lang.Integer,java.lang.Integer,chariot.model.Arena.Sheet,java.lang.String,chariot.model.Arena.TeamFinished.Podium.NB,java.lang.Integer)"},{"p":"chariot.model","c":"Crosstable.Results.Result","l":"points()"},{"p":"chariot.model","c":"RatingHistory.DateResult","l":"points()"},{"p":"chariot.model","c":"SwissResult","l":"points()"},{"p":"chariot.model","c":"Crosstable.Points","l":"Points(Double, Optional<Double>)","u":"%3Cinit%3E(java.lang.Double,java.util.Optional)"},{"p":"chariot.model","c":"Crosstable","l":"pointsForUser(String)","u":"pointsForUser(java.lang.String)"},{"p":"chariot.api","c":"Teams","l":"popularTeams()"},{"p":"chariot.api","c":"Teams","l":"popularTeamsByPage()"},{"p":"chariot.api","c":"Teams","l":"popularTeamsByPage(int)"},{"p":"chariot.api","c":"TeamsAsync","l":"popularTeamsByPage(int)"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"position()"},{"p":"chariot.model","c":"Tournament.Perf","l":"position()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"position()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"position(String)","u":"position(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"position(String)","u":"position(java.lang.String)"},{"p":"chariot.model","c":"Tournament.Pos.Position","l":"Position(String, String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.util","c":"Board.FEN","l":"positions()"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"post()"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"post(String)","u":"post(java.lang.String)"},{"p":"chariot.model","c":"Activity.Topic.Post","l":"Post(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"TimelineEntry.ForumPost","l":"postId()"},{"p":"chariot.model","c":"Activity.Topic","l":"posts()"},{"p":"chariot.model","c":"Activity.Type.Posts","l":"Posts(List<Activity.Topic>)","u":"%3Cinit%3E(java.util.List)"},{"p":"chariot.model","c":"Activity.Practice","l":"Practice(String, String, Integer)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.Integer)"},{"p":"chariot.model","c":"Activity.Type.Practices","l":"Practices(List<Activity.Practice>)","u":"%3Cinit%3E(java.util.List)"},{"p":"chariot.model","c":"Activity.Type.Practices","l":"practises()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"precise_dtz()"},{"p":"chariot.model","c":"TablebaseResult","l":"precise_dtz()"},{"p":"chariot","c":"Client.Scope","l":"preference_read"},{"p":"chariot","c":"Client.Scope","l":"preference_write"},{"p":"chariot.api","c":"AccountAuth","l":"preferences()"},{"p":"chariot.model","c":"AccountPreferences","l":"prefs()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"Prefs(boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String, String, String, String, String, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer)","u":"%3Cinit%3E(boolean,boolean,boolean,boolean,boolean,boolean,boolean,boolean,boolean,boolean,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"premove()"},{"p":"chariot.model","c":"Page","l":"previousPage()"},{"p":"chariot.model","c":"PageTeam","l":"previousPage()"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"production()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"profile"},{"p":"chariot.api","c":"AccountAuth","l":"profile()"},{"p":"chariot.model","c":"User","l":"profile()"},{"p":"chariot.model","c":"UserProfileData","l":"profile()"},{"p":"chariot.model","c":"StatsPerf.StatsPerfGame","l":"prog()"},{"p":"chariot.model","c":"PerformanceStatistics.Perf","l":"progress()"},{"p":"chariot.model","c":"UserPerformance.Perf","l":"progress()"},{"p":"chariot.util","c":"Board.Promotion","l":"Promotion(Board.FromTo, Board.PieceType)","u":"%3Cinit%3E(chariot.util.Board.FromTo,chariot.util.Board.PieceType)"},{"p":"chariot.model","c":"UserData","l":"properties()"},{"p":"chariot.model","c":"UserData.Provided","l":"properties()"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"properties()"},{"p":"chariot.model","c":"UserData.Property","l":"Property(K, V)","u":"%3Cinit%3E(K,V)"},{"p":"chariot.model","c":"StatsPerf.StatsPerfGame","l":"prov()"},{"p":"chariot.model","c":"UserData.Provided","l":"Provided(Map<UserData.ProfilePropertyEnum, ?>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder.Mode","l":"provider()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime","l":"provider()"},{"p":"chariot.model","c":"Enums.Channel","l":"provider()"},{"p":"chariot.model","c":"Enums.ChatFor","l":"provider()"},{"p":"chariot.model","c":"Enums.Color","l":"provider()"},{"p":"chariot.model","c":"Enums.ColorPref","l":"provider()"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"provider()"},{"p":"chariot.model","c":"Enums.GameVariant","l":"provider()"},{"p":"chariot.model","c":"Enums.Level","l":"provider()"},{"p":"chariot.model","c":"Enums.PerfType","l":"provider()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"provider()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"provider()"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"provider()"},{"p":"chariot.model","c":"Enums.Speed","l":"provider()"},{"p":"chariot.model","c":"Enums.TournamentState","l":"provider()"},{"p":"chariot.model","c":"Enums.VariantName","l":"provider()"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"providerData()"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"providerData()"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"providerSecret()"},{"p":"chariot.model","c":"ChallengeInfo.Player","l":"provisional()"},{"p":"chariot.model","c":"GameStateEvent.Account","l":"provisional()"},{"p":"chariot.model","c":"PerformanceStatistics.Glicko","l":"provisional()"},{"p":"chariot.model","c":"Player.Account","l":"provisional()"},{"p":"chariot.api","c":"BroadcastsAuth","l":"pushPgnByRoundId(String, String)","u":"pushPgnByRoundId(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"put()"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"put(String)","u":"put(java.lang.String)"},{"p":"chariot.model","c":"StatsPerfType","l":"puzzle"},{"p":"chariot","c":"Client.Scope","l":"puzzle_read"},{"p":"chariot.model","c":"Puzzle","l":"puzzle()"},{"p":"chariot.model","c":"Puzzle","l":"Puzzle(Puzzle.GameInfo, Puzzle.PuzzleInfo)","u":"%3Cinit%3E(chariot.model.Puzzle.GameInfo,chariot.model.Puzzle.PuzzleInfo)"},{"p":"chariot.model","c":"PuzzleActivity","l":"PuzzleActivity(String, long, boolean, int)","u":"%3Cinit%3E(java.lang.String,long,boolean,int)"},{"p":"chariot.api","c":"PuzzlesAuth","l":"puzzleDashboard(int)"},{"p":"chariot.model","c":"PuzzleDashboard","l":"PuzzleDashboard(int, PuzzleDashboard.PuzzleResult, Map<String, PuzzleDashboard.Theme>)","u":"%3Cinit%3E(int,chariot.model.PuzzleDashboard.PuzzleResult,java.util.Map)"},{"p":"chariot.model","c":"Puzzle.PuzzleInfo","l":"PuzzleInfo(String, int, int, int, List<String>, List<String>)","u":"%3Cinit%3E(java.lang.String,int,int,int,java.util.List,java.util.List)"},{"p":"chariot.model","c":"PuzzleRace","l":"PuzzleRace(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"PuzzleActivity","l":"puzzleRating()"},{"p":"chariot.model","c":"PuzzleDashboard.PuzzleResult","l":"puzzleRatingAvg()"},{"p":"chariot.model","c":"PuzzleDashboard.PuzzleResult","l":"PuzzleResult(int, int, int, int, int)","u":"%3Cinit%3E(int,int,int,int,int)"},{"p":"chariot","c":"Client","l":"puzzles()"},{"p":"chariot","c":"ClientAuth","l":"puzzles()"},{"p":"chariot.model","c":"Activity.Type.Puzzles","l":"Puzzles(Activity.Result)","u":"%3Cinit%3E(chariot.model.Activity.Result)"},{"p":"chariot","c":"Client","l":"puzzlesAsync()"},{"p":"chariot.model","c":"CloudEvalCacheEntry.PV","l":"PV(String, int)","u":"%3Cinit%3E(java.lang.String,int)"},{"p":"chariot.model","c":"CloudEvalCacheEntry","l":"pvs()"},{"p":"chariot.model","c":"ExternalEngineAnalysis","l":"pvs()"},{"p":"chariot.model","c":"ExternalEngineAnalysis.Pvs","l":"Pvs(int, int, int, List<String>)","u":"%3Cinit%3E(int,int,int,java.util.List)"},{"p":"chariot.util","c":"Board.CastlingRights.RookFiles","l":"q()"},{"p":"chariot.util","c":"Board.CastlingRights.RookFiles","l":"Q()"},{"p":"chariot.util","c":"Board.PieceType","l":"QUEEN"},{"p":"chariot.api","c":"Custom.Request","l":"query(Map<String, Object>)","u":"query(java.util.Map)"},{"p":"chariot.api","c":"GameSessions.Metrics","l":"queued()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"queuePosition()"},{"p":"chariot.model","c":"Swiss","l":"quote()"},{"p":"chariot.model","c":"Swiss.Quote","l":"Quote(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Arena.Duel.P","l":"r()"},{"p":"chariot.model","c":"StatsPerfType","l":"racer"},{"p":"chariot","c":"Client.Scope","l":"racer_write"},{"p":"chariot.model","c":"Enums.Channel","l":"racingKings"},{"p":"chariot.model","c":"Enums.GameVariant","l":"racingKings"},{"p":"chariot.model","c":"Enums.PerfType","l":"racingKings"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"racingKings"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"racingKings"},{"p":"chariot.model","c":"Enums.VariantName","l":"racingKings"},{"p":"chariot.model","c":"StatsPerfType","l":"racingKings"},{"p":"chariot.model","c":"VariantType.Variant","l":"racingKings"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"racingKings()"},{"p":"chariot.model","c":"Enums.GameVariant.Provider","l":"racingKings()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"racingKings()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"racingKings()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"racingKings()"},{"p":"chariot.model","c":"Enums.VariantName.Provider","l":"racingKings()"},{"p":"chariot.model","c":"TVChannels","l":"racingKings()"},{"p":"chariot.model","c":"UserPerformance.Perfs.RacingKings","l":"racingKings()"},{"p":"chariot.model","c":"UserTopAll","l":"racingKings()"},{"p":"chariot.model","c":"UserPerformance.Perfs.RacingKings","l":"RacingKings(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.model","c":"Enums.ColorPref","l":"random"},{"p":"chariot.model","c":"Enums.ColorPref.Provider","l":"random()"},{"p":"chariot.model","c":"Activity.Tournament","l":"rank()"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"rank()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured.Player","l":"rank()"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"rank()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"rank()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured.Player","l":"rank()"},{"p":"chariot.model","c":"Arena.TeamStanding","l":"rank()"},{"p":"chariot.model","c":"ArenaResult","l":"rank()"},{"p":"chariot.model","c":"PerformanceStatistics","l":"rank()"},{"p":"chariot.model","c":"SwissResult","l":"rank()"},{"p":"chariot.model","c":"TeamBattleResults.Teams","l":"rank()"},{"p":"chariot.model","c":"Activity.Tournament","l":"rankPercent()"},{"p":"chariot.model","c":"Enums.Channel","l":"rapid"},{"p":"chariot.model","c":"Enums.PerfType","l":"rapid"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"rapid"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"rapid"},{"p":"chariot.model","c":"Enums.Speed","l":"rapid"},{"p":"chariot.model","c":"StatsPerfType","l":"rapid"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"rapid()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"rapid()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"rapid()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"rapid()"},{"p":"chariot.model","c":"Enums.Speed.Provider","l":"rapid()"},{"p":"chariot.model","c":"TVChannels","l":"rapid()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Rapid","l":"rapid()"},{"p":"chariot.model","c":"UserTopAll","l":"rapid()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Rapid","l":"Rapid(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder.Mode","l":"rated"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"rated"},{"p":"chariot.api","c":"BoardAuth.SeekParams","l":"rated()"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"rated()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"rated()"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"rated()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"rated()"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder.Mode.Provider","l":"rated()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"rated()"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"rated()"},{"p":"chariot.model","c":"Activity.Game","l":"rated()"},{"p":"chariot.model","c":"Arena.Finished","l":"rated()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"rated()"},{"p":"chariot.model","c":"Arena","l":"rated()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"rated()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"rated()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"rated()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"rated()"},{"p":"chariot.model","c":"BulkPairing","l":"rated()"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"rated()"},{"p":"chariot.model","c":"Game","l":"rated()"},{"p":"chariot.model","c":"GameInfo","l":"rated()"},{"p":"chariot.model","c":"GameMeta","l":"rated()"},{"p":"chariot.model","c":"GameType","l":"rated()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"rated()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"rated()"},{"p":"chariot.model","c":"Puzzle.GameInfo","l":"rated()"},{"p":"chariot.model","c":"Swiss","l":"rated()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"rated()"},{"p":"chariot.model","c":"Tournament","l":"rated()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"rated()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"rated()"},{"p":"chariot.model","c":"UserCount","l":"rated()"},{"p":"chariot.api","c":"BoardAuth.SeekParams","l":"rated(boolean)"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"rated(boolean)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"rated(boolean)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"rated(boolean)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"rated(boolean)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"rated(boolean)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"rated(boolean)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"rateLimits(Consumer<Builders.RateLimitsBuilder>)","u":"rateLimits(java.util.function.Consumer)"},{"p":"chariot.model","c":"Activity.Game.Opponent","l":"rating()"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"rating()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured.Player","l":"rating()"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"rating()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"rating()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured.Player","l":"rating()"},{"p":"chariot.model","c":"ArenaResult","l":"rating()"},{"p":"chariot.model","c":"ChallengeInfo.Player","l":"rating()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Host","l":"rating()"},{"p":"chariot.model","c":"ExploreResult.ERPlayer","l":"rating()"},{"p":"chariot.model","c":"GameInfo.Account","l":"rating()"},{"p":"chariot.model","c":"GameMeta.Players.Player","l":"rating()"},{"p":"chariot.model","c":"GameStateEvent.Account","l":"rating()"},{"p":"chariot.model","c":"PerformanceStatistics.Glicko","l":"rating()"},{"p":"chariot.model","c":"Player.Account","l":"rating()"},{"p":"chariot.model","c":"Puzzle.PuzzleInfo","l":"rating()"},{"p":"chariot.model","c":"StatsPerf.StatsPerfGame","l":"rating()"},{"p":"chariot.model","c":"SwissResult","l":"rating()"},{"p":"chariot.model","c":"TVChannels.TVChannel","l":"rating()"},{"p":"chariot.model","c":"TVFeedEvent.PlayerInfo","l":"rating()"},{"p":"chariot.model","c":"UserPerformance.Perf","l":"rating()"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"ratingCfc"},{"p":"chariot.model","c":"ProvidedProfile","l":"ratingCfc()"},{"p":"chariot.model","c":"UserData.Provided","l":"ratingCfc()"},{"p":"chariot.model","c":"GameInfo.Account","l":"ratingDiff()"},{"p":"chariot.model","c":"GameInfo","l":"ratingDiff()"},{"p":"chariot.model","c":"Player.Account","l":"ratingDiff()"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"ratingDsb"},{"p":"chariot.model","c":"ProvidedProfile","l":"ratingDsb()"},{"p":"chariot.model","c":"UserData.Provided","l":"ratingDsb()"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"ratingEcf"},{"p":"chariot.model","c":"ProvidedProfile","l":"ratingEcf()"},{"p":"chariot.model","c":"UserData.Provided","l":"ratingEcf()"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"ratingFide"},{"p":"chariot.model","c":"ProvidedProfile","l":"ratingFide()"},{"p":"chariot.model","c":"UserData.Provided","l":"ratingFide()"},{"p":"chariot.model","c":"RatingHistory","l":"RatingHistory(String, List<RatingHistory.DateResult>)","u":"%3Cinit%3E(java.lang.String,java.util.List)"},{"p":"chariot.api","c":"UsersBase","l":"ratingHistoryById(String)","u":"ratingHistoryById(java.lang.String)"},{"p":"chariot.api","c":"BoardAuth.SeekParams","l":"ratingRange(String)","u":"ratingRange(java.lang.String)"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"ratingRcf"},{"p":"chariot.model","c":"ProvidedProfile","l":"ratingRcf()"},{"p":"chariot.model","c":"UserData.Provided","l":"ratingRcf()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"ratings"},{"p":"chariot.model","c":"User","l":"ratings()"},{"p":"chariot.model","c":"UserData.Ratings","l":"ratings()"},{"p":"chariot.model","c":"UserStats","l":"ratings()"},{"p":"chariot.api","c":"OpeningExplorer.HistoryBuilder","l":"ratings(Enums.RatingGroup...)","u":"ratings(chariot.model.Enums.RatingGroup...)"},{"p":"chariot.api","c":"OpeningExplorer.LichessBuilder","l":"ratings(Enums.RatingGroup...)","u":"ratings(chariot.model.Enums.RatingGroup...)"},{"p":"chariot.model","c":"UserData.Ratings","l":"Ratings(Map<StatsPerfType, StatsPerf>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"chariot.api","c":"OpeningExplorer.HistoryBuilder","l":"ratings(Set<Enums.RatingGroup>)","u":"ratings(java.util.Set)"},{"p":"chariot.api","c":"OpeningExplorer.LichessBuilder","l":"ratings(Set<Enums.RatingGroup>)","u":"ratings(java.util.Set)"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"ratingUscf"},{"p":"chariot.model","c":"ProvidedProfile","l":"ratingUscf()"},{"p":"chariot.model","c":"UserData.Provided","l":"ratingUscf()"},{"p":"chariot.model","c":"Activity.Type.Unknown","l":"raw()"},{"p":"chariot.model","c":"StatsPerf.StatsPerfGame","l":"rd()"},{"p":"chariot.model","c":"Pgn","l":"readFromFile(Path)","u":"readFromFile(java.nio.file.Path)"},{"p":"chariot.model","c":"Pgn","l":"readFromString(String)","u":"readFromString(java.lang.String)"},{"p":"chariot.api","c":"UsersAuth","l":"readNotesAboutUser(String)","u":"readNotesAboutUser(java.lang.String)"},{"p":"chariot.model","c":"RealTime","l":"RealTime(Duration, Duration, String, Enums.Speed)","u":"%3Cinit%3E(java.time.Duration,java.time.Duration,java.lang.String,chariot.model.Enums.Speed)"},{"p":"chariot.model","c":"Challenge.DeclinedChallenge","l":"reason()"},{"p":"chariot.model","c":"Event.ChallengeDeclinedEvent","l":"reason()"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"recentGames()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"recentGames()"},{"p":"chariot.api","c":"OpeningExplorer.CommonLichessOpeningExplorer","l":"recentGames(int)"},{"p":"chariot.model","c":"GameStateEvent.State","l":"rematch()"},{"p":"chariot.model","c":"Challenge.RematchChallenge","l":"RematchChallenge(String, Challenge)","u":"%3Cinit%3E(java.lang.String,chariot.model.Challenge)"},{"p":"chariot.model","c":"Challenge.RematchChallenge","l":"rematchOf()"},{"p":"chariot.model","c":"Event.ChallengeCreatedEvent","l":"rematchOf()"},{"p":"chariot.util","c":"ConsoleRenderer","l":"render(Board)","u":"render(chariot.util.Board)"},{"p":"chariot.util","c":"ConsoleRenderer","l":"render(Board, Consumer<ConsoleRenderer.Config>)","u":"render(chariot.util.Board,java.util.function.Consumer)"},{"p":"chariot.model","c":"Pgn.Move","l":"render(Pgn.Move)","u":"render(chariot.model.Pgn.Move)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"replay()"},{"p":"chariot.model","c":"PuzzleDashboard.PuzzleResult","l":"replayWins()"},{"p":"chariot.api","c":"Builders.LoggingBuilder","l":"request()"},{"p":"chariot.model","c":"ChallengeInfo.ColorInfo","l":"request()"},{"p":"chariot.model","c":"ChallengeInfo.ColorOutcome","l":"request()"},{"p":"chariot.model","c":"ChallengeInfo.ColorRequest","l":"request()"},{"p":"chariot.model","c":"TeamRequest","l":"request()"},{"p":"chariot.api","c":"Custom.EndpointMany","l":"request(Consumer<Custom.Request>)","u":"request(java.util.function.Consumer)"},{"p":"chariot.api","c":"Custom.EndpointOne","l":"request(Consumer<Custom.Request>)","u":"request(java.util.function.Consumer)"},{"p":"chariot.model","c":"TeamRequest.Request","l":"Request(Long, String, String, String)","u":"%3Cinit%3E(java.lang.Long,java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"TeamsAuth","l":"requestAccept(String, String)","u":"requestAccept(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"Custom.EndpointMany","l":"requestAsync(Consumer<Custom.Request>)","u":"requestAsync(java.util.function.Consumer)"},{"p":"chariot.api","c":"Custom.EndpointOne","l":"requestAsync(Consumer<Custom.Request>)","u":"requestAsync(java.util.function.Consumer)"},{"p":"chariot.api","c":"TeamsAuth","l":"requestDecline(String, String)","u":"requestDecline(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"TeamsAuth","l":"requests(String)","u":"requests(java.lang.String)"},{"p":"chariot.api","c":"TeamsAuth","l":"requestsDeclined(String)","u":"requestsDeclined(java.lang.String)"},{"p":"chariot.model","c":"RoundInfo.Game","l":"res()"},{"p":"chariot.model","c":"ChallengeOpenEnded.Reserved","l":"Reserved(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Enums.Status","l":"resign"},{"p":"chariot.api","c":"BoardAuth","l":"resign(String)","u":"resign(java.lang.String)"},{"p":"chariot.api","c":"BotAuth","l":"resign(String)","u":"resign(java.lang.String)"},{"p":"chariot.api","c":"Builders.LoggingBuilder","l":"response()"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"responseCache(int)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"responseCache(int, Path)","u":"responseCache(int,java.nio.file.Path)"},{"p":"chariot.model","c":"Activity.Type.Games","l":"result()"},{"p":"chariot.model","c":"Pgn.Result","l":"result()"},{"p":"chariot.model","c":"PerformanceStatistics.Result","l":"Result(Integer, UserInfo, ZonedDateTime, String)","u":"%3Cinit%3E(java.lang.Integer,chariot.model.UserInfo,java.time.ZonedDateTime,java.lang.String)"},{"p":"chariot.model","c":"Pgn.Result","l":"Result(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"chariot.model","c":"Crosstable.Results.Result","l":"Result(String, Double)","u":"%3Cinit%3E(java.lang.String,java.lang.Double)"},{"p":"chariot.model","c":"Activity.Result","l":"Result(String, Integer, Integer, Integer, Activity.Result.RP)","u":"%3Cinit%3E(java.lang.String,java.lang.Integer,java.lang.Integer,java.lang.Integer,chariot.model.Activity.Result.RP)"},{"p":"chariot.model","c":"Activity.Result.ResultHelper","l":"ResultHelper(Integer, Integer, Integer, Activity.Result.RP)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer,java.lang.Integer,chariot.model.Activity.Result.RP)"},{"p":"chariot.model","c":"PerformanceStatistics.Results","l":"results()"},{"p":"chariot.model","c":"PuzzleDashboard.Theme","l":"results()"},{"p":"chariot.model","c":"RatingHistory","l":"results()"},{"p":"chariot.model","c":"PerformanceStatistics.Results","l":"Results(List<PerformanceStatistics.Result>)","u":"%3Cinit%3E(java.util.List)"},{"p":"chariot.model","c":"Crosstable.Results","l":"Results(Set<Crosstable.Results.Result>, Integer)","u":"%3Cinit%3E(java.util.Set,java.lang.Integer)"},{"p":"chariot.api","c":"Tournaments","l":"resultsByArenaId(String)","u":"resultsByArenaId(java.lang.String)"},{"p":"chariot.api","c":"Tournaments","l":"resultsByArenaId(String, Consumer<Tournaments.ArenaResultParams>)","u":"resultsByArenaId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Tournaments","l":"resultsBySwissId(String)","u":"resultsBySwissId(java.lang.String)"},{"p":"chariot.api","c":"Tournaments","l":"resultsBySwissId(String, Consumer<Tournaments.SwissResultParams>)","u":"resultsBySwissId(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"resultStreak()"},{"p":"chariot.model","c":"PerformanceStatistics.ResultStreak","l":"ResultStreak(PerformanceStatistics.Streak, PerformanceStatistics.Streak)","u":"%3Cinit%3E(chariot.model.PerformanceStatistics.Streak,chariot.model.PerformanceStatistics.Streak)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"retries(int)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"retryBudget(Duration)","u":"retryBudget(java.time.Duration)"},{"p":"chariot","c":"ClientAuth","l":"revokeToken()"},{"p":"chariot.util","c":"Board.PieceType","l":"ROOK"},{"p":"chariot.util","c":"Board.Castling","l":"rook()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"rookCastle()"},{"p":"chariot.util","c":"Board.CastlingRights.RookFiles","l":"RookFiles(String, String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"GameStateEvent.Chat","l":"room()"},{"p":"chariot.model","c":"MyRound","l":"round()"},{"p":"chariot.model","c":"RoundInfo","l":"round()"},{"p":"chariot.model","c":"Swiss","l":"round()"},{"p":"chariot.model","c":"Broadcast.Round","l":"Round(String, String, String, ZonedDateTime, boolean, boolean, Optional<ZonedDateTime>, Broadcast.RoundTour, URI)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime,boolean,boolean,java.util.Optional,chariot.model.Broadcast.RoundTour,java.net.URI)"},{"p":"chariot.model","c":"RoundInfo.Round","l":"Round(String, String, String, ZonedDateTime, boolean, boolean, Optional<ZonedDateTime>, URI)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime,boolean,boolean,java.util.Optional,java.net.URI)"},{"p":"chariot.model","c":"MyRound.Round","l":"Round(String, String, String, ZonedDateTime, Optional<ZonedDateTime>, boolean, boolean, URI, Duration)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime,java.util.Optional,boolean,boolean,java.net.URI,java.time.Duration)"},{"p":"chariot.api","c":"Broadcasts","l":"roundById(String)","u":"roundById(java.lang.String)"},{"p":"chariot.model","c":"RoundInfo","l":"RoundInfo(RoundInfo.Round, RoundInfo.Tour, RoundInfo.Study, List<RoundInfo.Game>)","u":"%3Cinit%3E(chariot.model.RoundInfo.Round,chariot.model.RoundInfo.Tour,chariot.model.RoundInfo.Study,java.util.List)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"roundInterval(int)"},{"p":"chariot.model","c":"Broadcast","l":"rounds()"},{"p":"chariot.model","c":"Broadcast.RoundTour","l":"RoundTour(String, String, String, String, ZonedDateTime, int)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime,int)"},{"p":"chariot.util","c":"Board.Coordinate","l":"row()"},{"p":"chariot.util","c":"Board.RowCol","l":"row()"},{"p":"chariot.util","c":"Board.Coordinate","l":"rowCol(int, int)","u":"rowCol(int,int)"},{"p":"chariot.util","c":"Board.RowCol","l":"RowCol(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"chariot.model","c":"Activity.Result.ResultHelper","l":"rp()"},{"p":"chariot.model","c":"Activity.Result","l":"rp()"},{"p":"chariot.model","c":"Activity.Result.RP","l":"RP(Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"BulkPairing","l":"rules()"},{"p":"chariot.model","c":"Challenge.ChallengeWithRules","l":"rules()"},{"p":"chariot.model","c":"ChallengeOpenEnded","l":"rules()"},{"p":"chariot.model","c":"StatsPerf.StatsPerfRun","l":"runs()"},{"p":"chariot.model","c":"StormDashboard.Day","l":"runs()"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"san()"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"san()"},{"p":"chariot.model","c":"Pgn.End","l":"san()"},{"p":"chariot.model","c":"Pgn.NumBegin","l":"san()"},{"p":"chariot.model","c":"Pgn.NumEnd","l":"san()"},{"p":"chariot.model","c":"Pgn.San","l":"san()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"san()"},{"p":"chariot.util","c":"Replay.Ply","l":"san()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"schedule()"},{"p":"chariot.model","c":"Tournament.Scheduled.Schedule","l":"Schedule(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"Scheduled(String, String, String, Integer, Tournament.Clock, boolean, String, Integer, Variant, Long, Long, Enums.TournamentState, Tournament.Perf, Tournament.Pos, boolean, Long, UserCommon, Tournament.Scheduled.Schedule)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,chariot.model.Tournament.Clock,boolean,java.lang.String,java.lang.Integer,chariot.model.Variant,java.lang.Long,java.lang.Long,chariot.model.Enums.TournamentState,chariot.model.Tournament.Perf,chariot.model.Tournament.Pos,boolean,java.lang.Long,chariot.model.UserCommon,chariot.model.Tournament.Scheduled.Schedule)"},{"p":"chariot.model","c":"BulkPairing","l":"scheduledAt()"},{"p":"chariot.api","c":"TournamentsAuth","l":"scheduleNextRoundSwiss(String, UnaryOperator<ZonedDateTime>)","u":"scheduleNextRoundSwiss(java.lang.String,java.util.function.UnaryOperator)"},{"p":"chariot.api","c":"TournamentsAuth","l":"scheduleNextRoundSwiss(String, ZonedDateTime)","u":"scheduleNextRoundSwiss(java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"scope(Client.Scope)","u":"scope(chariot.Client.Scope)"},{"p":"chariot.api","c":"Custom.Request","l":"scope(Client.Scope)","u":"scope(chariot.Client.Scope)"},{"p":"chariot","c":"Client.PkceConfig","l":"scope(Client.Scope...)","u":"scope(chariot.Client.Scope...)"},{"p":"chariot","c":"ClientAuth","l":"scopes()"},{"p":"chariot.model","c":"TokenBulkResult.TokenInfo","l":"scopes()"},{"p":"chariot.model","c":"Activity.Simul","l":"score()"},{"p":"chariot.model","c":"Activity.Tournament","l":"score()"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceEnds","l":"score()"},{"p":"chariot.model","c":"Activity.Type.Puzzles","l":"score()"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"score()"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"score()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"score()"},{"p":"chariot.model","c":"Arena.TeamStanding.Player","l":"score()"},{"p":"chariot.model","c":"Arena.TeamStanding","l":"score()"},{"p":"chariot.model","c":"ArenaResult","l":"score()"},{"p":"chariot.model","c":"Broadcast.Score","l":"score()"},{"p":"chariot.model","c":"StatsPerf.StatsPerfRun","l":"score()"},{"p":"chariot.model","c":"StormDashboard.Day","l":"score()"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player","l":"score()"},{"p":"chariot.model","c":"TeamBattleResults.Teams","l":"score()"},{"p":"chariot.model","c":"Activity.Simul.Score","l":"Score(int, int, int)","u":"%3Cinit%3E(int,int,int)"},{"p":"chariot.model","c":"Broadcast.Score","l":"Score(String, float, int)","u":"%3Cinit%3E(java.lang.String,float,int)"},{"p":"chariot.model","c":"Arena.Sheet","l":"scores()"},{"p":"chariot.api","c":"Teams","l":"search()"},{"p":"chariot.api","c":"Teams","l":"search(String)","u":"search(java.lang.String)"},{"p":"chariot.api","c":"Teams","l":"searchByPage()"},{"p":"chariot.api","c":"TeamsAsync","l":"searchByPage()"},{"p":"chariot.api","c":"Teams","l":"searchByPage(Consumer<Teams.PageParams>)","u":"searchByPage(java.util.function.Consumer)"},{"p":"chariot.api","c":"TeamsAsync","l":"searchByPage(Consumer<Teams.PageParams>)","u":"searchByPage(java.util.function.Consumer)"},{"p":"chariot.api","c":"Teams","l":"searchByPage(int)"},{"p":"chariot.api","c":"Teams","l":"searchByPage(int, String)","u":"searchByPage(int,java.lang.String)"},{"p":"chariot.api","c":"Teams","l":"searchByPage(String)","u":"searchByPage(java.lang.String)"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"seconds()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"secondsToFinish()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"secondsToFinish()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"secondsToStart()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"secondsToStart()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"secondsToStart()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"secondsToStart()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"secondsToStart()"},{"p":"chariot.model","c":"SeekAck","l":"SeekAck(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"chariot.api","c":"BoardAuth","l":"seekCorrespondence(Consumer<BoardAuth.SeekCorrespondenceBuilder>)","u":"seekCorrespondence(java.util.function.Consumer)"},{"p":"chariot.api","c":"BoardAuth","l":"seekCorrespondence(int)"},{"p":"chariot.api","c":"BoardAuth","l":"seekRealTime(Consumer<BoardAuth.SeekRealTimeBuilder>)","u":"seekRealTime(java.util.function.Consumer)"},{"p":"chariot.api","c":"BoardAuth","l":"seekRealTime(int, int)","u":"seekRealTime(int,int)"},{"p":"chariot.model","c":"UserTimes","l":"seen()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"seenAt"},{"p":"chariot.model","c":"User","l":"seenAt()"},{"p":"chariot.api","c":"UsersAuth","l":"sendMessageToUser(String, String)","u":"sendMessageToUser(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"servers(Consumer<Builders.ServerBuilder>)","u":"servers(java.util.function.Consumer)"},{"p":"chariot.model","c":"StreamInfo","l":"service()"},{"p":"chariot.model","c":"UserData.StreamInfo","l":"service()"},{"p":"chariot.model","c":"ExternalEngineWork","l":"sessionId()"},{"p":"chariot.model","c":"Enums.Level.Provider","l":"seven()"},{"p":"chariot.api","c":"Builders.LogLevel","l":"severe()"},{"p":"chariot.api","c":"Tournaments.ArenaResultParams","l":"sheet()"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"sheet()"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"sheet()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"sheet()"},{"p":"chariot.model","c":"ArenaResult","l":"sheet()"},{"p":"chariot.api","c":"Tournaments.ArenaResultParams","l":"sheet(boolean)"},{"p":"chariot.model","c":"Arena.Sheet","l":"Sheet(String, boolean)","u":"%3Cinit%3E(java.lang.String,boolean)"},{"p":"chariot.api","c":"BroadcastsAuth.BroadcastBuilder","l":"shortDescription(String)","u":"shortDescription(java.lang.String)"},{"p":"chariot.model","c":"Variant","l":"shortname()"},{"p":"chariot.model","c":"RealTime","l":"show()"},{"p":"chariot.model","c":"TimeControl","l":"show()"},{"p":"chariot.util","c":"Position","l":"sideToMove()"},{"p":"chariot.model","c":"Activity.Simul","l":"Simul(String, String, boolean, List<Enums.VariantName>, Activity.Simul.Score)","u":"%3Cinit%3E(java.lang.String,java.lang.String,boolean,java.util.List,chariot.model.Activity.Simul.Score)"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"Simul(String, String, String, String, boolean, boolean, boolean, int, int, Optional<Long>, Optional<Long>, Optional<Long>, CurrentSimuls.Simul.Host, List<CurrentSimuls.Simul.Variant>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,boolean,boolean,boolean,int,int,java.util.Optional,java.util.Optional,java.util.Optional,chariot.model.CurrentSimuls.Simul.Host,java.util.List)"},{"p":"chariot.model","c":"TimelineEntry.SimulCreate","l":"SimulCreate(LightUser, String, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.lang.String,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"TimelineEntry.SimulCreate","l":"simulId()"},{"p":"chariot.model","c":"TimelineEntry.SimulJoin","l":"simulId()"},{"p":"chariot.model","c":"TimelineEntry.SimulJoin","l":"SimulJoin(LightUser, String, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.lang.String,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"TimelineEntry.SimulCreate","l":"simulName()"},{"p":"chariot.model","c":"TimelineEntry.SimulJoin","l":"simulName()"},{"p":"chariot.api","c":"Simuls","l":"simuls()"},{"p":"chariot","c":"Client","l":"simuls()"},{"p":"chariot","c":"ClientAuth","l":"simuls()"},{"p":"chariot.model","c":"Activity.Type.Simuls","l":"simuls()"},{"p":"chariot.model","c":"Activity.Type.Simuls","l":"Simuls(List<Activity.Simul>)","u":"%3Cinit%3E(java.util.List)"},{"p":"chariot.api","c":"AccountAuth.TimelineParams","l":"since(Function<ZonedDateTime, ZonedDateTime>)","u":"since(java.util.function.Function)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"since(Function<ZonedDateTime, ZonedDateTime>)","u":"since(java.util.function.Function)"},{"p":"chariot.api","c":"OpeningExplorer.MastersBuilder","l":"since(int)"},{"p":"chariot.api","c":"AccountAuth.TimelineParams","l":"since(long)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"since(long)"},{"p":"chariot.api","c":"OpeningExplorer.CommonLichessOpeningExplorer","l":"since(String)","u":"since(java.lang.String)"},{"p":"chariot.api","c":"OpeningExplorer.HistoryBuilder","l":"since(String)","u":"since(java.lang.String)"},{"p":"chariot.api","c":"AccountAuth.TimelineParams","l":"since(ZonedDateTime)","u":"since(java.time.ZonedDateTime)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"since(ZonedDateTime)","u":"since(java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Enums.Level.Provider","l":"six()"},{"p":"chariot.model","c":"Broadcast.Round","l":"slug()"},{"p":"chariot.model","c":"Broadcast.RoundTour","l":"slug()"},{"p":"chariot.model","c":"Broadcast.Tour","l":"slug()"},{"p":"chariot.model","c":"MyRound.Round","l":"slug()"},{"p":"chariot.model","c":"MyRound.Tour","l":"slug()"},{"p":"chariot.model","c":"RoundInfo.Round","l":"slug()"},{"p":"chariot.model","c":"RoundInfo.Tour","l":"slug()"},{"p":"chariot.model","c":"TimelineEntry.BlogPost","l":"slug()"},{"p":"chariot.model","c":"TimelineEntry.UblogPost","l":"slug()"},{"p":"chariot.model","c":"Puzzle.PuzzleInfo","l":"solution()"},{"p":"chariot.model","c":"Opt","l":"some(T)"},{"p":"chariot.model","c":"Some","l":"Some(T)","u":"%3Cinit%3E(T)"},{"p":"chariot.model","c":"GameStateEvent.Soon","l":"Soon(Duration)","u":"%3Cinit%3E(java.time.Duration)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"sortAscending()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"sortAscending(boolean)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"soundSet()"},{"p":"chariot.api","c":"Studies.Params","l":"source()"},{"p":"chariot.model","c":"Game","l":"source()"},{"p":"chariot.model","c":"GameInfo","l":"source()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"source()"},{"p":"chariot.api","c":"Studies.Params","l":"source(boolean)"},{"p":"chariot.api","c":"Builders.RateLimitBuilder","l":"spacing(Duration)","u":"spacing(java.time.Duration)"},{"p":"chariot.model","c":"Activity.Game","l":"speed()"},{"p":"chariot.model","c":"ChallengeAI","l":"speed()"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"speed()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"speed()"},{"p":"chariot.model","c":"Game","l":"speed()"},{"p":"chariot.model","c":"GameInfo.TimeInfo","l":"speed()"},{"p":"chariot.model","c":"GameMeta","l":"speed()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"speed()"},{"p":"chariot.model","c":"RealTime","l":"speed()"},{"p":"chariot.model","c":"TimeControl","l":"speed()"},{"p":"chariot.model","c":"Tournament.Scheduled.Schedule","l":"speed()"},{"p":"chariot.api","c":"OpeningExplorer.CommonLichessOpeningExplorer","l":"speeds(Enums.Speed...)","u":"speeds(chariot.model.Enums.Speed...)"},{"p":"chariot.api","c":"OpeningExplorer.HistoryBuilder","l":"speeds(Enums.Speed...)","u":"speeds(chariot.model.Enums.Speed...)"},{"p":"chariot.api","c":"OpeningExplorer.CommonLichessOpeningExplorer","l":"speeds(Set<Enums.Speed>)","u":"speeds(java.util.Set)"},{"p":"chariot.api","c":"OpeningExplorer.HistoryBuilder","l":"speeds(Set<Enums.Speed>)","u":"speeds(java.util.Set)"},{"p":"chariot.model","c":"Enums.Status","l":"stalemate"},{"p":"chariot.util","c":"Board.GameState","l":"stalemate"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"stalemate()"},{"p":"chariot.model","c":"TablebaseResult","l":"stalemate()"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"standard"},{"p":"chariot.model","c":"Enums.GameVariant","l":"standard"},{"p":"chariot.model","c":"Enums.VariantName","l":"standard"},{"p":"chariot.model","c":"VariantType.Variant","l":"standard"},{"p":"chariot.util","c":"Board.FEN","l":"standard"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"standard()"},{"p":"chariot.model","c":"Enums.GameVariant.Provider","l":"standard()"},{"p":"chariot.model","c":"Enums.VariantName.Provider","l":"standard()"},{"p":"chariot.util","c":"Board.CastlingRights.Standard","l":"Standard(Board.CastlingRights.RookFiles)","u":"%3Cinit%3E(chariot.util.Board.CastlingRights.RookFiles)"},{"p":"chariot.api","c":"Tablebase","l":"standard(String)","u":"standard(java.lang.String)"},{"p":"chariot.util","c":"Board.StandardPiece","l":"StandardPiece(Board.PieceType, Board.Side)","u":"%3Cinit%3E(chariot.util.Board.PieceType,chariot.util.Board.Side)"},{"p":"chariot.model","c":"Arena.Finished","l":"standing()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"standing()"},{"p":"chariot.model","c":"Arena","l":"standing()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"standing()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"standing()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"standing()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"standing()"},{"p":"chariot.model","c":"Arena.Standing","l":"Standing(Integer, List<Arena.Standing.Player>)","u":"%3Cinit%3E(java.lang.Integer,java.util.List)"},{"p":"chariot.model","c":"Activity.Interval","l":"start()"},{"p":"chariot.api","c":"ChallengesAuth","l":"startBulk(String)","u":"startBulk(java.lang.String)"},{"p":"chariot.model","c":"BulkPairing","l":"startClocksAt()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"startClocksAt(Function<ZonedDateTime, ZonedDateTime>)","u":"startClocksAt(java.util.function.Function)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"startClocksAt(long)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"startClocksAt(ZonedDateTime)","u":"startClocksAt(java.time.ZonedDateTime)"},{"p":"chariot.api","c":"ChallengesAuth","l":"startClocksOfGame(String, String, String)","u":"startClocksOfGame(java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.AtDate","l":"startDate()"},{"p":"chariot.model","c":"Enums.Status","l":"started"},{"p":"chariot.model","c":"Enums.TournamentState","l":"started"},{"p":"chariot.model","c":"CurrentSimuls","l":"started()"},{"p":"chariot.model","c":"Enums.TournamentState.Provider","l":"started()"},{"p":"chariot.model","c":"TournamentStatus","l":"started()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"startedAt()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"startedAtTime()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"startedAtTurn()"},{"p":"chariot.model","c":"Arena.Finished","l":"startsAt()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"startsAt()"},{"p":"chariot.model","c":"Arena","l":"startsAt()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"startsAt()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"startsAt()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"startsAt()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"startsAt()"},{"p":"chariot.model","c":"Broadcast.Round","l":"startsAt()"},{"p":"chariot.model","c":"MyRound.Round","l":"startsAt()"},{"p":"chariot.model","c":"RoundInfo.Round","l":"startsAt()"},{"p":"chariot.model","c":"Swiss","l":"startsAt()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"startsAt()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"startsAt()"},{"p":"chariot.model","c":"Tournament","l":"startsAt()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"startsAt()"},{"p":"chariot.api","c":"BroadcastsAuth.RoundBuilder","l":"startsAt(Function<ZonedDateTime, ZonedDateTime>)","u":"startsAt(java.util.function.Function)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"startsAt(Function<ZonedDateTime, ZonedDateTime>)","u":"startsAt(java.util.function.Function)"},{"p":"chariot.api","c":"BroadcastsAuth.RoundBuilder","l":"startsAt(long)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"startsAt(long)"},{"p":"chariot.api","c":"BroadcastsAuth.RoundBuilder","l":"startsAt(ZonedDateTime)","u":"startsAt(java.time.ZonedDateTime)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"startsAt(ZonedDateTime)","u":"startsAt(java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Tournament","l":"startsTime()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"startTime(Function<TournamentsAuth.ArenaParams.StartTime.Provider, TournamentsAuth.ArenaParams.StartTime>)","u":"startTime(java.util.function.Function)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"startTime(ZonedDateTime)","u":"startTime(java.time.ZonedDateTime)"},{"p":"chariot.model","c":"PerformanceStatistics","l":"stat()"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"Stat(PerformanceStatistics.PerfType, PerformanceStatistics.DateResult, PerformanceStatistics.DateResult, PerformanceStatistics.Results, PerformanceStatistics.Results, PerformanceStatistics.Count, PerformanceStatistics.ResultStreak, PerformanceStatistics.PlayStreak)","u":"%3Cinit%3E(chariot.model.PerformanceStatistics.PerfType,chariot.model.PerformanceStatistics.DateResult,chariot.model.PerformanceStatistics.DateResult,chariot.model.PerformanceStatistics.Results,chariot.model.PerformanceStatistics.Results,chariot.model.PerformanceStatistics.Count,chariot.model.PerformanceStatistics.ResultStreak,chariot.model.PerformanceStatistics.PlayStreak)"},{"p":"chariot","c":"Client.CodeAndState","l":"state()"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"state()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"State(String, Duration, Duration, Duration, Duration, Enums.Status, Opt<Enums.Color>, Opt<Enums.Color>, Opt<Enums.Color>, Opt<String>)","u":"%3Cinit%3E(java.lang.String,java.time.Duration,java.time.Duration,java.time.Duration,java.time.Duration,chariot.model.Enums.Status,chariot.model.Opt,chariot.model.Opt,chariot.model.Opt,chariot.model.Opt)"},{"p":"chariot.model","c":"Arena.Finished","l":"stats()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"stats()"},{"p":"chariot.model","c":"Swiss","l":"stats()"},{"p":"chariot.model","c":"UserProfileData","l":"stats()"},{"p":"chariot.model","c":"Swiss.Stats","l":"Stats(int, int, int, int, int, int, int)","u":"%3Cinit%3E(int,int,int,int,int,int,int)"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"Stats(Integer, Integer, Integer, Integer, Integer, Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"Stats(Integer, Integer, Integer, Integer, Integer, Integer, Integer)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer)"},{"p":"chariot.model","c":"StatsPerf.StatsPerfGame","l":"StatsPerfGame(int, int, int, int, boolean)","u":"%3Cinit%3E(int,int,int,int,boolean)"},{"p":"chariot.model","c":"StatsPerf.StatsPerfRun","l":"StatsPerfRun(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"chariot.model","c":"Enums.Status","l":"status()"},{"p":"chariot.model","c":"Enums.TournamentState","l":"status()"},{"p":"chariot.model","c":"Fail","l":"status()"},{"p":"chariot.model","c":"Game","l":"status()"},{"p":"chariot.model","c":"GameInfo","l":"status()"},{"p":"chariot.model","c":"GameMeta","l":"status()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"status()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"status()"},{"p":"chariot.model","c":"StreamInfo","l":"status()"},{"p":"chariot.model","c":"Swiss","l":"status()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"status()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"status()"},{"p":"chariot.model","c":"Tournament","l":"status()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"status()"},{"p":"chariot.model","c":"UserData.StreamInfo","l":"status()"},{"p":"chariot.model","c":"MoveInfo.Status","l":"Status(int, String)","u":"%3Cinit%3E(int,java.lang.String)"},{"p":"chariot.api","c":"UsersBase","l":"statusByIds(boolean, String...)","u":"statusByIds(boolean,java.lang.String...)"},{"p":"chariot.api","c":"UsersBase","l":"statusByIds(Collection<String>)","u":"statusByIds(java.util.Collection)"},{"p":"chariot.api","c":"UsersBase","l":"statusByIds(Collection<String>, boolean)","u":"statusByIds(java.util.Collection,boolean)"},{"p":"chariot.api","c":"UsersBase","l":"statusByIds(Collection<String>, Consumer<Users.UserStatusParams>)","u":"statusByIds(java.util.Collection,java.util.function.Consumer)"},{"p":"chariot.api","c":"UsersBase","l":"statusByIds(String...)","u":"statusByIds(java.lang.String...)"},{"p":"chariot.model","c":"GameMeta","l":"statusName()"},{"p":"chariot","c":"Client","l":"store(Preferences)","u":"store(java.util.prefs.Preferences)"},{"p":"chariot.model","c":"StatsPerfType","l":"storm"},{"p":"chariot.model","c":"StormDashboard","l":"StormDashboard(StormDashboard.High, List<StormDashboard.Day>)","u":"%3Cinit%3E(chariot.model.StormDashboard.High,java.util.List)"},{"p":"chariot.api","c":"Puzzles","l":"stormDashboard(String)","u":"stormDashboard(java.lang.String)"},{"p":"chariot.api","c":"PuzzlesAsync","l":"stormDashboard(String)","u":"stormDashboard(java.lang.String)"},{"p":"chariot.api","c":"Puzzles","l":"stormDashboard(String, Consumer<Puzzles.PuzzleParams>)","u":"stormDashboard(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"PuzzlesAsync","l":"stormDashboard(String, Consumer<Puzzles.PuzzleParams>)","u":"stormDashboard(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"Puzzles","l":"stormDashboard(String, int)","u":"stormDashboard(java.lang.String,int)"},{"p":"chariot.model","c":"StatsPerfType","l":"streak"},{"p":"chariot.model","c":"PerformanceStatistics.Streak","l":"Streak(PerformanceStatistics.StreakInfo, PerformanceStatistics.StreakInfo)","u":"%3Cinit%3E(chariot.model.PerformanceStatistics.StreakInfo,chariot.model.PerformanceStatistics.StreakInfo)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"streakable()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"streakable(boolean)"},{"p":"chariot.model","c":"PerformanceStatistics.StreakPoint","l":"StreakPoint(ZonedDateTime, String)","u":"%3Cinit%3E(java.time.ZonedDateTime,java.lang.String)"},{"p":"chariot.api","c":"Custom.Request","l":"stream()"},{"p":"chariot.model","c":"Entries","l":"stream()"},{"p":"chariot.model","c":"LiveStreamer","l":"stream()"},{"p":"chariot.model","c":"Many","l":"stream()"},{"p":"chariot.api","c":"Broadcasts","l":"streamBroadcast(String)","u":"streamBroadcast(java.lang.String)"},{"p":"chariot.model","c":"LiveStreamer","l":"streamer()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"streamerInfo"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"StreamerInfo(Map<UserData.StreamerInfoPropertyEnum, ?>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"streamIdleTimeout(Duration)","u":"streamIdleTimeout(java.time.Duration)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"streamInfo"},{"p":"chariot.model","c":"UserData.StreamInfo","l":"StreamInfo(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"streaming"},{"p":"chariot.model","c":"LiveStreamer","l":"streaming()"},{"p":"chariot.model","c":"User","l":"streaming()"},{"p":"chariot.model","c":"UserFlags","l":"streaming()"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"streamMapper(Function<Stream<String>, Stream<T>>)","u":"streamMapper(java.util.function.Function)"},{"p":"chariot.api","c":"Builders.RateLimitBuilder","l":"streams(int)"},{"p":"chariot.model","c":"TimelineEntry.StreamStart","l":"StreamStart(LightUser, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot","c":"Client","l":"studies()"},{"p":"chariot","c":"ClientAuth","l":"studies()"},{"p":"chariot","c":"Client.Scope","l":"study_read"},{"p":"chariot","c":"Client.Scope","l":"study_write"},{"p":"chariot.model","c":"MyRound","l":"study()"},{"p":"chariot.model","c":"RoundInfo","l":"study()"},{"p":"chariot.model","c":"MyRound.Study","l":"Study(boolean)","u":"%3Cinit%3E(boolean)"},{"p":"chariot.model","c":"RoundInfo.Study","l":"Study(boolean)","u":"%3Cinit%3E(boolean)"},{"p":"chariot.model","c":"TimelineEntry.StudyLike","l":"studyId()"},{"p":"chariot.model","c":"TimelineEntry.StudyLike","l":"StudyLike(LightUser, String, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.lang.String,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"StudyMeta","l":"StudyMeta(String, String, ZonedDateTime, ZonedDateTime)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.time.ZonedDateTime,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"TimelineEntry.StudyLike","l":"studyName()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"submitMove()"},{"p":"chariot.model","c":"Game","l":"swiss()"},{"p":"chariot.model","c":"TournamentId","l":"swiss(String)","u":"swiss(java.lang.String)"},{"p":"chariot.model","c":"Swiss","l":"Swiss(String, String, String, String, String, int, int, int, int, boolean, boolean, Enums.VariantName, Swiss.Clock, Optional<Swiss.GreatPlayer>, Optional<Swiss.NextRound>, Optional<Swiss.Quote>, Optional<Swiss.Stats>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,int,int,int,int,boolean,boolean,chariot.model.Enums.VariantName,chariot.model.Swiss.Clock,java.util.Optional,java.util.Optional,java.util.Optional,java.util.Optional)"},{"p":"chariot.api","c":"Tournaments","l":"swissById(String)","u":"swissById(java.lang.String)"},{"p":"chariot.api","c":"Teams","l":"swissByTeamId(String)","u":"swissByTeamId(java.lang.String)"},{"p":"chariot.api","c":"Teams","l":"swissByTeamId(String, int)","u":"swissByTeamId(java.lang.String,int)"},{"p":"chariot.api","c":"TeamsAsync","l":"swissByTeamId(String, int)","u":"swissByTeamId(java.lang.String,int)"},{"p":"chariot.model","c":"TournamentId.SwissId","l":"SwissId(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"chariot.model","c":"SwissResult","l":"SwissResult(String, int, float, float, int, int, boolean)","u":"%3Cinit%3E(java.lang.String,int,float,float,int,int,boolean)"},{"p":"chariot.api","c":"Tournaments","l":"swissTRF(String)","u":"swissTRF(java.lang.String)"},{"p":"chariot.api","c":"BroadcastsAuth.RoundBuilder","l":"syncUrl(String)","u":"syncUrl(java.lang.String)"},{"p":"chariot.model","c":"Arena.Finished","l":"system()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"system()"},{"p":"chariot.model","c":"Arena","l":"system()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"system()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"system()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"system()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"system()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"system()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"system()"},{"p":"chariot.model","c":"Tournament","l":"system()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"system()"},{"p":"chariot","c":"Client","l":"tablebase()"},{"p":"chariot","c":"ClientAuth","l":"tablebase()"},{"p":"chariot.api","c":"Builders.RateLimitsBuilder","l":"tablebase(Consumer<Builders.RateLimitBuilder>)","u":"tablebase(java.util.function.Consumer)"},{"p":"chariot.api","c":"Builders.ServerBuilder","l":"tablebase(String)","u":"tablebase(java.lang.String)"},{"p":"chariot.api","c":"Builders.ServerBuilder","l":"tablebase(URI)","u":"tablebase(java.net.URI)"},{"p":"chariot.model","c":"TablebaseResult","l":"TablebaseResult(Integer, Integer, Integer, boolean, boolean, boolean, boolean, boolean, String, List<TablebaseResult.Move>)","u":"%3Cinit%3E(java.lang.Integer,java.lang.Integer,java.lang.Integer,boolean,boolean,boolean,boolean,boolean,java.lang.String,java.util.List)"},{"p":"chariot.model","c":"Pgn.BasicPgn","l":"tagMap()"},{"p":"chariot.model","c":"Pgn","l":"tagMap()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"tags()"},{"p":"chariot.model","c":"Pgn.BasicPgn","l":"tags()"},{"p":"chariot.model","c":"Pgn","l":"tags()"},{"p":"chariot.model","c":"PushResult.Fail","l":"tags()"},{"p":"chariot.model","c":"PushResult.Pass","l":"tags()"},{"p":"chariot.model","c":"PushResult","l":"tags()"},{"p":"chariot.api","c":"Games.CommonGameParameters","l":"tags(boolean)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"takeback()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"takebackOffer()"},{"p":"chariot","c":"Client.Scope","l":"team_lead"},{"p":"chariot","c":"Client.Scope","l":"team_read"},{"p":"chariot","c":"Client.Scope","l":"team_write"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"team()"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"team()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"team()"},{"p":"chariot.model","c":"ArenaResult","l":"team()"},{"p":"chariot.model","c":"Player.ArenaInfo","l":"team()"},{"p":"chariot.api","c":"TournamentsAuth.JoinArenaParams","l":"team(String)","u":"team(java.lang.String)"},{"p":"chariot.model","c":"Activity.Team","l":"Team(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Team","l":"Team(String, String, String, boolean, UserCommon, List<UserCommon>, Integer)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,boolean,chariot.model.UserCommon,java.util.List,java.lang.Integer)"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"teamBattle()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"teamBattle()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"teamBattle()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"teamBattle()"},{"p":"chariot.model","c":"Arena.TeamBattle","l":"TeamBattle(Map<String, String[]>, Integer)","u":"%3Cinit%3E(java.util.Map,java.lang.Integer)"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"TeamBattle(String, String, String, Integer, Tournament.Clock, boolean, String, Integer, Variant, Long, Long, Enums.TournamentState, Tournament.Perf, boolean, Long, UserCommon, Tournament.TeamBattle.Teams)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,chariot.model.Tournament.Clock,boolean,java.lang.String,java.lang.Integer,chariot.model.Variant,java.lang.Long,java.lang.Long,chariot.model.Enums.TournamentState,chariot.model.Tournament.Perf,boolean,java.lang.Long,chariot.model.UserCommon,chariot.model.Tournament.TeamBattle.Teams)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"teamBattleByTeam(String)","u":"teamBattleByTeam(java.lang.String)"},{"p":"chariot.model","c":"TeamBattleResults","l":"TeamBattleResults(String, List<TeamBattleResults.Teams>)","u":"%3Cinit%3E(java.lang.String,java.util.List)"},{"p":"chariot.api","c":"Tournaments","l":"teamBattleResultsById(String)","u":"teamBattleResultsById(java.lang.String)"},{"p":"chariot.model","c":"TimelineEntry.TeamCreate","l":"TeamCreate(LightUser, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"TeamFinished(String, String, String, String, String, Integer, Arena.Perf, Arena.Clock, Enums.VariantName, boolean, boolean, Arena.Verdict, Integer, List<Arena.Duel>, Arena.Standing, boolean, boolean, boolean, List<Arena.TeamFinished.Podium>, Arena.TeamFinished.Stats, List<Arena.TeamStanding>, Arena.DuelTeams, Arena.TeamBattle, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,chariot.model.Arena.Perf,chariot.model.Arena.Clock,chariot.model.Enums.VariantName,boolean,boolean,chariot.model.Arena.Verdict,java.lang.Integer,java.util.List,chariot.model.Arena.Standing,boolean,boolean,boolean,java.util.List,chariot.model.Arena.TeamFinished.Stats,java.util.List,chariot.model.Arena.DuelTeams,chariot.model.Arena.TeamBattle,java.lang.String)"},{"p":"chariot.model","c":"TeamMember","l":"teamId()"},{"p":"chariot.model","c":"TeamRequest.Request","l":"teamId()"},{"p":"chariot.model","c":"TimelineEntry.TeamCreate","l":"teamId()"},{"p":"chariot.model","c":"TimelineEntry.TeamJoin","l":"teamId()"},{"p":"chariot.model","c":"TimelineEntry.TeamJoin","l":"TeamJoin(LightUser, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"TeamMember","l":"TeamMember(User, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.User,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"TeamOngoing(String, String, String, String, String, Integer, Arena.Perf, Arena.Clock, Enums.VariantName, boolean, boolean, Arena.Verdict, Integer, List<Arena.Duel>, Arena.Standing, boolean, Integer, Arena.TeamOngoing.Featured, List<Arena.TeamStanding>, Arena.DuelTeams, Arena.TeamBattle, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,chariot.model.Arena.Perf,chariot.model.Arena.Clock,chariot.model.Enums.VariantName,boolean,boolean,chariot.model.Arena.Verdict,java.lang.Integer,java.util.List,chariot.model.Arena.Standing,boolean,java.lang.Integer,chariot.model.Arena.TeamOngoing.Featured,java.util.List,chariot.model.Arena.DuelTeams,chariot.model.Arena.TeamBattle,java.lang.String)"},{"p":"chariot.model","c":"TeamRequest","l":"TeamRequest(TeamRequest.Request, UserData)","u":"%3Cinit%3E(chariot.model.TeamRequest.Request,chariot.model.UserData)"},{"p":"chariot","c":"Client","l":"teams()"},{"p":"chariot","c":"ClientAuth","l":"teams()"},{"p":"chariot.model","c":"Activity.Type.Teams","l":"teams()"},{"p":"chariot.model","c":"Arena.TeamBattle","l":"teams()"},{"p":"chariot.model","c":"TeamBattleResults","l":"teams()"},{"p":"chariot.model","c":"Tournament.TeamBattle.Teams","l":"teams()"},{"p":"chariot.model","c":"TeamBattleResults.Teams","l":"Teams(Integer, String, Integer, List<TeamBattleResults.Teams.Player>)","u":"%3Cinit%3E(java.lang.Integer,java.lang.String,java.lang.Integer,java.util.List)"},{"p":"chariot.model","c":"Activity.Type.Teams","l":"Teams(List<Activity.Team>)","u":"%3Cinit%3E(java.util.List)"},{"p":"chariot.model","c":"Tournament.TeamBattle.Teams","l":"Teams(List<String>, Integer)","u":"%3Cinit%3E(java.util.List,java.lang.Integer)"},{"p":"chariot.api","c":"BroadcastsAuth.BroadcastBuilder","l":"teams(String)","u":"teams(java.lang.String)"},{"p":"chariot","c":"Client","l":"teamsAsync()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"teamStanding()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"teamStanding()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"teamStanding()"},{"p":"chariot.model","c":"Arena.TeamStanding","l":"TeamStanding(Integer, String, Integer, List<Arena.TeamStanding.Player>)","u":"%3Cinit%3E(java.lang.Integer,java.lang.String,java.lang.Integer,java.util.List)"},{"p":"chariot.api","c":"BroadcastsAuth.BroadcastBuilder","l":"teamTable()"},{"p":"chariot.model","c":"Broadcast.Tour","l":"teamTable()"},{"p":"chariot.api","c":"BroadcastsAuth.BroadcastBuilder","l":"teamTable(boolean)"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"TeamUpcoming(String, String, String, String, String, Integer, Arena.Perf, Arena.Clock, Enums.VariantName, boolean, boolean, Arena.Verdict, Integer, List<Arena.Duel>, Arena.Standing, Integer, Arena.GreatPlayer, List<Arena.TeamStanding>, Arena.DuelTeams, Arena.TeamBattle, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,chariot.model.Arena.Perf,chariot.model.Arena.Clock,chariot.model.Enums.VariantName,boolean,boolean,chariot.model.Arena.Verdict,java.lang.Integer,java.util.List,chariot.model.Arena.Standing,java.lang.Integer,chariot.model.Arena.GreatPlayer,java.util.List,chariot.model.Arena.DuelTeams,chariot.model.Arena.TeamBattle,java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth","l":"terminateArena(String)","u":"terminateArena(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth","l":"terminateSwiss(String)","u":"terminateSwiss(java.lang.String)"},{"p":"chariot.util","c":"Board.CastlingRights.AttackedCoordinatePredicate","l":"test(Board.Coordinate, Board.Side, Map<Board.Coordinate, Board.Piece>)","u":"test(chariot.util.Board.Coordinate,chariot.util.Board.Side,java.util.Map)"},{"p":"chariot.model","c":"Activity.Topic.Post","l":"text()"},{"p":"chariot.model","c":"ChatMessage","l":"text()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"text()"},{"p":"chariot.model","c":"Event.DeclineReason","l":"text()"},{"p":"chariot.model","c":"GameStateEvent.Chat","l":"text()"},{"p":"chariot.model","c":"Note","l":"text()"},{"p":"chariot.model","c":"Swiss.Quote","l":"text()"},{"p":"chariot.api","c":"Teams.PageParams","l":"text(String)","u":"text(java.lang.String)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"theme()"},{"p":"chariot.model","c":"PuzzleDashboard.Theme","l":"theme()"},{"p":"chariot.model","c":"PuzzleDashboard.Theme","l":"Theme(PuzzleDashboard.PuzzleResult, String)","u":"%3Cinit%3E(chariot.model.PuzzleDashboard.PuzzleResult,java.lang.String)"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"theme3d()"},{"p":"chariot.model","c":"Puzzle.PuzzleInfo","l":"themes()"},{"p":"chariot.model","c":"PuzzleDashboard","l":"themes()"},{"p":"chariot.model","c":"ExternalEngineWork","l":"threads()"},{"p":"chariot.model","c":"Enums.Level.Provider","l":"three()"},{"p":"chariot.model","c":"Enums.Channel","l":"threeCheck"},{"p":"chariot.model","c":"Enums.GameVariant","l":"threeCheck"},{"p":"chariot.model","c":"Enums.PerfType","l":"threeCheck"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"threeCheck"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"threeCheck"},{"p":"chariot.model","c":"Enums.VariantName","l":"threeCheck"},{"p":"chariot.model","c":"StatsPerfType","l":"threeCheck"},{"p":"chariot.model","c":"VariantType.Variant","l":"threeCheck"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"threeCheck()"},{"p":"chariot.model","c":"Enums.GameVariant.Provider","l":"threeCheck()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"threeCheck()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"threeCheck()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"threeCheck()"},{"p":"chariot.model","c":"Enums.VariantName.Provider","l":"threeCheck()"},{"p":"chariot.model","c":"TVChannels","l":"threeCheck()"},{"p":"chariot.model","c":"UserPerformance.Perfs.ThreeCheck","l":"threeCheck()"},{"p":"chariot.model","c":"UserTopAll","l":"threeCheck()"},{"p":"chariot.model","c":"UserPerformance.Perfs.ThreeCheck","l":"ThreeCheck(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.util","c":"Position","l":"threefoldRepetition()"},{"p":"chariot.model","c":"SwissResult","l":"tieBreak()"},{"p":"chariot.model","c":"Broadcast.RoundTour","l":"tier()"},{"p":"chariot.model","c":"Broadcast.Tour","l":"tier()"},{"p":"chariot.model","c":"MyRound.Tour","l":"tier()"},{"p":"chariot.api","c":"BroadcastsAuth.BroadcastBuilder","l":"tier(int)"},{"p":"chariot.model","c":"ExternalEngineAnalysis","l":"time()"},{"p":"chariot.model","c":"GameInfo","l":"time()"},{"p":"chariot.model","c":"PerformanceStatistics.PlayStreak","l":"time()"},{"p":"chariot.model","c":"StormDashboard.Day","l":"time()"},{"p":"chariot.model","c":"TVFeedEvent.PlayerInfo","l":"time()"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"timeControl"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"timeControl()"},{"p":"chariot.model","c":"GameType","l":"timeControl()"},{"p":"chariot.model","c":"GameInfo.TimeInfo","l":"TimeInfo(Enums.Speed, Opt<Duration>)","u":"%3Cinit%3E(chariot.model.Enums.Speed,chariot.model.Opt)"},{"p":"chariot.model","c":"GameInfo.TimeInfo","l":"timeLeft()"},{"p":"chariot.api","c":"AccountAuth","l":"timeline()"},{"p":"chariot.api","c":"AccountAuth","l":"timeline(Consumer<AccountAuth.TimelineParams>)","u":"timeline(java.util.function.Consumer)"},{"p":"chariot.model","c":"Enums.Status","l":"timeout"},{"p":"chariot.api","c":"Custom.Request","l":"timeout(Duration)","u":"timeout(java.time.Duration)"},{"p":"chariot","c":"Client.PkceConfig","l":"timeout(Duration)","u":"timeout(java.time.Duration)"},{"p":"chariot","c":"Client.PkceConfig","l":"timeoutSeconds(long)"},{"p":"chariot.model","c":"UserProfileData","l":"times()"},{"p":"chariot.model","c":"GameStateEvent.Soon","l":"timeUntilClaimable()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"title"},{"p":"chariot.model","c":"ArenaResult","l":"title()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Host","l":"title()"},{"p":"chariot.model","c":"IdNameTitle","l":"title()"},{"p":"chariot.model","c":"LightUser","l":"title()"},{"p":"chariot.model","c":"PerformanceStatistics.OpId","l":"title()"},{"p":"chariot.model","c":"TimelineEntry.BlogPost","l":"title()"},{"p":"chariot.model","c":"TimelineEntry.UblogPost","l":"title()"},{"p":"chariot.model","c":"TimelineEntry.UblogPostLike","l":"title()"},{"p":"chariot.model","c":"UserCommon","l":"title()"},{"p":"chariot.model","c":"UserPerformance","l":"title()"},{"p":"chariot.model","c":"UserInfo","l":"titleOpt()"},{"p":"chariot.model","c":"Note","l":"to()"},{"p":"chariot.model","c":"PerformanceStatistics.WithStreak","l":"to()"},{"p":"chariot.util","c":"Board.FromTo","l":"to()"},{"p":"chariot.util","c":"Board.BoardData","l":"to960FEN()"},{"p":"chariot.util","c":"Board","l":"to960FEN()"},{"p":"chariot.util","c":"Position","l":"toBoard()"},{"p":"chariot.model","c":"UserData","l":"toCommon()"},{"p":"chariot.util","c":"Board.BoardData","l":"toFEN()"},{"p":"chariot.util","c":"Board","l":"toFEN()"},{"p":"chariot.util","c":"Position","l":"toFEN()"},{"p":"chariot.model","c":"TokenResult.AccessToken","l":"token_type()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams.Pairing","l":"tokenBlack()"},{"p":"chariot.model","c":"TokenBulkResult","l":"TokenBulkResult(Map<String, TokenBulkResult.TokenInfo>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"chariot.model","c":"TokenBulkResult.TokenInfo","l":"TokenInfo(String, List<Client.Scope>, ZonedDateTime)","u":"%3Cinit%3E(java.lang.String,java.util.List,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"TokenBulkResult.TokenInfo","l":"TokenInfo(String, String, ZonedDateTime)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"ChallengeTokens","l":"tokens()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams.Pairing","l":"tokenWhite()"},{"p":"chariot.model","c":"UserData","l":"toLiveStreamer()"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"toMany()"},{"p":"chariot.util","c":"Position","l":"toMove(int)"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"tooFast"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"tooFast()"},{"p":"chariot.api","c":"Custom.EndpointBuilder","l":"toOne()"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"tooSlow"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"tooSlow()"},{"p":"chariot.api","c":"UsersBase","l":"top10()"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"topGames()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"topGames()"},{"p":"chariot.api","c":"OpeningExplorer.LichessBuilder","l":"topGames(int)"},{"p":"chariot.api","c":"OpeningExplorer.MastersBuilder","l":"topGames(int)"},{"p":"chariot.model","c":"Activity.Topic","l":"Topic(String, String, List<Activity.Topic.Post>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.util.List)"},{"p":"chariot.model","c":"TimelineEntry.ForumPost","l":"topicId()"},{"p":"chariot.model","c":"Activity.Topic","l":"topicName()"},{"p":"chariot.model","c":"TimelineEntry.ForumPost","l":"topicName()"},{"p":"chariot.model","c":"Activity.Type.Posts","l":"topics()"},{"p":"chariot.model","c":"Activity.Topic","l":"topicUrl()"},{"p":"chariot.model","c":"Enums.Channel","l":"topRated"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"topRated()"},{"p":"chariot.model","c":"TVChannels","l":"topRated()"},{"p":"chariot.util","c":"Board.BoardData","l":"toSAN(Board.Move)","u":"toSAN(chariot.util.Board.Move)"},{"p":"chariot.util","c":"Board","l":"toSAN(Board.Move)","u":"toSAN(chariot.util.Board.Move)"},{"p":"chariot.util","c":"Board.BoardData","l":"toSAN(List<String>)","u":"toSAN(java.util.List)"},{"p":"chariot.util","c":"Board","l":"toSAN(List<String>)","u":"toSAN(java.util.List)"},{"p":"chariot.util","c":"Board.BoardData","l":"toSAN(String)","u":"toSAN(java.lang.String)"},{"p":"chariot.util","c":"Board","l":"toSAN(String)","u":"toSAN(java.lang.String)"},{"p":"chariot.util","c":"Board.BoardData","l":"toSAN(String...)","u":"toSAN(java.lang.String...)"},{"p":"chariot.util","c":"Board","l":"toSAN(String...)","u":"toSAN(java.lang.String...)"},{"p":"chariot.util","c":"Board.BoardData","l":"toStandardFEN()"},{"p":"chariot.util","c":"Board","l":"toStandardFEN()"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams.Pairing","l":"toString()"},{"p":"chariot.api","c":"GameSessions.Metrics","l":"toString()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.AtDate","l":"toString()"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.InMinutes","l":"toString()"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams.Pairing","l":"toString()"},{"p":"chariot","c":"Client.AuthFail","l":"toString()"},{"p":"chariot","c":"Client.AuthOk","l":"toString()"},{"p":"chariot","c":"Client.CodeAndState","l":"toString()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"toString()"},{"p":"chariot.model","c":"AccountPreferences","l":"toString()"},{"p":"chariot.model","c":"Activity.Game.Opponent","l":"toString()"},{"p":"chariot.model","c":"Activity.Game","l":"toString()"},{"p":"chariot.model","c":"Activity.Interval","l":"toString()"},{"p":"chariot.model","c":"Activity.Practice","l":"toString()"},{"p":"chariot.model","c":"Activity.Result.ResultHelper","l":"toString()"},{"p":"chariot.model","c":"Activity.Result.RP","l":"toString()"},{"p":"chariot.model","c":"Activity.Result","l":"toString()"},{"p":"chariot.model","c":"Activity.Simul.Score","l":"toString()"},{"p":"chariot.model","c":"Activity.Simul","l":"toString()"},{"p":"chariot.model","c":"Activity.Team","l":"toString()"},{"p":"chariot.model","c":"Activity.Topic.Post","l":"toString()"},{"p":"chariot.model","c":"Activity.Topic","l":"toString()"},{"p":"chariot.model","c":"Activity","l":"toString()"},{"p":"chariot.model","c":"Activity.Tournament.Info","l":"toString()"},{"p":"chariot.model","c":"Activity.Tournament","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceEnds","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.CorrespondenceMoves","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.Follows","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.Games","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.Patron","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.Posts","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.Practices","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.Puzzles","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.Simuls","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.Teams","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.Tournaments","l":"toString()"},{"p":"chariot.model","c":"Activity.Type.Unknown","l":"toString()"},{"p":"chariot.model","c":"AI","l":"toString()"},{"p":"chariot.model","c":"Analysis","l":"toString()"},{"p":"chariot.model","c":"Anonymous","l":"toString()"},{"p":"chariot.model","c":"Arena.Clock","l":"toString()"},{"p":"chariot.model","c":"Arena.Duel.P","l":"toString()"},{"p":"chariot.model","c":"Arena.Duel","l":"toString()"},{"p":"chariot.model","c":"Arena.DuelTeams","l":"toString()"},{"p":"chariot.model","c":"Arena.Finished.Podium.NB","l":"toString()"},{"p":"chariot.model","c":"Arena.Finished.Podium","l":"toString()"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"toString()"},{"p":"chariot.model","c":"Arena.Finished","l":"toString()"},{"p":"chariot.model","c":"Arena.GreatPlayer","l":"toString()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured.Player","l":"toString()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"toString()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"toString()"},{"p":"chariot.model","c":"Arena.Perf","l":"toString()"},{"p":"chariot.model","c":"Arena.Sheet","l":"toString()"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"toString()"},{"p":"chariot.model","c":"Arena.Standing","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamBattle","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium.NB","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured.Player","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamStanding.Player","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamStanding.Player.User","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamStanding","l":"toString()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"toString()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"toString()"},{"p":"chariot.model","c":"Arena.Verdict.Condition","l":"toString()"},{"p":"chariot.model","c":"Arena.Verdict","l":"toString()"},{"p":"chariot.model","c":"ArenaResult","l":"toString()"},{"p":"chariot.model","c":"Broadcast.Round","l":"toString()"},{"p":"chariot.model","c":"Broadcast.RoundTour","l":"toString()"},{"p":"chariot.model","c":"Broadcast.Score","l":"toString()"},{"p":"chariot.model","c":"Broadcast","l":"toString()"},{"p":"chariot.model","c":"Broadcast.Tour","l":"toString()"},{"p":"chariot.model","c":"BulkPairing.Clock","l":"toString()"},{"p":"chariot.model","c":"BulkPairing.Game","l":"toString()"},{"p":"chariot.model","c":"BulkPairing","l":"toString()"},{"p":"chariot.model","c":"Challenge.ChallengeWithRules","l":"toString()"},{"p":"chariot.model","c":"Challenge.DeclinedChallenge","l":"toString()"},{"p":"chariot.model","c":"Challenge.RematchChallenge","l":"toString()"},{"p":"chariot.model","c":"ChallengeAI","l":"toString()"},{"p":"chariot.model","c":"ChallengeInfo.ColorOutcome","l":"toString()"},{"p":"chariot.model","c":"ChallengeInfo.ColorRequest","l":"toString()"},{"p":"chariot.model","c":"ChallengeInfo.From","l":"toString()"},{"p":"chariot.model","c":"ChallengeInfo.FromTo","l":"toString()"},{"p":"chariot.model","c":"ChallengeInfo.OpenEnded","l":"toString()"},{"p":"chariot.model","c":"ChallengeInfo.Player","l":"toString()"},{"p":"chariot.model","c":"ChallengeInfo","l":"toString()"},{"p":"chariot.model","c":"ChallengeOpenEnded.Any","l":"toString()"},{"p":"chariot.model","c":"ChallengeOpenEnded.Reserved","l":"toString()"},{"p":"chariot.model","c":"ChallengeOpenEnded","l":"toString()"},{"p":"chariot.model","c":"ChallengeTokens","l":"toString()"},{"p":"chariot.model","c":"ChapterMeta","l":"toString()"},{"p":"chariot.model","c":"ChatMessage","l":"toString()"},{"p":"chariot.model","c":"CloudEvalCacheEntry.PV","l":"toString()"},{"p":"chariot.model","c":"CloudEvalCacheEntry","l":"toString()"},{"p":"chariot.model","c":"Correspondence","l":"toString()"},{"p":"chariot.model","c":"Crosstable.Points","l":"toString()"},{"p":"chariot.model","c":"Crosstable.Results.Result","l":"toString()"},{"p":"chariot.model","c":"Crosstable.Results","l":"toString()"},{"p":"chariot.model","c":"Crosstable","l":"toString()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Host","l":"toString()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"toString()"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Variant","l":"toString()"},{"p":"chariot.model","c":"CurrentSimuls","l":"toString()"},{"p":"chariot.model","c":"Disabled","l":"toString()"},{"p":"chariot.model","c":"Empty","l":"toString()"},{"p":"chariot.model","c":"Entries","l":"toString()"},{"p":"chariot.model","c":"Entry","l":"toString()"},{"p":"chariot.model","c":"Err.Empty","l":"toString()"},{"p":"chariot.model","c":"Err.Info","l":"toString()"},{"p":"chariot.model","c":"Event.ChallengeCanceledEvent","l":"toString()"},{"p":"chariot.model","c":"Event.ChallengeCreatedEvent","l":"toString()"},{"p":"chariot.model","c":"Event.ChallengeDeclinedEvent","l":"toString()"},{"p":"chariot.model","c":"Event.Compat","l":"toString()"},{"p":"chariot.model","c":"Event.DeclineReason","l":"toString()"},{"p":"chariot.model","c":"Event.GameStartEvent","l":"toString()"},{"p":"chariot.model","c":"Event.GameStopEvent","l":"toString()"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"toString()"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"toString()"},{"p":"chariot.model","c":"ExploreResult.EROpening","l":"toString()"},{"p":"chariot.model","c":"ExploreResult.ERPlayer","l":"toString()"},{"p":"chariot.model","c":"ExploreResult.ERStats","l":"toString()"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"toString()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"toString()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"toString()"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"toString()"},{"p":"chariot.model","c":"ExternalEngineAnalysis.Pvs","l":"toString()"},{"p":"chariot.model","c":"ExternalEngineAnalysis","l":"toString()"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"toString()"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"toString()"},{"p":"chariot.model","c":"ExternalEngineRequest","l":"toString()"},{"p":"chariot.model","c":"ExternalEngineWork","l":"toString()"},{"p":"chariot.model","c":"Fail","l":"toString()"},{"p":"chariot.model","c":"Game.AnnotatedEval","l":"toString()"},{"p":"chariot.model","c":"Game.Clock","l":"toString()"},{"p":"chariot.model","c":"Game.Eval","l":"toString()"},{"p":"chariot.model","c":"Game.ForcedMate","l":"toString()"},{"p":"chariot.model","c":"Game.Judgment","l":"toString()"},{"p":"chariot.model","c":"Game.Middle","l":"toString()"},{"p":"chariot.model","c":"Game.MiddleEnd","l":"toString()"},{"p":"chariot.model","c":"Game.Opening","l":"toString()"},{"p":"chariot.model","c":"Game.Players","l":"toString()"},{"p":"chariot.model","c":"Game","l":"toString()"},{"p":"chariot.model","c":"GameImport","l":"toString()"},{"p":"chariot.model","c":"GameInfo.Account","l":"toString()"},{"p":"chariot.model","c":"GameInfo.TimeInfo","l":"toString()"},{"p":"chariot.model","c":"GameInfo","l":"toString()"},{"p":"chariot.model","c":"GameMeta.Clock","l":"toString()"},{"p":"chariot.model","c":"GameMeta.Players.Player","l":"toString()"},{"p":"chariot.model","c":"GameMeta.Players","l":"toString()"},{"p":"chariot.model","c":"GameMeta","l":"toString()"},{"p":"chariot.model","c":"GameStateEvent.Account","l":"toString()"},{"p":"chariot.model","c":"GameStateEvent.Chat","l":"toString()"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"toString()"},{"p":"chariot.model","c":"GameStateEvent.No","l":"toString()"},{"p":"chariot.model","c":"GameStateEvent.OpponentGone","l":"toString()"},{"p":"chariot.model","c":"GameStateEvent.Soon","l":"toString()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"toString()"},{"p":"chariot.model","c":"GameStateEvent.Yes","l":"toString()"},{"p":"chariot.model","c":"GameType","l":"toString()"},{"p":"chariot.model","c":"IdName","l":"toString()"},{"p":"chariot.model","c":"IdNameTitle","l":"toString()"},{"p":"chariot.model","c":"Leaderboard","l":"toString()"},{"p":"chariot.model","c":"LightUser","l":"toString()"},{"p":"chariot.model","c":"LiveStreamer","l":"toString()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"toString()"},{"p":"chariot.model","c":"MoveInfo.Move","l":"toString()"},{"p":"chariot.model","c":"MoveInfo.Players","l":"toString()"},{"p":"chariot.model","c":"MoveInfo.Status","l":"toString()"},{"p":"chariot.model","c":"MyRound.Round","l":"toString()"},{"p":"chariot.model","c":"MyRound.Study","l":"toString()"},{"p":"chariot.model","c":"MyRound","l":"toString()"},{"p":"chariot.model","c":"MyRound.Tour","l":"toString()"},{"p":"chariot.model","c":"None","l":"toString()"},{"p":"chariot.model","c":"Note","l":"toString()"},{"p":"chariot.model","c":"Opening","l":"toString()"},{"p":"chariot.model","c":"PageTeam","l":"toString()"},{"p":"chariot.model","c":"PendingChallenges","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.DateResult","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.Glicko","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.OpId","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.Perf","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.PerfType","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.PlayStreak","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.Result","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.Results","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.ResultStreak","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.Streak","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.StreakPoint","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.WithoutStreak","l":"toString()"},{"p":"chariot.model","c":"PerformanceStatistics.WithStreak","l":"toString()"},{"p":"chariot.model","c":"Pgn.BasicPgn","l":"toString()"},{"p":"chariot.model","c":"Pgn.Comment","l":"toString()"},{"p":"chariot.model","c":"Pgn.Empty","l":"toString()"},{"p":"chariot.model","c":"Pgn.End","l":"toString()"},{"p":"chariot.model","c":"Pgn.NumBegin","l":"toString()"},{"p":"chariot.model","c":"Pgn.NumEnd","l":"toString()"},{"p":"chariot.model","c":"Pgn.Result","l":"toString()"},{"p":"chariot.model","c":"Pgn.Tag.BasicTag","l":"toString()"},{"p":"chariot.model","c":"Pgn.Variation","l":"toString()"},{"p":"chariot.model","c":"Player.Account","l":"toString()"},{"p":"chariot.model","c":"Player.Analysed","l":"toString()"},{"p":"chariot.model","c":"Player.ArenaInfo","l":"toString()"},{"p":"chariot.model","c":"PushResult.Fail","l":"toString()"},{"p":"chariot.model","c":"PushResult.Pass","l":"toString()"},{"p":"chariot.model","c":"Puzzle.GameInfo.Perf","l":"toString()"},{"p":"chariot.model","c":"Puzzle.GameInfo.Player","l":"toString()"},{"p":"chariot.model","c":"Puzzle.GameInfo","l":"toString()"},{"p":"chariot.model","c":"Puzzle.PuzzleInfo","l":"toString()"},{"p":"chariot.model","c":"Puzzle","l":"toString()"},{"p":"chariot.model","c":"PuzzleActivity","l":"toString()"},{"p":"chariot.model","c":"PuzzleDashboard.PuzzleResult","l":"toString()"},{"p":"chariot.model","c":"PuzzleDashboard.Theme","l":"toString()"},{"p":"chariot.model","c":"PuzzleDashboard","l":"toString()"},{"p":"chariot.model","c":"PuzzleRace","l":"toString()"},{"p":"chariot.model","c":"RatingHistory.DateResult","l":"toString()"},{"p":"chariot.model","c":"RatingHistory","l":"toString()"},{"p":"chariot.model","c":"RealTime","l":"toString()"},{"p":"chariot.model","c":"RoundInfo.Game","l":"toString()"},{"p":"chariot.model","c":"RoundInfo.Round","l":"toString()"},{"p":"chariot.model","c":"RoundInfo.Study","l":"toString()"},{"p":"chariot.model","c":"RoundInfo","l":"toString()"},{"p":"chariot.model","c":"RoundInfo.Tour","l":"toString()"},{"p":"chariot.model","c":"SeekAck","l":"toString()"},{"p":"chariot.model","c":"Some","l":"toString()"},{"p":"chariot.model","c":"StatsPerf.StatsPerfGame","l":"toString()"},{"p":"chariot.model","c":"StatsPerf.StatsPerfRun","l":"toString()"},{"p":"chariot.model","c":"StormDashboard.Day","l":"toString()"},{"p":"chariot.model","c":"StormDashboard.High","l":"toString()"},{"p":"chariot.model","c":"StormDashboard","l":"toString()"},{"p":"chariot.model","c":"StudyMeta","l":"toString()"},{"p":"chariot.model","c":"Swiss.Clock","l":"toString()"},{"p":"chariot.model","c":"Swiss.GreatPlayer","l":"toString()"},{"p":"chariot.model","c":"Swiss.NextRound","l":"toString()"},{"p":"chariot.model","c":"Swiss.Quote","l":"toString()"},{"p":"chariot.model","c":"Swiss.Stats","l":"toString()"},{"p":"chariot.model","c":"Swiss","l":"toString()"},{"p":"chariot.model","c":"SwissResult","l":"toString()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"toString()"},{"p":"chariot.model","c":"TablebaseResult","l":"toString()"},{"p":"chariot.model","c":"Team","l":"toString()"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player","l":"toString()"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player.User","l":"toString()"},{"p":"chariot.model","c":"TeamBattleResults.Teams","l":"toString()"},{"p":"chariot.model","c":"TeamBattleResults","l":"toString()"},{"p":"chariot.model","c":"TeamMember","l":"toString()"},{"p":"chariot.model","c":"TeamRequest.Request","l":"toString()"},{"p":"chariot.model","c":"TeamRequest","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.BlogPost","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.Follow","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.ForumPost","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.GameEnd","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.PlanRenew","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.PlanStart","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.SimulCreate","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.SimulJoin","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.StreamStart","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.StudyLike","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.TeamCreate","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.TeamJoin","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.TourJoin","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.UblogPost","l":"toString()"},{"p":"chariot.model","c":"TimelineEntry.UblogPostLike","l":"toString()"},{"p":"chariot.model","c":"TokenBulkResult.TokenInfo","l":"toString()"},{"p":"chariot.model","c":"TokenBulkResult","l":"toString()"},{"p":"chariot.model","c":"TokenResult.AccessToken","l":"toString()"},{"p":"chariot.model","c":"TokenResult.Error","l":"toString()"},{"p":"chariot.model","c":"Tournament.Clock","l":"toString()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"toString()"},{"p":"chariot.model","c":"Tournament.Perf","l":"toString()"},{"p":"chariot.model","c":"Tournament.Pos.None","l":"toString()"},{"p":"chariot.model","c":"Tournament.Pos.Position","l":"toString()"},{"p":"chariot.model","c":"Tournament.Scheduled.Schedule","l":"toString()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"toString()"},{"p":"chariot.model","c":"Tournament.TeamBattle.Teams","l":"toString()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"toString()"},{"p":"chariot.model","c":"TournamentId.ArenaId","l":"toString()"},{"p":"chariot.model","c":"TournamentId.SwissId","l":"toString()"},{"p":"chariot.model","c":"TournamentStatus","l":"toString()"},{"p":"chariot.model","c":"Trophy","l":"toString()"},{"p":"chariot.model","c":"TVChannels","l":"toString()"},{"p":"chariot.model","c":"TVChannels.TVChannel","l":"toString()"},{"p":"chariot.model","c":"TVFeedEvent.Featured","l":"toString()"},{"p":"chariot.model","c":"TVFeedEvent.Fen","l":"toString()"},{"p":"chariot.model","c":"TVFeedEvent.PlayerInfo","l":"toString()"},{"p":"chariot.model","c":"Unlimited","l":"toString()"},{"p":"chariot.model","c":"UserAuthFlags","l":"toString()"},{"p":"chariot.model","c":"UserCount","l":"toString()"},{"p":"chariot.model","c":"UserData.ChannelInfo","l":"toString()"},{"p":"chariot.model","c":"UserData.PlayTime","l":"toString()"},{"p":"chariot.model","c":"UserData.Property","l":"toString()"},{"p":"chariot.model","c":"UserData.Provided","l":"toString()"},{"p":"chariot.model","c":"UserData.Ratings","l":"toString()"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"toString()"},{"p":"chariot.model","c":"UserData.StreamInfo","l":"toString()"},{"p":"chariot.model","c":"UserData","l":"toString()"},{"p":"chariot.model","c":"UserData.Trophies","l":"toString()"},{"p":"chariot.model","c":"UserFlags","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perf","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Antichess","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Atomic","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Blitz","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Bullet","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Chess960","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Classical","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Crazyhouse","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Horde","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.KingOfTheHill","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.RacingKings","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.Rapid","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.ThreeCheck","l":"toString()"},{"p":"chariot.model","c":"UserPerformance.Perfs.UltraBullet","l":"toString()"},{"p":"chariot.model","c":"UserPerformance","l":"toString()"},{"p":"chariot.model","c":"UserProfileData","l":"toString()"},{"p":"chariot.model","c":"UserStats","l":"toString()"},{"p":"chariot.model","c":"UserStatusData","l":"toString()"},{"p":"chariot.model","c":"UserTimes","l":"toString()"},{"p":"chariot.model","c":"UserTopAll","l":"toString()"},{"p":"chariot.model","c":"Variant","l":"toString()"},{"p":"chariot.model","c":"VariantType.Chess960","l":"toString()"},{"p":"chariot.model","c":"VariantType.FromPosition","l":"toString()"},{"p":"chariot.util","c":"Board.BoardData","l":"toString()"},{"p":"chariot.util","c":"Board.Castling","l":"toString()"},{"p":"chariot.util","c":"Board.CastlingRights.Chess960","l":"toString()"},{"p":"chariot.util","c":"Board.CastlingRights.RookFiles","l":"toString()"},{"p":"chariot.util","c":"Board.CastlingRights.Standard","l":"toString()"},{"p":"chariot.util","c":"Board.FEN","l":"toString()"},{"p":"chariot.util","c":"Board.FromTo","l":"toString()"},{"p":"chariot.util","c":"Board.Invalid","l":"toString()"},{"p":"chariot.util","c":"Board.Promotion","l":"toString()"},{"p":"chariot.util","c":"Board.RowCol","l":"toString()"},{"p":"chariot.util","c":"Board.StandardPiece","l":"toString()"},{"p":"chariot.util","c":"ConsoleRenderer","l":"toString()"},{"p":"chariot.util","c":"Position","l":"toString()"},{"p":"chariot.util","c":"Replay.Ply","l":"toString()"},{"p":"chariot.util","c":"Board","l":"toString(Consumer<ConsoleRenderer.Config>)","u":"toString(java.util.function.Consumer)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"tosViolation"},{"p":"chariot.model","c":"User","l":"tosViolation()"},{"p":"chariot.model","c":"UserFlags","l":"tosViolation()"},{"p":"chariot.model","c":"Crosstable.Points","l":"total()"},{"p":"chariot.model","c":"Crosstable","l":"total()"},{"p":"chariot.model","c":"UserData.PlayTime","l":"total()"},{"p":"chariot.model","c":"Game.Clock","l":"totalTime()"},{"p":"chariot.model","c":"GameMeta.Clock","l":"totalTime()"},{"p":"chariot.model","c":"UserData","l":"toTeamMember()"},{"p":"chariot.model","c":"Broadcast.Round","l":"tour()"},{"p":"chariot.model","c":"Broadcast","l":"tour()"},{"p":"chariot.model","c":"MyRound","l":"tour()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"tour()"},{"p":"chariot.model","c":"RoundInfo","l":"tour()"},{"p":"chariot.model","c":"RoundInfo.Tour","l":"Tour(String, String, String, String, ZonedDateTime, boolean)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime,boolean)"},{"p":"chariot.model","c":"MyRound.Tour","l":"Tour(String, String, String, String, ZonedDateTime, int)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime,int)"},{"p":"chariot.model","c":"Broadcast.Tour","l":"Tour(String, String, String, String, ZonedDateTime, int, String, URI, boolean)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime,int,java.lang.String,java.net.URI,boolean)"},{"p":"chariot.model","c":"TimelineEntry.TourJoin","l":"tourId()"},{"p":"chariot.model","c":"TimelineEntry.TourJoin","l":"TourJoin(LightUser, String, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.lang.String,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"TimelineEntry.TourJoin","l":"tourName()"},{"p":"chariot","c":"Client.Scope","l":"tournament_write"},{"p":"chariot.model","c":"Activity.Tournament","l":"tournament()"},{"p":"chariot.model","c":"Game","l":"tournament()"},{"p":"chariot.model","c":"GameInfo","l":"tournament()"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"tournament()"},{"p":"chariot.model","c":"Activity.Tournament","l":"Tournament(Activity.Tournament.Info, Integer, Integer, Integer, Integer)","u":"%3Cinit%3E(chariot.model.Activity.Tournament.Info,java.lang.Integer,java.lang.Integer,java.lang.Integer,java.lang.Integer)"},{"p":"chariot","c":"Client","l":"tournaments()"},{"p":"chariot","c":"ClientAuth","l":"tournaments()"},{"p":"chariot.model","c":"Activity.Type.Tournaments","l":"Tournaments(Integer, List<Activity.Tournament>)","u":"%3Cinit%3E(java.lang.Integer,java.util.List)"},{"p":"chariot.model","c":"TournamentStatus","l":"TournamentStatus(List<Tournament>, List<Tournament>, List<Tournament>)","u":"%3Cinit%3E(java.util.List,java.util.List,java.util.List)"},{"p":"chariot.model","c":"UserData","l":"toUser()"},{"p":"chariot.model","c":"UserData","l":"toUser(boolean)"},{"p":"chariot.model","c":"UserData","l":"toUserAuth()"},{"p":"chariot.model","c":"UserData","l":"toUserAuth(boolean)"},{"p":"chariot.model","c":"UserData","l":"toUserProfileData(boolean)"},{"p":"chariot.model","c":"UserData","l":"toUserStatus()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"transp()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"trophies"},{"p":"chariot.model","c":"User","l":"trophies()"},{"p":"chariot.model","c":"UserData.Trophies","l":"trophies()"},{"p":"chariot.model","c":"UserProfileData","l":"trophies()"},{"p":"chariot.model","c":"UserData.Trophies","l":"Trophies(List<Trophy>)","u":"%3Cinit%3E(java.util.List)"},{"p":"chariot.model","c":"Trophy","l":"Trophy(String, String, long, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,long,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"turns()"},{"p":"chariot.model","c":"UserData.PlayTime","l":"tv()"},{"p":"chariot.model","c":"TVChannels.TVChannel","l":"TVChannel(UserCommon, Integer, String, Enums.Color)","u":"%3Cinit%3E(chariot.model.UserCommon,java.lang.Integer,java.lang.String,chariot.model.Enums.Color)"},{"p":"chariot.api","c":"Games","l":"tvChannels()"},{"p":"chariot.api","c":"GamesAsync","l":"tvChannels()"},{"p":"chariot.model","c":"TVChannels","l":"TVChannels(TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel, TVChannels.TVChannel)","u":"%3Cinit%3E(chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel,chariot.model.TVChannels.TVChannel)"},{"p":"chariot.api","c":"Games","l":"tvFeed()"},{"p":"chariot.api","c":"Games","l":"tvFeed(Enums.Channel)","u":"tvFeed(chariot.model.Enums.Channel)"},{"p":"chariot.api","c":"Games","l":"tvFeed(Function<Enums.Channel.Provider, Enums.Channel>)","u":"tvFeed(java.util.function.Function)"},{"p":"chariot.api","c":"Games","l":"tvFeedResilient()"},{"p":"chariot.api","c":"Games","l":"tvFeedResilient(Enums.Channel)","u":"tvFeedResilient(chariot.model.Enums.Channel)"},{"p":"chariot.model","c":"UserData.StreamerInfoPropertyEnum","l":"twitch"},{"p":"chariot.model","c":"StreamerInfo","l":"twitch()"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"twitch()"},{"p":"chariot.model","c":"User","l":"twitchStream()"},{"p":"chariot.model","c":"UserProfileData","l":"twitchStream()"},{"p":"chariot.model","c":"Enums.Level.Provider","l":"two()"},{"p":"chariot.model","c":"Event","l":"type()"},{"p":"chariot.model","c":"GameStateEvent","l":"type()"},{"p":"chariot.model","c":"Trophy","l":"type()"},{"p":"chariot.util","c":"Board.Piece","l":"type()"},{"p":"chariot.util","c":"Board.StandardPiece","l":"type()"},{"p":"chariot.model","c":"TimelineEntry.UblogPost","l":"UblogPost(LightUser, String, String, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.lang.String,java.lang.String,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"TimelineEntry.UblogPostLike","l":"UblogPostLike(LightUser, String, String, ZonedDateTime)","u":"%3Cinit%3E(chariot.model.LightUser,java.lang.String,java.lang.String,java.time.ZonedDateTime)"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"uci()"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"uci()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"uci()"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"uci()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"uci()"},{"p":"chariot.util","c":"Board.Move","l":"uci()"},{"p":"chariot.util","c":"Replay.Ply","l":"uci()"},{"p":"chariot.util","c":"Board.Move","l":"uci(Board.Coordinate, Board.Coordinate)","u":"uci(chariot.util.Board.Coordinate,chariot.util.Board.Coordinate)"},{"p":"chariot.model","c":"Enums.Channel","l":"ultraBullet"},{"p":"chariot.model","c":"Enums.PerfType","l":"ultraBullet"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"ultraBullet"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"ultraBullet"},{"p":"chariot.model","c":"Enums.Speed","l":"ultraBullet"},{"p":"chariot.model","c":"StatsPerfType","l":"ultraBullet"},{"p":"chariot.model","c":"Enums.Channel.Provider","l":"ultraBullet()"},{"p":"chariot.model","c":"Enums.PerfType.Provider","l":"ultraBullet()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr.Provider","l":"ultraBullet()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos.Provider","l":"ultraBullet()"},{"p":"chariot.model","c":"Enums.Speed.Provider","l":"ultraBullet()"},{"p":"chariot.model","c":"TVChannels","l":"ultraBullet()"},{"p":"chariot.model","c":"UserPerformance.Perfs.UltraBullet","l":"ultraBullet()"},{"p":"chariot.model","c":"UserTopAll","l":"ultraBullet()"},{"p":"chariot.model","c":"UserPerformance.Perfs.UltraBullet","l":"UltraBullet(UserPerformance.Perf)","u":"%3Cinit%3E(chariot.model.UserPerformance.Perf)"},{"p":"chariot.api","c":"UsersAuth","l":"unfollowUser(String)","u":"unfollowUser(java.lang.String)"},{"p":"chariot.util","c":"Board.Piece","l":"unicode()"},{"p":"chariot.model","c":"Activity.Type.Unknown","l":"Unknown(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Enums.Status","l":"unknownFinish"},{"p":"chariot.model","c":"Unlimited","l":"Unlimited()","u":"%3Cinit%3E()"},{"p":"chariot.util","c":"Position","l":"unmakeMove()"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"unmapped"},{"p":"chariot.model","c":"UserData.StreamerInfoPropertyEnum","l":"unmapped"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"unmapped"},{"p":"chariot.api","c":"Games.SearchFilter","l":"until(Function<ZonedDateTime, ZonedDateTime>)","u":"until(java.util.function.Function)"},{"p":"chariot.api","c":"OpeningExplorer.MastersBuilder","l":"until(int)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"until(long)"},{"p":"chariot.api","c":"OpeningExplorer.CommonLichessOpeningExplorer","l":"until(String)","u":"until(java.lang.String)"},{"p":"chariot.api","c":"OpeningExplorer.HistoryBuilder","l":"until(String)","u":"until(java.lang.String)"},{"p":"chariot.api","c":"Games.SearchFilter","l":"until(ZonedDateTime)","u":"until(java.time.ZonedDateTime)"},{"p":"chariot.model","c":"Arena.Upcoming","l":"Upcoming(String, String, String, String, String, Integer, Arena.Perf, Arena.Clock, Enums.VariantName, boolean, boolean, Arena.Verdict, Integer, List<Arena.Duel>, Arena.Standing, Integer, Arena.GreatPlayer, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.Integer,chariot.model.Arena.Perf,chariot.model.Arena.Clock,chariot.model.Enums.VariantName,boolean,boolean,chariot.model.Arena.Verdict,java.lang.Integer,java.util.List,chariot.model.Arena.Standing,java.lang.Integer,chariot.model.Arena.GreatPlayer,java.lang.String)"},{"p":"chariot.api","c":"BroadcastsAuth","l":"update(String, Consumer<BroadcastsAuth.BroadcastBuilder>)","u":"update(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"ExternalEngineAuth","l":"update(String, ExternalEngineRegistration)","u":"update(java.lang.String,chariot.model.ExternalEngineRegistration)"},{"p":"chariot.api","c":"TournamentsAuth","l":"updateArena(String, Consumer<TournamentsAuth.ArenaBuilder>)","u":"updateArena(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.model","c":"StudyMeta","l":"updatedAt()"},{"p":"chariot.api","c":"BroadcastsAuth","l":"updateRound(String, Consumer<BroadcastsAuth.RoundBuilder>)","u":"updateRound(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"TournamentsAuth","l":"updateSwiss(String, Consumer<TournamentsAuth.SwissBuilder>)","u":"updateSwiss(java.lang.String,java.util.function.Consumer)"},{"p":"chariot.api","c":"TournamentsAuth","l":"updateTeamBattle(String, int, Set<String>)","u":"updateTeamBattle(java.lang.String,int,java.util.Set)"},{"p":"chariot.api","c":"TournamentsAuth","l":"updateTeamBattle(String, int, String...)","u":"updateTeamBattle(java.lang.String,int,java.lang.String...)"},{"p":"chariot.api","c":"BotAuth","l":"upgradeToBotAccount()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"url"},{"p":"chariot.model","c":"Activity.Game","l":"url()"},{"p":"chariot.model","c":"Activity.Practice","l":"url()"},{"p":"chariot.model","c":"Activity.Team","l":"url()"},{"p":"chariot.model","c":"Activity.Topic.Post","l":"url()"},{"p":"chariot.model","c":"Arena.GreatPlayer","l":"url()"},{"p":"chariot.model","c":"Broadcast.Round","l":"url()"},{"p":"chariot.model","c":"Broadcast.Tour","l":"url()"},{"p":"chariot.model","c":"ChallengeInfo","l":"url()"},{"p":"chariot.model","c":"GameImport","l":"url()"},{"p":"chariot.model","c":"MyRound.Round","l":"url()"},{"p":"chariot.model","c":"PuzzleRace","l":"url()"},{"p":"chariot.model","c":"RoundInfo.Game","l":"url()"},{"p":"chariot.model","c":"RoundInfo.Round","l":"url()"},{"p":"chariot.model","c":"Swiss.GreatPlayer","l":"url()"},{"p":"chariot.model","c":"Trophy","l":"url()"},{"p":"chariot.model","c":"User","l":"url()"},{"p":"chariot.model","c":"UserProfileData","l":"url()"},{"p":"chariot.model","c":"ChallengeOpenEnded","l":"urlBlack()"},{"p":"chariot.model","c":"ChallengeOpenEnded","l":"urlWhite()"},{"p":"chariot.model","c":"Activity.Game.Opponent","l":"user()"},{"p":"chariot.model","c":"Arena.TeamStanding.Player","l":"user()"},{"p":"chariot.model","c":"ChallengeInfo.Player","l":"user()"},{"p":"chariot.model","c":"ChatMessage","l":"user()"},{"p":"chariot.model","c":"Crosstable.Results.Result","l":"user()"},{"p":"chariot.model","c":"GameStateEvent.Account","l":"user()"},{"p":"chariot.model","c":"LiveStreamer","l":"user()"},{"p":"chariot.model","c":"Player.Account","l":"user()"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player","l":"user()"},{"p":"chariot.model","c":"TeamMember","l":"user()"},{"p":"chariot.model","c":"TeamRequest","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.Follow","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.ForumPost","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.PlanRenew","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.PlanStart","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.SimulCreate","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.SimulJoin","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.StreamStart","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.StudyLike","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.TeamCreate","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.TeamJoin","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.TourJoin","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.UblogPost","l":"user()"},{"p":"chariot.model","c":"TimelineEntry.UblogPostLike","l":"user()"},{"p":"chariot.model","c":"TVChannels.TVChannel","l":"user()"},{"p":"chariot.model","c":"TVFeedEvent.PlayerInfo","l":"user()"},{"p":"chariot.model","c":"Arena.TeamStanding.Player.User","l":"User(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"TeamBattleResults.Teams.Player.User","l":"User(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"userAgent(String)","u":"userAgent(java.lang.String)"},{"p":"chariot.api","c":"Builders.ConfigBuilder","l":"userAgent(String, boolean)","u":"userAgent(java.lang.String,boolean)"},{"p":"chariot.model","c":"UserAuthFlags","l":"UserAuthFlags(boolean, boolean, boolean, boolean)","u":"%3Cinit%3E(boolean,boolean,boolean,boolean)"},{"p":"chariot.model","c":"UserCount","l":"UserCount(int, int, int, int, int, int, int, int, int, int, int, int, int)","u":"%3Cinit%3E(int,int,int,int,int,int,int,int,int,int,int,int,int)"},{"p":"chariot.model","c":"UserData","l":"UserData(Map<UserData.UserPropertyEnum, ?>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"chariot.model","c":"UserFlags","l":"UserFlags(boolean, boolean, boolean, boolean)","u":"%3Cinit%3E(boolean,boolean,boolean,boolean)"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"userId()"},{"p":"chariot.model","c":"GameMeta.Players.Player","l":"userId()"},{"p":"chariot.model","c":"Puzzle.GameInfo.Player","l":"userId()"},{"p":"chariot.model","c":"TeamRequest.Request","l":"userId()"},{"p":"chariot.model","c":"TokenBulkResult.TokenInfo","l":"userId()"},{"p":"chariot.model","c":"ChallengeOpenEnded.Reserved","l":"userIdBlack()"},{"p":"chariot.model","c":"ChallengeOpenEnded.Reserved","l":"userIdWhite()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"username"},{"p":"chariot.model","c":"ArenaResult","l":"username()"},{"p":"chariot.model","c":"GameStateEvent.Chat","l":"username()"},{"p":"chariot.model","c":"SwissResult","l":"username()"},{"p":"chariot.model","c":"UserPerformance","l":"username()"},{"p":"chariot.model","c":"UserPerformance","l":"UserPerformance(String, String, String, boolean, boolean, UserPerformance.Perfs)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,boolean,boolean,chariot.model.UserPerformance.Perfs)"},{"p":"chariot.model","c":"UserProfileData","l":"UserProfileData(UserCommon, ProvidedProfile, UserStats, UserTimes, UserFlags, Opt<URI>, Opt<UserAuthFlags>, Opt<List<Trophy>>, Opt<String>, Opt<String>, URI)","u":"%3Cinit%3E(chariot.model.UserCommon,chariot.model.ProvidedProfile,chariot.model.UserStats,chariot.model.UserTimes,chariot.model.UserFlags,chariot.model.Opt,chariot.model.Opt,chariot.model.Opt,chariot.model.Opt,chariot.model.Opt,java.net.URI)"},{"p":"chariot","c":"Client","l":"users()"},{"p":"chariot.model","c":"Crosstable.Results","l":"users()"},{"p":"chariot.model","c":"Leaderboard","l":"users()"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"users(String, String)","u":"users(java.lang.String,java.lang.String)"},{"p":"chariot","c":"Client","l":"usersAsync()"},{"p":"chariot","c":"ClientAuth","l":"usersAuth()"},{"p":"chariot.api","c":"Teams","l":"usersByTeamId(String)","u":"usersByTeamId(java.lang.String)"},{"p":"chariot.api","c":"TeamsAsync","l":"usersByTeamId(String)","u":"usersByTeamId(java.lang.String)"},{"p":"chariot.model","c":"UserStats","l":"UserStats(Map<StatsPerfType, StatsPerf>, UserCount)","u":"%3Cinit%3E(java.util.Map,chariot.model.UserCount)"},{"p":"chariot.model","c":"UserStatusData","l":"UserStatusData(UserCommon, boolean, boolean, Opt<String>)","u":"%3Cinit%3E(chariot.model.UserCommon,boolean,boolean,chariot.model.Opt)"},{"p":"chariot.model","c":"UserTimes","l":"UserTimes(ZonedDateTime, ZonedDateTime, Duration, Duration)","u":"%3Cinit%3E(java.time.ZonedDateTime,java.time.ZonedDateTime,java.time.Duration,java.time.Duration)"},{"p":"chariot.model","c":"UserTopAll","l":"UserTopAll(List<UserPerformance>, List<UserPerformance>, List<UserPerformance>, List<UserPerformance>, List<UserPerformance>, List<UserPerformance>, List<UserPerformance>, List<UserPerformance>, List<UserPerformance>, List<UserPerformance>, List<UserPerformance>, List<UserPerformance>, List<UserPerformance>)","u":"%3Cinit%3E(java.util.List,java.util.List,java.util.List,java.util.List,java.util.List,java.util.List,java.util.List,java.util.List,java.util.List,java.util.List,java.util.List,java.util.List,java.util.List)"},{"p":"chariot.model","c":"PerformanceStatistics.WithoutStreak","l":"v()"},{"p":"chariot.model","c":"PerformanceStatistics.WithStreak","l":"v()"},{"p":"chariot.util","c":"Board.CastlingRights","l":"validCastlingMoves(Board.Coordinate, Board.CastlingRights.AttackedCoordinatePredicate, Map<Board.Coordinate, Board.Piece>)","u":"validCastlingMoves(chariot.util.Board.Coordinate,chariot.util.Board.CastlingRights.AttackedCoordinatePredicate,java.util.Map)"},{"p":"chariot.util","c":"Board.BoardData","l":"validMoves()"},{"p":"chariot.util","c":"Board","l":"validMoves()"},{"p":"chariot.util","c":"Board","l":"validMovesByPiece(Board.Coordinate, Map<Board.Coordinate, Board.Piece>, Board.FEN)","u":"validMovesByPiece(chariot.util.Board.Coordinate,java.util.Map,chariot.util.Board.FEN)"},{"p":"chariot.model","c":"PerformanceStatistics.DateResult","l":"value()"},{"p":"chariot.model","c":"Pgn.Tag.BasicTag","l":"value()"},{"p":"chariot.model","c":"Pgn.Tag","l":"value()"},{"p":"chariot.model","c":"Some","l":"value()"},{"p":"chariot.model","c":"UserData.Property","l":"value()"},{"p":"chariot.model","c":"Enums.Status","l":"valueOf(int)"},{"p":"chariot.model","c":"Enums.TournamentState","l":"valueOf(int)"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder.Mode","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot","c":"Client.Scope","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.Channel","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.ChatFor","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.Color","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.ColorPref","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.Direction","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.GameVariant","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.Level","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.Outcome","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.PerfType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.Speed","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.Status","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.TournamentState","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Enums.VariantName","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Event.Type","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"Game.Severity","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"GameStateEvent.Type","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"StatsPerfType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"UserData.StreamerInfoPropertyEnum","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.model","c":"VariantType.Variant","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.util","c":"Board.GameState","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.util","c":"Board.PieceType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.util","c":"Board.Side","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"chariot.api","c":"OpeningExplorer.PlayerBuilder.Mode","l":"values()"},{"p":"chariot","c":"Client.Scope","l":"values()"},{"p":"chariot.model","c":"Enums.Channel","l":"values()"},{"p":"chariot.model","c":"Enums.ChatFor","l":"values()"},{"p":"chariot.model","c":"Enums.Color","l":"values()"},{"p":"chariot.model","c":"Enums.ColorPref","l":"values()"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"values()"},{"p":"chariot.model","c":"Enums.Direction","l":"values()"},{"p":"chariot.model","c":"Enums.GameVariant","l":"values()"},{"p":"chariot.model","c":"Enums.Level","l":"values()"},{"p":"chariot.model","c":"Enums.Outcome","l":"values()"},{"p":"chariot.model","c":"Enums.PerfType","l":"values()"},{"p":"chariot.model","c":"Enums.PerfTypeNoCorr","l":"values()"},{"p":"chariot.model","c":"Enums.PerfTypeWithFromPos","l":"values()"},{"p":"chariot.model","c":"Enums.RatingGroup","l":"values()"},{"p":"chariot.model","c":"Enums.Speed","l":"values()"},{"p":"chariot.model","c":"Enums.Status","l":"values()"},{"p":"chariot.model","c":"Enums.TournamentState","l":"values()"},{"p":"chariot.model","c":"Enums.VariantName","l":"values()"},{"p":"chariot.model","c":"Event.Type","l":"values()"},{"p":"chariot.model","c":"Game.Severity","l":"values()"},{"p":"chariot.model","c":"GameStateEvent.Type","l":"values()"},{"p":"chariot.model","c":"StatsPerfType","l":"values()"},{"p":"chariot.model","c":"UserData.ProfilePropertyEnum","l":"values()"},{"p":"chariot.model","c":"UserData.StreamerInfoPropertyEnum","l":"values()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"values()"},{"p":"chariot.model","c":"VariantType.Variant","l":"values()"},{"p":"chariot.util","c":"Board.GameState","l":"values()"},{"p":"chariot.util","c":"Board.PieceType","l":"values()"},{"p":"chariot.util","c":"Board.Side","l":"values()"},{"p":"chariot.model","c":"Enums.DeclineReason","l":"variant"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"variant_loss()"},{"p":"chariot.model","c":"TablebaseResult","l":"variant_loss()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"variant_win()"},{"p":"chariot.model","c":"TablebaseResult","l":"variant_win()"},{"p":"chariot.model","c":"Activity.Game","l":"variant()"},{"p":"chariot.model","c":"Arena.Finished","l":"variant()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"variant()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"variant()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"variant()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"variant()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"variant()"},{"p":"chariot.model","c":"Arena","l":"variant()"},{"p":"chariot.model","c":"BulkPairing","l":"variant()"},{"p":"chariot.model","c":"Enums.DeclineReason.Provider","l":"variant()"},{"p":"chariot.model","c":"ExternalEngineWork","l":"variant()"},{"p":"chariot.model","c":"Game","l":"variant()"},{"p":"chariot.model","c":"GameInfo","l":"variant()"},{"p":"chariot.model","c":"GameMeta","l":"variant()"},{"p":"chariot.model","c":"GameType","l":"variant()"},{"p":"chariot.model","c":"MoveInfo.GameSummary","l":"variant()"},{"p":"chariot.model","c":"Swiss","l":"variant()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"variant()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"variant()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"variant()"},{"p":"chariot.model","c":"Tournament","l":"variant()"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"variant(Enums.GameVariant)","u":"variant(chariot.model.Enums.GameVariant)"},{"p":"chariot.api","c":"StudiesAuth.ImportParams","l":"variant(Enums.GameVariant)","u":"variant(chariot.model.Enums.GameVariant)"},{"p":"chariot.api","c":"Analysis.Params","l":"variant(Enums.VariantName)","u":"variant(chariot.model.Enums.VariantName)"},{"p":"chariot.api","c":"BoardAuth.SeekParams","l":"variant(Enums.VariantName)","u":"variant(chariot.model.Enums.VariantName)"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"variant(Enums.VariantName)","u":"variant(chariot.model.Enums.VariantName)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"variant(Enums.VariantName)","u":"variant(chariot.model.Enums.VariantName)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeAIParams","l":"variant(Enums.VariantName)","u":"variant(chariot.model.Enums.VariantName)"},{"p":"chariot.api","c":"OpeningExplorer.CommonLichessOpeningExplorer","l":"variant(Enums.VariantName)","u":"variant(chariot.model.Enums.VariantName)"},{"p":"chariot.api","c":"OpeningExplorer.HistoryBuilder","l":"variant(Enums.VariantName)","u":"variant(chariot.model.Enums.VariantName)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams","l":"variant(Enums.VariantName)","u":"variant(chariot.model.Enums.VariantName)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"variant(Enums.VariantName)","u":"variant(chariot.model.Enums.VariantName)"},{"p":"chariot.model","c":"Variant","l":"Variant(Enums.VariantName, String, String)","u":"%3Cinit%3E(chariot.model.Enums.VariantName,java.lang.String,java.lang.String)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeParams","l":"variant(Function<Enums.GameVariant.Provider, Enums.GameVariant>)","u":"variant(java.util.function.Function)"},{"p":"chariot.api","c":"StudiesAuth.ImportParams","l":"variant(Function<Enums.GameVariant.Provider, Enums.GameVariant>)","u":"variant(java.util.function.Function)"},{"p":"chariot.api","c":"Analysis.Params","l":"variant(Function<Enums.VariantName.Provider, Enums.VariantName>)","u":"variant(java.util.function.Function)"},{"p":"chariot.api","c":"BoardAuth.SeekParams","l":"variant(Function<Enums.VariantName.Provider, Enums.VariantName>)","u":"variant(java.util.function.Function)"},{"p":"chariot.api","c":"Challenges.OpenEndedParams","l":"variant(Function<Enums.VariantName.Provider, Enums.VariantName>)","u":"variant(java.util.function.Function)"},{"p":"chariot.api","c":"ChallengesAuth.BulkParams","l":"variant(Function<Enums.VariantName.Provider, Enums.VariantName>)","u":"variant(java.util.function.Function)"},{"p":"chariot.api","c":"ChallengesAuthCommon.ChallengeAIParams","l":"variant(Function<Enums.VariantName.Provider, Enums.VariantName>)","u":"variant(java.util.function.Function)"},{"p":"chariot.api","c":"OpeningExplorer.CommonLichessOpeningExplorer","l":"variant(Function<Enums.VariantName.Provider, Enums.VariantName>)","u":"variant(java.util.function.Function)"},{"p":"chariot.api","c":"OpeningExplorer.HistoryBuilder","l":"variant(Function<Enums.VariantName.Provider, Enums.VariantName>)","u":"variant(java.util.function.Function)"},{"p":"chariot.api","c":"TournamentsAuth.SwissParams","l":"variant(Function<Enums.VariantName.Provider, Enums.VariantName>)","u":"variant(java.util.function.Function)"},{"p":"chariot.model","c":"CurrentSimuls.Simul.Variant","l":"Variant(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"Enums.Status","l":"variantEnd"},{"p":"chariot.model","c":"Activity.Simul","l":"variants()"},{"p":"chariot.model","c":"CurrentSimuls.Simul","l":"variants()"},{"p":"chariot.model","c":"ExternalEngineInfo","l":"variants()"},{"p":"chariot.model","c":"ExternalEngineRegistration","l":"variants()"},{"p":"chariot.model","c":"Game.AnnotatedEval","l":"variation()"},{"p":"chariot.model","c":"Pgn.Variation","l":"variation()"},{"p":"chariot.model","c":"Pgn.Variation","l":"Variation(List<Pgn.Move>)","u":"%3Cinit%3E(java.util.List)"},{"p":"chariot.api","c":"Studies.Params","l":"variations()"},{"p":"chariot.api","c":"Studies.Params","l":"variations(boolean)"},{"p":"chariot.model","c":"Arena.Verdict.Condition","l":"verdict()"},{"p":"chariot.model","c":"Arena.Verdict","l":"Verdict(List<Arena.Verdict.Condition>, boolean)","u":"%3Cinit%3E(java.util.List,boolean)"},{"p":"chariot.model","c":"Arena.Finished","l":"verdicts()"},{"p":"chariot.model","c":"Arena.Ongoing","l":"verdicts()"},{"p":"chariot.model","c":"Arena.TeamFinished","l":"verdicts()"},{"p":"chariot.model","c":"Arena.TeamOngoing","l":"verdicts()"},{"p":"chariot.model","c":"Arena.TeamUpcoming","l":"verdicts()"},{"p":"chariot.model","c":"Arena.Upcoming","l":"verdicts()"},{"p":"chariot.model","c":"Arena","l":"verdicts()"},{"p":"chariot.model","c":"UserData.UserPropertyEnum","l":"verified"},{"p":"chariot.model","c":"User","l":"verified()"},{"p":"chariot.model","c":"UserFlags","l":"verified()"},{"p":"chariot.api","c":"Games.SearchFilter","l":"vs(String)","u":"vs(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth.ArenaParams.StartTime.InMinutes","l":"waitMinutes()"},{"p":"chariot.api","c":"Builders.LogLevel","l":"warning()"},{"p":"chariot.model","c":"MoveInfo.Move","l":"wc()"},{"p":"chariot","c":"Client.Scope","l":"web_login"},{"p":"chariot","c":"Client.Scope","l":"web_mod"},{"p":"chariot.model","c":"StormDashboard.High","l":"week()"},{"p":"chariot.model","c":"Enums.Color","l":"white"},{"p":"chariot.model","c":"Enums.ColorPref","l":"white"},{"p":"chariot.util","c":"Board.Side","l":"WHITE"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"white()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"white()"},{"p":"chariot.model","c":"BulkPairing.Game","l":"white()"},{"p":"chariot.model","c":"Enums.Color.Provider","l":"white()"},{"p":"chariot.model","c":"Enums.ColorPref.Provider","l":"white()"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"white()"},{"p":"chariot.model","c":"ExploreResult.DBMove","l":"white()"},{"p":"chariot.model","c":"ExploreResult.ERStats","l":"white()"},{"p":"chariot.model","c":"ExploreResult.OpeningDB","l":"white()"},{"p":"chariot.model","c":"ExploreResult.OpeningPlayer","l":"white()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"white()"},{"p":"chariot.model","c":"ExploreResult.PlayerMove","l":"white()"},{"p":"chariot.model","c":"Game.Players","l":"white()"},{"p":"chariot.model","c":"GameMeta.Players","l":"white()"},{"p":"chariot.model","c":"GameStateEvent.Full","l":"white()"},{"p":"chariot.model","c":"MoveInfo.Players","l":"white()"},{"p":"chariot.model","c":"TVFeedEvent.Fen","l":"whiteTime()"},{"p":"chariot.util","c":"Board","l":"whiteToMove()"},{"p":"chariot.model","c":"Arena.Finished.Stats","l":"whiteWins()"},{"p":"chariot.model","c":"Arena.TeamFinished.Stats","l":"whiteWins()"},{"p":"chariot.model","c":"Swiss.Stats","l":"whiteWins()"},{"p":"chariot.util","c":"Board.FEN","l":"whoseTurn()"},{"p":"chariot.model","c":"Tournament.Pos.Position","l":"wikiPath()"},{"p":"chariot.model","c":"Enums.Outcome","l":"win"},{"p":"chariot.model","c":"Activity.Result.ResultHelper","l":"win()"},{"p":"chariot.model","c":"Activity.Result","l":"win()"},{"p":"chariot.model","c":"Activity.Simul.Score","l":"win()"},{"p":"chariot.model","c":"Arena.Finished.Podium.NB","l":"win()"},{"p":"chariot.model","c":"Arena.TeamFinished.Podium.NB","l":"win()"},{"p":"chariot.model","c":"PerformanceStatistics.Count","l":"win()"},{"p":"chariot.model","c":"PerformanceStatistics.ResultStreak","l":"win()"},{"p":"chariot.model","c":"PuzzleActivity","l":"win()"},{"p":"chariot.model","c":"TimelineEntry.GameEnd","l":"win()"},{"p":"chariot.model","c":"UserCount","l":"win()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"winc()"},{"p":"chariot.model","c":"UserCount","l":"winH()"},{"p":"chariot.model","c":"Arena.Ongoing.Featured","l":"winner()"},{"p":"chariot.model","c":"Arena.TeamOngoing.Featured","l":"winner()"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"winner()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"winner()"},{"p":"chariot.model","c":"Game","l":"winner()"},{"p":"chariot.model","c":"GameStateEvent.State","l":"winner()"},{"p":"chariot.model","c":"Tournament.LocalArena","l":"winner()"},{"p":"chariot.model","c":"Tournament.Scheduled","l":"winner()"},{"p":"chariot.model","c":"Tournament.TeamBattle","l":"winner()"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"withAddedProperty(UserData.Property<UserData.StreamerInfoPropertyEnum, ?>)","u":"withAddedProperty(chariot.model.UserData.Property)"},{"p":"chariot.model","c":"UserData","l":"withAddedProperty(UserData.Property<UserData.UserPropertyEnum, ?>)","u":"withAddedProperty(chariot.model.UserData.Property)"},{"p":"chariot.api","c":"Games.GamesParameters","l":"withCurrentGames()"},{"p":"chariot.api","c":"Games.GamesParameters","l":"withCurrentGames(boolean)"},{"p":"chariot.model","c":"Arena.Standing.Player","l":"withdraw()"},{"p":"chariot.api","c":"TournamentsAuth","l":"withdrawArena(String)","u":"withdrawArena(java.lang.String)"},{"p":"chariot.api","c":"TournamentsAuth","l":"withdrawSwiss(String)","u":"withdrawSwiss(java.lang.String)"},{"p":"chariot.api","c":"Users.UserStatusParams","l":"withGameIds()"},{"p":"chariot.api","c":"Users.UserStatusParams","l":"withGameIds(boolean)"},{"p":"chariot.util","c":"Board.CastlingRights","l":"withoutKingSide(Board.Side)","u":"withoutKingSide(chariot.util.Board.Side)"},{"p":"chariot.util","c":"Board.CastlingRights","l":"withoutQueenSide(Board.Side)","u":"withoutQueenSide(chariot.util.Board.Side)"},{"p":"chariot.model","c":"PerformanceStatistics.WithoutStreak","l":"WithoutStreak(Integer)","u":"%3Cinit%3E(java.lang.Integer)"},{"p":"chariot","c":"Client","l":"withPkce(Consumer<URI>, Consumer<Client.PkceConfig>)","u":"withPkce(java.util.function.Consumer,java.util.function.Consumer)"},{"p":"chariot.model","c":"UserData","l":"withProperties(Map<UserData.UserPropertyEnum, ?>)","u":"withProperties(java.util.Map)"},{"p":"chariot.model","c":"PerformanceStatistics.WithStreak","l":"WithStreak(Integer, PerformanceStatistics.StreakPoint, PerformanceStatistics.StreakPoint)","u":"%3Cinit%3E(java.lang.Integer,chariot.model.PerformanceStatistics.StreakPoint,chariot.model.PerformanceStatistics.StreakPoint)"},{"p":"chariot","c":"Client","l":"withToken(String)","u":"withToken(java.lang.String)"},{"p":"chariot","c":"Client","l":"withToken(Supplier<char[]>)","u":"withToken(java.util.function.Supplier)"},{"p":"chariot.api","c":"Users.UserParams","l":"withTrophies()"},{"p":"chariot.api","c":"Users.UserParams","l":"withTrophies(boolean)"},{"p":"chariot.model","c":"ExternalEngineRequest","l":"work()"},{"p":"chariot.api","c":"ExternalEngine.AnalysisParameters","l":"work(ExternalEngineWork)","u":"work(chariot.model.ExternalEngineWork)"},{"p":"chariot.model","c":"PerformanceStatistics.Stat","l":"worstLosses()"},{"p":"chariot.model","c":"MyRound.Study","l":"writeable()"},{"p":"chariot.model","c":"RoundInfo.Study","l":"writeable()"},{"p":"chariot.api","c":"UsersAuth","l":"writeNoteAboutUser(String, String)","u":"writeNoteAboutUser(java.lang.String,java.lang.String)"},{"p":"chariot.model","c":"GameStateEvent.State","l":"wtime()"},{"p":"chariot.model","c":"ExploreResult.DBGame","l":"year()"},{"p":"chariot.model","c":"ExploreResult.PlayerGame","l":"year()"},{"p":"chariot.model","c":"GameStateEvent.Yes","l":"Yes()","u":"%3Cinit%3E()"},{"p":"chariot.model","c":"UserData.StreamerInfoPropertyEnum","l":"youtube"},{"p":"chariot.model","c":"StreamerInfo","l":"youtube()"},{"p":"chariot.model","c":"UserData.StreamerInfo","l":"youtube()"},{"p":"chariot.model","c":"User","l":"youtubeStream()"},{"p":"chariot.model","c":"UserProfileData","l":"youtubeStream()"},{"p":"chariot.model","c":"AccountPreferences.Prefs","l":"zen()"},{"p":"chariot.model","c":"TablebaseResult.Move","l":"zeroing()"},{"p":"chariot.util","c":"Board.BoardData","l":"zobristKey()"},{"p":"chariot.util","c":"Board","l":"zobristKey()"},{"p":"chariot.util","c":"Position","l":"zobristKey()"}];updateSearchResults();
\ No newline at end of file
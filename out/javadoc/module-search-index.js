@@ -0,0 +1 @@
+moduleSearchIndex = [{"l":"chariot"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"m":"chariot","l":"chariot"},{"m":"chariot","l":"chariot.api"},{"m":"chariot","l":"chariot.model"},{"m":"chariot","l":"chariot.util"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+tagSearchIndex = [{"l":"Constant Field Values","h":"","u":"constant-values.html"},{"l":"jdk.module.main","h":"chariot.api.Builders.ConfigBuilder.userAgent(String, boolean)","d":"System Property","u":"chariot/chariot/api/Builders.ConfigBuilder.html#jdk.module.main"},{"l":"System Properties","h":"","u":"system-properties.html"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"p":"chariot.model","l":"TokenResult.AccessToken"},{"p":"chariot.model","l":"GameInfo.Account"},{"p":"chariot.model","l":"GameStateEvent.Account"},{"p":"chariot.model","l":"Player.Account"},{"p":"chariot.api","l":"AccountAuth"},{"p":"chariot.model","l":"AccountPreferences"},{"p":"chariot.model","l":"Activity"},{"p":"chariot.api","l":"AdminAuth"},{"p":"chariot.model","l":"AI"},{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"chariot.model","l":"Player.Analysed"},{"p":"chariot.model","l":"Analysis"},{"p":"chariot.api","l":"Analysis"},{"p":"chariot.model","l":"Game.AnalysisEntry"},{"p":"chariot.api","l":"ExternalEngine.AnalysisParameters"},{"p":"chariot.model","l":"Game.AnnotatedEval"},{"p":"chariot.model","l":"Anonymous"},{"p":"chariot.model","l":"UserPerformance.Perfs.Antichess"},{"p":"chariot.model","l":"ChallengeOpenEnded.Any"},{"p":"chariot.model","l":"Arena"},{"p":"chariot.api","l":"TournamentsAuth.ArenaBuilder"},{"p":"chariot.model","l":"TournamentId.ArenaId"},{"p":"chariot.model","l":"Player.ArenaInfo"},{"p":"chariot.api","l":"TournamentsAuth.ArenaParams"},{"p":"chariot.model","l":"ArenaResult"},{"p":"chariot.api","l":"Tournaments.ArenaResultParams"},{"p":"chariot.api","l":"TournamentsAuth.ArenaParams.StartTime.AtDate"},{"p":"chariot.model","l":"UserPerformance.Perfs.Atomic"},{"p":"chariot.util","l":"Board.CastlingRights.AttackedCoordinatePredicate"},{"p":"chariot","l":"Client.AuthFail"},{"p":"chariot","l":"Client.AuthOk"},{"p":"chariot","l":"Client.AuthResult"},{"p":"chariot.model","l":"Pgn.BasicPgn"},{"p":"chariot.model","l":"Pgn.Tag.BasicTag"},{"p":"chariot.model","l":"UserPerformance.Perfs.Blitz"},{"p":"chariot.model","l":"TimelineEntry.BlogPost"},{"p":"chariot.util","l":"Board"},{"p":"chariot.api","l":"BoardAuth"},{"p":"chariot.util","l":"Board.BoardData"},{"p":"chariot.api","l":"Bot"},{"p":"chariot.api","l":"BotAuth"},{"p":"chariot.model","l":"Broadcast"},{"p":"chariot.api","l":"BroadcastsAuth.BroadcastBuilder"},{"p":"chariot.api","l":"Broadcasts.BroadcastParameters"},{"p":"chariot.api","l":"Broadcasts"},{"p":"chariot.api","l":"BroadcastsAuth"},{"p":"chariot.api","l":"Builders"},{"p":"chariot.api","l":"ChallengesAuth.BulkBuilder"},{"p":"chariot.model","l":"BulkPairing"},{"p":"chariot.api","l":"ChallengesAuth.BulkParams"},{"p":"chariot.model","l":"UserPerformance.Perfs.Bullet"},{"p":"chariot.util","l":"Board.Castling"},{"p":"chariot.util","l":"Board.CastlingRights"},{"p":"chariot.model","l":"Challenge"},{"p":"chariot.model","l":"ChallengeAI"},{"p":"chariot.api","l":"ChallengesAuthCommon.ChallengeAIBuilder"},{"p":"chariot.api","l":"ChallengesAuthCommon.ChallengeAIParams"},{"p":"chariot.api","l":"ChallengesAuthCommon.ChallengeBuilder"},{"p":"chariot.model","l":"Event.ChallengeCanceledEvent"},{"p":"chariot.model","l":"Event.ChallengeCreatedEvent"},{"p":"chariot.model","l":"Event.ChallengeDeclinedEvent"},{"p":"chariot.model","l":"Event.ChallengeEvent"},{"p":"chariot.model","l":"ChallengeInfo"},{"p":"chariot.model","l":"ChallengeOpenEnded"},{"p":"chariot.api","l":"ChallengesAuthCommon.ChallengeParams"},{"p":"chariot.api","l":"Challenges"},{"p":"chariot.api","l":"ChallengesAuth"},{"p":"chariot.api","l":"ChallengesAuthCommon"},{"p":"chariot.model","l":"ChallengeTokens"},{"p":"chariot.model","l":"Challenge.ChallengeWithRules"},{"p":"chariot.model","l":"Enums.Channel"},{"p":"chariot.api","l":"Games.ChannelFilter"},{"p":"chariot.model","l":"UserData.ChannelInfo"},{"p":"chariot.model","l":"ChapterMeta"},{"p":"chariot.model","l":"GameStateEvent.Chat"},{"p":"chariot.model","l":"Enums.ChatFor"},{"p":"chariot.model","l":"ChatMessage"},{"p":"chariot.util","l":"Board.CastlingRights.Chess960"},{"p":"chariot.model","l":"UserPerformance.Perfs.Chess960"},{"p":"chariot.model","l":"VariantType.Chess960"},{"p":"chariot.model","l":"GameStateEvent.Claim"},{"p":"chariot.model","l":"UserPerformance.Perfs.Classical"},{"p":"chariot","l":"Client"},{"p":"chariot","l":"ClientAuth"},{"p":"chariot.model","l":"Arena.Clock"},{"p":"chariot.api","l":"Builders.Clock"},{"p":"chariot.model","l":"BulkPairing.Clock"},{"p":"chariot.model","l":"Game.Clock"},{"p":"chariot.model","l":"GameMeta.Clock"},{"p":"chariot.model","l":"Swiss.Clock"},{"p":"chariot.model","l":"Tournament.Clock"},{"p":"chariot.api","l":"Builders.ClockCorrespondence"},{"p":"chariot.api","l":"Builders.ClockMinute"},{"p":"chariot.model","l":"CloudEvalCacheEntry"},{"p":"chariot","l":"Client.CodeAndState"},{"p":"chariot.model","l":"Enums.Color"},{"p":"chariot.model","l":"ChallengeInfo.ColorInfo"},{"p":"chariot.model","l":"ChallengeInfo.ColorOutcome"},{"p":"chariot.model","l":"Enums.ColorPref"},{"p":"chariot.model","l":"ChallengeInfo.ColorRequest"},{"p":"chariot.model","l":"Pgn.Comment"},{"p":"chariot.api","l":"Games.CommonGameParameters"},{"p":"chariot.api","l":"OpeningExplorer.CommonLichessOpeningExplorer"},{"p":"chariot.api","l":"OpeningExplorer.CommonOpeningExplorer"},{"p":"chariot.model","l":"Event.Compat"},{"p":"chariot.model","l":"Arena.Verdict.Condition"},{"p":"chariot.util","l":"ConsoleRenderer.Config"},{"p":"chariot.api","l":"Builders.ConfigBuilder"},{"p":"chariot.util","l":"ConsoleRenderer"},{"p":"chariot.util","l":"Board.Coordinate"},{"p":"chariot.model","l":"Correspondence"},{"p":"chariot.model","l":"Activity.Type.CorrespondenceEnds"},{"p":"chariot.model","l":"Activity.Type.CorrespondenceMoves"},{"p":"chariot.model","l":"PerformanceStatistics.Count"},{"p":"chariot.model","l":"UserPerformance.Perfs.Crazyhouse"},{"p":"chariot.model","l":"Crosstable"},{"p":"chariot.api","l":"Users.CrosstableParams"},{"p":"chariot.model","l":"CurrentSimuls"},{"p":"chariot.api","l":"Custom"},{"p":"chariot.model","l":"PerformanceStatistics.DateResult"},{"p":"chariot.model","l":"RatingHistory.DateResult"},{"p":"chariot.model","l":"StormDashboard.Day"},{"p":"chariot.model","l":"ExploreResult.DBGame"},{"p":"chariot.model","l":"ExploreResult.DBMove"},{"p":"chariot.model","l":"Challenge.DeclinedChallenge"},{"p":"chariot.model","l":"Enums.DeclineReason"},{"p":"chariot.model","l":"Event.DeclineReason"},{"p":"chariot.model","l":"Enums.Direction"},{"p":"chariot.model","l":"Disabled"},{"p":"chariot.model","l":"Game.Division"},{"p":"chariot.model","l":"Arena.Duel"},{"p":"chariot.model","l":"Arena.DuelTeams"},{"p":"chariot.model","l":"Empty"},{"p":"chariot.model","l":"Err.Empty"},{"p":"chariot.model","l":"Pgn.Empty"},{"p":"chariot.model","l":"Pgn.End"},{"p":"chariot.api","l":"Custom.EndpointBuilder"},{"p":"chariot.api","l":"Custom.EndpointMany"},{"p":"chariot.api","l":"Custom.EndpointOne"},{"p":"chariot.model","l":"Entries"},{"p":"chariot.model","l":"Entry"},{"p":"chariot.model","l":"Enums"},{"p":"chariot.model","l":"ExploreResult.EROpening"},{"p":"chariot.model","l":"ExploreResult.ERPlayer"},{"p":"chariot.model","l":"Err"},{"p":"chariot.model","l":"TokenResult.Error"},{"p":"chariot.model","l":"ExploreResult.ERStats"},{"p":"chariot.model","l":"Game.Eval"},{"p":"chariot.api","l":"Games.EvalsAndPlayers"},{"p":"chariot.model","l":"Event"},{"p":"chariot.model","l":"ExploreResult"},{"p":"chariot.api","l":"ExternalEngine"},{"p":"chariot.model","l":"ExternalEngineAnalysis"},{"p":"chariot.api","l":"ExternalEngineAuth"},{"p":"chariot.model","l":"ExternalEngineInfo"},{"p":"chariot.model","l":"ExternalEngineRegistration"},{"p":"chariot.model","l":"ExternalEngineRequest"},{"p":"chariot.model","l":"ExternalEngineWork"},{"p":"chariot.model","l":"Fail"},{"p":"chariot.model","l":"PushResult.Fail"},{"p":"chariot.model","l":"Arena.Ongoing.Featured"},{"p":"chariot.model","l":"Arena.TeamOngoing.Featured"},{"p":"chariot.model","l":"TVFeedEvent.Featured"},{"p":"chariot.model","l":"TVFeedEvent.Fen"},{"p":"chariot.util","l":"Board.FEN"},{"p":"chariot.api","l":"Games.Filter"},{"p":"chariot.model","l":"Arena.Finished"},{"p":"chariot.model","l":"TimelineEntry.Follow"},{"p":"chariot.model","l":"Activity.Type.Follows"},{"p":"chariot.model","l":"Game.ForcedMate"},{"p":"chariot.model","l":"TimelineEntry.ForumPost"},{"p":"chariot.model","l":"ChallengeInfo.From"},{"p":"chariot.model","l":"VariantType.FromPosition"},{"p":"chariot.util","l":"Board.FromTo"},{"p":"chariot.model","l":"ChallengeInfo.FromTo"},{"p":"chariot.model","l":"GameStateEvent.Full"},{"p":"chariot.model","l":"Activity.Game"},{"p":"chariot.model","l":"BulkPairing.Game"},{"p":"chariot.model","l":"Game"},{"p":"chariot.model","l":"RoundInfo.Game"},{"p":"chariot.model","l":"TimelineEntry.GameEnd"},{"p":"chariot.model","l":"Event.GameEvent"},{"p":"chariot.model","l":"GameImport"},{"p":"chariot.model","l":"GameInfo"},{"p":"chariot.model","l":"Puzzle.GameInfo"},{"p":"chariot.model","l":"GameMeta"},{"p":"chariot.api","l":"Games.GameParams"},{"p":"chariot.model","l":"Activity.Type.Games"},{"p":"chariot.api","l":"Games"},{"p":"chariot.api","l":"GamesAsync"},{"p":"chariot.api","l":"GamesAuth"},{"p":"chariot.api","l":"GameSessions"},{"p":"chariot.api","l":"Games.GamesParameters"},{"p":"chariot.model","l":"Event.GameStartEvent"},{"p":"chariot.util","l":"Board.GameState"},{"p":"chariot.model","l":"GameStateEvent"},{"p":"chariot.model","l":"Event.GameStopEvent"},{"p":"chariot.model","l":"MoveInfo.GameSummary"},{"p":"chariot.model","l":"GameType"},{"p":"chariot.model","l":"Enums.GameVariant"},{"p":"chariot.model","l":"PerformanceStatistics.Glicko"},{"p":"chariot.model","l":"Arena.GreatPlayer"},{"p":"chariot.model","l":"Swiss.GreatPlayer"},{"p":"chariot.model","l":"StormDashboard.High"},{"p":"chariot.api","l":"OpeningExplorer.HistoryBuilder"},{"p":"chariot.model","l":"UserPerformance.Perfs.Horde"},{"p":"chariot.model","l":"CurrentSimuls.Simul.Host"},{"p":"chariot.model","l":"IdName"},{"p":"chariot.model","l":"IdNameTitle"},{"p":"chariot.api","l":"StudiesAuth.ImportParams"},{"p":"chariot.model","l":"Activity.Tournament.Info"},{"p":"chariot.model","l":"Err.Info"},{"p":"chariot.api","l":"TournamentsAuth.ArenaParams.StartTime.InMinutes"},{"p":"chariot.model","l":"Activity.Interval"},{"p":"chariot.util","l":"Board.Invalid"},{"p":"chariot.api","l":"TournamentsAuth.JoinArenaParams"},{"p":"chariot.api","l":"TeamsAuth.JoinParams"},{"p":"chariot.api","l":"TournamentsAuth.JoinSwissParams"},{"p":"chariot.model","l":"Game.Judgment"},{"p":"chariot.model","l":"UserPerformance.Perfs.KingOfTheHill"},{"p":"chariot.model","l":"Leaderboard"},{"p":"chariot.model","l":"Enums.Level"},{"p":"chariot.api","l":"OpeningExplorer.LichessBuilder"},{"p":"chariot.model","l":"LightUser"},{"p":"chariot.model","l":"LiveStreamer"},{"p":"chariot.model","l":"Tournament.LocalArena"},{"p":"chariot.api","l":"Builders.LoggingBuilder"},{"p":"chariot.api","l":"Builders.LogLevel"},{"p":"chariot.model","l":"Many"},{"p":"chariot.api","l":"OpeningExplorer.MastersBuilder"},{"p":"chariot.api","l":"GameSessions.Metrics"},{"p":"chariot.model","l":"Game.Middle"},{"p":"chariot.model","l":"Game.MiddleEnd"},{"p":"chariot.api","l":"OpeningExplorer.PlayerBuilder.Mode"},{"p":"chariot.util","l":"Board.Move"},{"p":"chariot.model","l":"MoveInfo.Move"},{"p":"chariot.model","l":"Pgn.Move"},{"p":"chariot.model","l":"TablebaseResult.Move"},{"p":"chariot.model","l":"MoveInfo"},{"p":"chariot.model","l":"MyRound"},{"p":"chariot.model","l":"Arena.Finished.Podium.NB"},{"p":"chariot.model","l":"Arena.TeamFinished.Podium.NB"},{"p":"chariot.model","l":"Swiss.NextRound"},{"p":"chariot.model","l":"GameStateEvent.No"},{"p":"chariot.model","l":"NoEntry"},{"p":"chariot.model","l":"None"},{"p":"chariot.model","l":"Tournament.Pos.None"},{"p":"chariot.model","l":"Note"},{"p":"chariot.model","l":"Pgn.NumBegin"},{"p":"chariot.model","l":"Pgn.NumEnd"},{"p":"chariot.model","l":"One"},{"p":"chariot.model","l":"Arena.Ongoing"},{"p":"chariot.model","l":"ChallengeInfo.OpenEnded"},{"p":"chariot.api","l":"Challenges.OpenEndedBuilder"},{"p":"chariot.api","l":"Challenges.OpenEndedParams"},{"p":"chariot.model","l":"Game.Opening"},{"p":"chariot.model","l":"Opening"},{"p":"chariot.model","l":"ExploreResult.OpeningDB"},{"p":"chariot.api","l":"OpeningExplorer"},{"p":"chariot.model","l":"ExploreResult.OpeningPlayer"},{"p":"chariot.model","l":"PerformanceStatistics.OpId"},{"p":"chariot.model","l":"Activity.Game.Opponent"},{"p":"chariot.model","l":"GameInfo.Opponent"},{"p":"chariot.model","l":"GameStateEvent.OpponentGone"},{"p":"chariot.model","l":"Opt"},{"p":"chariot.model","l":"Enums.Outcome"},{"p":"chariot.model","l":"Arena.Duel.P"},{"p":"chariot.model","l":"Page"},{"p":"chariot.api","l":"Teams.PageParams"},{"p":"chariot.model","l":"PageTeam"},{"p":"chariot.api","l":"ChallengesAuth.BulkParams.Pairing"},{"p":"chariot.api","l":"TournamentsAuth.SwissParams.Pairing"},{"p":"chariot.api","l":"AdminAuth.Params"},{"p":"chariot.api","l":"Analysis.Params"},{"p":"chariot.api","l":"GameSessions.Params"},{"p":"chariot.api","l":"Studies.Params"},{"p":"chariot.model","l":"PushResult.Pass"},{"p":"chariot.model","l":"Activity.Type.Patron"},{"p":"chariot.model","l":"PendingChallenges"},{"p":"chariot.model","l":"Arena.Perf"},{"p":"chariot.model","l":"PerformanceStatistics.Perf"},{"p":"chariot.model","l":"Puzzle.GameInfo.Perf"},{"p":"chariot.model","l":"Tournament.Perf"},{"p":"chariot.model","l":"UserPerformance.Perf"},{"p":"chariot.model","l":"PerformanceStatistics"},{"p":"chariot.model","l":"UserPerformance.Perfs"},{"p":"chariot.model","l":"Enums.PerfType"},{"p":"chariot.model","l":"PerformanceStatistics.PerfType"},{"p":"chariot.model","l":"Enums.PerfTypeNoCorr"},{"p":"chariot.model","l":"Enums.PerfTypeWithFromPos"},{"p":"chariot.model","l":"Pgn"},{"p":"chariot.util","l":"Board.Piece"},{"p":"chariot.util","l":"Board.PieceType"},{"p":"chariot","l":"Client.PkceConfig"},{"p":"chariot.model","l":"TimelineEntry.PlanRenew"},{"p":"chariot.model","l":"TimelineEntry.PlanStart"},{"p":"chariot.model","l":"Arena.Ongoing.Featured.Player"},{"p":"chariot.model","l":"Arena.Standing.Player"},{"p":"chariot.model","l":"Arena.TeamOngoing.Featured.Player"},{"p":"chariot.model","l":"Arena.TeamStanding.Player"},{"p":"chariot.model","l":"ChallengeInfo.Player"},{"p":"chariot.model","l":"GameMeta.Players.Player"},{"p":"chariot.model","l":"Player"},{"p":"chariot.model","l":"Puzzle.GameInfo.Player"},{"p":"chariot.model","l":"TeamBattleResults.Teams.Player"},{"p":"chariot.api","l":"OpeningExplorer.PlayerBuilder"},{"p":"chariot.model","l":"ExploreResult.PlayerGame"},{"p":"chariot.model","l":"TVFeedEvent.PlayerInfo"},{"p":"chariot.model","l":"ExploreResult.PlayerMove"},{"p":"chariot.model","l":"ChallengeInfo.Players"},{"p":"chariot.model","l":"ChallengeOpenEnded.Players"},{"p":"chariot.model","l":"Game.Players"},{"p":"chariot.model","l":"GameMeta.Players"},{"p":"chariot.model","l":"MoveInfo.Players"},{"p":"chariot.model","l":"PerformanceStatistics.PlayStreak"},{"p":"chariot.model","l":"UserData.PlayTime"},{"p":"chariot.util","l":"Replay.Ply"},{"p":"chariot.model","l":"Arena.Finished.Podium"},{"p":"chariot.model","l":"Arena.TeamFinished.Podium"},{"p":"chariot.model","l":"Crosstable.Points"},{"p":"chariot.model","l":"Tournament.Pos"},{"p":"chariot.util","l":"Position"},{"p":"chariot.model","l":"Tournament.Pos.Position"},{"p":"chariot.model","l":"Activity.Topic.Post"},{"p":"chariot.model","l":"Activity.Type.Posts"},{"p":"chariot.model","l":"Activity.Practice"},{"p":"chariot.model","l":"Activity.Type.Practices"},{"p":"chariot.model","l":"AccountPreferences.Prefs"},{"p":"chariot.model","l":"UserData.ProfilePropertyEnum"},{"p":"chariot.util","l":"Board.Promotion"},{"p":"chariot.model","l":"UserData.Property"},{"p":"chariot.model","l":"UserData.Provided"},{"p":"chariot.model","l":"ProvidedProfile"},{"p":"chariot.model","l":"Enums.Channel.Provider"},{"p":"chariot.model","l":"Enums.ChatFor.Provider"},{"p":"chariot.model","l":"Enums.Color.Provider"},{"p":"chariot.model","l":"Enums.ColorPref.Provider"},{"p":"chariot.model","l":"Enums.DeclineReason.Provider"},{"p":"chariot.model","l":"Enums.GameVariant.Provider"},{"p":"chariot.model","l":"Enums.Level.Provider"},{"p":"chariot.model","l":"Enums.PerfType.Provider"},{"p":"chariot.model","l":"Enums.PerfTypeNoCorr.Provider"},{"p":"chariot.model","l":"Enums.PerfTypeWithFromPos.Provider"},{"p":"chariot.model","l":"Enums.RatingGroup.Provider"},{"p":"chariot.model","l":"Enums.Speed.Provider"},{"p":"chariot.model","l":"Enums.TournamentState.Provider"},{"p":"chariot.model","l":"Enums.VariantName.Provider"},{"p":"chariot.api","l":"OpeningExplorer.PlayerBuilder.Mode.Provider"},{"p":"chariot.api","l":"TournamentsAuth.ArenaParams.StartTime.Provider"},{"p":"chariot.model","l":"PushResult"},{"p":"chariot.model","l":"Puzzle"},{"p":"chariot.model","l":"PuzzleActivity"},{"p":"chariot.api","l":"PuzzlesAuth.PuzzleActivityParams"},{"p":"chariot.model","l":"PuzzleDashboard"},{"p":"chariot.model","l":"Puzzle.PuzzleInfo"},{"p":"chariot.api","l":"Puzzles.PuzzleParams"},{"p":"chariot.model","l":"PuzzleRace"},{"p":"chariot.model","l":"PuzzleDashboard.PuzzleResult"},{"p":"chariot.model","l":"Activity.Type.Puzzles"},{"p":"chariot.api","l":"Puzzles"},{"p":"chariot.api","l":"PuzzlesAsync"},{"p":"chariot.api","l":"PuzzlesAuth"},{"p":"chariot.model","l":"CloudEvalCacheEntry.PV"},{"p":"chariot.model","l":"ExternalEngineAnalysis.Pvs"},{"p":"chariot.model","l":"Swiss.Quote"},{"p":"chariot.model","l":"UserPerformance.Perfs.RacingKings"},{"p":"chariot.model","l":"UserPerformance.Perfs.Rapid"},{"p":"chariot.api","l":"Builders.RateLimitBuilder"},{"p":"chariot.api","l":"Builders.RateLimitsBuilder"},{"p":"chariot.model","l":"Enums.RatingGroup"},{"p":"chariot.model","l":"RatingHistory"},{"p":"chariot.model","l":"UserData.Ratings"},{"p":"chariot.model","l":"RealTime"},{"p":"chariot.model","l":"Challenge.RematchChallenge"},{"p":"chariot.util","l":"Replay"},{"p":"chariot.api","l":"Custom.Request"},{"p":"chariot.model","l":"TeamRequest.Request"},{"p":"chariot.model","l":"ChallengeOpenEnded.Reserved"},{"p":"chariot.model","l":"Activity.Result"},{"p":"chariot.model","l":"Crosstable.Results.Result"},{"p":"chariot.model","l":"PerformanceStatistics.Result"},{"p":"chariot.model","l":"Pgn.Result"},{"p":"chariot.model","l":"Activity.Result.ResultHelper"},{"p":"chariot.model","l":"Crosstable.Results"},{"p":"chariot.model","l":"PerformanceStatistics.Results"},{"p":"chariot.model","l":"PerformanceStatistics.ResultStreak"},{"p":"chariot.util","l":"Board.CastlingRights.RookFiles"},{"p":"chariot.model","l":"Broadcast.Round"},{"p":"chariot.model","l":"MyRound.Round"},{"p":"chariot.model","l":"RoundInfo.Round"},{"p":"chariot.api","l":"BroadcastsAuth.RoundBuilder"},{"p":"chariot.model","l":"RoundInfo"},{"p":"chariot.api","l":"BroadcastsAuth.RoundsParameters"},{"p":"chariot.model","l":"Broadcast.RoundTour"},{"p":"chariot.util","l":"Board.RowCol"},{"p":"chariot.model","l":"Activity.Result.RP"},{"p":"chariot.model","l":"Pgn.San"},{"p":"chariot.model","l":"Tournament.Scheduled.Schedule"},{"p":"chariot.model","l":"Tournament.Scheduled"},{"p":"chariot","l":"Client.Scope"},{"p":"chariot.model","l":"Activity.Simul.Score"},{"p":"chariot.model","l":"Broadcast.Score"},{"p":"chariot.api","l":"Games.SearchFilter"},{"p":"chariot.model","l":"SeekAck"},{"p":"chariot.api","l":"BoardAuth.SeekCorrespondenceBuilder"},{"p":"chariot.api","l":"BoardAuth.SeekParams"},{"p":"chariot.api","l":"BoardAuth.SeekRealTimeBuilder"},{"p":"chariot.api","l":"Builders.ServerBuilder"},{"p":"chariot.model","l":"Game.Severity"},{"p":"chariot.model","l":"Arena.Sheet"},{"p":"chariot.util","l":"Board.Side"},{"p":"chariot.model","l":"GameStateEvent.Side"},{"p":"chariot.model","l":"Activity.Simul"},{"p":"chariot.model","l":"CurrentSimuls.Simul"},{"p":"chariot.model","l":"TimelineEntry.SimulCreate"},{"p":"chariot.model","l":"TimelineEntry.SimulJoin"},{"p":"chariot.model","l":"Activity.Type.Simuls"},{"p":"chariot.api","l":"Simuls"},{"p":"chariot.model","l":"Some"},{"p":"chariot.model","l":"GameStateEvent.Soon"},{"p":"chariot.model","l":"Enums.Speed"},{"p":"chariot.util","l":"Board.CastlingRights.Standard"},{"p":"chariot.util","l":"Board.StandardPiece"},{"p":"chariot.model","l":"Arena.Standing"},{"p":"chariot.api","l":"TournamentsAuth.ArenaParams.StartTime"},{"p":"chariot.model","l":"PerformanceStatistics.Stat"},{"p":"chariot.model","l":"GameStateEvent.State"},{"p":"chariot.model","l":"Arena.Finished.Stats"},{"p":"chariot.model","l":"Arena.TeamFinished.Stats"},{"p":"chariot.model","l":"Swiss.Stats"},{"p":"chariot.model","l":"StatsPerf"},{"p":"chariot.model","l":"StatsPerf.StatsPerfGame"},{"p":"chariot.model","l":"StatsPerf.StatsPerfRun"},{"p":"chariot.model","l":"StatsPerfType"},{"p":"chariot.model","l":"Enums.Status"},{"p":"chariot.model","l":"MoveInfo.Status"},{"p":"chariot.model","l":"StormDashboard"},{"p":"chariot.model","l":"PerformanceStatistics.Streak"},{"p":"chariot.model","l":"PerformanceStatistics.StreakInfo"},{"p":"chariot.model","l":"PerformanceStatistics.StreakPoint"},{"p":"chariot.model","l":"StreamerInfo"},{"p":"chariot.model","l":"UserData.StreamerInfo"},{"p":"chariot.model","l":"UserData.StreamerInfoPropertyEnum"},{"p":"chariot.model","l":"StreamInfo"},{"p":"chariot.model","l":"UserData.StreamInfo"},{"p":"chariot.model","l":"TimelineEntry.StreamStart"},{"p":"chariot.api","l":"Studies"},{"p":"chariot.api","l":"StudiesAuth"},{"p":"chariot.model","l":"MyRound.Study"},{"p":"chariot.model","l":"RoundInfo.Study"},{"p":"chariot.model","l":"TimelineEntry.StudyLike"},{"p":"chariot.model","l":"StudyMeta"},{"p":"chariot.model","l":"Swiss"},{"p":"chariot.api","l":"TournamentsAuth.SwissBuilder"},{"p":"chariot.model","l":"TournamentId.SwissId"},{"p":"chariot.api","l":"TournamentsAuth.SwissParams"},{"p":"chariot.model","l":"SwissResult"},{"p":"chariot.api","l":"Tournaments.SwissResultParams"},{"p":"chariot.api","l":"Tablebase"},{"p":"chariot.model","l":"TablebaseResult"},{"p":"chariot.model","l":"Pgn.Tag"},{"p":"chariot.model","l":"Activity.Team"},{"p":"chariot.model","l":"Team"},{"p":"chariot.model","l":"Arena.TeamBattle"},{"p":"chariot.model","l":"Tournament.TeamBattle"},{"p":"chariot.model","l":"TeamBattleResults"},{"p":"chariot.model","l":"TimelineEntry.TeamCreate"},{"p":"chariot.model","l":"Arena.TeamFinished"},{"p":"chariot.model","l":"TimelineEntry.TeamJoin"},{"p":"chariot.model","l":"TeamMember"},{"p":"chariot.model","l":"Arena.TeamOngoing"},{"p":"chariot.model","l":"TeamRequest"},{"p":"chariot.model","l":"Activity.Type.Teams"},{"p":"chariot.model","l":"TeamBattleResults.Teams"},{"p":"chariot.api","l":"Teams"},{"p":"chariot.model","l":"Tournament.TeamBattle.Teams"},{"p":"chariot.api","l":"TeamsAsync"},{"p":"chariot.api","l":"TeamsAuth"},{"p":"chariot.model","l":"Arena.TeamStanding"},{"p":"chariot.model","l":"Arena.TeamUpcoming"},{"p":"chariot.model","l":"PuzzleDashboard.Theme"},{"p":"chariot.model","l":"UserPerformance.Perfs.ThreeCheck"},{"p":"chariot.model","l":"TimeControl"},{"p":"chariot.model","l":"GameInfo.TimeInfo"},{"p":"chariot.model","l":"TimelineEntry"},{"p":"chariot.api","l":"AccountAuth.TimelineParams"},{"p":"chariot.model","l":"TokenBulkResult"},{"p":"chariot.model","l":"TokenBulkResult.TokenInfo"},{"p":"chariot.model","l":"TokenResult"},{"p":"chariot.model","l":"Activity.Topic"},{"p":"chariot.model","l":"Broadcast.Tour"},{"p":"chariot.model","l":"MyRound.Tour"},{"p":"chariot.model","l":"RoundInfo.Tour"},{"p":"chariot.model","l":"TimelineEntry.TourJoin"},{"p":"chariot.model","l":"Activity.Tournament"},{"p":"chariot.model","l":"Tournament"},{"p":"chariot.model","l":"TournamentId"},{"p":"chariot.model","l":"Activity.Type.Tournaments"},{"p":"chariot.api","l":"Tournaments"},{"p":"chariot.api","l":"TournamentsAuth"},{"p":"chariot.model","l":"Enums.TournamentState"},{"p":"chariot.model","l":"TournamentStatus"},{"p":"chariot.model","l":"UserData.Trophies"},{"p":"chariot.model","l":"Trophy"},{"p":"chariot.model","l":"TVChannels.TVChannel"},{"p":"chariot.model","l":"TVChannels"},{"p":"chariot.model","l":"TVFeedEvent"},{"p":"chariot.model","l":"Activity.Type"},{"p":"chariot.model","l":"Event.Type"},{"p":"chariot.model","l":"GameStateEvent.Type"},{"p":"chariot.model","l":"TimelineEntry.UblogPost"},{"p":"chariot.model","l":"TimelineEntry.UblogPostLike"},{"p":"chariot.model","l":"UserPerformance.Perfs.UltraBullet"},{"p":"chariot.model","l":"Activity.Type.Unknown"},{"p":"chariot.model","l":"Unlimited"},{"p":"chariot.model","l":"Arena.Upcoming"},{"p":"chariot.model","l":"Arena.TeamStanding.Player.User"},{"p":"chariot.model","l":"TeamBattleResults.Teams.Player.User"},{"p":"chariot.model","l":"User"},{"p":"chariot.model","l":"UserAuth"},{"p":"chariot.model","l":"UserAuthFlags"},{"p":"chariot.model","l":"UserCommon"},{"p":"chariot.model","l":"UserCount"},{"p":"chariot.model","l":"UserData"},{"p":"chariot.model","l":"UserFlags"},{"p":"chariot.model","l":"UserInfo"},{"p":"chariot.api","l":"Users.UserParams"},{"p":"chariot.model","l":"UserPerformance"},{"p":"chariot.model","l":"UserProfileData"},{"p":"chariot.model","l":"UserData.UserPropertyEnum"},{"p":"chariot.api","l":"Users"},{"p":"chariot.api","l":"UsersAsync"},{"p":"chariot.api","l":"UsersAuth"},{"p":"chariot.api","l":"UsersBase"},{"p":"chariot.model","l":"UserStats"},{"p":"chariot.model","l":"UserStatus"},{"p":"chariot.model","l":"UserStatusData"},{"p":"chariot.api","l":"Users.UserStatusParams"},{"p":"chariot.model","l":"UserTimes"},{"p":"chariot.model","l":"UserTopAll"},{"p":"chariot.model","l":"CurrentSimuls.Simul.Variant"},{"p":"chariot.model","l":"Variant"},{"p":"chariot.model","l":"VariantType.Variant"},{"p":"chariot.model","l":"Enums.VariantName"},{"p":"chariot.model","l":"VariantType"},{"p":"chariot.model","l":"Pgn.Variation"},{"p":"chariot.model","l":"Arena.Verdict"},{"p":"chariot.model","l":"PerformanceStatistics.WithoutStreak"},{"p":"chariot.model","l":"PerformanceStatistics.WithStreak"},{"p":"chariot.model","l":"GameStateEvent.Yes"}];updateSearchResults();
\ No newline at end of file
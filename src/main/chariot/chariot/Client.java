@@ -69,6 +69,34 @@ public class Client extends chariot.internal.ClientBase {
         return super.usersHandler;
     }
 
+    /**
+     * Access registered users on Lichess, without blocking the calling thread.
+     * {@snippet :
+     * Client client = Client.basic();
+     *
+     * client.usersAsync().byId("lichess")
+     *     .thenAccept(user -> System.out.println(user));
+     * }
+     */
+    public UsersAsync usersAsync() {
+        return super.usersAsyncHandler;
+    }
+
+    /** Access games played on Lichess, without blocking the calling thread. */
+    public GamesAsync gamesAsync() {
+        return super.gamesAsyncHandler;
+    }
+
+    /** Access teams on Lichess, without blocking the calling thread. */
+    public TeamsAsync teamsAsync() {
+        return super.teamsAsyncHandler;
+    }
+
+    /** Access puzzles on Lichess, without blocking the calling thread. */
+    public PuzzlesAsync puzzlesAsync() {
+        return super.puzzlesAsyncHandler;
+    }
+
     /** {@inheritDoc} */ @Override public Analysis analysis() { return super.analysis(); }
     /** {@inheritDoc} */ @Override public Bot bot() { return super.bot(); }
     /** {@inheritDoc} */ @Override public Broadcasts broadcasts() { return super.broadcasts(); }
@@ -1,5 +1,7 @@
 package chariot.api;
 
+import java.util.function.*;
+
 import chariot.model.*;
 
 /**
@@ -90,6 +92,32 @@ public interface BotAuth extends ChallengesAuthCommon, Bot { //Bot<UserAuth> {
      */
     Many<GameStateEvent> connectToGame(String gameId);
 
+    /**
+     * Stream the state of a game, reconnecting with a back off if the connection is lost.<br>
+     * The first event is of type gameFull, and when reconnecting the game is resynchronized,
+     * with a gameState event only if the state changed while disconnected.<br>
+     * The stream ends when the game has ended.
+     * @param gameId Example: 5IrD6Gzz
+     */
+    Many<GameStateEvent> connectToGameResilient(String gameId);
+
+    /**
+     * Plays the games of the account, each game with its own handler.<br>
+     * Games are tracked from the event stream, and a game stream is opened for each started game,
+     * up to a maximum number of open game streams - further games are queued until a game ends.
+     * Both the event stream and the game streams reconnect if the connection is lost.
+     * @param handlers creates the handler of the game state events of a started game
+     * @param params maximum number of game streams, executor running the handlers
+     */
+    GameSessions gameSessions(Function<GameInfo, Consumer<GameStateEvent>> handlers, Consumer<GameSessions.Params> params);
+
+    /**
+     * See {@link #gameSessions(Function, Consumer)}
+     */
+    default GameSessions gameSessions(Function<GameInfo, Consumer<GameStateEvent>> handlers) {
+        return gameSessions(handlers, __ -> {});
+    }
+
     /**
      *  Make a move in a game being played with the Bot API.<br/>
      *
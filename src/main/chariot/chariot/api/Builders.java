@@ -1,6 +1,8 @@
 package chariot.api;
 
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -101,11 +103,69 @@ public interface Builders {
 
         /**
          * Number of times to retry sending a request if server indicates throttling (status code 429).<br/>
-         * The waiting time until performing a retry is 60 seconds.<br/>
+         * The waiting time until performing a retry is taken from the Retry-After header of the response if present,
+         * otherwise it starts at a few seconds and doubles (with some randomness) for each consecutive throttled response, up to 60 seconds.<br/>
+         * Only the server which indicated throttling is paused, requests to other servers continue.<br/>
          * Default: 1 retry
          */
         ConfigBuilder retries(int retries);
 
+        /**
+         * Maximum time a request waits in total for its retries, see {@link #retries(int)}.<br/>
+         * If the next retry would exceed the budget, the throttled response is returned instead.<br/>
+         * Default: 90 seconds
+         */
+        ConfigBuilder retryBudget(Duration maxWait);
+
+        /**
+         * Maximum time without receiving any data on a stream, for instance when streaming game events.<br/>
+         * Lichess sends keep-alive messages on idle streams, so no data at all indicates a dead connection,
+         * which is then surfaced as an {@link java.io.UncheckedIOException} caused by a {@link java.net.http.HttpTimeoutException} when consuming the stream.<br/>
+         * Also applies to bulk responses, such as exports of games.<br/>
+         * Only the time waiting for data is counted, a consumer may take as long as it needs between reading events.<br/>
+         * {@link Duration#ZERO} disables the timeout.<br/>
+         * Default: 60 seconds
+         */
+        ConfigBuilder streamIdleTimeout(Duration timeout);
+
+        /**
+         * Keeps responses in memory, so repeated requests for the same resource
+         * (account preferences, user profiles, the daily puzzle...) can be answered without downloading the body again.<br/>
+         * A response is reused without contacting the server while its {@code Cache-Control: max-age} lasts,
+         * and afterwards revalidated with {@code If-None-Match}/{@code If-Modified-Since},
+         * where a {@code 304 Not Modified} response is answered from the cache.
+         * Only single JSON responses up to 1 MB are cached, not streams, bulk exports or responses marked {@code no-store}.<br/>
+         * The least recently used response is evicted when the cache is full.<br/>
+         * Default: 0, no cache
+         * @param maxEntries maximum number of cached responses
+         */
+        ConfigBuilder responseCache(int maxEntries);
+
+        /**
+         * Like {@link #responseCache(int)}, but responses to requests without a token
+         * are also stored in the directory, and reused by later runs.
+         * @param maxEntries maximum number of cached responses, in memory and in the directory
+         * @param directory where to store the responses
+         */
+        ConfigBuilder responseCache(int maxEntries, Path directory);
+
+        /**
+         * Number of threads used to decode the lines of bulk ndjson exports of games,
+         * for instance when exporting games of a user.<br/>
+         * Live streams, such as game and event streams, are always decoded as each event arrives.<br/>
+         * The response is still read by a single thread, and the decoded entries are returned in the order of the response.<br/>
+         * Default: 1 thread, i.e. entries are decoded by the thread consuming the stream
+         */
+        ConfigBuilder parallelDecoding(int threads);
+
+        /**
+         * Rate limits of the requests sent to each of the servers.<br/>
+         * Each server has its own limits, so for instance requests to the explorer don't delay requests to the api.<br/>
+         * Default for each server: a burst of 4 requests, refilled with 1 request per second,
+         * 1 request and 8 streams at a time, besides the burst
+         */
+        ConfigBuilder rateLimits(Consumer<RateLimitsBuilder> params);
+
         /**
          * Customization of the User-Agent header set in HTTP requests.<br/>
          *
@@ -172,6 +232,52 @@ public interface Builders {
         default ServerBuilder engine(String uri) { return engine(URI.create(uri)); }
     }
 
+    interface RateLimitsBuilder {
+        /**
+         * Rate limits of the api service
+         */
+        RateLimitsBuilder api(Consumer<RateLimitBuilder> params);
+
+        /**
+         * Rate limits of the explorer service
+         */
+        RateLimitsBuilder explorer(Consumer<RateLimitBuilder> params);
+
+        /**
+         * Rate limits of the tablebase service
+         */
+        RateLimitsBuilder tablebase(Consumer<RateLimitBuilder> params);
+
+        /**
+         * Rate limits of the engine service
+         */
+        RateLimitsBuilder engine(Consumer<RateLimitBuilder> params);
+    }
+
+    interface RateLimitBuilder {
+        /**
+         * Number of requests which can be sent without waiting, after a period of inactivity
+         */
+        RateLimitBuilder burst(int requests);
+
+        /**
+         * Time to earn back one request of the burst,
+         * i.e. the spacing between requests when the burst has been used
+         */
+        RateLimitBuilder spacing(Duration duration);
+
+        /**
+         * Number of requests which can be waiting for a response at the same time,
+         * besides the requests of the burst
+         */
+        RateLimitBuilder parallel(int requests);
+
+        /**
+         * Number of streams which can be open at the same time
+         */
+        RateLimitBuilder streams(int streams);
+    }
+
     interface LoggingBuilder {
         /**
          * Log level of logger "chariot.request", default warning
@@ -14,6 +14,13 @@ public interface ChallengesAuthCommon {
      */
     Many<Event> connect();
 
+    /**
+     * Stream the events reaching the Lichess user in real time, reconnecting with a back off if the connection is lost.<br>
+     * The ongoing games and challenges sent again when reconnecting are suppressed,
+     * so the stream continues where it was interrupted.
+     */
+    Many<Event> connectResilient();
+
     /**
      * The challenge expires after 20s if not accepted.<br>
      */
@@ -1,6 +1,8 @@
 package chariot.api;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -32,10 +34,12 @@ public interface Custom {
 
     interface EndpointOne<T> {
         One<T> request(Consumer<Request> request);
+        CompletableFuture<One<T>> requestAsync(Consumer<Request> request);
     }
 
     interface EndpointMany<T> {
         Many<T> request(Consumer<Request> request);
+        CompletableFuture<Many<T>> requestAsync(Consumer<Request> request);
     }
 
     interface Request {
@@ -46,5 +50,6 @@ public interface Custom {
         Request headers(Map<String, String> headers);
         Request scope(Scope scope);
         Request stream();
+        Request timeout(Duration timeout);
     }
 }
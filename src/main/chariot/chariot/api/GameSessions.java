@@ -0,0 +1,76 @@
+package chariot.api;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import chariot.model.Event;
+
+/**
+ * Plays many games at the same time.<br>
+ * The games are tracked from the event stream, and a game stream is opened when a game starts.
+ * The game state events are dispatched to the handler of each game, in order, on a shared executor.<br>
+ * The number of open game streams is limited, and games starting when the limit is reached
+ * are queued until another game ends.
+ *
+ * {@snippet :
+ *   ClientAuth client = Client.auth(token);
+ *
+ *   try (var sessions = client.bot().gameSessions(game -> event -> {
+ *           // Called for each GameStateEvent of the game
+ *       }, params -> params.maxStreams(7))) {
+ *
+ *       // ...
+ *       System.out.println(sessions.metrics());
+ *   }
+ * }
+ */
+public interface GameSessions extends AutoCloseable {
+
+    /**
+     * @param active    number of games with an open game stream
+     * @param queued    number of started games waiting for a game stream
+     * @param opened    total number of game streams opened
+     * @param completed total number of game streams which have ended
+     * @param maxQueueTime longest time a game has waited for a game stream
+     */
+    record Metrics(int active, int queued, long opened, long completed, Duration maxQueueTime) {}
+
+    /**
+     * Current metrics of the game streams
+     */
+    Metrics metrics();
+
+    /**
+     * Ids of the games with an open game stream
+     */
+    Set<String> activeGames();
+
+    /**
+     * Closes the event stream and all game streams
+     */
+    @Override
+    void close();
+
+    interface Params {
+        /**
+         * Maximum number of game streams open at the same time.<br>
+         * The event stream also counts towards the number of streams allowed by the rate limits,
+         * see {@link chariot.api.Builders.ConfigBuilder#rateLimits}.<br>
+         * Default: 7
+         */
+        Params maxStreams(int maxStreams);
+
+        /**
+         * Executor running the game handlers.<br>
+         * Default: a pool with one thread per available processor
+         */
+        Params executor(Executor executor);
+
+        /**
+         * Receives the events which don't start or stop games, i.e. challenges
+         */
+        Params onEvent(Consumer<Event> consumer);
+    }
+}
@@ -122,6 +122,18 @@ public interface Games {
      */
     default Many<TVFeedEvent> tvFeed(Function<Channel.Provider, Channel> channel) { return tvFeed(channel.apply(Channel.provider())); }
 
+    /**
+     * Stream positions and moves of the current TV game, reconnecting with a back off if the connection is lost.<br>
+     * The summary sent again when reconnecting is suppressed if the featured game and position are unchanged.
+     */
+    Many<TVFeedEvent> tvFeedResilient();
+
+    /**
+     * Stream positions and moves of the current TV game on the specified channel, reconnecting with a back off if the connection is lost.<br>
+     * The summary sent again when reconnecting is suppressed if the featured game and position are unchanged.
+     */
+    Many<TVFeedEvent> tvFeedResilient(Channel channel);
+
     /**
      * Stream the games played between a list of users, in real time.<br>
      * Only games where both players are part of the list are included.<br>
@@ -0,0 +1,46 @@
+package chariot.api;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import chariot.api.Games.*;
+import chariot.model.*;
+
+/**
+ * Asynchronous counterpart of the lookups in {@link Games}.<br/>
+ * The requests are sent without blocking the calling thread,
+ * and the returned futures complete when the responses have been received.
+ */
+public interface GamesAsync {
+
+    /** See {@link Games#byGameId(String, Consumer)} */
+    CompletableFuture<One<Game>> byGameId(String gameId, Consumer<GameParams> params);
+    default CompletableFuture<One<Game>> byGameId(String gameId) { return byGameId(gameId, __ -> {}); }
+
+    /** See {@link Games#pgnByGameId(String, Consumer)} */
+    CompletableFuture<One<Pgn>> pgnByGameId(String gameId, Consumer<GameParams> params);
+    default CompletableFuture<One<Pgn>> pgnByGameId(String gameId) { return pgnByGameId(gameId, __ -> {}); }
+
+    /** See {@link Games#currentByUserId(String, Consumer)} */
+    CompletableFuture<One<Game>> currentByUserId(String userId, Consumer<GameParams> params);
+    default CompletableFuture<One<Game>> currentByUserId(String userId) { return currentByUserId(userId, __ -> {}); }
+
+    /** See {@link Games#pgnCurrentByUserId(String, Consumer)} */
+    CompletableFuture<One<Pgn>> pgnCurrentByUserId(String userId, Consumer<GameParams> params);
+    default CompletableFuture<One<Pgn>> pgnCurrentByUserId(String userId) { return pgnCurrentByUserId(userId, __ -> {}); }
+
+    /**
+     * See {@link Games#byUserId(String, Consumer)}<br/>
+     * The future completes when the response starts, the games are read from the returned stream.
+     */
+    CompletableFuture<Many<Game>> byUserId(String userId, Consumer<SearchFilter> params);
+    default CompletableFuture<Many<Game>> byUserId(String userId) { return byUserId(userId, __ -> {}); }
+
+    /** See {@link Games#byGameIds(Set, Consumer)} */
+    CompletableFuture<Many<Game>> byGameIds(Set<String> gameIds, Consumer<GameParams> params);
+    default CompletableFuture<Many<Game>> byGameIds(String... gameIds) { return byGameIds(Set.of(gameIds), __ -> {}); }
+
+    /** See {@link Games#tvChannels()} */
+    CompletableFuture<One<TVChannels>> tvChannels();
+}
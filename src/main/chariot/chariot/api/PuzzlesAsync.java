@@ -0,0 +1,21 @@
+package chariot.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import chariot.api.Puzzles.PuzzleParams;
+import chariot.model.*;
+
+/**
+ * Asynchronous counterpart of {@link Puzzles}.<br/>
+ * The requests are sent without blocking the calling thread,
+ * and the returned futures complete when the responses have been received.
+ */
+public interface PuzzlesAsync {
+
+    CompletableFuture<One<StormDashboard>> stormDashboard(String username, Consumer<PuzzleParams> params);
+    default CompletableFuture<One<StormDashboard>> stormDashboard(String username) { return stormDashboard(username, __ -> {}); }
+
+    CompletableFuture<One<Puzzle>>         dailyPuzzle();
+    CompletableFuture<One<Puzzle>>         byId(String puzzleId);
+}
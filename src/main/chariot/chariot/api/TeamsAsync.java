@@ -0,0 +1,27 @@
+package chariot.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import chariot.api.Teams.PageParams;
+import chariot.model.*;
+
+/**
+ * Asynchronous counterpart of the lookups in {@link Teams}.<br/>
+ * The requests are sent without blocking the calling thread,
+ * and the returned futures complete when the responses have been received.
+ */
+public interface TeamsAsync {
+
+    CompletableFuture<One<Team>>        byTeamId(String teamId);
+    CompletableFuture<Many<Team>>       byUserId(String userId);
+    CompletableFuture<Many<TeamMember>> usersByTeamId(String teamId);
+
+    CompletableFuture<Many<Tournament>> arenaByTeamId(String teamId, int max);
+    CompletableFuture<Many<Swiss>>      swissByTeamId(String teamId, int max);
+
+    CompletableFuture<One<PageTeam>>    searchByPage(Consumer<PageParams> params);
+    default CompletableFuture<One<PageTeam>> searchByPage() { return searchByPage(__ -> {}); }
+
+    CompletableFuture<One<PageTeam>>    popularTeamsByPage(int page);
+}
@@ -0,0 +1,42 @@
+package chariot.api;
+
+import chariot.model.*;
+import chariot.api.Users.UserParams;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous counterpart of {@link Users}.<br/>
+ * The requests are sent without blocking the calling thread,
+ * and the returned futures complete when the responses have been received.
+ */
+public interface UsersAsync {
+
+    /**
+     * Get public user data
+     *
+     * @param userId
+     */
+    CompletableFuture<One<User>> byId(String userId);
+
+
+    CompletableFuture<Many<User>> byIds(String ... userIds);
+
+    /**
+     * Get public user data
+     *
+     * @param userId
+     * @param params
+     */
+    CompletableFuture<One<User>> byId(String userId, Consumer<UserParams> params);
+
+
+    /**
+     * Get public user data
+     *
+     * @param userIds A list of up to 300 user ids
+     */
+    CompletableFuture<Many<User>> byIds(List<String> userIds);
+}
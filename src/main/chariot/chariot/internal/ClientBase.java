@@ -17,7 +17,7 @@ public abstract class ClientBase {
     private final Config config;
 
     public RequestHandler requestHandler() {
-        return client::request;
+        return client;
     }
 
     protected final AnalysisHandler analysisHandler;
@@ -26,15 +26,19 @@ public abstract class ClientBase {
     protected final ChallengesHandler challengesHandler;
     protected final ExternalEngineHandler externalEngineHandler;
     protected final GamesHandler gamesHandler;
+    protected final GamesAsyncHandler gamesAsyncHandler;
     protected final OpeningExplorerHandler openingExplorerHandler;
     protected final PuzzlesHandler puzzlesHandler;
+    protected final PuzzlesAsyncHandler puzzlesAsyncHandler;
     protected final SimulsHandler simulsHandler;
     protected final StudiesHandler studiesHandler;
     protected final TablebaseHandler tablebaseHandler;
     protected final TeamsHandler teamsHandler;
+    protected final TeamsAsyncHandler teamsAsyncHandler;
     protected final TokenHandler tokenHandler;
     protected final TournamentsHandler tournamentsHandler;
     protected final UsersHandler usersHandler;
+    protected final UsersAsyncHandler usersAsyncHandler;
     protected final CustomHandler customHandler;
 
     protected Config config() {
@@ -45,22 +49,26 @@ public abstract class ClientBase {
         this.config = config;
         client = new InternalClient(config);
 
-        analysisHandler = new AnalysisHandler(client::request);
-        botHandler = new BotHandler(client::request);
-        broadcastsHandler = new BroadcastsHandler(client::request);
-        challengesHandler = new ChallengesHandler(client::request);
-        externalEngineHandler = new ExternalEngineHandler(client::request);
-        gamesHandler = new GamesHandler(client::request);
-        openingExplorerHandler = new OpeningExplorerHandler(client::request);
-        puzzlesHandler = new PuzzlesHandler(client::request);
-        simulsHandler = new SimulsHandler(client::request);
-        studiesHandler = new StudiesHandler(client, client::request);
-        tablebaseHandler = new TablebaseHandler(client::request);
-        teamsHandler = new TeamsHandler(client::request);
+        analysisHandler = new AnalysisHandler(client);
+        botHandler = new BotHandler(client);
+        broadcastsHandler = new BroadcastsHandler(client);
+        challengesHandler = new ChallengesHandler(client);
+        externalEngineHandler = new ExternalEngineHandler(client);
+        gamesHandler = new GamesHandler(client);
+        gamesAsyncHandler = new GamesAsyncHandler(client);
+        openingExplorerHandler = new OpeningExplorerHandler(client);
+        puzzlesHandler = new PuzzlesHandler(client);
+        puzzlesAsyncHandler = new PuzzlesAsyncHandler(client);
+        simulsHandler = new SimulsHandler(client);
+        studiesHandler = new StudiesHandler(client, requestHandler());
+        tablebaseHandler = new TablebaseHandler(client);
+        teamsHandler = new TeamsHandler(client);
+        teamsAsyncHandler = new TeamsAsyncHandler(client);
         tokenHandler = new TokenHandler(client, requestHandler());
-        tournamentsHandler = new TournamentsHandler(client::request);
-        usersHandler = new UsersHandler(client::request);
-        customHandler = new CustomHandler(client::request);
+        tournamentsHandler = new TournamentsHandler(client);
+        usersHandler = new UsersHandler(client);
+        usersAsyncHandler = new UsersAsyncHandler(client);
+        customHandler = new CustomHandler(client);
     }
 
     /**
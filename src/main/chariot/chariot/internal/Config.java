@@ -1,6 +1,8 @@
 package chariot.internal;
 
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.*;
 import java.util.logging.*;
@@ -19,6 +21,14 @@ import chariot.api.Builders.*;
 //  - response
 //  - auth
 // retries
+// retry budget
+// stream idle timeout
+// response cache
+// rate limits
+//  - api
+//  - explorer
+//  - tablebase
+//  - engine
 // token
 
 public sealed interface Config {
@@ -26,16 +36,24 @@ public sealed interface Config {
     record Auth(Basic basic, Supplier<char[]> token)            implements Config {
         @Override public String toString() { return "Auth[%s]".formatted(basic()); }
     }
-    record Basic(Servers servers, Logging logging, int retries, UAInfo uaInfo) implements Config {
+    record Basic(Servers servers, Logging logging, int retries, UAInfo uaInfo, int decodingThreads, RateLimits rateLimits, Duration retryBudget, Duration streamIdleTimeout, Caching caching) implements Config {
 
         // boilerplate begin (can be replaced when reconstruction is in place - https://github.com/openjdk/amber-docs/blob/master/eg-drafts/reconstruction-records-and-classes.md)
-        sealed interface Component permits Config.Servers, Config.Logging , Retries, UAInfo {}
+        sealed interface Component permits Config.Servers, Config.Logging , Retries, UAInfo, DecodingThreads, Config.RateLimits, RetryBudget, StreamIdleTimeout, Config.Caching {}
         record Retries(int value) implements Component { Retries { if (value < 0) throw new IllegalArgumentException("Retries (" + value + ") must not be < 0"); } }
+        record RetryBudget(Duration value) implements Component { RetryBudget { Objects.requireNonNull(value); if (value.isNegative()) throw new IllegalArgumentException("Retry budget (" + value + ") must not be negative"); } }
+        record StreamIdleTimeout(Duration value) implements Component { StreamIdleTimeout { Objects.requireNonNull(value); if (value.isNegative()) throw new IllegalArgumentException("Stream idle timeout (" + value + ") must not be negative"); } }
+        record DecodingThreads(int value) implements Component { DecodingThreads { if (value < 1) throw new IllegalArgumentException("Decoding threads (" + value + ") must not be < 1"); } }
         Basic with(Component component) { return new Basic(
                 component instanceof Servers   c ? c       : servers,
                 component instanceof Logging   c ? c       : logging,
                 component instanceof Retries   c ? c.value : retries,
-                component instanceof UAInfo    c ? c       : uaInfo);
+                component instanceof UAInfo    c ? c       : uaInfo,
+                component instanceof DecodingThreads c ? c.value : decodingThreads,
+                component instanceof RateLimits c ? c : rateLimits,
+                component instanceof RetryBudget c ? c.value : retryBudget,
+                component instanceof StreamIdleTimeout c ? c.value : streamIdleTimeout,
+                component instanceof Caching c ? c : caching);
         }
         Basic with(Component... components) {
             var copy = this;
@@ -82,6 +100,22 @@ public sealed interface Config {
         // bp
     }
 
+    /**
+     * @param maxEntries number of responses kept in memory, 0 disables the cache
+     * @param directory  where responses to unauthenticated requests are also stored, if present
+     */
+    record Caching(int maxEntries, Optional<Path> directory) implements Basic.Component {
+
+        static Caching off() { return new Caching(0, Optional.empty()); }
+
+        public Caching {
+            Objects.requireNonNull(directory);
+            if (maxEntries < 0) throw new IllegalArgumentException("Cache entries (" + maxEntries + ") must not be < 0");
+        }
+
+        boolean enabled() { return maxEntries > 0; }
+    }
+
     record Logging(Logger request, Logger response, Logger auth, int instanceNum) implements Basic.Component {
         private static int globalCount = 0;
 
@@ -109,6 +143,70 @@ public sealed interface Config {
 
     record UAInfo(String identifier, boolean replace) implements Basic.Component { public UAInfo { Objects.requireNonNull(identifier); } }
 
+    /**
+     * A token bucket holding up to {@code burst} requests, refilled with one request per {@code spacing},
+     * and the number of requests and streams allowed to be in flight at the same time.
+     */
+    record RateLimit(int burst, Duration spacing, int parallel, int streams) {
+
+        static RateLimit of() {
+            return new RateLimit(4, Duration.ofSeconds(1), 1, 8);
+        }
+
+        public RateLimit {
+            if (burst < 1) throw new IllegalArgumentException("Burst (" + burst + ") must not be < 1");
+            Objects.requireNonNull(spacing);
+            if (spacing.isNegative()) throw new IllegalArgumentException("Spacing (" + spacing + ") must not be negative");
+            if (parallel < 1) throw new IllegalArgumentException("Parallel requests (" + parallel + ") must not be < 1");
+            if (streams < 1) throw new IllegalArgumentException("Streams (" + streams + ") must not be < 1");
+        }
+
+        static RateLimit parse(String value) {
+            var parts = value.split(",");
+            return new RateLimit(
+                    Integer.parseInt(parts[0]),
+                    Duration.ofMillis(Long.parseLong(parts[1])),
+                    Integer.parseInt(parts[2]),
+                    Integer.parseInt(parts[3]));
+        }
+
+        String format() {
+            return "%d,%d,%d,%d".formatted(burst, spacing.toMillis(), parallel, streams);
+        }
+    }
+
+    record RateLimits(RateLimit api, RateLimit explorer, RateLimit tablebase, RateLimit engine) implements Basic.Component {
+
+        static RateLimits of() {
+            var limit = RateLimit.of();
+            return new RateLimits(limit, limit, limit, limit);
+        }
+
+        public RateLimits {
+            Objects.requireNonNull(api);
+            Objects.requireNonNull(explorer);
+            Objects.requireNonNull(tablebase);
+            Objects.requireNonNull(engine);
+        }
+
+        public RateLimit get(ServerType type) {
+            return switch(type) {
+                case api -> api;
+                case explorer -> explorer;
+                case tablebase -> tablebase;
+                case engine -> engine;
+            };
+        }
+
+        RateLimits with(ServerType type, RateLimit limit) {
+            return new RateLimits(
+                    type == ServerType.api       ? limit : api,
+                    type == ServerType.explorer  ? limit : explorer,
+                    type == ServerType.tablebase ? limit : tablebase,
+                    type == ServerType.engine    ? limit : engine);
+        }
+    }
+
     enum ServerType {
         api,
         explorer,
@@ -129,8 +227,13 @@ public sealed interface Config {
     }
 
     default int     retries()   { return basic().retries();   }
+    default Duration retryBudget() { return basic().retryBudget(); }
+    default Duration streamIdleTimeout() { return basic().streamIdleTimeout(); }
+    default int     decodingThreads() { return basic().decodingThreads(); }
     default Servers servers()   { return basic().servers();   }
     default Logging logging()   { return basic().logging();   }
+    default RateLimits rateLimits() { return basic().rateLimits(); }
+    default Caching caching()   { return basic().caching();   }
     default String  userAgent() {
         String identifier = basic().uaInfo().identifier();
         if (basic().uaInfo().replace()) return identifier;
@@ -149,6 +252,12 @@ public sealed interface Config {
         prefs.put("chariot.response", logging().response().getLevel().toString());
         prefs.put("chariot.auth", logging().auth().getLevel().toString());
         prefs.put("retries", String.valueOf(retries()));
+        prefs.put("retry-budget", String.valueOf(retryBudget().toMillis()));
+        prefs.put("stream-idle-timeout", String.valueOf(streamIdleTimeout().toMillis()));
+        prefs.put("response-cache", String.valueOf(caching().maxEntries()));
+        caching().directory().ifPresent(directory -> prefs.put("response-cache-dir", directory.toString()));
+        prefs.put("decoding-threads", String.valueOf(decodingThreads()));
+        for (var type : ServerType.values()) prefs.put("rate-limit-" + type, rateLimits().get(type).format());
         prefs.put("ua-identifier", basic().uaInfo().identifier());
         prefs.putBoolean("ua-replace", basic().uaInfo().replace());
         if (this instanceof Auth auth) prefs.put("auth", String.valueOf(auth.token().get()));
@@ -166,6 +275,15 @@ public sealed interface Config {
         lookup("chariot.response", prefs, value -> builder.logging(l -> l.response().parse(value)));
         lookup("chariot.auth",     prefs, value -> builder.logging(l -> l.auth().parse(value)));
         lookup("retries",          prefs, value -> builder.retries(Integer.parseInt(value)));
+        lookup("retry-budget",     prefs, value -> builder.retryBudget(Duration.ofMillis(Long.parseLong(value))));
+        lookup("stream-idle-timeout", prefs, value -> builder.streamIdleTimeout(Duration.ofMillis(Long.parseLong(value))));
+        lookup("response-cache",   prefs, value -> builder.basic = builder.basic.with(
+                    new Caching(Integer.parseInt(value), Optional.ofNullable(prefs.get("response-cache-dir", null)).map(Path::of))));
+        lookup("decoding-threads", prefs, value -> builder.parallelDecoding(Integer.parseInt(value)));
+        for (var type : ServerType.values()) {
+            lookup("rate-limit-" + type, prefs, value -> builder.basic = builder.basic.with(
+                        builder.basic.rateLimits().with(type, RateLimit.parse(value))));
+        }
 
         String uaIdentifier = prefs.get("ua-identifier", "");
         boolean uaReplace = prefs.getBoolean("ua-replace", Boolean.FALSE);
@@ -197,7 +315,7 @@ public sealed interface Config {
     }
 
     class BasicConfigBuilder implements ConfigBuilder {
-        Basic basic = new Basic(Servers.of(), Logging.of(), 1 /*retries*/, new UAInfo("", false));
+        Basic basic = new Basic(Servers.of(), Logging.of(), 1 /*retries*/, new UAInfo("", false), 1 /*decodingThreads*/, RateLimits.of(), Duration.ofSeconds(90) /*retryBudget*/, Duration.ofSeconds(60) /*streamIdleTimeout*/, Caching.off());
 
         @Override
         public ConfigBuilder api(URI uri) {
@@ -227,6 +345,44 @@ public sealed interface Config {
             return this;
         }
 
+        @Override
+        public ConfigBuilder retryBudget(Duration maxWait) {
+            basic = basic.with(new Config.Basic.RetryBudget(maxWait));
+            return this;
+        }
+
+        @Override
+        public ConfigBuilder streamIdleTimeout(Duration timeout) {
+            basic = basic.with(new Config.Basic.StreamIdleTimeout(timeout));
+            return this;
+        }
+
+        @Override
+        public ConfigBuilder responseCache(int maxEntries) {
+            basic = basic.with(new Caching(maxEntries, Optional.empty()));
+            return this;
+        }
+
+        @Override
+        public ConfigBuilder responseCache(int maxEntries, Path directory) {
+            basic = basic.with(new Caching(maxEntries, Optional.of(directory)));
+            return this;
+        }
+
+        @Override
+        public ConfigBuilder parallelDecoding(int threads) {
+            basic = basic.with(new Config.Basic.DecodingThreads(threads));
+            return this;
+        }
+
+        @Override
+        public ConfigBuilder rateLimits(Consumer<RateLimitsBuilder> params) {
+            var rateLimitsBuilder = new DefaultRateLimitsBuilder(basic.rateLimits());
+            params.accept(rateLimitsBuilder);
+            basic = basic.with(rateLimitsBuilder.rateLimits);
+            return this;
+        }
+
         @Override
         public ConfigBuilder userAgent(String identifier, boolean replaceAll) {
             basic = basic.with(new Config.Basic.UAInfo(identifier, replaceAll));
@@ -248,6 +404,32 @@ public sealed interface Config {
         }
     }
 
+    class DefaultRateLimitsBuilder implements RateLimitsBuilder {
+        RateLimits rateLimits;
+        DefaultRateLimitsBuilder(RateLimits initial) { rateLimits = initial; }
+        @Override public RateLimitsBuilder api(Consumer<RateLimitBuilder> params)       { return limit(ServerType.api, params); }
+        @Override public RateLimitsBuilder explorer(Consumer<RateLimitBuilder> params)  { return limit(ServerType.explorer, params); }
+        @Override public RateLimitsBuilder tablebase(Consumer<RateLimitBuilder> params) { return limit(ServerType.tablebase, params); }
+        @Override public RateLimitsBuilder engine(Consumer<RateLimitBuilder> params)    { return limit(ServerType.engine, params); }
+
+        private RateLimitsBuilder limit(ServerType type, Consumer<RateLimitBuilder> params) {
+            var initial = rateLimits.get(type);
+            var builder = new RateLimitBuilder() {
+                int burst = initial.burst();
+                Duration spacing = initial.spacing();
+                int parallel = initial.parallel();
+                int streams = initial.streams();
+                @Override public RateLimitBuilder burst(int requests)        { burst = requests; return this; }
+                @Override public RateLimitBuilder spacing(Duration duration) { spacing = duration; return this; }
+                @Override public RateLimitBuilder parallel(int requests)     { parallel = requests; return this; }
+                @Override public RateLimitBuilder streams(int streams)       { this.streams = streams; return this; }
+            };
+            params.accept(builder);
+            rateLimits = rateLimits.with(type, new RateLimit(builder.burst, builder.spacing, builder.parallel, builder.streams));
+            return this;
+        }
+    }
+
     class DefaultLoggingBuilder implements LoggingBuilder {
         Logging logging;
         DefaultLoggingBuilder(Logging initial) { logging  = initial; }
@@ -0,0 +1,93 @@
+package chariot.internal;
+
+import java.io.*;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.*;
+
+/**
+ * Decompresses response bodies sent with {@code Content-Encoding: gzip} or {@code deflate}.
+ * <p>
+ * The decompressing stream is created on the first read, as reading the gzip header
+ * blocks until data has arrived, which must not happen while the response is being mapped.
+ * The body is inflated as it is consumed, so streams and bulk exports stay lazy.
+ */
+class ContentDecoding extends FilterInputStream {
+
+    static final String acceptEncoding = "gzip, deflate";
+
+    private final String encoding;
+    private boolean started;
+
+    private ContentDecoding(InputStream in, String encoding) {
+        super(in);
+        this.encoding = encoding;
+    }
+
+    /**
+     * @param contentEncoding the content-encoding of the response, if any
+     * @return the decompressed body, or the body as is if it isn't compressed with a supported encoding
+     */
+    static InputStream decode(InputStream body, Optional<String> contentEncoding) {
+        var encoding = contentEncoding.map(value -> value.trim().toLowerCase(Locale.ROOT)).orElse("identity");
+        return switch (encoding) {
+            case "gzip", "x-gzip", "deflate" -> new ContentDecoding(body, encoding);
+            default -> body;
+        };
+    }
+
+    private void start() throws IOException {
+        if (started) return;
+        started = true;
+        var pushback = new PushbackInputStream(in, 2);
+        int first = pushback.read();
+        if (first == -1) {
+            // No body, i.e. a HEAD request or a 304 response
+            in = pushback;
+            return;
+        }
+        int second = pushback.read();
+        if (second != -1) pushback.unread(second);
+        pushback.unread(first);
+
+        in = switch (encoding) {
+            case "deflate" -> zlibHeader(first, second)
+                ? new InflaterInputStream(pushback, new Inflater(), 8192)
+                // Some servers send raw deflate data, without the zlib header
+                : new InflaterInputStream(pushback, new Inflater(true), 8192);
+            default -> new GZIPInputStream(pushback, 8192);
+        };
+    }
+
+    private static boolean zlibHeader(int cmf, int flg) {
+        return flg != -1 && (cmf & 0x0f) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    @Override
+    public int read() throws IOException {
+        start();
+        return in.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        start();
+        return in.read(b, off, len);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return started ? in.available() : 0;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        start();
+        return in.skip(n);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -3,6 +3,7 @@ package chariot.internal;
 import static chariot.internal.Util.MediaType.*;
 
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
@@ -14,6 +15,8 @@ import chariot.internal.Config.ServerType;
 import chariot.internal.RequestParameters.*;
 import chariot.internal.Util.Method;
 import chariot.internal.ModelMapper.Timeline;
+import chariot.internal.yayson.Lexer;
+import chariot.internal.yayson.Token;
 import chariot.model.*;
 
 import static chariot.internal.ModelMapper.mapper;
@@ -21,23 +24,30 @@ import static chariot.internal.ModelMapper.mapperArr;
 
 public sealed interface Endpoint<T> {
 
-    public record EPOne<T>(EP ep, Function<Stream<String>, One<T>> mapper) implements Endpoint<T> {
+    public record EPOne<T>(EP ep, Function<RequestResult.Success, One<T>> mapper) implements Endpoint<T> {
 
         public ReqOne<T> newRequest(Consumer<Params> params) {
             return RequestParameters.one(toBuilder(params), result -> {
-                if (result instanceof RequestResult.Success s) return mapper.apply(s.stream());
+                if (result instanceof RequestResult.Success s) {
+                    try {
+                        return mapper.apply(s);
+                    } catch (UncheckedIOException uioe) {
+                        // Response body not completed, i.e. timed out or connection lost
+                        return One.fail(-1, Err.from(uioe.getCause().getMessage()));
+                    }
+                }
                 if (result instanceof RequestResult.Failure f) return One.fail(f.code(), Err.from(f.body()));
-                return mapper.apply(Stream.of());
+                return One.none();
             });
         }
     }
 
-    public record EPMany<T>(EP ep, Function<Stream<String>, Many<T>> mapper) implements Endpoint<T> {
+    public record EPMany<T>(EP ep, Function<RequestResult.Success, Many<T>> mapper) implements Endpoint<T> {
         public ReqMany<T> newRequest(Consumer<Params> params) {
             return RequestParameters.many(toBuilder(params), result -> {
-                if (result instanceof RequestResult.Success s) return mapper.apply(s.stream());
+                if (result instanceof RequestResult.Success s) return mapper.apply(s);
                 if (result instanceof RequestResult.Failure f) return Many.fail(f.code(), Err.from(f.body()));
-                return mapper.apply(Stream.of());
+                return Many.entries(Stream.of());
             });
         }
     }
@@ -255,7 +265,7 @@ public sealed interface Endpoint<T> {
         Endpoint.of(TournamentStatus.class).endpoint("/api/tournament").toOne();
 
     public static EPMany<Game> gamesByArenaId =
-        Endpoint.of(Game.class).endpoint("/api/tournament/%s/games").accept(jsonstream).toMany();
+        Endpoint.of(Game.class).endpoint("/api/tournament/%s/games").accept(jsonstream).bulk().toMany();
 
     public static EPMany<Pgn> gamesByArenaIdPgn =
         Endpoint.of(Pgn.class).endpoint("/api/tournament/%s/games")
@@ -263,7 +273,7 @@ public sealed interface Endpoint<T> {
         .accept(chesspgn).toMany();
 
     public static EPMany<Game> gamesByUserId =
-        Endpoint.of(Game.class).endpoint("/api/games/user/%s").accept(jsonstream).toMany();
+        Endpoint.of(Game.class).endpoint("/api/games/user/%s").accept(jsonstream).bulk().toMany();
 
     public static EPMany<Pgn> gamesByUserIdPgn =
         Endpoint.of(Pgn.class).endpoint("/api/games/user/%s")
@@ -279,7 +289,7 @@ public sealed interface Endpoint<T> {
         .accept(chesspgn).toOne();
 
     public static EPMany<Game> gamesByIds =
-        Endpoint.of(Game.class).endpoint("/api/games/export/_ids").post(plain).accept(jsonstream).toMany();
+        Endpoint.of(Game.class).endpoint("/api/games/export/_ids").post(plain).accept(jsonstream).bulk().toMany();
 
     public static EPMany<Pgn> gamesByIdsPgn =
         Endpoint.of(Pgn.class).endpoint("/api/games/export/_ids").post(plain)
@@ -472,7 +482,7 @@ public sealed interface Endpoint<T> {
         Endpoint.of(Function.identity()).endpoint("/swiss/%s.trf").accept(plain).toMany();
 
     public static EPMany<Game> gamesBySwissId =
-        Endpoint.of(Game.class).endpoint("/api/swiss/%s/games").accept(jsonstream).toMany();
+        Endpoint.of(Game.class).endpoint("/api/swiss/%s/games").accept(jsonstream).bulk().toMany();
 
     public static EPMany<Pgn> gamesBySwissIdPgn =
         Endpoint.of(Pgn.class).endpoint("/api/swiss/%s/games")
@@ -645,8 +655,10 @@ public sealed interface Endpoint<T> {
 
     public static class Builder<T> {
         private String endpoint = "";
-        Function<Stream<String>, One<T>> mapOne;
-        Function<Stream<String>, Many<T>> mapMany;
+        Function<RequestResult.Success, One<T>> mapOne;
+        Function<RequestResult.Success, Many<T>> mapMany;
+        Function<String, T> lineMapper;
+        boolean bulk;
 
         private ServerType target = ServerType.api;
         private String accept = json;
@@ -656,8 +668,21 @@ public sealed interface Endpoint<T> {
 
         public Builder<T> elementMapper(Function<String, T> mapper) {
             Objects.requireNonNull(mapper);
-            this.mapOne = stream -> stream.map(mapper).filter(Objects::nonNull).findFirst().map(One::entry).orElse(One.none());
-            this.mapMany = stream -> Many.entries(stream.map(mapper).filter(Objects::nonNull));
+            this.mapOne = success -> success.stream().map(mapper).filter(Objects::nonNull).findFirst().map(One::entry).orElse(One.none());
+            this.mapMany = success -> Many.entries(success.stream().map(mapper).filter(Objects::nonNull));
+            this.lineMapper = mapper;
+            return this;
+        }
+
+        /**
+         * Maps the json values read directly from the response body,
+         * instead of first reading the response body as lines of text.
+         */
+        public Builder<T> valueMapper(BiFunction<Token, Lexer, T> mapper) {
+            Objects.requireNonNull(mapper);
+            this.mapOne = success -> success.values(mapper).filter(Objects::nonNull).findFirst().map(One::entry).orElse(One.none());
+            this.mapMany = success -> Many.entries(success.values(mapper).filter(Objects::nonNull));
+            this.lineMapper = null;
             return this;
         }
 
@@ -668,8 +693,18 @@ public sealed interface Endpoint<T> {
 
         public Builder<T> streamMapper(Function<Stream<String>, Stream<T>> mapper) {
             Objects.requireNonNull(mapper);
-            this.mapOne = stream -> mapper.apply(stream).findFirst().map(One::entry).orElse(One.none());
-            this.mapMany = stream -> Many.entries(mapper.apply(stream).filter(Objects::nonNull));
+            this.mapOne = success -> mapper.apply(success.stream()).findFirst().map(One::entry).orElse(One.none());
+            this.mapMany = success -> Many.entries(mapper.apply(success.stream()).filter(Objects::nonNull));
+            this.lineMapper = null;
+            return this;
+        }
+
+        /**
+         * A bounded export, whose lines may be read ahead and decoded in parallel.
+         * Not for live streams, where each event must be passed on as soon as it arrives.
+         */
+        public Builder<T> bulk() {
+            this.bulk = true;
             return this;
         }
 
@@ -731,11 +766,24 @@ public sealed interface Endpoint<T> {
         return new EPOne<>(new EP(builder.endpoint, builder.accept, builder.contentType, builder.method, builder.scope, builder.target), builder.mapOne);
     }
     static <T> EPMany<T> many(Builder<T> builder) {
-        return new EPMany<>(new EP(builder.endpoint, builder.accept, builder.contentType, builder.method, builder.scope, builder.target), builder.mapMany);
+        var mapMany = builder.mapMany;
+        if (builder.bulk && jsonstream.equals(builder.accept) && builder.lineMapper != null) {
+            // Bulk ndjson, which can be decoded in parallel if configured
+            var sequential = mapMany;
+            var lineMapper = builder.lineMapper;
+            mapMany = success -> success.decoder().isPresent() ?
+                Many.entries(success.decode(lineMapper).filter(Objects::nonNull)) :
+                sequential.apply(success);
+        }
+        return new EPMany<>(new EP(builder.endpoint, builder.accept, builder.contentType, builder.method, builder.scope, builder.target), mapMany);
     }
 
     public static <T> Builder<T> of(Class<T> clazz) {
-        return of(mapper(clazz));
+        var builder = ModelMapper.valueMapper(clazz)
+            .map(valueMapper -> new Builder<T>().valueMapper(valueMapper))
+            .orElseGet(() -> of(mapper(clazz)));
+        builder.lineMapper = mapper(clazz);
+        return builder;
     }
 
     public static <T> Builder<T> of(Function<String, T> elementMapper) {
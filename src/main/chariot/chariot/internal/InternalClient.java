@@ -1,39 +1,38 @@
 package chariot.internal;
 
+import java.io.*;
 import java.net.URI;
 import java.net.http.*;
 import java.net.http.HttpClient.*;
 import java.net.http.HttpRequest.*;
 import java.net.http.HttpResponse.*;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.*;
-import java.util.concurrent.locks.*;
 import java.util.function.*;
 import java.util.logging.Level;
 import java.util.stream.*;
 
 import chariot.Client.Scope;
+import chariot.internal.Config.ServerType;
 
-public class InternalClient {
+public class InternalClient implements RequestHandler {
 
     private final Config config;
-    private final int retryMillis = 60_000;
-    private final int burstRefillAfterInactivityMillis = 10_000;
-    private final int requestSpacingMillis = 1_000;
-
-    private final int NUMBER_OF_PARALLEL_REQUESTS = 1;
-    private final int NUMBER_OF_BURST_REQUESTS = 4;
-    private final int NUMBER_OF_STREAM_REQUESTS = 8;
-
-    private final Semaphore singleSemaphore = new Semaphore(NUMBER_OF_PARALLEL_REQUESTS, true);
-    private final Semaphore streamSemaphore = new Semaphore(NUMBER_OF_STREAM_REQUESTS, true);
-    private final Semaphore burstSemaphore = new Semaphore(NUMBER_OF_BURST_REQUESTS);
-    private final Semaphore waitingSemaphore = new Semaphore(0);
-    private final AtomicLong previousRequestTS = new AtomicLong();
-    private final AtomicBoolean throttle429 = new AtomicBoolean();
-    private final Lock throttleLock = new ReentrantLock();
+
+    private final Map<ServerType, RequestScheduler> schedulers = new EnumMap<>(ServerType.class);
+    private final ScheduledExecutorService dispatcher = RequestScheduler.dispatcher();
+
+    // Shared by the clients, the idle threads end after a minute
+    private static final ExecutorService asyncExecutor = Executors.newCachedThreadPool(runnable -> {
+        var thread = new Thread(runnable, "chariot-async");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final HttpClient httpClient = HttpClient.newBuilder()
         .version(Version.HTTP_2)
@@ -41,15 +40,90 @@ public class InternalClient {
         .followRedirects(Redirect.NORMAL)
         .build();
 
+    private final Optional<ParallelDecoder> decoder;
+    private final Optional<ResponseCache> cache;
+    private final SingleFlight singleFlight = new SingleFlight();
+
     public InternalClient(Config config) {
         this.config = config;
+        for (var type : ServerType.values()) {
+            schedulers.put(type, new RequestScheduler(config.rateLimits().get(type), dispatcher));
+        }
+        this.decoder = config.decodingThreads() > 1 ?
+            Optional.of(new ParallelDecoder(config.decodingThreads())) :
+            Optional.empty();
+        this.cache = config.caching().enabled() ?
+            Optional.of(new ResponseCache(config.caching())) :
+            Optional.empty();
     }
 
     public Config config() {
         return config;
     }
 
+    @Override
     public RequestResult request(RequestParameters request) {
+        var httpRequest = httpRequest(request);
+
+        if (SingleFlight.coalescable(request)) {
+            return singleFlight.request(ResponseCache.key(httpRequest), () -> send(request, httpRequest));
+        }
+        return send(request, httpRequest);
+    }
+
+    @Override
+    public CompletableFuture<RequestResult> requestAsync(RequestParameters request) {
+        var httpRequest = httpRequest(request);
+
+        if (SingleFlight.coalescable(request)) {
+            return singleFlight.requestAsync(ResponseCache.key(httpRequest), () -> sendAsync(request, httpRequest));
+        }
+        return sendAsync(request, httpRequest);
+    }
+
+    @Override
+    public Executor asyncExecutor() {
+        return asyncExecutor;
+    }
+
+    private RequestResult send(RequestParameters request, HttpRequest httpRequest) {
+        var cached = cached(request, httpRequest);
+        if (cached.filter(ResponseCache.Entry::fresh).isPresent()) {
+            return fromCache(httpRequest, cached.get());
+        }
+
+        HttpResponse<InputStream> httpResponse;
+        try {
+            var sent = cached.map(entry -> ResponseCache.conditional(httpRequest, entry)).orElse(httpRequest);
+            httpResponse = sendWithRetry(schedulers.get(request.target()), request.stream(), sent, bodyHandler(request));
+        } catch(Exception e) {
+            config.logging().request().log(Level.SEVERE, "%s".formatted(httpRequest), e);
+            return new RequestResult.Failure(-1, e.getMessage());
+        }
+
+        return result(request, httpRequest, httpResponse, cached);
+    }
+
+    private CompletableFuture<RequestResult> sendAsync(RequestParameters request, HttpRequest httpRequest) {
+        var cached = cached(request, httpRequest);
+        if (cached.filter(ResponseCache.Entry::fresh).isPresent()) {
+            return CompletableFuture.completedFuture(fromCache(httpRequest, cached.get()));
+        }
+
+        var sent = cached.map(entry -> ResponseCache.conditional(httpRequest, entry)).orElse(httpRequest);
+        // The body is read off the threads of the http client
+        return sendWithRetryAsync(schedulers.get(request.target()), request.stream(), sent, bodyHandler(request))
+            .handleAsync((httpResponse, throwable) -> {
+                if (throwable != null) {
+                    var cause = throwable instanceof CompletionException ce && ce.getCause() != null ? ce.getCause() : throwable;
+                    config.logging().request().log(Level.SEVERE, "%s".formatted(httpRequest), cause);
+                    return new RequestResult.Failure(-1, cause.getMessage());
+                }
+                return result(request, httpRequest, httpResponse, cached);
+            }, asyncExecutor);
+    }
+
+    private HttpRequest httpRequest(RequestParameters request) {
 
         String baseUri = switch(request.target()) {
             case api -> config.servers().api().toString();
@@ -80,11 +154,18 @@ public class InternalClient {
             case HEAD   -> builder.method("HEAD", BodyPublishers.noBody());
         };
 
+        if (request.timeout() != null) {
+            builder.timeout(request.timeout());
+        }
+
         if (config instanceof Config.Auth auth) {
             builder.header("authorization", "Bearer " + String.valueOf(auth.token().get()));
         }
 
         builder.header("user-agent", config.userAgent());
+        if (request.headers().keySet().stream().noneMatch("accept-encoding"::equalsIgnoreCase)) {
+            builder.header("accept-encoding", ContentDecoding.acceptEncoding);
+        }
         request.headers().forEach((k,v) -> builder.header(k,v));
 
         var httpRequest = builder.build();
@@ -99,14 +180,78 @@ public class InternalClient {
                     requestBody.isEmpty() ? "<no body>" : requestBody)
                 );
 
-        HttpResponse<Stream<String>> httpResponse;
+        return httpRequest;
+    }
+
+    /**
+     * Enforces the timeout of the request on the complete body of a single response.
+     * Streams and bulk responses, which may take long to download, only time out if no data is received for a while.
+     * Compressed bodies are decompressed while being read.
+     * The handler is created when the request is sent.
+     */
+    private Supplier<BodyHandler<InputStream>> bodyHandler(RequestParameters request) {
+        return () -> {
+            long sentTS = System.currentTimeMillis();
+            return responseInfo -> BodySubscribers.mapping(BodySubscribers.ofInputStream(), body -> {
+                boolean ndjson = responseInfo.headers().firstValue("content-type")
+                    .filter(type -> type.startsWith(Util.MediaType.jsonstream)).isPresent();
+                boolean single = request instanceof RequestParameters.ReqOne<?> && ! request.stream() && ! ndjson;
+                var timed = single && request.timeout() != null
+                    ? TimeoutInputStream.withDeadline(body, dispatcher, request.timeout(), sentTS)
+                    : TimeoutInputStream.withIdleTimeout(body, dispatcher, config.streamIdleTimeout());
+                return ContentDecoding.decode(timed, responseInfo.headers().firstValue("content-encoding"));
+            });
+        };
+    }
+
+    private Optional<ResponseCache.Entry> cached(RequestParameters request, HttpRequest httpRequest) {
+        return cache.filter(__ -> ResponseCache.cacheable(request)).flatMap(c -> c.get(httpRequest));
+    }
+
+    /**
+     * Answers a 304 response from the cache, and stores cacheable 200 responses
+     */
+    private RequestResult result(RequestParameters request, HttpRequest httpRequest, HttpResponse<InputStream> httpResponse, Optional<ResponseCache.Entry> cached) {
+        if (cache.isEmpty() || ! ResponseCache.cacheable(request)) return result(httpResponse);
+
+        if (httpResponse.statusCode() == 304 && cached.isPresent()) {
+            try { httpResponse.body().close(); } catch (IOException ioe) {}
+            return fromCache(httpRequest, cache.get().revalidated(httpRequest, cached.get(), httpResponse.headers()));
+        }
+
+        if (httpResponse.statusCode() != 200
+            || ! ResponseCache.storable(httpResponse.headers())
+            || ResponseCache.maxAgeMillis(httpResponse.headers()) < 0) {
+            return result(httpResponse);
+        }
+
+        var in = httpResponse.body();
+        byte[] body;
         try {
-            httpResponse = sendWithRetry(request.stream(), httpRequest, BodyHandlers.ofLines(), config.retries());
-        } catch(Exception e) {
-            config.logging().request().log(Level.SEVERE, "%s".formatted(httpRequest), e);
+            body = in.readNBytes(ResponseCache.maxBodyBytes + 1);
+        } catch (IOException e) {
+            try { in.close(); } catch (IOException ioe) {}
+            config.logging().response().log(Level.WARNING, "%s".formatted(httpResponse), e);
             return new RequestResult.Failure(-1, e.getMessage());
         }
+        if (body.length > ResponseCache.maxBodyBytes) {
+            // Too large to keep, the rest is read as it arrives
+            config.logging().response().info(() -> "### Response: %s".formatted(httpResponse));
+            return new RequestResult.Success(new SequenceInputStream(new ByteArrayInputStream(body), in), config.logging().response(), decoder);
+        }
+        try { in.close(); } catch (IOException ioe) {}
+        cache.get().put(httpRequest, httpResponse.headers(), body);
 
+        config.logging().response().info(() -> "### Response: %s".formatted(httpResponse));
+        return new RequestResult.Success(new ByteArrayInputStream(body), config.logging().response(), decoder);
+    }
+
+    private RequestResult fromCache(HttpRequest httpRequest, ResponseCache.Entry entry) {
+        config.logging().response().info(() -> "### Response: (cached) %s".formatted(httpRequest.uri()));
+        return new RequestResult.Success(new ByteArrayInputStream(entry.body()), config.logging().response(), decoder);
+    }
+
+    private RequestResult result(HttpResponse<InputStream> httpResponse) {
         var statusCode = httpResponse.statusCode();
         if (statusCode >= 200 && statusCode <= 299) {
 
@@ -119,13 +264,9 @@ public class InternalClient {
 
             config.logging().response().info(msg);
 
-            var stream = httpResponse.body()
-                .peek(string -> { if (! string.isEmpty()) config.logging().response().info(() -> string); })
-                .filter(Predicate.not("{}"::equals)); // Filter out any keep-alive messages
-
-            return new RequestResult.Success(stream);
+            return new RequestResult.Success(httpResponse.body(), config.logging().response(), decoder);
         } else {
-            var responseBody = httpResponse.body().collect(Collectors.joining());
+            var responseBody = readBody(httpResponse);
 
             Supplier<String> msg = () -> {
                 var headers = httpResponse.headers().map().entrySet().stream()
@@ -148,85 +289,133 @@ public class InternalClient {
         }
     }
 
-    private <T> HttpResponse<T> sendWithRetry(boolean stream, HttpRequest httpRequest, BodyHandler<T> bodyHandler, int retries) throws Exception {
-
-        var response = sendRequest(stream, httpRequest, bodyHandler);
+    private String readBody(HttpResponse<InputStream> httpResponse) {
+        try (var reader = new BufferedReader(new InputStreamReader(httpResponse.body(), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining());
+        } catch (IOException | UncheckedIOException e) {
+            config.logging().response().log(Level.WARNING, "%s".formatted(httpResponse), e);
+            return "";
+        }
+    }
 
-        if (response.statusCode() == 429) {
+    private <T> HttpResponse<T> sendWithRetry(RequestScheduler scheduler, boolean stream, HttpRequest httpRequest, Supplier<BodyHandler<T>> bodyHandler) throws Exception {
+        return sendWithRetry(scheduler, stream, httpRequest, bodyHandler, config.retries(), retryDeadline());
+    }
 
-            // Perform a retry in a minute...
-            throttle429.set(true);
+    private <T> HttpResponse<T> sendWithRetry(RequestScheduler scheduler, boolean stream, HttpRequest httpRequest, Supplier<BodyHandler<T>> bodyHandler, int retries, long deadline) throws Exception {
 
-            config.logging().response().warning(() -> "%s".formatted(response));
+        var response = sendRequest(scheduler, stream, httpRequest, bodyHandler);
 
-            if (retries > 0) {
-                var builder = HttpRequest.newBuilder(httpRequest, (n, v) -> true);
-                httpRequest.timeout().ifPresent(t -> builder.timeout(t.plusMillis(retryMillis)));
-                var retryHttpRequest = builder.build();
-                return sendWithRetry(stream, retryHttpRequest, bodyHandler, retries-1);
-            }
+        if (backOff(scheduler, response, retries, deadline)) {
+            return sendWithRetry(scheduler, stream, httpRequest, bodyHandler, retries-1, deadline);
         }
 
         return response;
     }
 
-    private <T> HttpResponse<T> sendRequest(
-            boolean stream,
-            HttpRequest httpRequest,
-            BodyHandler<T> bodyHandler) throws Exception {
+    private <T> CompletableFuture<HttpResponse<T>> sendWithRetryAsync(RequestScheduler scheduler, boolean stream, HttpRequest httpRequest, Supplier<BodyHandler<T>> bodyHandler) {
+        return sendWithRetryAsync(scheduler, stream, httpRequest, bodyHandler, config.retries(), retryDeadline());
+    }
 
-        throttleLock.lock();
-        try {
-            if (throttle429.get()) {
-                long elapsedSince429 = System.currentTimeMillis() - previousRequestTS.get();
-                long wait = retryMillis - elapsedSince429;
-                if (wait > 0) {
-                    waitingSemaphore.tryAcquire(wait, TimeUnit.MILLISECONDS);
-                }
-                throttle429.set(false);
+    private <T> CompletableFuture<HttpResponse<T>> sendWithRetryAsync(RequestScheduler scheduler, boolean stream, HttpRequest httpRequest, Supplier<BodyHandler<T>> bodyHandler, int retries, long deadline) {
+
+        return sendRequestAsync(scheduler, stream, httpRequest, bodyHandler).thenCompose(response -> {
+
+            if (backOff(scheduler, response, retries, deadline)) {
+                return sendWithRetryAsync(scheduler, stream, httpRequest, bodyHandler, retries-1, deadline);
             }
-        } finally {
-            throttleLock.unlock();
-        }
 
-        Semaphore semaphore = stream ? streamSemaphore : singleSemaphore;
+            return CompletableFuture.completedFuture(response);
+        });
+    }
+
+    private long retryDeadline() {
+        return System.currentTimeMillis() + config.retryBudget().toMillis();
+    }
 
-        boolean burst = false;
-        if ( ! stream ) {
-            burst = burstSemaphore.tryAcquire();
+    /**
+     * Backs off the server if the response indicates throttling (status code 429),
+     * for as long as the server asks for or else with a growing jittered delay.
+     * The retry is queued until the back off has passed.
+     *
+     * @return true if the request should be retried, in which case the response body has been discarded
+     */
+    private boolean backOff(RequestScheduler scheduler, HttpResponse<?> response, int retries, long deadline) {
+        if (response.statusCode() != 429) {
+            scheduler.accepted();
+            return false;
         }
 
-        try {
-            if ( ! burst ) {
-                semaphore.acquire();
+        long pauseMillis = scheduler.throttled(retryAfterMillis(response.headers()));
 
-                long elapsedSincePreviousRequest = System.currentTimeMillis() - previousRequestTS.get();
+        config.logging().response().warning(() -> "%s - backing off %d ms".formatted(response, pauseMillis));
 
-                if (! stream) {
-                    if (elapsedSincePreviousRequest > burstRefillAfterInactivityMillis) {
-                        burstSemaphore.release(NUMBER_OF_BURST_REQUESTS);
-                    }
-                }
+        if (retries <= 0 || System.currentTimeMillis() + pauseMillis > deadline) {
+            return false;
+        }
 
-                if (elapsedSincePreviousRequest < requestSpacingMillis) {
-                    long wait = requestSpacingMillis - elapsedSincePreviousRequest;
-                    waitingSemaphore.tryAcquire(wait, TimeUnit.MILLISECONDS);
-                }
+        if (response.body() instanceof InputStream body) {
+            try { body.close(); } catch (IOException ioe) {}
+        }
+        return true;
+    }
+
+    /**
+     * The delay requested by the server, from the Retry-After header (seconds or HTTP-date)
+     * or the RateLimit-Reset header (seconds)
+     */
+    static OptionalLong retryAfterMillis(HttpHeaders headers) {
+        var retryAfter = headers.firstValue("retry-after").map(String::trim);
+        if (retryAfter.isPresent()) {
+            String value = retryAfter.get();
+            try {
+                return OptionalLong.of(Math.max(0, Long.parseLong(value)) * 1000);
+            } catch (NumberFormatException nfe) {
+                try {
+                    var date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                    return OptionalLong.of(Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis()));
+                } catch (DateTimeParseException dtpe) {}
             }
+        }
+        var reset = headers.firstValue("ratelimit-reset").map(String::trim);
+        if (reset.isPresent()) {
+            try {
+                return OptionalLong.of(Math.max(0, Long.parseLong(reset.get())) * 1000);
+            } catch (NumberFormatException nfe) {}
+        }
+        return OptionalLong.empty();
+    }
 
-            config.logging().request().fine(() -> "%s".formatted(httpRequest));
+    private <T> HttpResponse<T> sendRequest(
+            RequestScheduler scheduler,
+            boolean stream,
+            HttpRequest httpRequest,
+            Supplier<BodyHandler<T>> bodyHandler) throws Exception {
 
-            var response = httpClient.send(httpRequest, bodyHandler);
+        Runnable release = scheduler.acquire(stream);
+        try {
+            config.logging().request().fine(() -> "%s".formatted(httpRequest));
 
-            previousRequestTS.set(System.currentTimeMillis());
-            return response;
+            return httpClient.send(httpRequest, bodyHandler.get());
         } finally {
-            if ( ! burst ) {
-                semaphore.release();
-            }
+            release.run();
         }
     }
 
+    private <T> CompletableFuture<HttpResponse<T>> sendRequestAsync(
+            RequestScheduler scheduler,
+            boolean stream,
+            HttpRequest httpRequest,
+            Supplier<BodyHandler<T>> bodyHandler) {
+
+        return scheduler.enqueue(stream).thenCompose(release -> {
+            config.logging().request().fine(() -> "%s".formatted(httpRequest));
+
+            return httpClient.sendAsync(httpRequest, bodyHandler.get())
+                .whenComplete((response, throwable) -> release.run());
+        });
+    }
+
     public Set<Scope> fetchScopes(String endpointPath) {
         return config instanceof Config.Auth auth ?
             fetchScopes(endpointPath, auth.token()) : Set.of();
@@ -267,7 +456,7 @@ public class InternalClient {
 
         HttpResponse<Void> response;
         try {
-            response = sendWithRetry(false, httpRequest, BodyHandlers.discarding(), config().retries());
+            response = sendWithRetry(schedulers.get(ServerType.api), false, httpRequest, BodyHandlers::discarding);
         } catch (Exception e) {
             config.logging().request().log(Level.SEVERE, "%s".formatted(httpRequest), e);
             return null;
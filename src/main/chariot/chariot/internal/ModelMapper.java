@@ -4,6 +4,8 @@ import java.lang.reflect.Array;
 import java.net.URI;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.*;
 
@@ -22,8 +24,9 @@ import static chariot.model.UserData.StreamerInfoPropertyEnum.*;
 public class ModelMapper {
 
     private static final YayMapper mapper = YayMapper.mapper();
-    private static final Map<Class<?>, Function<String, ?>> mappings = new HashMap<>();
-    private static final Map<Class<?>, Function<String, ?>> mappingsArr = new HashMap<>();
+    private static final Map<Class<?>, Function<String, ?>> mappings = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Function<String, ?>> mappingsArr = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> customMappings;
 
     public static <T> Function<String, T> mapper(final Class<T> clazz) {
         return (Function<String, T>) mappings.computeIfAbsent(clazz, c -> json -> mapper.fromString(json, c));
@@ -46,6 +49,15 @@ public class ModelMapper {
         });
     }
 
+    /**
+     * A mapper reading json tokens, for model classes without a custom mapping from the json text.
+     */
+    public static <T> Optional<BiFunction<Token, Lexer, T>> valueMapper(final Class<T> clazz) {
+        if (customMappings.contains(clazz)) return Optional.empty();
+        if (! (clazz.isRecord() || (clazz.isInterface() && clazz.isSealed()))) return Optional.empty();
+        return Optional.of((token, lexer) -> mapper.fromTokens(token, lexer, clazz));
+    }
+
     static {
         // Add custom mapping of some model classes,
         // where automatic transformation of json model to java model isn't straightforward.
@@ -62,7 +74,7 @@ public class ModelMapper {
             var helper = (Function<YayNode, Crosstable.Results>) node -> {
                 if (node instanceof YayObject yo && yo.value().get("users") instanceof YayObject you) {
                     var set = you.value().entrySet().stream()
-                        .map(e -> new Crosstable.Results.Result(e.getKey(), ((YayNumber)e.getValue()).value().doubleValue()))
+                        .map(e -> new Crosstable.Results.Result(e.getKey(), ((YayNumber)e.getValue()).doubleValue()))
                         .collect(Collectors.toSet());
 
                     // Results model
@@ -114,7 +126,7 @@ public class ModelMapper {
                                          "%d+%d".formatted(initial.toMinutes(), increment.toSeconds()),
                                          speed);
                 } else if (yo.value().get("daysPerTurn") instanceof YayNumber yayNum) {
-                    timeControl = new Correspondence(yayNum.value().intValue());
+                    timeControl = new Correspondence(yayNum.intValue());
                 } else {
                     timeControl = new Unlimited(); // guess.
                 }
@@ -845,8 +857,8 @@ public class ModelMapper {
                                 var d = list.get(2);
                                 var p = list.get(3);
 
-                                var date = LocalDate.of(y.value().intValue(), m.value().intValue()+1, d.value().intValue());
-                                var points = p.value().intValue();
+                                var date = LocalDate.of(y.intValue(), m.intValue()+1, d.intValue());
+                                var points = p.intValue();
 
                                 // DateResult model
                                 return new RatingHistory.DateResult(date, points);
@@ -957,6 +969,8 @@ public class ModelMapper {
             }
             return null;
         });
+
+        customMappings = Set.copyOf(mappings.keySet());
     }
 
     public record Timeline(List<TLEntry> entries, TLUsers users) {
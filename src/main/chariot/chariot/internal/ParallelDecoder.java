@@ -0,0 +1,61 @@
+package chariot.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.*;
+
+/**
+ * Decodes the lines of a response on a bounded pool of threads, which are only kept while decoding,
+ * while the thread consuming the stream reads the lines ahead.
+ * The decoded entries are returned in the same order as the lines.
+ */
+class ParallelDecoder {
+
+    private final ExecutorService executor;
+    private final int window;
+
+    ParallelDecoder(int threads) {
+        var pool = new ThreadPoolExecutor(threads, threads, 2, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            var thread = new Thread(runnable, "chariot-decoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Clients aren't closed, so the threads end when there is nothing to decode
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+        // Limit the number of lines read ahead of the consumer
+        this.window = threads * 4;
+    }
+
+    <T> Stream<T> decode(Stream<String> lines, Function<String, T> mapper) {
+        var source = lines.iterator();
+        var pending = new ArrayDeque<Future<T>>(window);
+
+        var iterator = new Iterator<T>() {
+            @Override public boolean hasNext() {
+                while (pending.size() < window && source.hasNext()) {
+                    var line = source.next();
+                    pending.add(executor.submit(() -> mapper.apply(line)));
+                }
+                return ! pending.isEmpty();
+            }
+            @Override public T next() {
+                if (! hasNext()) throw new NoSuchElementException();
+                try {
+                    return pending.poll().get();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Interrupted while decoding");
+                } catch (ExecutionException ee) {
+                    if (ee.getCause() instanceof RuntimeException re) throw re;
+                    throw new CompletionException(ee.getCause());
+                }
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+            .onClose(() -> pending.forEach(future -> future.cancel(true)))
+            .onClose(lines::close);
+    }
+}
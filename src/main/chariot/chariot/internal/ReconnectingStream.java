@@ -0,0 +1,252 @@
+package chariot.internal;
+
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.*;
+
+import chariot.model.*;
+import chariot.model.Enums.Status;
+
+/**
+ * A stream which reconnects when the connection is lost,
+ * for instance when Lichess restarts during a deploy.
+ * <p>
+ * The first events of a new connection repeat the current state (the game, ongoing games and challenges, the featured game),
+ * so a {@link Resync} suppresses the events the consumer has already seen,
+ * and the consumer sees one continuous stream.
+ */
+public class ReconnectingStream<T> implements Iterator<T> {
+
+    private static final long initialBackoffMillis = 1_000;
+    private static final long maxBackoffMillis = 60_000;
+    // A connection which stays up this long resets the back off
+    private static final long stableMillis = 60_000;
+
+    private static final Logger logger = Logger.getLogger("chariot.response");
+
+    /**
+     * Keeps track of the events passed on to the consumer
+     */
+    public interface Resync<T> {
+        /**
+         * Called when a new connection has been established, before its first event
+         */
+        default void reconnected() {}
+
+        /**
+         * @return the event to pass on to the consumer, or null to suppress it
+         */
+        T next(T event);
+
+        /**
+         * @return true if no more events are expected, and the stream shouldn't reconnect
+         */
+        default boolean done() { return false; }
+    }
+
+    private final Supplier<Many<T>> connect;
+    private final Resync<T> resync;
+
+    private Stream<T> current;
+    private Iterator<T> iterator;
+    private T next;
+    private int attempt;
+    private long connectedTS = System.currentTimeMillis();
+    private boolean closed;
+
+    private ReconnectingStream(Supplier<Many<T>> connect, Resync<T> resync, Stream<T> first) {
+        this.connect = connect;
+        this.resync = resync;
+        this.current = first;
+        this.iterator = first.iterator();
+    }
+
+    /**
+     * Connects and returns a stream which reconnects when the connection is lost.
+     * If the first connection fails, the failure is returned.
+     */
+    public static <T> Many<T> of(Supplier<Many<T>> connect, Resync<T> resync) {
+        var many = connect.get();
+        if (! (many instanceof Entries<T> entries)) return many;
+
+        var reconnecting = new ReconnectingStream<>(connect, resync, entries.stream());
+        return Many.entries(StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(reconnecting, Spliterator.ORDERED), false)
+                .onClose(reconnecting::close));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (closed) return false;
+            if (iterator != null && advance()) continue;
+            if (resync.done() || ! reconnect()) {
+                close();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (! hasNext()) throw new NoSuchElementException();
+        var event = next;
+        next = null;
+        return event;
+    }
+
+    /**
+     * @return false if the current connection has ended
+     */
+    private boolean advance() {
+        try {
+            if (iterator.hasNext()) {
+                next = resync.next(iterator.next());
+                return true;
+            }
+        } catch (UncheckedIOException uioe) {
+            // Connection lost or timed out, other exceptions are bugs to pass on to the consumer
+            logger.info(() -> "Connection lost, reconnecting: " + uioe.getCause());
+        }
+        current.close();
+        iterator = null;
+        if (System.currentTimeMillis() - connectedTS >= stableMillis) attempt = 0;
+        return false;
+    }
+
+    /**
+     * @return false if the stream should end
+     */
+    private boolean reconnect() {
+        while (! closed) {
+            try {
+                Thread.sleep(backoff(attempt++));
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            var many = connect.get();
+            if (many instanceof Entries<T> entries) {
+                resync.reconnected();
+                connectedTS = System.currentTimeMillis();
+                current = entries.stream();
+                iterator = current.iterator();
+                return true;
+            }
+            if (many instanceof Fail<T> fail && ! retryable(fail.status())) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean retryable(int status) {
+        // Connection failures, throttling and server errors
+        return status == -1 || status == 429 || status >= 500;
+    }
+
+    private static long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt, 16));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private void close() {
+        closed = true;
+        if (current != null) current.close();
+    }
+
+    /**
+     * Game stream, where a new connection starts with a {@link GameStateEvent.Full}.
+     * The full game is passed on first, after a reconnect only its state is passed on if it has changed.
+     * The stream ends when the game has ended.
+     */
+    public static Resync<GameStateEvent> gameStateEvents() {
+        return new Resync<>() {
+            boolean reconnected;
+            GameStateEvent.State state;
+
+            @Override public void reconnected() { reconnected = true; }
+
+            @Override public GameStateEvent next(GameStateEvent event) {
+                if (event instanceof GameStateEvent.Full full) {
+                    boolean first = state == null;
+                    boolean changed = ! Objects.equals(state, full.state());
+                    state = full.state();
+                    if (first) return full;
+                    boolean resumed = reconnected;
+                    reconnected = false;
+                    return resumed && changed ? full.state() : null;
+                }
+                if (event instanceof GameStateEvent.State newState) {
+                    if (Objects.equals(state, newState)) return null;
+                    state = newState;
+                }
+                return event;
+            }
+
+            @Override public boolean done() {
+                return state != null && state.status() != Status.created && state.status() != Status.started;
+            }
+        };
+    }
+
+    /**
+     * Event stream, where a new connection starts with the ongoing games and open challenges,
+     * which are suppressed if already passed on.
+     */
+    public static Resync<Event> events() {
+        return new Resync<>() {
+            final Set<String> games = new HashSet<>();
+            final Set<String> challenges = new HashSet<>();
+
+            @Override public Event next(Event event) {
+                if (event instanceof Event.GameStartEvent start) {
+                    challenges.remove(start.id());
+                    return games.add(start.id()) ? event : null;
+                }
+                if (event instanceof Event.GameStopEvent stop) {
+                    games.remove(stop.id());
+                    return event;
+                }
+                if (event instanceof Event.ChallengeCreatedEvent created) {
+                    return challenges.add(created.id()) ? event : null;
+                }
+                if (event instanceof Event.ChallengeEvent challenge) {
+                    challenges.remove(challenge.id());
+                }
+                return event;
+            }
+        };
+    }
+
+    /**
+     * TV feed, where a new connection starts with the featured game,
+     * which is suppressed if it is the same game and position.
+     */
+    public static Resync<TVFeedEvent> tvFeedEvents() {
+        return new Resync<>() {
+            TVFeedEvent.Featured featured;
+            TVFeedEvent.Fen fen;
+
+            @Override public TVFeedEvent next(TVFeedEvent event) {
+                if (event instanceof TVFeedEvent.Featured newFeatured) {
+                    if (featured != null && featured.id().equals(newFeatured.id())
+                        && (fen == null ? featured.fen() : fen.fen()).equals(newFeatured.fen())) return null;
+                    featured = newFeatured;
+                    fen = null;
+                    return event;
+                }
+                if (event instanceof TVFeedEvent.Fen newFen) {
+                    if (Objects.equals(fen, newFen)) return null;
+                    fen = newFen;
+                }
+                return event;
+            }
+        };
+    }
+}
@@ -1,7 +1,21 @@
 package chariot.internal;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public interface RequestHandler {
 
     public RequestResult request(RequestParameters parameters);
 
+    /**
+     * Performs the request without blocking the calling thread
+     */
+    public CompletableFuture<RequestResult> requestAsync(RequestParameters parameters);
+
+    /**
+     * The executor which reads and maps the responses of asynchronous requests,
+     * instead of the threads of the http client
+     */
+    public Executor asyncExecutor();
+
 }
@@ -5,6 +5,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import chariot.Client.Scope;
@@ -34,6 +35,10 @@ public sealed interface RequestParameters {
         public One<T> process(RequestHandler handler) {
             return mapper.apply(handler.request(this));
         }
+
+        public CompletableFuture<One<T>> processAsync(RequestHandler handler) {
+            return handler.requestAsync(this).thenApplyAsync(mapper, handler.asyncExecutor());
+        }
     }
 
     public record ReqMany<T>(
@@ -44,6 +49,10 @@ public sealed interface RequestParameters {
         public Many<T> process(RequestHandler handler) {
             return mapper.apply(handler.request(this));
         }
+
+        public CompletableFuture<Many<T>> processAsync(RequestHandler handler) {
+            return handler.requestAsync(this).thenApplyAsync(mapper, handler.asyncExecutor());
+        }
     }
 
     public Parameters parameters();
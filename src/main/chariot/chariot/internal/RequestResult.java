@@ -1,8 +1,66 @@
 package chariot.internal;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import chariot.internal.yayson.Lexer;
+import chariot.internal.yayson.Parser;
+import chariot.internal.yayson.Token;
+import chariot.internal.yayson.Token.*;
+
 sealed interface RequestResult {
     record Failure(int code, String body) implements RequestResult {}
-    record Success(java.util.stream.Stream<String> stream) implements RequestResult {}
-}
+    record Success(InputStream body, Logger logger, Optional<ParallelDecoder> decoder) implements RequestResult {
 
+        /**
+         * The response body as lines of text
+         */
+        public Stream<String> stream() {
+            var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            return reader.lines()
+                .peek(string -> { if (! string.isEmpty()) logger.info(() -> string); })
+                .filter(Predicate.not("{}"::equals)) // Filter out any keep-alive messages
+                .onClose(() -> { try { reader.close(); } catch (IOException ioe) {} });
+        }
 
+        /**
+         * The response body lines mapped with the mapper,
+         * in parallel if a decoder has been configured
+         */
+        public <T> Stream<T> decode(Function<String, T> mapper) {
+            return decoder.map(d -> d.decode(stream(), mapper)).orElseGet(() -> stream().map(mapper));
+        }
+
+        /**
+         * The response body as json values, read directly from the response bytes
+         * @param reader consumes the tokens of one json value, starting with the given token
+         */
+        public <T> Stream<T> values(BiFunction<Token, Lexer, T> reader) {
+            BiFunction<Token, Lexer, T> skipKeepAlive = (token, lexer) -> {
+                if (token instanceof BeginObject && lexer.peek() instanceof EndObject) {
+                    lexer.next();
+                    return null;
+                }
+                return reader.apply(token, lexer);
+            };
+            if (logger.isLoggable(Level.INFO)) {
+                // Keep the logging of the lines
+                return stream().map(line -> {
+                    var lexer = new Lexer(line);
+                    var token = lexer.next();
+                    return token == null ? null : skipKeepAlive.apply(token, lexer);
+                })
+                .filter(Objects::nonNull);
+            }
+            return Parser.stream(body, skipKeepAlive).filter(Objects::nonNull);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package chariot.internal;
+
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import chariot.internal.Config.RateLimit;
+
+/**
+ * Queues the requests to one server and dispatches them when its rate limit allows.
+ * <p>
+ * Waiting requests are only entries in a queue, so any number of (virtual)
+ * threads can wait without holding locks or platform threads.
+ * The dispatcher thread owns the token bucket and grants the permits,
+ * and schedules itself for the next point in time a permit can be granted.
+ */
+class RequestScheduler {
+
+    private final long initialBackoffMillis = 5_000;
+    private final long maxBackoffMillis = 60_000;
+
+    private final RateLimit limit;
+    private final long spacingMillis;
+    private final ScheduledExecutorService dispatcher;
+
+    private final Queue<CompletableFuture<Runnable>> singleQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<CompletableFuture<Runnable>> streamQueue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger singleInFlight = new AtomicInteger();
+    private final AtomicInteger streamsInFlight = new AtomicInteger();
+    private final AtomicLong pausedUntilTS = new AtomicLong();
+    private final AtomicInteger consecutiveThrottled = new AtomicInteger();
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+
+    // Only accessed by the dispatcher thread
+    private int tokens;
+    // Tokens of the burst, which is available again when the bucket has been refilled
+    private int burstLeft;
+    private long refilledTS;
+    private ScheduledFuture<?> timer;
+
+    RequestScheduler(RateLimit limit, ScheduledExecutorService dispatcher) {
+        this.limit = limit;
+        this.spacingMillis = limit.spacing().toMillis();
+        this.dispatcher = dispatcher;
+        this.tokens = limit.burst();
+        this.burstLeft = limit.burst();
+    }
+
+    // Shared by all clients, as the dispatching only takes a moment and clients aren't closed
+    private static final ScheduledExecutorService sharedDispatcher = newDispatcher();
+
+    private static ScheduledExecutorService newDispatcher() {
+        var executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            var thread = new Thread(runnable, "chariot-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Timeouts of completed bodies are cancelled, and shouldn't wait in the queue until they're due
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * The thread dispatching the requests and timing out response bodies, of all clients
+     */
+    static ScheduledExecutorService dispatcher() {
+        return sharedDispatcher;
+    }
+
+    /**
+     * Queues a request
+     * @return completes with a permit to send the request,
+     *         which must be run when the response has been received (or failed)
+     */
+    CompletableFuture<Runnable> enqueue(boolean stream) {
+        var ticket = new CompletableFuture<Runnable>();
+        (stream ? streamQueue : singleQueue).add(ticket);
+        signal();
+        return ticket;
+    }
+
+    /**
+     * Waits in the queue until the request is allowed to be sent
+     * @return the permit to run when the response has been received (or failed)
+     */
+    Runnable acquire(boolean stream) throws InterruptedException {
+        var ticket = enqueue(stream);
+        try {
+            return ticket.get();
+        } catch (InterruptedException ie) {
+            if (! ticket.cancel(false)) {
+                // Already granted, give it back
+                ticket.join().run();
+            }
+            throw ie;
+        } catch (ExecutionException ee) {
+            throw new CompletionException(ee.getCause());
+        }
+    }
+
+    /**
+     * Pauses the server after a response indicating throttling (status code 429)
+     * @param retryAfterMillis the delay requested by the server, if any
+     * @return the length of the pause
+     */
+    long throttled(OptionalLong retryAfterMillis) {
+        int attempt = consecutiveThrottled.getAndIncrement();
+        long millis = retryAfterMillis.isPresent() ? retryAfterMillis.getAsLong() : backoff(attempt);
+        pause(millis);
+        return millis;
+    }
+
+    /**
+     * Resets the back off after a response which wasn't throttled
+     */
+    void accepted() {
+        consecutiveThrottled.set(0);
+    }
+
+    /**
+     * Exponential back off with jitter, so waiting clients don't retry at the same time
+     */
+    long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt, 16));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    /**
+     * Holds all queued requests for the given time
+     */
+    void pause(long millis) {
+        pausedUntilTS.accumulateAndGet(System.currentTimeMillis() + millis, Math::max);
+    }
+
+    private void signal() {
+        if (dispatchPending.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        dispatchPending.set(false);
+
+        long now = System.currentTimeMillis();
+        long pausedUntil = pausedUntilTS.get();
+        if (now < pausedUntil) {
+            scheduleDispatch(pausedUntil - now);
+            return;
+        }
+
+        refill(now);
+
+        boolean singleBlocked = grantQueued(singleQueue, singleInFlight, limit.parallel());
+        boolean streamBlocked = grantQueued(streamQueue, streamsInFlight, limit.streams());
+
+        // Requests blocked by the number of requests in flight are signalled on release,
+        // requests blocked by an empty bucket are dispatched when the next token has been added.
+        if (tokens == 0 && (singleBlocked || streamBlocked)) {
+            scheduleDispatch(Math.max(1, refilledTS + spacingMillis - now));
+        }
+    }
+
+    /**
+     * @return true if there are requests left waiting for a token
+     */
+    private boolean grantQueued(Queue<CompletableFuture<Runnable>> queue, AtomicInteger inFlight, int maxInFlight) {
+        CompletableFuture<Runnable> ticket;
+        while ((ticket = queue.peek()) != null) {
+            if (ticket.isDone()) {
+                // Cancelled by an interrupted caller
+                queue.poll();
+                continue;
+            }
+            if (tokens == 0) return true;
+            // The burst isn't limited by the number of requests in flight
+            boolean burst = burstLeft > 0;
+            if (! burst && inFlight.get() >= maxInFlight) return false;
+            queue.poll();
+            tokens--;
+            if (burst) burstLeft--;
+            grant(ticket, burst ? null : inFlight);
+        }
+        return false;
+    }
+
+    private void refill(long now) {
+        if (tokens == limit.burst() || spacingMillis == 0) {
+            tokens = limit.burst();
+            burstLeft = limit.burst();
+            refilledTS = now;
+            return;
+        }
+        long earned = (now - refilledTS) / spacingMillis;
+        if (earned > 0) {
+            tokens = (int) Math.min(limit.burst(), tokens + earned);
+            refilledTS = tokens == limit.burst() ? now : refilledTS + earned * spacingMillis;
+            if (tokens == limit.burst()) burstLeft = limit.burst();
+        }
+    }
+
+    /**
+     * @param inFlight the count of requests in flight, or null for a burst request which isn't counted
+     */
+    private void grant(CompletableFuture<Runnable> ticket, AtomicInteger inFlight) {
+        if (inFlight != null) inFlight.incrementAndGet();
+        var released = new AtomicBoolean();
+        Runnable permit = () -> {
+            if (inFlight != null && released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                signal();
+            }
+        };
+        if (! ticket.complete(permit)) {
+            // Cancelled while being granted
+            permit.run();
+        }
+    }
+
+    private void scheduleDispatch(long delayMillis) {
+        if (timer != null) timer.cancel(false);
+        timer = dispatcher.schedule(this::dispatch, delayMillis, TimeUnit.MILLISECONDS);
+    }
+}
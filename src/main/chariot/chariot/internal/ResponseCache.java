@@ -0,0 +1,263 @@
+package chariot.internal;
+
+import java.io.*;
+import java.net.http.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import chariot.internal.Config.Caching;
+
+/**
+ * Keeps the bodies of responses to GET requests, with their validators (ETag and Last-Modified),
+ * so a request can be answered without contacting the server while the response is fresh,
+ * or be revalidated with a conditional request which doesn't transfer the body if it hasn't changed.
+ * <p>
+ * Entries are keyed on the URI, the accepted media type and the authorization of the request,
+ * as responses differ per format and per account.
+ * Only responses to unauthenticated requests are stored on disk,
+ * where the files of the entries evicted from memory are deleted, so the directory holds at most
+ * {@code maxEntries} entries, counting the files of earlier sessions which haven't been read yet.
+ * <p>
+ * Only single JSON responses up to {@link #maxBodyBytes} are stored,
+ * bulk exports (PGN, JSON arrays) are passed on as they are downloaded.
+ */
+class ResponseCache {
+
+    static final int maxBodyBytes = 1 << 20;
+
+    record Entry(byte[] body, Optional<String> etag, Optional<String> lastModified, long freshUntilTS) {
+        boolean fresh() { return System.currentTimeMillis() < freshUntilTS; }
+    }
+
+    private final Caching caching;
+    private final Map<String, Entry> entries;
+    // Keys of the files of earlier sessions, which aren't in memory, least recently written first
+    private final Set<String> earlier = new LinkedHashSet<>();
+
+    ResponseCache(Caching caching) {
+        this.caching = caching;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResponseCache.Entry> eldest) {
+                if (size() <= caching.maxEntries()) return false;
+                delete(eldest.getKey());
+                return true;
+            }
+        };
+        caching.directory().ifPresent(this::trim);
+    }
+
+    /**
+     * Requests which may be answered from the cache
+     */
+    static boolean cacheable(RequestParameters request) {
+        return request instanceof RequestParameters.ReqOne<?> && request.method() == Util.Method.GET && ! request.stream();
+    }
+
+    /**
+     * JSON responses which aren't known to exceed {@link #maxBodyBytes}
+     */
+    static boolean storable(HttpHeaders headers) {
+        boolean json = headers.firstValue("content-type")
+            .filter(type -> type.startsWith(Util.MediaType.json) || type.startsWith(Util.MediaType.lichessjson))
+            .isPresent();
+        return json && headers.firstValueAsLong("content-length").orElse(0) <= maxBodyBytes;
+    }
+
+    Optional<Entry> get(HttpRequest request) {
+        String key = key(request);
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null) return Optional.of(entry);
+        }
+        return load(request, key);
+    }
+
+    /**
+     * Stores the body of a 200 response, if allowed by its headers
+     * @return the new entry, or empty if the response must not be stored or can't be revalidated
+     */
+    Optional<Entry> put(HttpRequest request, HttpHeaders headers, byte[] body) {
+        long maxAge = maxAgeMillis(headers);
+        var etag = headers.firstValue("etag");
+        var lastModified = headers.firstValue("last-modified");
+        if (maxAge < 0 || (maxAge == 0 && etag.isEmpty() && lastModified.isEmpty())) return Optional.empty();
+
+        var entry = new Entry(body, etag, lastModified, System.currentTimeMillis() + maxAge);
+        store(request, entry);
+        return Optional.of(entry);
+    }
+
+    /**
+     * Extends the freshness of an entry after a 304 response
+     */
+    Entry revalidated(HttpRequest request, Entry entry, HttpHeaders headers) {
+        long maxAge = Math.max(0, maxAgeMillis(headers));
+        var updated = new Entry(entry.body(),
+                headers.firstValue("etag").or(entry::etag),
+                headers.firstValue("last-modified").or(entry::lastModified),
+                System.currentTimeMillis() + maxAge);
+        store(request, updated);
+        return updated;
+    }
+
+    /**
+     * The request with the validators of the cached entry
+     */
+    static HttpRequest conditional(HttpRequest request, Entry entry) {
+        var builder = HttpRequest.newBuilder(request, (name, value) -> true);
+        entry.etag().ifPresent(etag -> builder.header("if-none-match", etag));
+        entry.lastModified().ifPresent(date -> builder.header("if-modified-since", date));
+        return builder.build();
+    }
+
+    /**
+     * @return how long a response stays fresh, 0 if it must be revalidated before each use, or -1 if it must not be stored
+     */
+    static long maxAgeMillis(HttpHeaders headers) {
+        long maxAge = 0;
+        for (var value : headers.allValues("cache-control")) {
+            for (var directive : value.toLowerCase(Locale.ROOT).split(",")) {
+                directive = directive.trim();
+                if (directive.equals("no-store")) return -1;
+                if (directive.equals("no-cache")) return 0;
+                if (directive.startsWith("max-age=")) {
+                    try {
+                        maxAge = Math.max(0, Long.parseLong(directive.substring("max-age=".length()).replace("\"", ""))) * 1000;
+                    } catch (NumberFormatException nfe) {}
+                }
+            }
+        }
+        return maxAge;
+    }
+
+    private void store(HttpRequest request, Entry entry) {
+        String key = key(request);
+        synchronized (entries) {
+            earlier.remove(key);
+            entries.put(key, entry);
+            makeRoom();
+        }
+        if (persistent(request)) write(key, entry);
+    }
+
+    /**
+     * Deletes the files of earlier sessions, beyond the room left by the entries in memory
+     */
+    private void makeRoom() {
+        var iterator = earlier.iterator();
+        while (iterator.hasNext() && entries.size() + earlier.size() > caching.maxEntries()) {
+            delete(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private void delete(String key) {
+        caching.directory().ifPresent(directory -> {
+            try {
+                Files.deleteIfExists(directory.resolve(key));
+            } catch (IOException ioe) {}
+        });
+    }
+
+    /**
+     * Deletes the least recently written files of earlier sessions beyond {@code maxEntries},
+     * and any temporary files left by interrupted writes
+     */
+    private void trim(Path directory) {
+        if (! Files.isDirectory(directory)) return;
+        record Stored(Path file, String name, long modified) {}
+        var stored = new ArrayList<Stored>();
+        try (var files = Files.list(directory)) {
+            for (var file : files.toList()) {
+                var name = file.getFileName().toString();
+                if (! keyPattern.matcher(name).matches()) continue;
+                if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                } else {
+                    stored.add(new Stored(file, name, Files.getLastModifiedTime(file).toMillis()));
+                }
+            }
+        } catch (IOException ioe) {
+            return;
+        }
+        stored.sort(Comparator.comparingLong(Stored::modified));
+        int excess = stored.size() - caching.maxEntries();
+        for (int i = 0; i < stored.size(); i++) {
+            if (i < excess) {
+                try { Files.deleteIfExists(stored.get(i).file()); } catch (IOException ioe) {}
+            } else {
+                earlier.add(stored.get(i).name());
+            }
+        }
+    }
+
+    // The files written by the cache, so other files in the directory are left alone
+    private static final Pattern keyPattern = Pattern.compile("[0-9a-f]{64}(.*\\.tmp)?");
+
+    private boolean persistent(HttpRequest request) {
+        return caching.directory().isPresent() && request.headers().firstValue("authorization").isEmpty();
+    }
+
+    private Optional<Entry> load(HttpRequest request, String key) {
+        if (! persistent(request)) return Optional.empty();
+        var file = caching.directory().get().resolve(key);
+        if (! Files.exists(file)) return Optional.empty();
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            var etag = in.readUTF();
+            var lastModified = in.readUTF();
+            long freshUntilTS = in.readLong();
+            var body = in.readAllBytes();
+            var entry = new Entry(body,
+                    Optional.of(etag).filter(s -> ! s.isEmpty()),
+                    Optional.of(lastModified).filter(s -> ! s.isEmpty()),
+                    freshUntilTS);
+            synchronized (entries) {
+                earlier.remove(key);
+                entries.put(key, entry);
+            }
+            return Optional.of(entry);
+        } catch (IOException ioe) {
+            return Optional.empty();
+        }
+    }
+
+    private void write(String key, Entry entry) {
+        try {
+            var directory = caching.directory().get();
+            Files.createDirectories(directory);
+            var temp = Files.createTempFile(directory, key, ".tmp");
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeUTF(entry.etag().orElse(""));
+                out.writeUTF(entry.lastModified().orElse(""));
+                out.writeLong(entry.freshUntilTS());
+                out.write(entry.body());
+            }
+            Files.move(temp, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioe) {
+            // The entry is still cached in memory
+        }
+    }
+
+    /**
+     * A hash of the URI, accepted media type and authorization, usable as a file name and not revealing the token
+     */
+    static String key(HttpRequest request) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.uri().toString().getBytes(StandardCharsets.UTF_8));
+            for (var name : List.of("accept", "authorization")) {
+                request.headers().firstValue(name).ifPresent(value -> {
+                    digest.update((byte) '\n');
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                });
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException(nsae);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package chariot.internal;
+
+import java.io.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical requests which are in flight at the same time,
+ * so only the first one is sent and the others share its response.
+ * <p>
+ * The response body can only be read once, so when others are waiting
+ * it is read into memory and each caller gets a copy to decode.
+ * Only requests for a single value are coalesced, bulk responses are never buffered.
+ */
+class SingleFlight {
+
+    private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    private static class Flight {
+        final CompletableFuture<Supplier<RequestResult>> result = new CompletableFuture<>();
+        // Number of waiting callers, or -1 when no more callers may join
+        final AtomicInteger followers = new AtomicInteger();
+
+        boolean join() {
+            int current;
+            do {
+                current = followers.get();
+                if (current < 0) return false;
+            } while (! followers.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+
+    /**
+     * Requests which may share the response of an identical request
+     */
+    static boolean coalescable(RequestParameters request) {
+        return request instanceof RequestParameters.ReqOne<?>
+            && request.method() == Util.Method.GET
+            && ! request.stream();
+    }
+
+    RequestResult request(String key, Supplier<RequestResult> send) {
+        while (true) {
+            var flight = new Flight();
+            var existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                RequestResult result;
+                try {
+                    result = send.get();
+                } catch (RuntimeException e) {
+                    fail(key, flight, e);
+                    throw e;
+                }
+                return complete(key, flight, result);
+            }
+            if (existing.join()) {
+                return existing.result.join().get();
+            }
+            // Completing, replaced by a new flight
+            flights.remove(key, existing);
+        }
+    }
+
+    CompletableFuture<RequestResult> requestAsync(String key, Supplier<CompletableFuture<RequestResult>> send) {
+        while (true) {
+            var flight = new Flight();
+            var existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                return send.get()
+                    .whenComplete((__, throwable) -> {
+                        if (throwable != null) fail(key, flight, throwable);
+                    })
+                    .thenApply(result -> complete(key, flight, result));
+            }
+            if (existing.join()) {
+                return existing.result.thenApply(Supplier::get);
+            }
+            flights.remove(key, existing);
+        }
+    }
+
+    private void fail(String key, Flight flight, Throwable throwable) {
+        flights.remove(key, flight);
+        flight.followers.set(-1);
+        flight.result.completeExceptionally(throwable);
+    }
+
+    private RequestResult complete(String key, Flight flight, RequestResult result) {
+        flights.remove(key, flight);
+        int followers = flight.followers.getAndSet(-1);
+
+        if (followers == 0 || ! (result instanceof RequestResult.Success success)) {
+            flight.result.complete(() -> result);
+            return result;
+        }
+
+        byte[] body;
+        try (var in = success.body()) {
+            body = in.readAllBytes();
+        } catch (IOException ioe) {
+            var failure = new RequestResult.Failure(-1, ioe.getMessage());
+            flight.result.complete(() -> failure);
+            return failure;
+        }
+
+        Supplier<RequestResult> copy = () -> new RequestResult.Success(new ByteArrayInputStream(body), success.logger(), success.decoder());
+        flight.result.complete(copy);
+        return copy.get();
+    }
+}
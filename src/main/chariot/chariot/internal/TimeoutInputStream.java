@@ -0,0 +1,141 @@
+package chariot.internal;
+
+import java.io.*;
+import java.lang.ref.WeakReference;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Closes a response body which doesn't complete before a deadline,
+ * or which doesn't receive any data (not even keep-alive messages) for a while.
+ * The reading thread is then unblocked with a {@link HttpTimeoutException}.
+ * <p>
+ * The idle time is only counted while a read is waiting for data from the network,
+ * so a consumer taking its time between reads doesn't cause a timeout.
+ * <p>
+ * The scheduled check ends when the body has been read to the end, has failed or is closed,
+ * and only holds the stream weakly, so an abandoned body can still be collected.
+ */
+class TimeoutInputStream extends FilterInputStream {
+
+    private final ScheduledExecutorService scheduler;
+    private final long idleMillis;
+
+    // When the current read started waiting, or 0 if no read is in progress
+    private volatile long readingSinceTS;
+    private volatile String timedOut;
+    private volatile ScheduledFuture<?> task;
+    private volatile boolean closed;
+
+    private TimeoutInputStream(InputStream in, ScheduledExecutorService scheduler, long idleMillis) {
+        super(in);
+        this.scheduler = scheduler;
+        this.idleMillis = idleMillis;
+    }
+
+    /**
+     * @param total time allowed for the complete body
+     */
+    static InputStream withDeadline(InputStream in, ScheduledExecutorService scheduler, Duration total, long sentTS) {
+        var stream = new TimeoutInputStream(in, scheduler, 0);
+        long delay = Math.max(0, sentTS + total.toMillis() - System.currentTimeMillis());
+        stream.schedule(s -> s.timeout("Response not completed within " + total), delay);
+        return stream;
+    }
+
+    /**
+     * @param idle time allowed between receiving data, or {@link Duration#ZERO} for no limit
+     */
+    static InputStream withIdleTimeout(InputStream in, ScheduledExecutorService scheduler, Duration idle) {
+        if (idle.isZero()) return in;
+        var stream = new TimeoutInputStream(in, scheduler, idle.toMillis());
+        stream.scheduleIdleCheck(stream.idleMillis);
+        return stream;
+    }
+
+    private void scheduleIdleCheck(long delayMillis) {
+        schedule(TimeoutInputStream::checkIdle, delayMillis);
+    }
+
+    private void schedule(Consumer<TimeoutInputStream> action, long delayMillis) {
+        var ref = new WeakReference<>(this);
+        task = scheduler.schedule(() -> {
+            var stream = ref.get();
+            if (stream != null) action.accept(stream);
+        }, delayMillis, TimeUnit.MILLISECONDS);
+        // Ended while scheduling
+        if (closed) task.cancel(false);
+    }
+
+    private void checkIdle() {
+        if (closed) return;
+        long since = readingSinceTS;
+        if (since == 0) {
+            scheduleIdleCheck(idleMillis);
+            return;
+        }
+        long idle = System.currentTimeMillis() - since;
+        if (idle >= idleMillis) {
+            timeout("No data received within " + Duration.ofMillis(idleMillis));
+        } else {
+            scheduleIdleCheck(idleMillis - idle);
+        }
+    }
+
+    private void timeout(String message) {
+        timedOut = message;
+        try { in.close(); } catch (IOException ioe) {}
+    }
+
+    @Override
+    public int read() throws IOException {
+        readingSinceTS = System.currentTimeMillis();
+        try {
+            return received(super.read());
+        } catch (IOException ioe) {
+            ended();
+            throw timedOutOr(ioe);
+        } finally {
+            readingSinceTS = 0;
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        readingSinceTS = System.currentTimeMillis();
+        try {
+            return received(super.read(b, off, len));
+        } catch (IOException ioe) {
+            ended();
+            throw timedOutOr(ioe);
+        } finally {
+            readingSinceTS = 0;
+        }
+    }
+
+    private int received(int result) throws IOException {
+        if (result == -1) {
+            ended();
+            if (timedOut != null) throw new HttpTimeoutException(timedOut);
+        }
+        return result;
+    }
+
+    private IOException timedOutOr(IOException ioe) {
+        return timedOut == null ? ioe : new HttpTimeoutException(timedOut);
+    }
+
+    @Override
+    public void close() throws IOException {
+        ended();
+        super.close();
+    }
+
+    private void ended() {
+        closed = true;
+        var current = task;
+        if (current != null) current.cancel(false);
+    }
+}
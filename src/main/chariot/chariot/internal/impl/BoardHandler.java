@@ -2,6 +2,7 @@ package chariot.internal.impl;
 
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import chariot.Client.Scope;
 import chariot.api.*;
@@ -40,6 +41,16 @@ public class BoardHandler extends ChallengesAuthCommonImpl implements BoardAuth
             .process(requestHandler);
     }
 
+    @Override
+    public Many<GameStateEvent> connectToGameResilient(String gameId) {
+        return ReconnectingStream.of(() -> connectToGame(gameId), ReconnectingStream.gameStateEvents());
+    }
+
+    @Override
+    public GameSessions gameSessions(Function<GameInfo, Consumer<GameStateEvent>> handlers, Consumer<GameSessions.Params> params) {
+        return GameSessionsImpl.start(this::connectResilient, this::connectToGameResilient, handlers, params);
+    }
+
     @Override
     public One<Void> move(String gameId, String move, boolean drawOffer) {
         return Endpoint.boardMove.newRequest(request -> request
@@ -2,6 +2,7 @@ package chariot.internal.impl;
 
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import chariot.Client.Scope;
 import chariot.api.*;
@@ -36,6 +37,16 @@ public class BotHandler extends ChallengesAuthCommonImpl implements BotAuth {
             .process(requestHandler);
     }
 
+    @Override
+    public Many<GameStateEvent> connectToGameResilient(String gameId) {
+        return ReconnectingStream.of(() -> connectToGame(gameId), ReconnectingStream.gameStateEvents());
+    }
+
+    @Override
+    public GameSessions gameSessions(Function<GameInfo, Consumer<GameStateEvent>> handlers, Consumer<GameSessions.Params> params) {
+        return GameSessionsImpl.start(this::connectResilient, this::connectToGameResilient, handlers, params);
+    }
+
     @Override
     public One<Void> move(String gameId, String move, boolean drawOffer) {
         return Endpoint.botMove.newRequest(request -> request
@@ -26,6 +26,11 @@ public class ChallengesAuthCommonImpl extends ChallengesImpl implements Challeng
         return connect(scope);
     }
 
+    @Override
+    public Many<Event> connectResilient() {
+        return ReconnectingStream.of(() -> connect(scope), ReconnectingStream.events());
+    }
+
     @Override
     public One<Challenge> challenge(String userId, Consumer<ChallengeBuilder> parameters) {
         return challenge(scope, userId, parameters);
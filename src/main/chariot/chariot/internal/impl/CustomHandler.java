@@ -1,6 +1,8 @@
 package chariot.internal.impl;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -88,6 +90,10 @@ public class CustomHandler implements Custom {
                     public One<T> request(Consumer<Request> request) {
                         return ep.newRequest(consumerAdapter.apply(request)).process(requestHandler);
                     }
+                    @Override
+                    public CompletableFuture<One<T>> requestAsync(Consumer<Request> request) {
+                        return ep.newRequest(consumerAdapter.apply(request)).processAsync(requestHandler);
+                    }
                 };
             }
 
@@ -99,6 +105,10 @@ public class CustomHandler implements Custom {
                     public Many<T> request(Consumer<Request> request) {
                         return ep.newRequest(consumerAdapter.apply(request)).process(requestHandler);
                     }
+                    @Override
+                    public CompletableFuture<Many<T>> requestAsync(Consumer<Request> request) {
+                        return ep.newRequest(consumerAdapter.apply(request)).processAsync(requestHandler);
+                    }
                 };
             }
         };
@@ -113,5 +123,6 @@ public class CustomHandler implements Custom {
             @Override public Request headers(Map<String, String> headers) { params.headers(headers); return this; }
             @Override public Request scope(Scope scope) { params.scope(scope); return this; }
             @Override public Request stream() { params.stream(); return this; }
+            @Override public Request timeout(Duration timeout) { params.timeout(timeout); return this; }
             });
 }
@@ -0,0 +1,241 @@
+package chariot.internal.impl;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.Stream;
+
+import chariot.api.GameSessions;
+import chariot.model.*;
+
+/**
+ * Reads the event stream on one thread, and each open game stream on a thread of its own.
+ * The game state events are handed over to the executor, one game at a time so the events
+ * of a game are handled in order, while the events of different games are handled in parallel.
+ */
+class GameSessionsImpl implements GameSessions {
+
+    private final Function<String, Many<GameStateEvent>> connectToGame;
+    private final Function<GameInfo, Consumer<GameStateEvent>> handlers;
+    private final int maxStreams;
+    private final Executor executor;
+    private final Consumer<Event> onEvent;
+    private final ExecutorService readers = Executors.newCachedThreadPool(daemon("chariot-game-stream"));
+    private final ExecutorService defaultExecutor;
+
+    // Guarded by this
+    private final Map<String, Session> active = new HashMap<>();
+    private final Deque<Queued> queue = new ArrayDeque<>();
+    private Stream<Event> events;
+    private boolean closed;
+
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong maxQueueMillis = new AtomicLong();
+
+    record Queued(GameInfo game, long queuedTS) {}
+
+    private GameSessionsImpl(Function<String, Many<GameStateEvent>> connectToGame,
+            Function<GameInfo, Consumer<GameStateEvent>> handlers,
+            DefaultParams params) {
+        this.connectToGame = connectToGame;
+        this.handlers = handlers;
+        this.maxStreams = params.maxStreams;
+        this.onEvent = params.onEvent;
+        this.defaultExecutor = params.executor == null
+            ? Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), daemon("chariot-game-handler"))
+            : null;
+        this.executor = params.executor == null ? defaultExecutor : params.executor;
+    }
+
+    /**
+     * Connects to the event stream and starts tracking the games
+     * @param connectEvents the event stream
+     * @param connectToGame the game stream of a game id
+     */
+    static GameSessions start(Supplier<Many<Event>> connectEvents,
+            Function<String, Many<GameStateEvent>> connectToGame,
+            Function<GameInfo, Consumer<GameStateEvent>> handlers,
+            Consumer<Params> consumer) {
+        var params = new DefaultParams();
+        consumer.accept(params);
+        if (params.maxStreams < 1) throw new IllegalArgumentException("maxStreams must be at least 1, was " + params.maxStreams);
+
+        var sessions = new GameSessionsImpl(connectToGame, handlers, params);
+        var thread = daemon("chariot-game-events").newThread(() -> sessions.readEvents(connectEvents));
+        thread.start();
+        return sessions;
+    }
+
+    @Override
+    public synchronized Metrics metrics() {
+        return new Metrics(active.size(), queue.size(), opened.get(), completed.get(), Duration.ofMillis(maxQueueMillis.get()));
+    }
+
+    @Override
+    public synchronized Set<String> activeGames() {
+        return Set.copyOf(active.keySet());
+    }
+
+    @Override
+    public void close() {
+        Stream<Event> eventStream;
+        List<Session> sessions;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            eventStream = events;
+            sessions = List.copyOf(active.values());
+            active.clear();
+            queue.clear();
+        }
+        if (eventStream != null) eventStream.close();
+        sessions.forEach(Session::close);
+        readers.shutdown();
+        if (defaultExecutor != null) defaultExecutor.shutdown();
+    }
+
+    private void readEvents(Supplier<Many<Event>> connectEvents) {
+        if (! (connectEvents.get() instanceof Entries<Event> entries)) {
+            close();
+            return;
+        }
+        synchronized (this) {
+            if (closed) {
+                entries.stream().close();
+                return;
+            }
+            events = entries.stream();
+        }
+        try {
+            events.forEach(event -> {
+                if (event instanceof Event.GameStartEvent start) {
+                    started(start.game());
+                } else if (event instanceof Event.GameStopEvent stop) {
+                    stopped(stop.gameId());
+                } else {
+                    onEvent.accept(event);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Closed
+        }
+    }
+
+    private void started(GameInfo game) {
+        synchronized (this) {
+            if (closed || active.containsKey(game.gameId())
+                || queue.stream().anyMatch(q -> q.game().gameId().equals(game.gameId()))) return;
+            if (active.size() >= maxStreams) {
+                queue.add(new Queued(game, System.currentTimeMillis()));
+                return;
+            }
+            open(game);
+        }
+    }
+
+    private void stopped(String gameId) {
+        Session session;
+        synchronized (this) {
+            queue.removeIf(q -> q.game().gameId().equals(gameId));
+            session = active.get(gameId);
+        }
+        // The game stream ends by itself when the game has ended,
+        // unless the game was aborted before it was connected
+        if (session != null && session.handled == 0) session.close();
+    }
+
+    // Called holding the lock
+    private void open(GameInfo game) {
+        var session = new Session(game.gameId(), handlers.apply(game));
+        active.put(game.gameId(), session);
+        opened.incrementAndGet();
+        readers.execute(session::read);
+    }
+
+    private void ended(Session session) {
+        synchronized (this) {
+            completed.incrementAndGet();
+            if (active.remove(session.gameId) != session) return;
+            Queued next;
+            while (! closed && active.size() < maxStreams && (next = queue.poll()) != null) {
+                maxQueueMillis.accumulateAndGet(System.currentTimeMillis() - next.queuedTS(), Math::max);
+                open(next.game());
+            }
+        }
+    }
+
+    class Session {
+        final String gameId;
+        final Consumer<GameStateEvent> handler;
+        final Queue<GameStateEvent> pending = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        volatile Stream<GameStateEvent> stream;
+        volatile boolean stopped;
+        volatile long handled;
+
+        Session(String gameId, Consumer<GameStateEvent> handler) {
+            this.gameId = gameId;
+            this.handler = handler;
+        }
+
+        void read() {
+            try {
+                if (stopped) return;
+                if (! (connectToGame.apply(gameId) instanceof Entries<GameStateEvent> entries)) return;
+                stream = entries.stream();
+                if (stopped) return;
+                stream.forEach(event -> {
+                    handled++;
+                    pending.add(event);
+                    if (scheduled.compareAndSet(false, true)) executor.execute(this::drain);
+                });
+            } catch (RuntimeException e) {
+                // Closed
+            } finally {
+                close();
+                ended(this);
+            }
+        }
+
+        void drain() {
+            GameStateEvent event;
+            while ((event = pending.poll()) != null) {
+                try {
+                    handler.accept(event);
+                } catch (RuntimeException e) {
+                    // A failing handler shouldn't stop the game
+                }
+            }
+            scheduled.set(false);
+            // Events added after the queue was found empty, but before the flag was cleared
+            if (! pending.isEmpty() && scheduled.compareAndSet(false, true)) executor.execute(this::drain);
+        }
+
+        void close() {
+            stopped = true;
+            var current = stream;
+            if (current != null) current.close();
+        }
+    }
+
+    static class DefaultParams implements Params {
+        int maxStreams = 7;
+        Executor executor;
+        Consumer<Event> onEvent = __ -> {};
+
+        @Override public Params maxStreams(int maxStreams) { this.maxStreams = maxStreams; return this; }
+        @Override public Params executor(Executor executor) { this.executor = executor; return this; }
+        @Override public Params onEvent(Consumer<Event> onEvent) { this.onEvent = onEvent; return this; }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            var thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package chariot.internal.impl;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import chariot.api.GamesAsync;
+import chariot.api.Games.*;
+import chariot.internal.*;
+import chariot.model.*;
+
+import static chariot.internal.impl.GamesHandler.*;
+
+public class GamesAsyncHandler implements GamesAsync {
+
+    private final RequestHandler requestHandler;
+
+    public GamesAsyncHandler(RequestHandler requestHandler) {
+        this.requestHandler = requestHandler;
+    }
+
+    @Override
+    public CompletableFuture<One<Game>> byGameId(String gameId, Consumer<GameParams> params) {
+        return Endpoint.gameById.newRequest(paramsConsumerByIdGameParams(gameId, params))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<One<Pgn>> pgnByGameId(String gameId, Consumer<GameParams> params) {
+        return Endpoint.gameByIdPgn.newRequest(paramsConsumerByIdGameParams(gameId, params))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<One<Game>> currentByUserId(String userId, Consumer<GameParams> params) {
+        return Endpoint.gameCurrentByUserId.newRequest(paramsConsumerByIdGameParams(userId, params))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<One<Pgn>> pgnCurrentByUserId(String userId, Consumer<GameParams> params) {
+        return Endpoint.gameCurrentByUserIdPgn.newRequest(paramsConsumerByIdGameParams(userId, params))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<Many<Game>> byUserId(String userId, Consumer<SearchFilter> params) {
+        return Endpoint.gamesByUserId.newRequest(paramsConsumerByUserId(userId, params))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<Many<Game>> byGameIds(Set<String> gameIds, Consumer<GameParams> params) {
+        return Endpoint.gamesByIds.newRequest(paramsConsumerByIdsGameParams(gameIds, params))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<One<TVChannels>> tvChannels() {
+        return Endpoint.gameTVChannels.newRequest(request -> {})
+            .processAsync(requestHandler);
+    }
+}
@@ -129,6 +129,16 @@ public class GamesHandler implements GamesAuth {
             .process(requestHandler);
     }
 
+    @Override
+    public Many<TVFeedEvent> tvFeedResilient() {
+        return ReconnectingStream.of(this::tvFeed, ReconnectingStream.tvFeedEvents());
+    }
+
+    @Override
+    public Many<TVFeedEvent> tvFeedResilient(Channel channel) {
+        return ReconnectingStream.of(() -> tvFeed(channel), ReconnectingStream.tvFeedEvents());
+    }
+
     @Override
     public Many<TVFeedEvent> tvFeed(Channel channel) {
         return Endpoint.gameTVFeedChannel.newRequest(request -> request
@@ -0,0 +1,40 @@
+package chariot.internal.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import chariot.api.PuzzlesAsync;
+import chariot.api.Puzzles.PuzzleParams;
+import chariot.internal.*;
+import chariot.internal.Util.MapBuilder;
+import chariot.model.*;
+
+public class PuzzlesAsyncHandler implements PuzzlesAsync {
+
+    private final RequestHandler requestHandler;
+
+    public PuzzlesAsyncHandler(RequestHandler requestHandler) {
+        this.requestHandler = requestHandler;
+    }
+
+    @Override
+    public CompletableFuture<One<Puzzle>> dailyPuzzle() {
+        return Endpoint.dailyPuzzle.newRequest(request -> {})
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<One<Puzzle>> byId(String puzzleId) {
+        return Endpoint.puzzleById.newRequest(request -> request
+                .path(puzzleId))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<One<StormDashboard>> stormDashboard(String username, Consumer<PuzzleParams> consumer) {
+        return Endpoint.stormDashboard.newRequest(request -> request
+                .path(username)
+                .query(MapBuilder.of(PuzzleParams.class).toMap(consumer)))
+            .processAsync(requestHandler);
+    }
+}
@@ -0,0 +1,72 @@
+package chariot.internal.impl;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import chariot.api.TeamsAsync;
+import chariot.api.Teams.PageParams;
+import chariot.internal.*;
+import chariot.internal.Util.MapBuilder;
+import chariot.model.*;
+
+public class TeamsAsyncHandler implements TeamsAsync {
+
+    private final RequestHandler requestHandler;
+
+    public TeamsAsyncHandler(RequestHandler requestHandler) {
+        this.requestHandler = requestHandler;
+    }
+
+    @Override
+    public CompletableFuture<One<Team>> byTeamId(String teamId) {
+        return Endpoint.teamById.newRequest(request -> request
+                .path(teamId))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<Many<Team>> byUserId(String userId) {
+        return Endpoint.teamsByUserId.newRequest(request -> request
+                .path(userId))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<Many<TeamMember>> usersByTeamId(String teamId) {
+        return Endpoint.teamUsersById.newRequest(request -> request
+                .path(teamId))
+            .processAsync(requestHandler)
+            .thenApply(result -> TeamsHandler.withTeamId(result, teamId));
+    }
+
+    @Override
+    public CompletableFuture<Many<Tournament>> arenaByTeamId(String teamId, int max) {
+        return Endpoint.teamArenaById.newRequest(request -> request
+                .path(teamId)
+                .query(Map.of("max", max)))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<Many<Swiss>> swissByTeamId(String teamId, int max) {
+        return Endpoint.teamSwissById.newRequest(request -> request
+                .path(teamId)
+                .query(Map.of("max", max)))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<One<PageTeam>> searchByPage(Consumer<PageParams> consumer) {
+        return Endpoint.teamsSearch.newRequest(request -> request
+                .query(MapBuilder.of(PageParams.class).toMap(consumer)))
+            .processAsync(requestHandler);
+    }
+
+    @Override
+    public CompletableFuture<One<PageTeam>> popularTeamsByPage(int page) {
+        return Endpoint.popularTeamsByPage.newRequest(request -> request
+                .query(Map.of("page", page)))
+            .processAsync(requestHandler);
+    }
+}
@@ -35,7 +35,10 @@ public class TeamsHandler implements TeamsAuth {
         var result = Endpoint.teamUsersById.newRequest(request -> request
                 .path(teamId))
             .process(requestHandler);
+        return withTeamId(result, teamId);
+    }
 
+    static Many<TeamMember> withTeamId(Many<TeamMember> result, String teamId) {
         if (! (result instanceof Entries<TeamMember> many)) return result;
 
         return Many.entries(many.stream()
@@ -0,0 +1,42 @@
+package chariot.internal.impl;
+
+import chariot.model.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import chariot.api.UsersAsync;
+import chariot.api.Users.UserParams;
+import chariot.internal.*;
+
+public class UsersAsyncHandler implements UsersAsync {
+
+    private final RequestHandler requestHandler;
+
+    public UsersAsyncHandler(RequestHandler requestHandler) {
+        this.requestHandler = requestHandler;
+    }
+
+    @Override
+    public CompletableFuture<One<User>> byId(String userId) { return byId(userId, p -> p.withTrophies(false)); }
+
+    @Override
+    public CompletableFuture<Many<User>> byIds(String ... userIds) {
+        return byIds(List.of(userIds));
+    }
+
+    @Override
+    public CompletableFuture<One<User>> byId(String userId, Consumer<UserParams> params) {
+        var parameterMap = UsersHandler.userParams(params);
+        boolean trophies = parameterMap.containsKey("trophies");
+        return UsersHandler.userById(userId, parameterMap).processAsync(requestHandler)
+            .thenApply(result -> result.mapOne(ud -> ud.toUser(trophies)));
+    }
+
+    @Override
+    public CompletableFuture<Many<User>> byIds(List<String> userIds) {
+        return UsersHandler.usersByIds(userIds).processAsync(requestHandler)
+            .thenApply(result -> result.mapMany(UserData::toUser));
+    }
+}
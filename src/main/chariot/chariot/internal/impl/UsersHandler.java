@@ -3,11 +3,13 @@ package chariot.internal.impl;
 import chariot.model.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import chariot.api.Users;
 import chariot.internal.*;
+import chariot.internal.RequestParameters.*;
 import chariot.internal.Util.MapBuilder;
 
 public class UsersHandler extends UsersBaseHandler implements Users {
@@ -26,28 +28,35 @@ public class UsersHandler extends UsersBaseHandler implements Users {
 
     @Override
     public One<User> byId(String userId, Consumer<UserParams> params) {
-        var parameterMap = MapBuilder.of(UserParams.class)
+        var parameterMap = userParams(params);
+        var result = userById(userId, parameterMap).process(super.requestHandler);
+        boolean trophies = parameterMap.containsKey("trophies");
+        return result.mapOne(ud -> ud.toUser(trophies));
+    }
+
+    @Override
+    public Many<User> byIds(List<String> userIds) {
+        var result = usersByIds(userIds).process(super.requestHandler);
+        return result.mapMany(UserData::toUser);
+    }
+
+    static Map<String, Object> userParams(Consumer<UserParams> params) {
+        return MapBuilder.of(UserParams.class)
             .addCustomHandler("withTrophies", (args, map) -> {
                 if (args[0] instanceof Boolean b && b.booleanValue()) map.put("trophies", 1);
             }).toMap(params);
+    }
 
-        var result = Endpoint.userById.newRequest(request -> request
+    static ReqOne<UserData> userById(String userId, Map<String, Object> parameterMap) {
+        return Endpoint.userById.newRequest(request -> request
                 .path(userId)
                 .query(parameterMap)
-                )
-            .process(super.requestHandler);
-
-        boolean trophies = parameterMap.containsKey("trophies");
-
-        return result.mapOne(ud -> ud.toUser(trophies));
+                );
     }
 
-    @Override
-    public Many<User> byIds(List<String> userIds) {
-        var result = Endpoint.usersByIds.newRequest(request -> request
-                .body(userIds.stream().collect(Collectors.joining(","))))
-            .process(super.requestHandler);
-        return result.mapMany(UserData::toUser);
+    static ReqMany<UserData> usersByIds(List<String> userIds) {
+        return Endpoint.usersByIds.newRequest(request -> request
+                .body(userIds.stream().collect(Collectors.joining(","))));
     }
 
 }
@@ -1,19 +1,252 @@
 package chariot.internal.yayson;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 public class Lexer {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Reader reader;
+    private String json;
+    private int length;
+    private int position;
+    private boolean endOfInput;
+    private char[] buffer;
+    private Token peeked;
+    private int nesting;
+
+    /**
+     * A cursor over the json input, producing one token at a time,
+     * without building any intermediate substrings of the remaining input.
+     */
+    public Lexer(String json) {
+        this.json = Objects.requireNonNull(json);
+        this.length = json.length();
+        this.reader = null;
+        this.endOfInput = true;
+    }
+
+    /**
+     * A cursor over json read from the reader, one chunk at a time.
+     * Only the current chunk (and a token spanning chunks) is kept in memory,
+     * so a large document is never materialized as a single String.
+     */
+    public Lexer(Reader reader) {
+        this.reader = Objects.requireNonNull(reader);
+        this.json = "";
+        this.length = 0;
+        this.endOfInput = false;
+    }
+
+    /**
+     * A cursor over UTF-8 encoded json, decoded as it is read from the input stream.
+     */
+    public Lexer(InputStream inputStream) {
+        this(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the next token, or null when the input has been consumed
+     */
+    public Token next() {
+        Token token;
+        if (peeked != null) {
+            token = peeked;
+            peeked = null;
+        } else {
+            token = read();
+        }
+        if (token instanceof Token.BeginArray || token instanceof Token.BeginObject) {
+            nesting++;
+        } else if (token instanceof Token.EndArray || token instanceof Token.EndObject) {
+            nesting--;
+        }
+        return token;
+    }
+
+    private Token read() {
+        while (true) {
+            if (position >= length && ! fill()) {
+                return null;
+            }
+            if (! endOfInput && ! completeTokenAt(position)) {
+                // The token continues in input not yet read
+                fill();
+                continue;
+            }
+            var token = Token.lex(json, position);
+            if (token == null) {
+                // Whitespace or unexpected character, skip it
+                position++;
+                continue;
+            }
+            position += token.length();
+            return token;
+        }
+    }
+
+    /**
+     * @return the token which the next call to {@link #next()} will return, without consuming it
+     */
+    public Token peek() {
+        if (peeked == null) {
+            peeked = read();
+        }
+        return peeked;
+    }
+
+    /**
+     * Skips the next json value, by matching braces and brackets,
+     * without creating any tokens for the skipped input.
+     */
+    public void skipValue() {
+        skip(0);
+    }
+
+    /**
+     * @return the number of arrays and objects which have been opened, but not yet closed
+     */
+    public int nesting() {
+        return nesting;
+    }
+
+    /**
+     * Skips input until the arrays and objects opened deeper than {@code nesting} have been closed,
+     * for instance to continue with the next json value after failing to read the current one.
+     */
+    public void skipTo(int nesting) {
+        if (this.nesting > nesting) {
+            skip(this.nesting - nesting);
+        }
+    }
+
+    /**
+     * Skips input until {@code depth} more arrays or objects have been closed,
+     * or, at depth 0, until the end of the next json value.
+     */
+    void skip(int depth) {
+        if (peeked != null) {
+            var token = peeked;
+            peeked = null;
+            if (token instanceof Token.BeginArray || token instanceof Token.BeginObject) {
+                depth++;
+                nesting++;
+            } else if (token instanceof Token.EndArray || token instanceof Token.EndObject) {
+                depth--;
+                nesting--;
+            }
+            if (depth <= 0) return;
+        }
+        boolean inString = false;
+        while (position < length || fill()) {
+            char c = json.charAt(position);
+            if (inString) {
+                position++;
+                if (c == '\\') {
+                    // Skip the escaped character, it can't end the string
+                    if (position >= length && ! fill()) return;
+                    position++;
+                } else if (c == '"') {
+                    inString = false;
+                    if (depth == 0) return;
+                }
+                continue;
+            }
+            if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+                nesting++;
+            } else if (c == '}' || c == ']') {
+                if (depth == 0) return;
+                depth--;
+                nesting--;
+                if (depth == 0) {
+                    position++;
+                    return;
+                }
+            } else if (c == ',' || c == ':') {
+                if (depth == 0) return;
+            } else if (depth == 0 && ! Character.isWhitespace(c)) {
+                // A number or literal
+                while ((position < length || fill()) && isScalarChar(json.charAt(position))) {
+                    position++;
+                }
+                return;
+            }
+            position++;
+        }
+    }
+
+    private static boolean isScalarChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '.';
+    }
+
+    private boolean completeTokenAt(int offset) {
+        char c = json.charAt(offset);
+        if (c == '"') {
+            for (int i = offset + 1; i < length; i++) {
+                char next = json.charAt(i);
+                if (next == '\\') {
+                    i++;
+                } else if (next == '"') {
+                    return i < length;
+                }
+            }
+            return false;
+        }
+        if (isScalarChar(c)) {
+            for (int i = offset + 1; i < length; i++) {
+                char next = json.charAt(i);
+                if (! isScalarChar(next)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next chunk of input, keeping any not yet consumed characters.
+     * @return true if there are characters available at the current position
+     */
+    private boolean fill() {
+        if (endOfInput) {
+            return position < length;
+        }
+        int carried = length - position;
+        int capacity = Math.max(CHUNK_SIZE, carried * 2);
+        if (buffer == null || buffer.length < capacity) {
+            buffer = new char[capacity];
+        }
+        json.getChars(position, length, buffer, 0);
+        try {
+            int read = reader.read(buffer, carried, buffer.length - carried);
+            if (read == -1) {
+                endOfInput = true;
+                reader.close();
+            } else {
+                json = new String(buffer, 0, carried + read);
+                length = json.length();
+                position = 0;
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        return position < length;
+    }
+
     public static List<Token> tokenize(String json) {
-        Objects.requireNonNull(json);
-        json = json.trim();
+        var lexer = new Lexer(json);
         var tokens = new ArrayList<Token>();
-        while (json.length() > 0) {
-            var tt = Token.lex(json);
-            tt.token().ifPresent(t -> tokens.add(t));
-            json = tt.tail();
+        for (var token = lexer.next(); token != null; token = lexer.next()) {
+            tokens.add(token);
         }
         return tokens;
     }
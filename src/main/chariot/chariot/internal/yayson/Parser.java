@@ -1,10 +1,12 @@
 package chariot.internal.yayson;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import chariot.internal.yayson.Token.*;
 
@@ -38,16 +40,25 @@ public class Parser {
         }
         public Integer getInteger(String key) {
             if (value().get(key) instanceof YayNumber n) {
-                return n.value().intValue();
+                return n.value() instanceof Integer i ? i : Integer.valueOf(n.intValue());
             }
             return null;
         }
         public Long getLong(String key) {
             if (value().get(key) instanceof YayNumber n) {
-                return n.value().longValue();
+                return n.value() instanceof Long l ? l : Long.valueOf(n.longValue());
             }
             return null;
         }
+        public int getInt(String key, int orElse) {
+            return value().get(key) instanceof YayNumber n ? n.intValue() : orElse;
+        }
+        public long getLong(String key, long orElse) {
+            return value().get(key) instanceof YayNumber n ? n.longValue() : orElse;
+        }
+        public double getDouble(String key, double orElse) {
+            return value().get(key) instanceof YayNumber n ? n.doubleValue() : orElse;
+        }
 
         public boolean getBool(String key) {
             if (value().get(key) instanceof YayBool b) {
@@ -57,22 +68,46 @@ public class Parser {
         }
     }
 
-    public record YayNumber(Number value) implements YayValue {}
+    /**
+     * @param lexeme the number as written in the json, or null if not parsed from json.
+     *               Not part of the equality, which is by value.
+     */
+    public record YayNumber(Number value, String lexeme) implements YayValue {
+        public YayNumber(Number value) {
+            this(value, null);
+        }
+        @Override public boolean equals(Object other) {
+            return other instanceof YayNumber n && value.equals(n.value);
+        }
+        @Override public int hashCode() { return value.hashCode(); }
+        public int intValue()       { return value.intValue(); }
+        public long longValue()     { return value.longValue(); }
+        public double doubleValue() { return value.doubleValue(); }
+        public BigDecimal bigDecimalValue() {
+            // From the original text, as the double of a decimal has already been rounded
+            if (lexeme != null) return new BigDecimal(lexeme);
+            return value instanceof BigDecimal bd ? bd : new BigDecimal(value.toString());
+        }
+    }
     public record YayString(String value) implements YayValue {}
     public record YayBool(boolean value)  implements YayValue {}
     public record YayNull()               implements YayValue {}
 
 
-    static YayNode parse(List<Token> tokens) {
-        if (tokens.isEmpty()) {
+    static YayNode parse(Lexer lexer) {
+        var token = lexer.next();
+        if (token == null) {
             return new YayEmpty();
         }
-        var token = tokens.remove(0);
+        return parse(token, lexer);
+    }
+
+    public static YayNode parse(Token token, Lexer lexer) {
 
         // --enable-preview
         //return switch(token) {
-        //    case BeginArray  __  -> parseArray(tokens);
-        //    case BeginObject __  -> parseObject(tokens);
+        //    case BeginArray  __  -> parseArray(lexer);
+        //    case BeginObject __  -> parseObject(lexer);
         //    case False       __  -> new YayBool(false);
         //    case True        __  -> new YayBool(true);
         //    case Null        __  -> new YayNull();
@@ -81,9 +116,9 @@ public class Parser {
         //};
 
         if (token instanceof BeginArray) {
-            return parseArray(tokens);
+            return parseArray(lexer);
         } else if (token instanceof BeginObject) {
-            return parseObject(tokens);
+            return parseObject(lexer);
         } else {
             if (token instanceof False) {
                 return new YayBool(false);
@@ -92,7 +127,7 @@ public class Parser {
             } else if (token instanceof Null) {
                 return new YayNull();
             } else if (token instanceof JsonNumber n) {
-                return new YayNumber(n.number());
+                return new YayNumber(n.number(), n.string());
             } else if (token instanceof JsonString s) {
                 return new YayString(s.string());
             }
@@ -100,69 +135,131 @@ public class Parser {
         }
     }
 
-    static YayArray parseArray(List<Token> tokens) {
+    static YayArray parseArray(Lexer lexer) {
         var yayArray = new YayArray(new ArrayList<>());
 
-        if (tokens.get(0) instanceof EndArray) {
-            tokens.remove(0);
+        var token = lexer.next();
+        if (token instanceof EndArray) {
             return yayArray;
         }
 
         while (true) {
-            var node = parse(tokens);
+            var node = parse(token, lexer);
             yayArray.value().add(node);
-            var t = tokens.remove(0);
+            var t = lexer.next();
             if (t instanceof EndArray) {
                 return yayArray;
             } else if (! (t instanceof ValueSeparator)) {
                 throw new YayException("Expected comma in array");
             }
+            token = lexer.next();
         }
     }
 
-    static YayObject parseObject(List<Token> tokens) {
+    static YayObject parseObject(Lexer lexer) {
+        return parseObject(lexer, null);
+    }
+
+    static YayObject parseObject(Lexer lexer, Set<String> projection) {
         var yayObject = new YayObject(new HashMap<String, YayNode>());
-        if (tokens.get(0) instanceof EndObject) {
-            tokens.remove(0);
+        var key = lexer.next();
+        if (key instanceof EndObject) {
             return yayObject;
         }
         while (true) {
-            var key = tokens.remove(0);
             if (! (key instanceof JsonString js)) {
                 throw new YayException("Expected the key, in the JSON key-value pair, to be a string - was [%s]".formatted(key));
             }
-            var sep = tokens.remove(0);
+            var sep = lexer.next();
             if (! (sep instanceof NameSeparator)) {
                 throw new YayException("Expected the colon between key-value pair - at key [%s]".formatted(key));
             }
-            var node = parse(tokens);
+            if (projection != null && ! projection.contains(js.string())) {
+                lexer.skipValue();
+            } else {
+                var node = parse(lexer);
 
-            var prev = yayObject.value().put(js.string(), node);
-            if (prev != null) {
-                // warn, json "should not" have multiple keys with same name...
-                System.out.println("Whaaat - prev!=null with prev " + prev);
+                var prev = yayObject.value().put(js.string(), node);
+                if (prev != null) {
+                    // warn, json "should not" have multiple keys with same name...
+                    System.out.println("Whaaat - prev!=null with prev " + prev);
+                }
             }
-            if (tokens.isEmpty()) {
+
+            var t = lexer.next();
+            if (t == null) {
                 System.out.println("\n\n\nFinished with [" + key + "] and now all tokens are gone...!?\n\n\n");
                 return yayObject;
             }
 
-            var t = tokens.remove(0);
             if (t instanceof EndObject) {
                 return yayObject;
             } else if (! (t instanceof ValueSeparator)) {
                 throw new YayException("Expected comma after pair in object - at key [%s] - the token:%n%s%n".formatted(key, t));
             }
+            key = lexer.next();
         }
     }
 
+    /**
+     * Parses the json value starting with the given token.
+     * If it is an object, the values of fields not in the projection are skipped without building any nodes.
+     * @param projection the field names to keep, or null to keep all fields
+     */
+    public static YayNode parse(Token token, Lexer lexer, Set<String> projection) {
+        if (token instanceof BeginObject) {
+            return parseObject(lexer, projection);
+        }
+        return parse(token, lexer);
+    }
+
     public static YayNode fromString(String json) {
         Objects.requireNonNull(json);
-        json = json.trim();
-        var tokens = Lexer.tokenize(json);
-        var node = parse(tokens);
+        var node = parse(new Lexer(json));
         //node = new YayNode.YayWithRaw(node, json);
         return node;
     }
 
+    /**
+     * Parses a single json value, decoding the UTF-8 bytes as they are read from the input stream.
+     */
+    public static YayNode fromInputStream(InputStream inputStream) {
+        Objects.requireNonNull(inputStream);
+        return parse(new Lexer(inputStream));
+    }
+
+    /**
+     * Lazily parses the consecutive json values of the input stream,
+     * i.e a single json document or newline delimited json,
+     * without first splitting the input into lines or Strings.
+     */
+    public static Stream<YayNode> stream(InputStream inputStream) {
+        return stream(inputStream, Parser::parse);
+    }
+
+    /**
+     * Lazily reads the consecutive json values of the input stream,
+     * where the reader consumes the tokens of one value, starting with the given token.
+     */
+    public static <T> Stream<T> stream(InputStream inputStream, BiFunction<Token, Lexer, T> reader) {
+        Objects.requireNonNull(inputStream);
+        Objects.requireNonNull(reader);
+        var lexer = new Lexer(inputStream);
+        var iterator = new Iterator<T>() {
+            Token next;
+            @Override public boolean hasNext() {
+                if (next == null) next = lexer.next();
+                return next != null;
+            }
+            @Override public T next() {
+                if (! hasNext()) throw new NoSuchElementException();
+                var value = reader.apply(next, lexer);
+                next = null;
+                return value;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> { try { inputStream.close(); } catch (IOException ioe) {} });
+    }
+
 }
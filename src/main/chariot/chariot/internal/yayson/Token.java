@@ -1,8 +1,7 @@
 package chariot.internal.yayson;
 
+import java.math.BigDecimal;
 import java.util.Optional;
-import java.nio.ByteBuffer;
-import java.util.List;
 
 public sealed interface Token {
 
@@ -52,12 +51,9 @@ public sealed interface Token {
 
         public static JsonString decode(String raw) {
 
-            if (raw.contains("\\")) {
+            if (raw.indexOf('\\') != -1) {
                 try {
-                    var removedOptionalForwardSlashEscapes = raw.replaceAll("\\\\/", "/");
-                    var decodedUnicode = decodeUnicode(removedOptionalForwardSlashEscapes);
-                    var translatedEscapes = decodedUnicode.translateEscapes();
-                    return new JsonString(translatedEscapes, raw);
+                    return new JsonString(unescape(raw), raw);
                 } catch(Exception e) {
                     e.printStackTrace();
                 }
@@ -82,179 +78,143 @@ public sealed interface Token {
     record TokenAndTail(Optional<Token> token, String tail) {}
 
     public static TokenAndTail lex(String json) {
-        char c = json.charAt(0);
-        try {
-            var token = switch (c) {
-                case '[' -> Optional.of(BEGIN_ARRAY);
-                case ']' -> Optional.of(END_ARRAY);
-                case '{' -> Optional.of(BEGIN_OBJECT);
-                case '}' -> Optional.of(END_OBJECT);
-                case ':' -> Optional.of(NAME_SEPARATOR);
-                case ',' -> Optional.of(VALUE_SEPARATOR);
-                case 'n','t','f'                                 -> lexLiteral(json);
-                case '"'                                         -> lexString(json);
-                case '-','0','1','2','3','4','5','6','7','8','9' -> lexNumber(json);
-                default  -> Optional.<Token>empty();
-            };
-            if (token.isPresent()) {
-                var tt = new TokenAndTail(token, json.length() > token.get().length() ? json.substring(token.get().length()).trim() : "");
+        var token = Optional.ofNullable(lex(json, 0));
+        int consumed = token.map(Token::length).orElse(1);
+        return new TokenAndTail(token, json.length() > consumed ? json.substring(consumed).trim() : "");
+    }
 
-                return tt;
-            } else {
+    /**
+     * Lexes the token starting at {@code offset}, without copying the remaining input.
+     * The caller advances its offset with {@link Token#length()} of the returned token.
+     * @return the token at offset, or null if no token starts at offset (whitespace or unexpected character)
+     */
+    public static Token lex(String json, int offset) {
+        char c = json.charAt(offset);
+        try {
+            return switch (c) {
+                case '[' -> BEGIN_ARRAY;
+                case ']' -> END_ARRAY;
+                case '{' -> BEGIN_OBJECT;
+                case '}' -> END_OBJECT;
+                case ':' -> NAME_SEPARATOR;
+                case ',' -> VALUE_SEPARATOR;
+                case 'n','t','f'                                 -> lexLiteral(json, offset);
+                case '"'                                         -> lexString(json, offset);
+                case '-','0','1','2','3','4','5','6','7','8','9' -> lexNumber(json, offset);
 
                 // Whitespace
                 // All ok in json.
                 // Skip it, until we reach the beginning of a new token.
 
-                if (c != ' ' && c != '\n') {
-                    // If we are trying to parse something which isn't json,
-                    // for example the string 'game not found' as opposed to the string '{ "message" : "game not found" }',
-                    // we will only have unexpected characters here... 'g' 'a' 'm' 'e'... No token matches.
-
-                    //System.out.println("Unexpected character [" + c + "] [" + (int) c + "], skipping!!!!!!!!!!!!!!!!");
-                    //Thread.sleep(3000);
-                }
-                return new TokenAndTail(Optional.empty(), json.substring(1).trim());
-            }
+                // If we are trying to parse something which isn't json,
+                // for example the string 'game not found' as opposed to the string '{ "message" : "game not found" }',
+                // we will only have unexpected characters here... 'g' 'a' 'm' 'e'... No token matches.
+                default  -> null;
+            };
         } catch (Exception e) {
-            return new TokenAndTail(Optional.empty(), json.length() > 1 ? json.substring(1).trim() : "");
+            return null;
         }
     }
 
-    private static Optional<Token> lexLiteral(String json) {
-        if (json.startsWith("true")) {
-            return Optional.of(TRUE);
-        } else if (json.startsWith("false")) {
-            return Optional.of(FALSE);
-        } else if (json.startsWith("null")) {
-            return Optional.of(NULL);
+    private static Token lexLiteral(String json, int offset) {
+        if (json.startsWith("true", offset)) {
+            return TRUE;
+        } else if (json.startsWith("false", offset)) {
+            return FALSE;
+        } else if (json.startsWith("null", offset)) {
+            return NULL;
         }
-        return Optional.empty();
+        return null;
     }
 
-    private static Optional<Token> lexString(String json) {
-        int endQuote = 1;
-
-        try {
-            while((endQuote = json.indexOf('"', endQuote)) != -1) {
-
-                // Check if the " is escaped...
-                if (json.charAt(endQuote-1) == '\\') {
-                    // Check if the \ is not escaped...
-                    if (json.charAt(endQuote-2) != '\\') {
-
-                        // Ok escape was real...
-                        // Search for next " instead.
-
-                        endQuote++;
-                        continue;
-                    }
-                }
-
-                // Ok it seems the found " is not escaped,
-                // let's use everything we found.
-
-                var parsedString = json.substring(1, endQuote);
-                var string = JsonString.decode(parsedString);
-                return Optional.of(string);
+    private static Token lexString(String json, int offset) {
+        int length = json.length();
+        boolean escaped = false;
+        for (int i = offset + 1; i < length; i++) {
+            char c = json.charAt(i);
+            if (c == '\\') {
+                escaped = true;
+                // Skip the escaped character, it can't end the string
+                i++;
+            } else if (c == '"') {
+                var raw = json.substring(offset + 1, i);
+                return escaped ? JsonString.decode(raw) : new JsonString(raw, raw);
             }
-        } catch (Exception e) {
-            // ignore
-            e.printStackTrace();
         }
 
-        System.out.println("Couldn't find matching [\"], for json [" + json + "]");
-        return Optional.empty();
+        System.out.println("Couldn't find matching [\"], for json [" + json.substring(offset) + "]");
+        return null;
     }
 
-    private static Optional<Token> lexNumber(String json) {
-        var chars = List.<Character>of('0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '-', '+', 'e', 'E', '.');
-        int idx = 0;
-        while (idx < json.length()-1 && chars.contains(json.charAt(idx))) {
-            idx++;
-        }
-        var string = json.substring(0, idx);
-
-        Number number;
-        if (string.contains(".")) {
-           number = Float.valueOf(string);
-        } else {
-            var n = Long.valueOf(string);
-            if (n >= 0) {
-                if (n <= Integer.MAX_VALUE) {
-                    number = (Integer) n.intValue();
-                } else {
-                    number = n;
-                }
+    private static Token lexNumber(String json, int offset) {
+        int idx = offset;
+        int length = json.length();
+        boolean integral = true;
+        while (idx < length) {
+            char c = json.charAt(idx);
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+') {
+                idx++;
+            } else if (c == '.' || c == 'e' || c == 'E') {
+                integral = false;
+                idx++;
             } else {
-                if (n < Integer.MIN_VALUE) {
-                    number = n;
-                } else {
-                    number = (Integer) n.intValue();
-                }
+                break;
             }
         }
-        return Optional.of(new JsonNumber(string, number));
+        var string = json.substring(offset, idx);
+        return new JsonNumber(string, integral ? parseIntegral(string) : Double.valueOf(string));
     }
 
-    public static String decodeUnicode(String string) throws Exception {
-        byte[] bytes = string.getBytes();
-        ByteBuffer bb = ByteBuffer.allocate(bytes.length);
-        for(int i = 0; i < bytes.length; i++) {
-            byte b = bytes[i];
-
-            // An escape
-            if (b == 0x5c) {
-                if (i+1 < bytes.length) {
-                    byte next = bytes[i+1];
-                    // u
-                    if (next == 0x75) {
-
-                        byte ub1 = bytes[i+2];   // 50
-                        byte ub2 = bytes[i+3];
-                        byte ub3 = bytes[i+4];
-                        byte ub4 = bytes[i+5];
-
-                        char uc1 = (char) ub1;   // '2'
-                        char uc2 = (char) ub2;
-                        char uc3 = (char) ub3;
-                        char uc4 = (char) ub4;
-
-                        String four = ""+uc1+uc2+uc3+uc4;  // "2658"
-
-                        int cp = Integer.parseInt(four, 16); // 9816
-
-                        char[] chars = Character.toChars(cp);  // char[1] {horse}
-
-
-
-                        // Hmm, "ud83d udcdc" -> "{scroll}"
-                        //
-                        // "{scroll}".getBytes()  ->  { -16, -97, -109, -100 }
-
-                        // So after the first unicodes, check if there is a follow up,
-                        // and figure out how to parse it...
-
-                        String s = new String(chars);
-
-                        //System.out.println("Decoded string: [" + s + "]");
-                        var sbytes = s.getBytes();
-                        for (int j = 0; j < sbytes.length; j++) {
-                            bb.put(sbytes[j]);
-                        }
+    /**
+     * @return an Integer if the value fits, otherwise a Long,
+     * or a BigDecimal if the value doesn't fit in a long
+     */
+    static Number parseIntegral(String string) {
+        long n;
+        try {
+            n = Long.parseLong(string);
+        } catch (NumberFormatException nfe) {
+            return new BigDecimal(string);
+        }
+        if (n >= Integer.MIN_VALUE && n <= Integer.MAX_VALUE) {
+            return Integer.valueOf((int) n);
+        }
+        return Long.valueOf(n);
+    }
 
-                        i += 5;
-                        continue;
+    /**
+     * Translates the JSON escape sequences of a raw string in a single pass.
+     */
+    static String unescape(String raw) {
+        int length = raw.length();
+        var sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            char c = raw.charAt(i);
+            if (c != '\\' || i + 1 >= length) {
+                sb.append(c);
+                continue;
+            }
+            char next = raw.charAt(++i);
+            switch (next) {
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'u' -> {
+                    if (i + 4 < length) {
+                        // Surrogate pairs (emojis) are two consecutive escapes, each appended as its own char
+                        sb.append((char) Integer.parseInt(raw, i + 1, i + 5, 16));
+                        i += 4;
+                    } else {
+                        sb.append('\\').append(next);
                     }
                 }
+                // '"', '\\', '/' and anything unknown, is the character itself
+                default -> sb.append(next);
             }
-
-            bb.put(b);
         }
-
-        int pos = bb.position();
-        return new String(bb.slice(0, pos).array());
+        return sb.toString();
     }
 
 }
-
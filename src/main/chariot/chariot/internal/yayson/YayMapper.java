@@ -2,8 +2,10 @@ package chariot.internal.yayson;
 
 import java.lang.invoke.*;
 import java.lang.reflect.*;
+import java.math.BigDecimal;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.time.ZonedDateTime;
@@ -11,11 +13,14 @@ import java.time.format.DateTimeFormatter;
 
 import chariot.internal.Util;
 import chariot.internal.yayson.Parser.*;
+import chariot.internal.yayson.Token.*;
 import chariot.model.Opt;
 
 public class YayMapper {
 
     private final Config config;
+    private final Map<Class<?>, RecordPlan> recordPlans = new ConcurrentHashMap<>();
+    private final Map<Class<?>, SealedPlan> sealedPlans = new ConcurrentHashMap<>();
 
     public static YayMapper mapper() {
         return mapper(new Config(false, new HashMap<>(), new HashMap<>()));
@@ -33,16 +38,24 @@ public class YayMapper {
 
     public void setMappings(Class<?> cls, Map<String, String> mappings) {
         config.fieldMappings().put(cls, mappings);
+        recordPlans.remove(cls);
+        sealedPlans.clear();
     }
 
     public void setCustomMapper(Class<?> cls, Function<YayNode, ?> f) {
         config.customMappings().put(cls, f);
+        sealedPlans.clear();
     }
 
 
     public <T> T fromString(String json, Class<T> cls) {
 
         try {
+            if (bindsDirectly(cls)) {
+                var lexer = new Lexer(json);
+                return fromTokens(lexer.next(), lexer, cls);
+            }
+
             var node = Parser.fromString(json);
 
             if (config.customMappings().containsKey(cls)) {
@@ -81,76 +94,14 @@ public class YayMapper {
 
         } else if (cls.isRecord()) {
 
-            var rcomp = Arrays.asList(cls.getRecordComponents());
-
             if (node instanceof YayObject yo) {
-                List<?> instances = rcomp.stream()
-                    .map(rc -> {
-
-                        // See if we need to swap the json property name to a java friendly name
-                        // json: { "int": 5 }
-                        // java: int int = 5; <- not ok
-                        // java: int intVariable = 5; <- "ok"
-                        // So json "int" -> java "intVariable" mapping
-                        var jsonName = config.fieldMappings().getOrDefault(cls, Map.of())
-                            .getOrDefault(rc.getName(), rc.getName());
-
-                        var parameterizedType = Optional.<ParameterizedType>empty();
-                        if (rc.getGenericType() instanceof ParameterizedType pt) {
-                            parameterizedType = Optional.of(pt);
-                        }
-
-                        Object obj = null;
-                        try {
-                            obj = rc.getType().isInterface() && rc.getType().isSealed() ?
-                                buildFromSealedInterface(yo.value().get(jsonName), rc.getType(), parameterizedType) :
-                                buildFromClass(yo.value().get(jsonName), rc.getType(), parameterizedType);
-                        } catch (Exception e) {
-                            System.err.println("Failure while looking for " + jsonName + " of type " +
-                                    rc.getType() + " with (possibly) parameterized type " + parameterizedType);
-                            System.err.println("""
-                                    Failed: T fromYayTree(YayNode node, Class<T> cls)
-                                    e.getMessage(): %s
-                                    cls.getName(): %s
-                                    node:
-                                    =======================
-                                    %s
-                                    =======================
-                                    """.formatted(e.getMessage(), cls.getName(), node));
-                            e.printStackTrace(System.err);
-                        }
-                        return obj;
-                    })
-                .toList();
-
-                T t;
-                try {
-                    var declaredCtors = cls.getDeclaredConstructors();
-                    var ctor = declaredCtors[0];
-
-                    if (declaredCtors.length > 1) {
-                        var types = rcomp.stream()
-                            .map(RecordComponent::getType)
-                            .toList();
-                        ctor = Arrays.stream(declaredCtors)
-                            .filter(c -> Arrays.asList(c.getParameterTypes()).equals(types))
-                            .findAny()
-                            .orElseThrow();
-                    }
-
-                    // Create the instance!
-                    t = cls.cast(ctor.newInstance(instances.toArray()));
-
-                } catch (InstantiationException |
-                        IllegalAccessException |
-                        IllegalArgumentException |
-                        InvocationTargetException e) {
-                    e.printStackTrace();
-                    System.out.println(" ########  Instances: " + instances);
-                    System.out.println(" ========  node     : " + node);
-                    t = null;
-                        }
-                return t;
+                var plan = recordPlan(cls);
+                var components = plan.components();
+                var instances = new Object[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    instances[i] = buildComponent(yo.value().get(components[i].jsonName()), components[i], cls, node);
+                }
+                return construct(cls, plan, instances, node);
             }
         }
 
@@ -169,6 +120,191 @@ public class YayMapper {
         return null;
     }
 
+    /**
+     * Maps the json value starting with the given token, consuming its tokens from the lexer.
+     * Json objects are bound directly to record classes, without building a YayNode tree,
+     * and the values of json fields which the record doesn't declare are skipped.
+     * If the value can't be mapped, the rest of it is skipped and null is returned.
+     */
+    public <T> T fromTokens(Token token, Lexer lexer, Class<T> cls) {
+        if (token == null) {
+            return null;
+        }
+        int nesting = token instanceof BeginObject || token instanceof BeginArray ?
+            lexer.nesting() - 1 : lexer.nesting();
+        try {
+            if (bindsDirectly(cls) && token instanceof BeginObject) {
+                return bindRecord(lexer, cls);
+            }
+            if (cls.isInterface() && cls.isSealed()) {
+                return fromYayTree(Parser.parse(token, lexer, sealedPlan(cls).projection()), cls);
+            }
+            return fromYayTree(Parser.parse(token, lexer), cls);
+        } catch (Exception e) {
+            System.err.println("""
+                    Failed: T fromTokens(Token token, Lexer lexer, Class<T> cls)
+                    e.getMessage(): %s
+                    cls.getName(): %s
+                    token: %s
+            """.formatted(e.getMessage(), cls.getName(), token));
+            // Continue after the value, with the next one
+            lexer.skipTo(nesting);
+        }
+        return null;
+    }
+
+    private boolean bindsDirectly(Class<?> cls) {
+        return cls.isRecord() && ! config.customMappings().containsKey(cls);
+    }
+
+    private <T> T bindRecord(Lexer lexer, Class<T> cls) {
+        var plan = recordPlan(cls);
+        var components = plan.components();
+        var instances = new Object[components.length];
+        var bound = new boolean[components.length];
+
+        var key = lexer.next();
+        while (! (key instanceof EndObject)) {
+            if (! (key instanceof JsonString js)) {
+                throw new YayException("Expected the key, in the JSON key-value pair, to be a string - was [%s]".formatted(key));
+            }
+            if (! (lexer.next() instanceof NameSeparator)) {
+                throw new YayException("Expected the colon between key-value pair - at key [%s]".formatted(key));
+            }
+
+            var index = plan.indexByJsonName().get(js.string());
+            if (index == null) {
+                lexer.skipValue();
+            } else {
+                var token = lexer.next();
+                var component = components[index];
+                if (token instanceof BeginObject && ! component.sealed() && bindsDirectly(component.type())) {
+                    instances[index] = bindRecord(lexer, component.type());
+                } else if (component.sealed()) {
+                    var node = Parser.parse(token, lexer, sealedPlan(component.type()).projection());
+                    instances[index] = buildComponent(node, component, cls, js.string());
+                } else {
+                    instances[index] = buildComponent(Parser.parse(token, lexer), component, cls, js.string());
+                }
+                bound[index] = true;
+            }
+
+            var t = lexer.next();
+            if (t == null || t instanceof EndObject) {
+                break;
+            } else if (! (t instanceof ValueSeparator)) {
+                throw new YayException("Expected comma after pair in object - at key [%s] - the token:%n%s%n".formatted(key, t));
+            }
+            key = lexer.next();
+        }
+
+        for (int i = 0; i < components.length; i++) {
+            if (! bound[i]) {
+                instances[i] = buildComponent(null, components[i], cls, "<missing>");
+            }
+        }
+        return construct(cls, plan, instances, "<bound from tokens>");
+    }
+
+    private Object buildComponent(YayNode value, RecordComponentPlan component, Class<?> cls, Object node) {
+        Object obj = null;
+        try {
+            obj = component.sealed() ?
+                buildFromSealedInterface(value, component.type(), component.parameterizedType()) :
+                buildFromClass(value, component.type(), component.parameterizedType());
+        } catch (Exception e) {
+            System.err.println("Failure while looking for " + component.jsonName() + " of type " +
+                    component.type() + " with (possibly) parameterized type " + component.parameterizedType());
+            System.err.println("""
+                    Failed: T fromYayTree(YayNode node, Class<T> cls)
+                    e.getMessage(): %s
+                    cls.getName(): %s
+                    node:
+                    =======================
+                    %s
+                    =======================
+                    """.formatted(e.getMessage(), cls.getName(), node));
+            e.printStackTrace(System.err);
+        }
+        return component.primitive() && obj instanceof Number number ?
+            widen(number, component.type()) : obj;
+    }
+
+    private <T> T construct(Class<T> cls, RecordPlan plan, Object[] instances, Object node) {
+        T t;
+        try {
+            // Create the instance!
+            t = cls.cast(plan.constructor().invokeExact(instances));
+        } catch (Throwable e) {
+            e.printStackTrace();
+            System.out.println(" ########  Instances: " + Arrays.toString(instances));
+            System.out.println(" ========  node     : " + node);
+            t = null;
+        }
+        return t;
+    }
+
+    /**
+     * The resolved record components and canonical constructor of a record class,
+     * looked up once per class instead of for every mapped json object.
+     */
+    record RecordPlan(RecordComponentPlan[] components, Map<String, Integer> indexByJsonName, MethodHandle constructor) {}
+    record RecordComponentPlan(String jsonName, Class<?> type, Optional<ParameterizedType> parameterizedType, boolean sealed, boolean primitive) {}
+
+    private RecordPlan recordPlan(Class<?> cls) {
+        return recordPlans.computeIfAbsent(cls, this::compileRecordPlan);
+    }
+
+    private RecordPlan compileRecordPlan(Class<?> cls) {
+        var fieldMappings = config.fieldMappings().getOrDefault(cls, Map.of());
+        var components = Arrays.stream(cls.getRecordComponents())
+            .map(rc -> {
+                // See if we need to swap the json property name to a java friendly name
+                // json: { "int": 5 }
+                // java: int int = 5; <- not ok
+                // java: int intVariable = 5; <- "ok"
+                // So json "int" -> java "intVariable" mapping
+                var jsonName = fieldMappings.getOrDefault(rc.getName(), rc.getName());
+
+                var parameterizedType = Optional.<ParameterizedType>empty();
+                if (rc.getGenericType() instanceof ParameterizedType pt) {
+                    parameterizedType = Optional.of(pt);
+                }
+                var type = rc.getType();
+                return new RecordComponentPlan(jsonName, type, parameterizedType,
+                        type.isInterface() && type.isSealed(), type.isPrimitive());
+            })
+            .toArray(RecordComponentPlan[]::new);
+
+        var types = Arrays.stream(cls.getRecordComponents())
+            .map(RecordComponent::getType)
+            .toArray(Class<?>[]::new);
+        try {
+            var ctor = cls.getDeclaredConstructor(types);
+            ctor.setAccessible(true);
+            var constructor = MethodHandles.lookup().unreflectConstructor(ctor)
+                .asSpreader(Object[].class, types.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+            var indexByJsonName = new HashMap<String, Integer>();
+            for (int i = 0; i < components.length; i++) {
+                indexByJsonName.put(components[i].jsonName(), i);
+            }
+            return new RecordPlan(components, Map.copyOf(indexByJsonName), constructor);
+        } catch (ReflectiveOperationException e) {
+            throw new YayException("Couldn't find canonical constructor of %s".formatted(cls.getName()));
+        }
+    }
+
+    private static Object widen(Number number, Class<?> primitive) {
+        if (primitive == int.class)    return number.intValue();
+        if (primitive == long.class)   return number.longValue();
+        if (primitive == double.class) return number.doubleValue();
+        if (primitive == float.class)  return number.floatValue();
+        if (primitive == short.class)  return number.shortValue();
+        if (primitive == byte.class)   return number.byteValue();
+        return number;
+    }
+
     private <T> T buildFromSealedInterface(YayNode node, Class<T> cls, Optional<ParameterizedType> parameterizedType) {
 
         if (config.customMappings().containsKey(cls)) {
@@ -192,15 +328,11 @@ public class YayMapper {
             return t;
         }
 
+        var plan = sealedPlan(cls);
+
         if (node instanceof YayEmpty empty) {
-            List<Class<?>> permittedRecordSubclasses = permittedRecordClassesOfSealedInterfaceHierarchy(cls);
-            var opt = permittedRecordSubclasses.stream()
-                .filter(p -> p.getRecordComponents().length == 0)
-                .findFirst();
-            if (opt.isPresent()) {
-                var klass = opt.get();
-
-                var o = buildFromClass(empty, klass, parameterizedType);
+            if (plan.emptyRecord() != null) {
+                var o = buildFromClass(empty, plan.emptyRecord(), parameterizedType);
                 if (o != null) {
                     return cls.cast(o);
                 }
@@ -212,25 +344,12 @@ public class YayMapper {
             // Hmm, can be YayEmpty, I guess...
             return null;
         }
-        var jsonFieldNames = yo.value().keySet();
-
-        List<Class<?>> permittedRecordSubclasses = permittedRecordClassesOfSealedInterfaceHierarchy(cls);
-
-        record ClassFieldMatches(Class<?> c, Long count) {}
-        var bestMatch = permittedRecordSubclasses.stream()
-            .map(c -> new ClassFieldMatches(c,
-                        Arrays.stream(c.getRecordComponents())
-                        .map(rc -> rc.getName())
-                        .map(name -> config.fieldMappings().getOrDefault(c, Map.of()).getOrDefault(name, name))
-                        .filter(jsonFieldNames::contains)
-                        .collect(Collectors.counting()))
-                )
-            .max((cfm1, cfm2) -> Long.compare(cfm1.count(), cfm2.count()));
 
+        var bestMatch = plan.bestMatch(yo.value().keySet());
 
         Object result = null;
         if (bestMatch.isPresent()) {
-            var bestMatchClass = bestMatch.get().c();
+            var bestMatchClass = bestMatch.get();
             if (config.customMappings().containsKey(bestMatchClass)) {
                 var f = config.customMappings().get(bestMatchClass);
                 result = f.apply(node);
@@ -243,6 +362,60 @@ public class YayMapper {
         return cls.cast(result);
     }
 
+    /**
+     * The permitted records of a sealed interface hierarchy, indexed by their json field names,
+     * so choosing the record which matches the most fields of a json object
+     * only needs a lookup per field of the json object.
+     * The projection is the json field names of the records, or null if any custom mapper
+     * might need other fields.
+     */
+    record SealedPlan(Class<?>[] records, Map<String, int[]> recordsByJsonName, Class<?> emptyRecord, Set<String> projection) {
+
+        Optional<Class<?>> bestMatch(Set<String> jsonFieldNames) {
+            if (records.length == 0) return Optional.empty();
+            var counts = new int[records.length];
+            for (var name : jsonFieldNames) {
+                var indices = recordsByJsonName.get(name);
+                if (indices == null) continue;
+                for (int index : indices) counts[index]++;
+            }
+            int best = 0;
+            for (int i = 1; i < counts.length; i++) {
+                if (counts[i] > counts[best]) best = i;
+            }
+            return Optional.of(records[best]);
+        }
+    }
+
+    private SealedPlan sealedPlan(Class<?> cls) {
+        return sealedPlans.computeIfAbsent(cls, this::compileSealedPlan);
+    }
+
+    private SealedPlan compileSealedPlan(Class<?> cls) {
+        var records = permittedRecordClassesOfSealedInterfaceHierarchy(cls).toArray(Class<?>[]::new);
+        var indices = new HashMap<String, List<Integer>>();
+        for (int i = 0; i < records.length; i++) {
+            var c = records[i];
+            var fieldMappings = config.fieldMappings().getOrDefault(c, Map.of());
+            for (var rc : c.getRecordComponents()) {
+                var name = fieldMappings.getOrDefault(rc.getName(), rc.getName());
+                indices.computeIfAbsent(name, __ -> new ArrayList<>()).add(i);
+            }
+        }
+        var recordsByJsonName = indices.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        e -> e.getValue().stream().mapToInt(Integer::intValue).toArray()));
+        var emptyRecord = Arrays.stream(records)
+            .filter(c -> c.getRecordComponents().length == 0)
+            .findFirst()
+            .orElse(null);
+        var customMapped = cls.equals(Opt.class)
+            || config.customMappings().containsKey(cls)
+            || Arrays.stream(records).anyMatch(config.customMappings()::containsKey);
+        var projection = customMapped ? null : recordsByJsonName.keySet();
+        return new SealedPlan(records, recordsByJsonName, emptyRecord, projection);
+    }
+
     private List<Class<?>> permittedRecordClassesOfSealedInterfaceHierarchy(Class<?> cls) {
 
         boolean resolvedAllClasses = false;
@@ -335,7 +508,7 @@ public class YayMapper {
             } else if (node instanceof YayNumber number) {
                 try {
                     var mh = MethodHandles.lookup().findStatic(cls, "valueOf", MethodType.methodType(cls, int.class));
-                    var o = mh.invoke(number.value().intValue());
+                    var o = mh.invoke(number.intValue());
                     return cls.cast(o);
                 } catch (Throwable t) {
                     t.printStackTrace();
@@ -345,7 +518,7 @@ public class YayMapper {
         } else {
             if (node instanceof YayNumber number) {
                 if (ZonedDateTime.class.equals(cls)) {
-                    ZonedDateTime zdt = Util.fromLong(number.value().longValue());
+                    ZonedDateTime zdt = Util.fromLong(number.longValue());
                     return cls.cast(zdt);
                 }
             }
@@ -399,16 +572,18 @@ public class YayMapper {
         if (node instanceof YayValue yv) {
             if (yv instanceof YayNumber yn) {
                 Number number = yn.value();
-                if (cls == Short.class) {
+                if (cls == Short.class || cls == short.class) {
                     o = number.shortValue();
-                } else if (cls == Integer.class) {
+                } else if (cls == Integer.class || cls == int.class) {
                     o = number.intValue();
-                } else if (cls == Long.class) {
+                } else if (cls == Long.class || cls == long.class) {
                     o = number.longValue();
-                } else if (cls == Float.class) {
+                } else if (cls == Float.class || cls == float.class) {
                     o = number.floatValue();
-                } else if (cls == Double.class) {
+                } else if (cls == Double.class || cls == double.class) {
                     o = number.doubleValue();
+                } else if (cls == BigDecimal.class) {
+                    o = yn.bigDecimalValue();
                 } else {
                     o = number;
                 }
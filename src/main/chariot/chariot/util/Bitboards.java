@@ -0,0 +1,368 @@
+package chariot.util;
+
+import java.util.*;
+
+import chariot.util.Board.*;
+
+/**
+ * Move generation on bitboards, one 64-bit occupancy per piece type and color,
+ * with precomputed attack tables for the leapers and classical ray attacks for the sliders.
+ * <p>
+ * Squares are numbered {@code row * 8 + col}, i.e. a1 is 0, h1 is 7 and h8 is 63.
+ * Pieces are indexed {@code color * 6 + type}, with the ordinals of {@link Side} and {@link PieceType}.
+ * <p>
+ * Moves are encoded in an int, see {@link #from(int)}, {@link #to(int)}, {@link #promotion(int)} and the flags.
+ * A castling move is encoded as the king moving to the square of its rook, which is unambiguous also in Chess960.
+ */
+final class Bitboards {
+
+    private Bitboards() {}
+
+    static final int BLACK = Side.BLACK.ordinal();
+    static final int WHITE = Side.WHITE.ordinal();
+
+    static final int PAWN   = PieceType.PAWN.ordinal();
+    static final int KNIGHT = PieceType.KNIGHT.ordinal();
+    static final int BISHOP = PieceType.BISHOP.ordinal();
+    static final int ROOK   = PieceType.ROOK.ordinal();
+    static final int QUEEN  = PieceType.QUEEN.ordinal();
+    static final int KING   = PieceType.KING.ordinal();
+
+    static final int EN_PASSANT  = 1 << 15;
+    static final int CASTLING    = 1 << 16;
+    static final int DOUBLE_PUSH = 1 << 17;
+
+    /** Upper bound of the number of legal moves in a position */
+    static final int MAX_MOVES = 256;
+
+    static final long[] KNIGHT_ATTACKS = new long[64];
+    static final long[] KING_ATTACKS = new long[64];
+    static final long[][] PAWN_ATTACKS = new long[2][64];
+
+    // Directions N, E, NE, NW (increasing square numbers) and S, W, SW, SE (decreasing square numbers)
+    private static final int[][] DIRECTIONS = { {1,0}, {0,1}, {1,1}, {1,-1}, {-1,0}, {0,-1}, {-1,-1}, {-1,1} };
+    private static final long[][] RAYS = new long[8][64];
+
+    private static final Coordinate[] COORDINATES = new Coordinate[64];
+
+    static {
+        for (int sq = 0; sq < 64; sq++) {
+            int row = sq >>> 3, col = sq & 7;
+            COORDINATES[sq] = Coordinate.rowCol(row, col);
+
+            for (int[] d : new int[][] { {1,2}, {1,-2}, {-1,2}, {-1,-2}, {2,1}, {2,-1}, {-2,1}, {-2,-1} }) {
+                KNIGHT_ATTACKS[sq] |= bit(row + d[0], col + d[1]);
+            }
+            for (int[] d : DIRECTIONS) {
+                KING_ATTACKS[sq] |= bit(row + d[0], col + d[1]);
+            }
+            PAWN_ATTACKS[WHITE][sq] = bit(row + 1, col - 1) | bit(row + 1, col + 1);
+            PAWN_ATTACKS[BLACK][sq] = bit(row - 1, col - 1) | bit(row - 1, col + 1);
+
+            for (int dir = 0; dir < 8; dir++) {
+                int r = row + DIRECTIONS[dir][0], c = col + DIRECTIONS[dir][1];
+                while (r >= 0 && r <= 7 && c >= 0 && c <= 7) {
+                    RAYS[dir][sq] |= 1L << (r * 8 + c);
+                    r += DIRECTIONS[dir][0];
+                    c += DIRECTIONS[dir][1];
+                }
+            }
+        }
+    }
+
+    private static long bit(int row, int col) {
+        return row >= 0 && row <= 7 && col >= 0 && col <= 7 ? 1L << (row * 8 + col) : 0;
+    }
+
+    static int from(int move)      { return move & 63; }
+    static int to(int move)        { return (move >>> 6) & 63; }
+    /** @return the piece type of a promotion, or 0 if not a promotion */
+    static int promotion(int move) { return (move >>> 12) & 7; }
+
+    static int move(int from, int to) { return from | to << 6; }
+
+    static int square(int row, int col) { return row * 8 + col; }
+    static int square(Coordinate coordinate) { return square(coordinate.row(), coordinate.col()); }
+    static Coordinate coordinate(int square) { return COORDINATES[square]; }
+
+    private static long ray(int dir, int sq, long occupied) {
+        long ray = RAYS[dir][sq];
+        long blockers = ray & occupied;
+        if (blockers == 0) return ray;
+        int first = dir < 4
+            ? Long.numberOfTrailingZeros(blockers)
+            : 63 - Long.numberOfLeadingZeros(blockers);
+        return ray ^ RAYS[dir][first];
+    }
+
+    static long rookAttacks(int sq, long occupied) {
+        return ray(0, sq, occupied) | ray(1, sq, occupied) | ray(4, sq, occupied) | ray(5, sq, occupied);
+    }
+
+    static long bishopAttacks(int sq, long occupied) {
+        return ray(2, sq, occupied) | ray(3, sq, occupied) | ray(6, sq, occupied) | ray(7, sq, occupied);
+    }
+
+    static long attacks(int type, int color, int sq, long occupied) {
+        if (type == PAWN)   return PAWN_ATTACKS[color][sq];
+        if (type == KNIGHT) return KNIGHT_ATTACKS[sq];
+        if (type == BISHOP) return bishopAttacks(sq, occupied);
+        if (type == ROOK)   return rookAttacks(sq, occupied);
+        if (type == QUEEN)  return bishopAttacks(sq, occupied) | rookAttacks(sq, occupied);
+        return KING_ATTACKS[sq];
+    }
+
+    static long occupancy(long[] pieces, int color) {
+        int i = color * 6;
+        return pieces[i] | pieces[i+1] | pieces[i+2] | pieces[i+3] | pieces[i+4] | pieces[i+5];
+    }
+
+    static boolean attacked(int sq, int attacker, long[] pieces, long occupied) {
+        return attacked(sq, attacker, pieces, occupied, 0);
+    }
+
+    /**
+     * @param captured pieces of the attacker which have been captured, and don't attack anymore
+     */
+    static boolean attacked(int sq, int attacker, long[] pieces, long occupied, long captured) {
+        int i = attacker * 6;
+        long remaining = ~captured;
+        if ((PAWN_ATTACKS[attacker ^ 1][sq] & pieces[i + PAWN] & remaining) != 0) return true;
+        if ((KNIGHT_ATTACKS[sq] & pieces[i + KNIGHT] & remaining) != 0) return true;
+        if ((KING_ATTACKS[sq] & pieces[i + KING]) != 0) return true;
+        long queens = pieces[i + QUEEN];
+        if ((bishopAttacks(sq, occupied) & (pieces[i + BISHOP] | queens) & remaining) != 0) return true;
+        return (rookAttacks(sq, occupied) & (pieces[i + ROOK] | queens) & remaining) != 0;
+    }
+
+    /**
+     * @return the piece index ({@code color * 6 + type}) on the square, or -1 if empty
+     */
+    static int pieceAt(long[] pieces, int sq) {
+        long bit = 1L << sq;
+        for (int i = 0; i < 12; i++) {
+            if ((pieces[i] & bit) != 0) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * The square the king moves to when castling with the rook on the given square
+     */
+    static int castlingKingTarget(int kingSq, int rookSq) {
+        return (kingSq & ~7) | (rookSq > kingSq ? 6 : 2);
+    }
+
+    /**
+     * The square the rook moves to when castling with the rook on the given square
+     */
+    static int castlingRookTarget(int kingSq, int rookSq) {
+        return (kingSq & ~7) | (rookSq > kingSq ? 5 : 3);
+    }
+
+    /**
+     * Generates the legal moves of a color
+     *
+     * @param pieces        bitboards indexed by {@code color * 6 + type}
+     * @param color         the color to move
+     * @param epSquare      the en passant target square, or -1
+     * @param castlingRooks squares of the rooks which may castle, indexed by {@code color * 2} (king side) and {@code color * 2 + 1} (queen side), or -1
+     * @param fromMask      only moves of pieces on these squares are generated
+     * @param moves         receives the moves
+     * @return the number of moves
+     */
+    static int generate(long[] pieces, int color, int epSquare, int[] castlingRooks, long fromMask, int[] moves) {
+        long king = pieces[color * 6 + KING];
+        if (king == 0) return 0;
+        int kingSq = Long.numberOfTrailingZeros(king);
+        int them = color ^ 1;
+
+        long own = occupancy(pieces, color);
+        long enemy = occupancy(pieces, them);
+        long occupied = own | enemy;
+        boolean inCheck = attacked(kingSq, them, pieces, occupied);
+
+        int n = 0;
+        int base = color * 6;
+
+        // Pawns
+        int forward = color == WHITE ? 8 : -8;
+        int startRow = color == WHITE ? 1 : 6;
+        int promotionRow = color == WHITE ? 7 : 0;
+        for (long bb = pieces[base + PAWN] & fromMask; bb != 0; bb &= bb - 1) {
+            int from = Long.numberOfTrailingZeros(bb);
+            int one = from + forward;
+            if (one >= 0 && one < 64 && (occupied & (1L << one)) == 0) {
+                n = addPawnMove(pieces, color, them, kingSq, occupied, from, one, 0, one >>> 3 == promotionRow, moves, n);
+                int two = one + forward;
+                if (from >>> 3 == startRow && (occupied & (1L << two)) == 0) {
+                    n = addPawnMove(pieces, color, them, kingSq, occupied, from, two, DOUBLE_PUSH, false, moves, n);
+                }
+            }
+            for (long captures = PAWN_ATTACKS[color][from] & enemy; captures != 0; captures &= captures - 1) {
+                int to = Long.numberOfTrailingZeros(captures);
+                n = addPawnMove(pieces, color, them, kingSq, occupied, from, to, 0, to >>> 3 == promotionRow, moves, n);
+            }
+            if (epSquare >= 0 && (PAWN_ATTACKS[color][from] & (1L << epSquare)) != 0) {
+                int capturedSq = epSquare - forward;
+                long capturedBit = 1L << capturedSq;
+                if ((pieces[them * 6 + PAWN] & capturedBit) != 0) {
+                    long after = (occupied & ~(1L << from) & ~capturedBit) | (1L << epSquare);
+                    if (! attacked(kingSq, them, pieces, after, capturedBit)) {
+                        moves[n++] = move(from, epSquare) | EN_PASSANT;
+                    }
+                }
+            }
+        }
+
+        // Pieces
+        for (int type = KNIGHT; type <= KING; type++) {
+            for (long bb = pieces[base + type] & fromMask; bb != 0; bb &= bb - 1) {
+                int from = Long.numberOfTrailingZeros(bb);
+                long fromBit = 1L << from;
+                for (long targets = attacks(type, color, from, occupied) & ~own; targets != 0; targets &= targets - 1) {
+                    int to = Long.numberOfTrailingZeros(targets);
+                    long toBit = 1L << to;
+                    long after = (occupied & ~fromBit) | toBit;
+                    if (! attacked(type == KING ? to : kingSq, them, pieces, after, toBit)) {
+                        moves[n++] = move(from, to);
+                    }
+                }
+            }
+        }
+
+        // Castling
+        if (! inCheck && (king & fromMask) != 0) {
+            for (int side = 0; side < 2; side++) {
+                int rookSq = castlingRooks[color * 2 + side];
+                if (rookSq < 0 || (pieces[base + ROOK] & (1L << rookSq)) == 0) continue;
+                if (castlingAllowed(pieces, them, occupied, kingSq, rookSq)) {
+                    moves[n++] = move(kingSq, rookSq) | CASTLING;
+                }
+            }
+        }
+        return n;
+    }
+
+    private static int addPawnMove(long[] pieces, int color, int them, int kingSq, long occupied,
+            int from, int to, int flags, boolean promotion, int[] moves, int n) {
+        long toBit = 1L << to;
+        long after = (occupied & ~(1L << from)) | toBit;
+        if (attacked(kingSq, them, pieces, after, toBit)) return n;
+        int move = move(from, to) | flags;
+        if (promotion) {
+            moves[n++] = move | QUEEN << 12;
+            moves[n++] = move | ROOK << 12;
+            moves[n++] = move | BISHOP << 12;
+            moves[n++] = move | KNIGHT << 12;
+        } else {
+            moves[n++] = move;
+        }
+        return n;
+    }
+
+    private static boolean castlingAllowed(long[] pieces, int them, long occupied, int kingSq, int rookSq) {
+        int kingTarget = castlingKingTarget(kingSq, rookSq);
+        int rookTarget = castlingRookTarget(kingSq, rookSq);
+
+        // All squares the king and rook travel over must be empty, except for the king and rook themselves
+        long travel = between(kingSq, kingTarget) | between(rookSq, rookTarget);
+        long others = occupied & ~(1L << kingSq) & ~(1L << rookSq);
+        if ((travel & others) != 0) return false;
+
+        // The king may not pass over or land on an attacked square
+        int step = kingTarget > kingSq ? 1 : -1;
+        for (int sq = kingSq; sq != kingTarget; ) {
+            sq += step;
+            if (attacked(sq, them, pieces, others)) return false;
+        }
+
+        // And the castled rook may not have been the piece shielding the king's target square
+        long after = others | (1L << kingTarget) | (1L << rookTarget);
+        return ! attacked(kingTarget, them, pieces, after);
+    }
+
+    /**
+     * Squares on the same row from a to b, both inclusive
+     */
+    private static long between(int a, int b) {
+        int lo = Math.min(a, b), hi = Math.max(a, b);
+        return (-1L >>> (63 - hi)) & (-1L << lo);
+    }
+
+    // Conversions from and to the Board representation
+
+    static long[] pieces(Map<Coordinate, Piece> pieceMap) {
+        long[] pieces = new long[12];
+        for (var entry : pieceMap.entrySet()) {
+            var piece = entry.getValue();
+            pieces[piece.color().ordinal() * 6 + piece.type().ordinal()] |= 1L << square(entry.getKey());
+        }
+        return pieces;
+    }
+
+    static int epSquare(String ep) {
+        if (ep == null || ep.length() != 2) return -1;
+        int col = ep.charAt(0) - 'a', row = ep.charAt(1) - '1';
+        return col >= 0 && col <= 7 && row >= 0 && row <= 7 ? square(row, col) : -1;
+    }
+
+    static int[] castlingRooks(CastlingRights rights) {
+        var files = rights.files();
+        int[] rooks = new int[4];
+        rooks[BLACK * 2]     = rookSquare(files.k(), 7);
+        rooks[BLACK * 2 + 1] = rookSquare(files.q(), 7);
+        rooks[WHITE * 2]     = rookSquare(files.K(), 0);
+        rooks[WHITE * 2 + 1] = rookSquare(files.Q(), 0);
+        return rooks;
+    }
+
+    private static int rookSquare(String file, int row) {
+        if (file.isEmpty()) return -1;
+        return square(row, Character.toLowerCase(file.charAt(0)) - 'a');
+    }
+
+    static Move toMove(int move) {
+        int from = from(move), to = to(move);
+        if ((move & CASTLING) != 0) {
+            return new Castling(
+                    new FromTo(coordinate(from), coordinate(castlingKingTarget(from, to))),
+                    new FromTo(coordinate(to), coordinate(castlingRookTarget(from, to))));
+        }
+        var fromTo = new FromTo(coordinate(from), coordinate(to));
+        int promotion = promotion(move);
+        return promotion == 0 ? fromTo : new Promotion(fromTo, PieceType.values()[promotion]);
+    }
+
+    /**
+     * The legal moves of the pieces on the squares in the mask
+     */
+    static Set<Move> validMoves(Map<Coordinate, Piece> pieceMap, FEN fen, Side side, long fromMask) {
+        int[] moves = new int[MAX_MOVES];
+        int n = generate(pieces(pieceMap), side.ordinal(),
+                side == fen.whoseTurn() ? epSquare(fen.ep()) : -1,
+                castlingRooks(fen.castlingRights()),
+                fromMask, moves);
+        Set<Move> set = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            set.add(toMove(moves[i]));
+        }
+        return set;
+    }
+
+    static boolean inCheck(Map<Coordinate, Piece> pieceMap, Side side) {
+        long[] pieces = pieces(pieceMap);
+        long king = pieces[side.ordinal() * 6 + KING];
+        if (king == 0) return false;
+        long occupied = occupancy(pieces, WHITE) | occupancy(pieces, BLACK);
+        return attacked(Long.numberOfTrailingZeros(king), side.ordinal() ^ 1, pieces, occupied);
+    }
+
+    static Set<Coordinate> coordinates(long bb) {
+        Set<Coordinate> set = new HashSet<>();
+        for (; bb != 0; bb &= bb - 1) {
+            set.add(coordinate(Long.numberOfTrailingZeros(bb)));
+        }
+        return set;
+    }
+}
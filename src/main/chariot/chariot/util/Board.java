@@ -15,43 +15,35 @@ public sealed interface Board {
     }
 
     static Board fromFEN(FEN fen) {
-        return fromFENWithHistory(fen, List.of());
+        var pieceMap = pieceMap(fen.positions());
+        return fromFENWithHistory(fen, pieceMap, List.of(), Zobrist.key(pieceMap, fen), List.of());
     }
 
-    private static Board fromFENWithHistory(FEN fen, List<FEN> history) {
+    private static Board fromFENWithHistory(FEN fen, Map<Coordinate, Piece> pieceMap, List<FEN> history, long zobristKey, List<Long> keyHistory) {
 
         GameState gameState = GameState.ongoing;
 
         if (fen.halfMoveClock() >= 100) gameState = GameState.draw_by_fifty_move_rule;
 
         if (gameState == GameState.ongoing) {
-            if (Board.validMoves(fen).isEmpty()) {
-                var pieceMap = Board.pieceMap(fen.positions());
-                Coordinate kingCoodinate = pieceMap.entrySet().stream()
-                    .filter(entry -> entry.getValue().type() == PieceType.KING
-                                  && entry.getValue().color() == fen.whoseTurn())
-                    .map(entry -> entry.getKey())
-                    .findAny()
-                    .orElse(Coordinate.rowCol(-1,-1));
-
-                gameState = Board.isCoordinateAttacked(kingCoodinate, fen.whoseTurn().other(), pieceMap) ?
+            if (Board.validMoves(fen, pieceMap).isEmpty()) {
+                gameState = Bitboards.inCheck(pieceMap, fen.whoseTurn()) ?
                     GameState.checkmate : GameState.stalemate;
             }
         }
 
         if (gameState == GameState.ongoing) {
-            record PositionAndMove(String position, int move) {}
-            if (Stream.concat(Stream.of(fen), history.stream())
-                .map(f -> new PositionAndMove(f.positions(), f.move()))
-                .distinct()
-                .collect(Collectors.groupingBy(PositionAndMove::position, Collectors.counting()))
-                .values().stream().anyMatch(count -> count >= 3))
-            {
-                gameState = GameState.draw_by_threefold_repetition;
+            // The key includes whose turn it is, so only every other position can be a repetition
+            int repetitions = 0;
+            for (int i = keyHistory.size() - 2; i >= 0; i -= 2) {
+                if (keyHistory.get(i) == zobristKey && ++repetitions == 2) {
+                    gameState = GameState.draw_by_threefold_repetition;
+                    break;
+                }
             }
         }
 
-        var bd = new BoardData(pieceMap(fen.positions()), fen, history, gameState);
+        var bd = new BoardData(pieceMap, fen, history, gameState, zobristKey, keyHistory);
         return bd;
     }
 
@@ -60,6 +52,10 @@ public sealed interface Board {
     String toStandardFEN();
     GameState gameState();
     Set<Move> validMoves();
+    /**
+     * A 64-bit Zobrist key of the position, i.e. the pieces, whose turn it is, castling rights and en passant square
+     */
+    long zobristKey();
     Board play(String move);
     default Board play(Move move) { return play(move.uci()); }
 
@@ -105,11 +101,38 @@ public sealed interface Board {
         checkmate
     }
 
-    record BoardData(Map<Coordinate, Piece> pieceMap, FEN fen, List<FEN> history, GameState gameState) implements Board {
+    /**
+     * @param zobristKey the key of the position
+     * @param keyHistory the keys of the positions since the last capture or pawn move, for detecting repetitions
+     */
+    record BoardData(Map<Coordinate, Piece> pieceMap, FEN fen, List<FEN> history, GameState gameState, long zobristKey, List<Long> keyHistory) implements Board {
 
         public BoardData {
             pieceMap = Map.copyOf(pieceMap);
             history = List.copyOf(history);
+            keyHistory = List.copyOf(keyHistory);
+        }
+
+        public BoardData(Map<Coordinate, Piece> pieceMap, FEN fen, List<FEN> history, GameState gameState) {
+            this(pieceMap, fen, history, gameState, Zobrist.key(pieceMap, fen), List.of());
+        }
+
+        /**
+         * Boards are equal when their positions are equal, regardless of move clocks and history
+         */
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof BoardData other
+                && zobristKey == other.zobristKey
+                && fen.positions().equals(other.fen.positions())
+                && fen.whoseTurn() == other.fen.whoseTurn()
+                && fen.castlingRights().files().equals(other.fen.castlingRights().files())
+                && fen.ep().equals(other.fen.ep());
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(zobristKey);
         }
 
         @Override
@@ -131,6 +154,12 @@ public sealed interface Board {
             return ConsoleRenderer.render(this);
         }
 
+        @Override
+        public Board play(Move move) {
+            // Play a valid move as is, as the uci of a Chess960 castling can't always be told apart from a king move
+            return validMoves().contains(move) ? playSingleMove(move) : play(move.uci());
+        }
+
         @Override
         public Board play(String move) {
             if (move.contains(" ")) {
@@ -160,18 +189,24 @@ public sealed interface Board {
 
             boolean resetHalfMoveClock = false;
 
+            long key = zobristKey ^ Zobrist.SIDE ^ Zobrist.castling(fen().castlingRights()) ^ Zobrist.ep(fen().ep());
+
             String ep = "-";
             if (move instanceof FromTo fromTo) {
                 Piece piece = afterMove.remove(fromTo.from());
                 Piece capture = afterMove.put(fromTo.to(), piece);
 
+                key ^= Zobrist.piece(piece, fromTo.from()) ^ Zobrist.piece(piece, fromTo.to());
+                if (capture != null) key ^= Zobrist.piece(capture, fromTo.to());
+
                 switch (piece.type()) {
                     case PAWN -> {
                         // capture
                         if (fromTo.from().col() != fromTo.to().col()) {
                             if (capture == null) {
                                 // Aha! Must have been en passant!
-                                afterMove.remove(Coordinate.rowCol(fromTo.from().row(), fromTo.to().col()));
+                                var captured = Coordinate.rowCol(fromTo.from().row(), fromTo.to().col());
+                                key ^= Zobrist.piece(afterMove.remove(captured), captured);
                             }
                         }
 
@@ -225,14 +260,23 @@ public sealed interface Board {
 
                 if (capture != null) {
                     resetHalfMoveClock = true;
+                    if (capture.type() == PieceType.ROOK) {
+                        nextFEN = nextFEN.with(new FEN.Castling(withoutRook(nextFEN.castlingRights(), fromTo.to(), capture.color())));
+                    }
                 }
             } else if (move instanceof Promotion promotion) {
                 Piece pawn = afterMove.remove(promotion.pawn().from());
                 Coordinate to = promotion.pawn().to();
                 Piece piece = Piece.piece(promotion.piece(), pawn.color());
-                @SuppressWarnings("unused")
                 Piece capture = afterMove.put(to, piece);
 
+                key ^= Zobrist.piece(pawn, promotion.pawn().from()) ^ Zobrist.piece(piece, to);
+                if (capture != null) key ^= Zobrist.piece(capture, to);
+
+                if (capture != null && capture.type() == PieceType.ROOK) {
+                    nextFEN = nextFEN.with(new FEN.Castling(withoutRook(nextFEN.castlingRights(), to, capture.color())));
+                }
+
                 // promotion is pawn move, no need ot check if capture is null or not...
                 resetHalfMoveClock = true;
 
@@ -245,6 +289,9 @@ public sealed interface Board {
                 @SuppressWarnings("unused")
                 Piece empty2 = afterMove.put(castling.rook().to(), rook);
 
+                key ^= Zobrist.piece(king, castling.king().from()) ^ Zobrist.piece(king, castling.king().to())
+                     ^ Zobrist.piece(rook, castling.rook().from()) ^ Zobrist.piece(rook, castling.rook().to());
+
                 nextFEN = nextFEN.with(new FEN.Castling(fen().castlingRights().withoutQueenSide(king.color()).withoutKingSide(king.color())));
             } else if (move instanceof Invalid invalid) {
                 System.err.println("Invalid move: " + invalid);
@@ -274,12 +321,39 @@ public sealed interface Board {
             var newHistory = new ArrayList<>(history);
             newHistory.add(fen());
 
-            var nextBoard = Board.fromFENWithHistory(nextFEN, List.copyOf(newHistory));
+            key ^= Zobrist.castling(nextFEN.castlingRights()) ^ Zobrist.ep(nextFEN.ep());
+
+            // A capture or pawn move can't be undone, so no earlier position can be repeated
+            List<Long> nextKeyHistory = List.of();
+            if (! resetHalfMoveClock) {
+                var keys = new ArrayList<Long>(keyHistory.size() + 1);
+                keys.addAll(keyHistory);
+                keys.add(zobristKey);
+                nextKeyHistory = keys;
+            }
+
+            var nextBoard = Board.fromFENWithHistory(nextFEN, afterMove, List.copyOf(newHistory), key, nextKeyHistory);
 
             return nextBoard;
         }
 
 
+        /**
+         * The castling rights without the right of the rook on the coordinate, if it is a castling rook
+         */
+        private static CastlingRights withoutRook(CastlingRights rights, Coordinate coordinate, Side side) {
+            String rank = side == Side.WHITE ? "1" : "8";
+            String kingSide = side == Side.WHITE ? rights.files().K() : rights.files().k();
+            String queenSide = side == Side.WHITE ? rights.files().Q() : rights.files().q();
+            if (! kingSide.isEmpty() && coordinate.equals(Coordinate.name(kingSide.toLowerCase() + rank))) {
+                rights = rights.withoutKingSide(side);
+            }
+            if (! queenSide.isEmpty() && coordinate.equals(Coordinate.name(queenSide.toLowerCase() + rank))) {
+                rights = rights.withoutQueenSide(side);
+            }
+            return rights;
+        }
+
         @Override
         public String toSAN(String moves) {
             if (moves.contains(" ")) {
@@ -327,12 +401,7 @@ public sealed interface Board {
                 if (boardIfPlayed.gameState() == GameState.checkmate) {
                     checkSymbol = "#";
                 } else {
-                    var inCheck = boardIfPlayed.pieceMap().entrySet().stream()
-                        .filter(entry -> entry.getValue().type() == PieceType.KING
-                                && entry.getValue().color() == fen().whoseTurn().other())
-                        .findFirst()
-                        .map(king -> Board.isCoordinateAttacked(king.getKey(), fen().whoseTurn() , boardIfPlayed.pieceMap()))
-                        .orElse(false);
+                    var inCheck = Bitboards.inCheck(boardIfPlayed.pieceMap(), fen().whoseTurn().other());
                     checkSymbol = inCheck ? "+" : "";
                 }
             } else {
@@ -558,26 +627,29 @@ public sealed interface Board {
                 .findAny()
                 .orElse('e');
 
-            var rookEntries = map.entrySet().stream().filter(entry -> entry.getValue().type() == PieceType.ROOK).toList();
+            // The castling rooks are the outermost rooks on the back rank
+            var rookEntries = map.entrySet().stream().filter(entry -> entry.getValue().type() == PieceType.ROOK)
+                .filter(entry -> entry.getKey().row() == (entry.getValue().color() == Side.WHITE ? 0 : 7))
+                .toList();
             char whiteHighRookFile = rookEntries.stream().filter(entry -> entry.getValue().color() == Side.WHITE)
                 .map(entry -> entry.getKey().name().charAt(0))
                 .filter(file -> file > whiteKingFile)
-                .findAny()
+                .max(Comparator.naturalOrder())
                 .orElse('h');
             char whiteLowRookFile = rookEntries.stream().filter(entry -> entry.getValue().color() == Side.WHITE)
                 .map(entry -> entry.getKey().name().charAt(0))
                 .filter(file -> file < whiteKingFile)
-                .findAny()
+                .min(Comparator.naturalOrder())
                 .orElse('a');
             char blackHighRookFile = rookEntries.stream().filter(entry -> entry.getValue().color() == Side.BLACK)
                 .map(entry -> entry.getKey().name().charAt(0))
                 .filter(file -> file > blackKingFile)
-                .findAny()
+                .max(Comparator.naturalOrder())
                 .orElse('h');
             char blackLowRookFile = rookEntries.stream().filter(entry -> entry.getValue().color() == Side.BLACK)
                 .map(entry -> entry.getKey().name().charAt(0))
                 .filter(file -> file < blackKingFile)
-                .findAny()
+                .min(Comparator.naturalOrder())
                 .orElse('a');
 
             return parse(rights, whiteKingFile, blackKingFile, whiteHighRookFile, whiteLowRookFile, blackHighRookFile, blackLowRookFile);
@@ -1006,9 +1078,11 @@ public sealed interface Board {
                                 .filter(entry -> entry.getValue().color() == fen.whoseTurn())
                                 .map(entry -> entry.getKey().name())
                                 .filter(fromName -> fromName.charAt(0) == file)
-                                .filter(fromName -> validMovesByPiece(
-                                            Coordinate.name(fromName), pieceMap, fen)
-                                        .contains(new FromTo(Coordinate.name(fromName), to)))
+                                .filter(fromName -> {
+                                    var validMoves = validMovesByPiece(Coordinate.name(fromName), pieceMap, fen);
+                                    var fromTo = new FromTo(Coordinate.name(fromName), to);
+                                    return validMoves.contains(fromTo) || validMoves.contains(new Promotion(fromTo, PieceType.QUEEN));
+                                })
                                 .map(fromName -> fromName + to.name())
                                 .findAny()
                                 .orElse("");
@@ -1034,16 +1108,6 @@ public sealed interface Board {
 
             Set<Move> validMoves = validMovesByPiece(from, pieceMap, fen);
 
-            if (! validMoves.contains(move)) {
-                return validMoves.stream()
-                    .filter(m -> m instanceof Castling castling &&
-                            (castling.king().equals(move) || (
-                                move.from().equals(castling.king().from()) &&
-                                move.to().equals(castling.rook().from()))
-                            ))
-                    .findAny().orElseGet(() -> new Invalid("move: " + move + " fen: " + fen));
-            }
-
             if (uci.length() == 5) {
                 PieceType type = switch(uci.charAt(4)) {
                     case 'q' -> PieceType.QUEEN;
@@ -1052,10 +1116,27 @@ public sealed interface Board {
                     case 'r' -> PieceType.ROOK;
                     default  -> PieceType.QUEEN;
                 };
-                return new Promotion(move, type);
+                var promotion = new Promotion(move, type);
+                return validMoves.contains(promotion) ? promotion : new Invalid("move: " + promotion + " fen: " + fen);
             }
 
-            return move;
+            if (validMoves.contains(move)) {
+                return move;
+            }
+
+            // A pawn reaching the last rank without a promotion piece, becomes a queen
+            var queen = new Promotion(move, PieceType.QUEEN);
+            if (validMoves.contains(queen)) {
+                return queen;
+            }
+
+            return validMoves.stream()
+                .filter(m -> m instanceof Castling castling &&
+                        (castling.king().equals(move) || (
+                            move.from().equals(castling.king().from()) &&
+                            move.to().equals(castling.rook().from()))
+                        ))
+                .findAny().orElseGet(() -> new Invalid("move: " + move + " fen: " + fen));
         }
 
         default String uci() {
@@ -1098,15 +1179,8 @@ public sealed interface Board {
     };
 
 
-    private static Set<Move> validMoves(FEN fen) {
-        return validMoves(fen, pieceMap(fen.positions()));
-    }
-
     private static Set<Move> validMoves(FEN fen, Map<Coordinate, Piece> pieceMap) {
-        return pieceMap.entrySet().stream()
-            .filter(entry -> entry.getValue().color() == fen.whoseTurn())
-            .flatMap(entry -> validMovesByPiece(entry.getKey(), pieceMap, fen).stream())
-            .collect(Collectors.toSet());
+        return Bitboards.validMoves(pieceMap, fen, fen.whoseTurn(), -1L);
     }
 
     static Set<Move> validMovesByPiece(Coordinate coordinate, Map<Coordinate, Piece> pieceMap, FEN fen) {
@@ -1114,100 +1188,16 @@ public sealed interface Board {
         if (piece == null) {
             return Set.of();
         }
-
-        var king = piece.type() == PieceType.KING ? coordinate
-            : pieceMap.entrySet().stream()
-            .filter(entry -> entry.getValue().type() == PieceType.KING && entry.getValue().color() == piece.color())
-            .map(entry -> entry.getKey())
-            .findAny().orElse(null);
-
-        if (king == null) {
-            System.err.println("No king: " + fen);
-            return Set.of();
-        }
-
-        int row = coordinate.row();
-        int col = coordinate.col();
-
-        Set<Coordinate> attackedCoordinates = coordinatesAttackedByPiece(coordinate, pieceMap);
-
-        Set<Move> possiblyInvalidMoves = switch(piece.type()) {
-            case PAWN -> {
-                Set<Move> moves = new HashSet<>();
-                // Captures
-                moves.addAll(
-                        attackedCoordinates.stream()
-                        .filter(c -> pieceMap.containsKey(c) && pieceMap.get(c).color() == piece.color().other()
-                                  || c.name().equals(fen.ep()))
-                        .map(c -> new FromTo(coordinate, c))
-                        .toList());
-                var oneForward = Coordinate.rowCol(row + (piece.color() == Side.BLACK ? -1 : 1), col);
-                if (! pieceMap.containsKey(oneForward)) {
-                    moves.add(new FromTo(coordinate, oneForward));
-                    if (row == 1 && piece.color() == Side.WHITE || row == 6 && piece.color() == Side.BLACK) {
-                        var twoForward = Coordinate.rowCol(row + (piece.color() == Side.BLACK ? -2 : 2), col);
-                        if (! pieceMap.containsKey(twoForward)) moves.add(new FromTo(coordinate, twoForward));
-                    }
-                }
-                yield moves;
-            }
-
-            case KNIGHT, BISHOP, ROOK, QUEEN ->
-                attackedCoordinates.stream()
-                .filter(c -> pieceMap.containsKey(c) == false ||
-                        pieceMap.containsKey(c) && pieceMap.get(c).color() == piece.color().other())
-                .map(c -> new FromTo(coordinate, c))
-                .collect(Collectors.toSet());
-
-            case KING -> {
-                Set<Move> moves = new HashSet<>();
-                moves.addAll(
-                        attackedCoordinates.stream()
-                        .filter(c -> pieceMap.containsKey(c) == false ||
-                            pieceMap.containsKey(c) && pieceMap.get(c).color() == piece.color().other())
-                        .map(c -> new FromTo(coordinate, c))
-                        .toList());
-                moves.addAll(fen.castlingRights().validCastlingMoves(coordinate, Board::isCoordinateAttacked, pieceMap));
-                yield moves;
-            }
-        };
-
-        var mutableMap = new HashMap<>(pieceMap);
-
-        return possiblyInvalidMoves.stream()
-            .filter(move -> {
-                boolean includeMove = false;
-                if (move instanceof FromTo fromTo) {
-                    // Check if move would result in current side being in check
-
-                    // mutate map
-                    Piece from = mutableMap.remove(fromTo.from());
-                    Piece to   = mutableMap.put(fromTo.to(), from);
-
-                    includeMove = ! isCoordinateAttacked(
-                            from.type() == PieceType.KING ? fromTo.to() : king,
-                            piece.color().other(),
-                            mutableMap);
-
-                    // restore map
-                    mutableMap.put(fromTo.from(), from);
-                    if (to != null) {
-                        mutableMap.put(fromTo.to(), to);
-                    } else {
-                        mutableMap.remove(fromTo.to());
-                    }
-                } else if (move instanceof Castling castling) {
-                    includeMove = true;
-                } else if (move instanceof Invalid invalid) {}
-                return includeMove;
-            }).collect(Collectors.toSet());
+        return Bitboards.validMoves(pieceMap, fen, piece.color(), 1L << Bitboards.square(coordinate));
     }
 
     static boolean isCoordinateAttacked(Coordinate coordinate, Side attacker, Map<Coordinate, Piece> pieceMap) {
-        return pieceMap.entrySet().stream()
-            .filter(entry -> entry.getValue().color() == attacker)
-            .map(entry -> coordinatesAttackedByPiece(entry.getKey(), pieceMap))
-            .anyMatch(attackedSquares -> attackedSquares.contains(coordinate));
+        if (coordinate.row() < 0 || coordinate.row() > 7 || coordinate.col() < 0 || coordinate.col() > 7) {
+            return false;
+        }
+        long[] pieces = Bitboards.pieces(pieceMap);
+        long occupied = Bitboards.occupancy(pieces, Bitboards.WHITE) | Bitboards.occupancy(pieces, Bitboards.BLACK);
+        return Bitboards.attacked(Bitboards.square(coordinate), attacker.ordinal(), pieces, occupied);
     }
 
     static Set<Coordinate> coordinatesAttackedByPiece(Coordinate coordinate, Map<Coordinate, Piece> pieceMap) {
@@ -1215,86 +1205,9 @@ public sealed interface Board {
         if (piece == null) {
             return Set.of();
         }
-
-        int row = coordinate.row();
-        int col = coordinate.col();
-
-        record Dir(int dx, int dy) {}
-
-        Set<Coordinate> possiblyInvalidCoordinates = switch(piece.type()) {
-            case PAWN -> Set.of(
-                    Coordinate.rowCol(row + (piece.color() == Side.BLACK ? -1 : 1), col - 1),
-                    Coordinate.rowCol(row + (piece.color() == Side.BLACK ? -1 : 1), col + 1));
-            case KNIGHT -> Set.of(
-                    Coordinate.rowCol(row + 1, col + 2),
-                    Coordinate.rowCol(row + 1, col - 2),
-                    Coordinate.rowCol(row - 1, col + 2),
-                    Coordinate.rowCol(row - 1, col - 2),
-                    Coordinate.rowCol(row + 2, col + 1),
-                    Coordinate.rowCol(row + 2, col - 1),
-                    Coordinate.rowCol(row - 2, col + 1),
-                    Coordinate.rowCol(row - 2, col - 1)
-                    );
-            case BISHOP -> {
-                Set<Coordinate> coordinates = new HashSet<>();
-                for (var dir : List.of(new Dir(-1,1), new Dir(1,1), new Dir(-1,-1), new Dir(1,-1))) {
-                    int r = row + dir.dy();
-                    int c = col + dir.dx();
-                    while(r >= 0 && r <= 7 && c >= 0 && c <= 7) {
-                        Coordinate coord = Coordinate.rowCol(r, c);
-                        coordinates.add(coord);
-                        if (pieceMap.containsKey(coord)) break;
-                        r += dir.dy();
-                        c += dir.dx();
-                    }
-                }
-                yield coordinates;
-            }
-            case ROOK -> {
-                Set<Coordinate> coordinates = new HashSet<>();
-                for (var dir : List.of(new Dir(0,1), new Dir(0,-1), new Dir(1,0), new Dir(-1,0))) {
-                    int r = row + dir.dy();
-                    int c = col + dir.dx();
-                    while(r >= 0 && r <= 7 && c >= 0 && c <= 7) {
-                        Coordinate coord = Coordinate.rowCol(r, c);
-                        coordinates.add(coord);
-                        if (pieceMap.containsKey(coord)) break;
-                        r += dir.dy();
-                        c += dir.dx();
-                    }
-                }
-                yield coordinates;
-            }
-            case QUEEN -> {
-                Set<Coordinate> coordinates = new HashSet<>();
-                for (var dir : List.of(new Dir(0,1), new Dir(0,-1), new Dir(1,0), new Dir(-1,0),
-                                       new Dir(-1,1), new Dir(1,1), new Dir(-1,-1), new Dir(1,-1))) {
-                    int r = row + dir.dy();
-                    int c = col + dir.dx();
-                    while(r >= 0 && r <= 7 && c >= 0 && c <= 7) {
-                        Coordinate coord = Coordinate.rowCol(r, c);
-                        coordinates.add(coord);
-                        if (pieceMap.containsKey(coord)) break;
-                        r += dir.dy();
-                        c += dir.dx();
-                    }
-                }
-                yield coordinates;
-            }
-            case KING -> Set.of(
-                    Coordinate.rowCol(row + 1, col + 1),
-                    Coordinate.rowCol(row + 1, col),
-                    Coordinate.rowCol(row + 1, col - 1),
-                    Coordinate.rowCol(row , col - 1),
-                    Coordinate.rowCol(row , col + 1),
-                    Coordinate.rowCol(row - 1, col + 1),
-                    Coordinate.rowCol(row - 1, col),
-                    Coordinate.rowCol(row - 1, col - 1)
-                    );
-        };
-
-        return possiblyInvalidCoordinates.stream()
-            .filter(c -> c.row() >= 0 && c.row() <= 7 && c.col() >= 0 && c.col() <= 7)
-            .collect(Collectors.toSet());
+        long[] pieces = Bitboards.pieces(pieceMap);
+        long occupied = Bitboards.occupancy(pieces, Bitboards.WHITE) | Bitboards.occupancy(pieces, Bitboards.BLACK);
+        return Bitboards.coordinates(Bitboards.attacks(
+                    piece.type().ordinal(), piece.color().ordinal(), Bitboards.square(coordinate), occupied));
     }
 }
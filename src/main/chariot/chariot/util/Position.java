@@ -0,0 +1,357 @@
+package chariot.util;
+
+import java.util.*;
+
+import chariot.util.Board.*;
+
+import static chariot.util.Bitboards.*;
+
+/**
+ * A mutable position, for playing through many moves without allocating, i.e. search and replay of games.
+ * <p>
+ * Moves are ints, generated with {@link #legalMoves(int[])} and played with {@link #makeMove(int)},
+ * which can be taken back with {@link #unmakeMove()}.
+ * Use {@link #toMove(int)} and {@link #fromMove(Move)} to convert between the ints and {@link Board.Move}.
+ * {@snippet :
+ * var position = Position.of(Board.fromStandardPosition());
+ * int[] moves = new int[Position.MAX_MOVES];
+ * int count = position.legalMoves(moves);
+ * for (int i = 0; i < count; i++) {
+ *     position.makeMove(moves[i]);
+ *     // ...
+ *     position.unmakeMove();
+ * }
+ * }
+ * A position isn't thread safe.
+ */
+public final class Position {
+
+    /**
+     * The maximum number of legal moves in a position, the size of the array given to {@link #legalMoves(int[])}
+     */
+    public static final int MAX_MOVES = Bitboards.MAX_MOVES;
+
+    private final long[] pieces = new long[12];
+    // The piece index on each square, or -1
+    private final int[] squares = new int[64];
+    // The squares of the rooks which may castle, see Bitboards#generate
+    private final int[] castlingRooks = new int[4];
+    private final boolean chess960;
+
+    private int color;
+    private int epSquare;
+    private int halfMoveClock;
+    private int fullMove;
+    private long key;
+
+    // Per ply, what is needed to take back the move
+    private int[] undoMoves;
+    private int[] undoCaptured;
+    private long[] undoState;
+    // Per ply, the key of the position before the move
+    private long[] keys;
+    // The positions before the first ply are only known by their keys
+    private final int firstPly;
+    private int ply;
+
+    private Position(FEN fen, Map<Coordinate, Piece> pieceMap, List<Long> keyHistory) {
+        Arrays.fill(squares, -1);
+        for (var entry : pieceMap.entrySet()) {
+            put(entry.getValue().color().ordinal() * 6 + entry.getValue().type().ordinal(), square(entry.getKey()));
+        }
+        System.arraycopy(Bitboards.castlingRooks(fen.castlingRights()), 0, castlingRooks, 0, 4);
+        chess960 = fen.castlingRights() instanceof CastlingRights.Chess960;
+        color = fen.whoseTurn().ordinal();
+        epSquare = Bitboards.epSquare(fen.ep());
+        halfMoveClock = fen.halfMoveClock();
+        fullMove = fen.move();
+        key ^= Zobrist.side(fen.whoseTurn()) ^ Zobrist.castling(castlingRooks) ^ Zobrist.ep(epSquare);
+
+        firstPly = keyHistory.size();
+        ply = firstPly;
+        int capacity = Math.max(256, Integer.highestOneBit(firstPly) << 1);
+        undoMoves = new int[capacity];
+        undoCaptured = new int[capacity];
+        undoState = new long[capacity];
+        keys = new long[capacity];
+        for (int i = 0; i < firstPly; i++) keys[i] = keyHistory.get(i);
+    }
+
+    /**
+     * A position of the board, including the keys of its earlier positions for detecting repetitions
+     */
+    public static Position of(Board board) {
+        if (! (board instanceof BoardData data)) throw new IllegalArgumentException("Unknown board " + board);
+        return new Position(data.fen(), data.pieceMap(), data.keyHistory());
+    }
+
+    public static Position fromFEN(String fen) {
+        return of(Board.fromFEN(fen));
+    }
+
+    /**
+     * The board of the current position, without the moves played to reach it
+     */
+    public Board toBoard() {
+        return Board.fromFEN(fen());
+    }
+
+    public String toFEN() {
+        return fen().toString();
+    }
+
+    FEN fen() {
+        var positions = new StringBuilder(72);
+        for (int row = 7; row >= 0; row--) {
+            int empty = 0;
+            for (int col = 0; col < 8; col++) {
+                int piece = squares[square(row, col)];
+                if (piece < 0) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) positions.append(empty);
+                empty = 0;
+                char letter = PieceType.values()[piece % 6].toChar();
+                positions.append(piece / 6 == WHITE ? letter : Character.toLowerCase(letter));
+            }
+            if (empty > 0) positions.append(empty);
+            if (row > 0) positions.append('/');
+        }
+        var files = new CastlingRights.RookFiles(
+                rookFile(castlingRooks[WHITE * 2]).toUpperCase(),
+                rookFile(castlingRooks[WHITE * 2 + 1]).toUpperCase(),
+                rookFile(castlingRooks[BLACK * 2]),
+                rookFile(castlingRooks[BLACK * 2 + 1]));
+        return new FEN(positions.toString(),
+                sideToMove(),
+                chess960 ? new CastlingRights.Chess960(files) : new CastlingRights.Standard(files),
+                epSquare < 0 ? "-" : coordinate(epSquare).name(),
+                halfMoveClock,
+                fullMove);
+    }
+
+    private static String rookFile(int square) {
+        return square < 0 ? "" : Character.toString('a' + (square & 7));
+    }
+
+    public Side sideToMove() {
+        return color == WHITE ? Side.WHITE : Side.BLACK;
+    }
+
+    /**
+     * The same key as {@link Board#zobristKey()} of the same position
+     */
+    public long zobristKey() {
+        return key;
+    }
+
+    public int halfMoveClock() {
+        return halfMoveClock;
+    }
+
+    public int fullMoveNumber() {
+        return fullMove;
+    }
+
+    /**
+     * The number of moves played on this position, which can be taken back
+     */
+    public int plies() {
+        return ply - firstPly;
+    }
+
+    public Piece get(Coordinate coordinate) {
+        int piece = squares[square(coordinate)];
+        return piece < 0 ? null : Piece.piece(PieceType.values()[piece % 6], piece / 6 == WHITE ? Side.WHITE : Side.BLACK);
+    }
+
+    // The piece index on the square, or -1
+    int pieceAt(int square) {
+        return squares[square];
+    }
+
+    public boolean inCheck() {
+        long king = pieces[color * 6 + KING];
+        return king != 0 && attacked(Long.numberOfTrailingZeros(king), color ^ 1, pieces, occupancy(pieces, WHITE) | occupancy(pieces, BLACK));
+    }
+
+    /**
+     * @param moves receives the legal moves, with room for at least {@link #MAX_MOVES}
+     * @return the number of legal moves
+     */
+    public int legalMoves(int[] moves) {
+        return generate(pieces, color, epSquare, castlingRooks, -1L, moves);
+    }
+
+    /**
+     * If the current position has occurred at least twice before, since the last capture or pawn move
+     */
+    public boolean threefoldRepetition() {
+        int repetitions = 0;
+        for (int i = ply - 2, last = Math.max(0, ply - halfMoveClock); i >= last; i -= 2) {
+            if (keys[i] == key && ++repetitions == 2) return true;
+        }
+        return false;
+    }
+
+    public Move toMove(int move) {
+        return Bitboards.toMove(move);
+    }
+
+    /**
+     * @return the legal move, or -1 if the move isn't legal in this position
+     */
+    public int fromMove(Move move) {
+        int[] moves = new int[MAX_MOVES];
+        int count = legalMoves(moves);
+        for (int i = 0; i < count; i++) {
+            if (Bitboards.toMove(moves[i]).equals(move)) return moves[i];
+        }
+        return -1;
+    }
+
+    /**
+     * Plays a legal move
+     */
+    public void makeMove(int move) {
+        if (ply == keys.length) grow();
+
+        int from = from(move), to = to(move);
+        int piece = squares[from];
+        int us = color, them = us ^ 1;
+
+        undoMoves[ply] = move;
+        undoState[ply] = state();
+        keys[ply] = key;
+
+        key ^= Zobrist.SIDE ^ Zobrist.castling(castlingRooks) ^ Zobrist.ep(epSquare);
+
+        int captured = -1;
+        int nextEp = -1;
+        halfMoveClock++;
+
+        if ((move & CASTLING) != 0) {
+            int rook = squares[to];
+            remove(piece, from);
+            remove(rook, to);
+            put(piece, castlingKingTarget(from, to));
+            put(rook, castlingRookTarget(from, to));
+            castlingRooks[us * 2] = -1;
+            castlingRooks[us * 2 + 1] = -1;
+        } else {
+            int capturedSquare = (move & EN_PASSANT) != 0 ? to + (us == WHITE ? -8 : 8) : to;
+            captured = squares[capturedSquare];
+            if (captured >= 0) {
+                remove(captured, capturedSquare);
+                halfMoveClock = 0;
+                if (captured % 6 == ROOK) {
+                    if (castlingRooks[them * 2] == to) castlingRooks[them * 2] = -1;
+                    if (castlingRooks[them * 2 + 1] == to) castlingRooks[them * 2 + 1] = -1;
+                }
+            }
+            remove(piece, from);
+            int promotion = promotion(move);
+            put(promotion == 0 ? piece : us * 6 + promotion, to);
+
+            int type = piece % 6;
+            if (type == PAWN) {
+                halfMoveClock = 0;
+                // Like Board, the en passant square is only set when an enemy pawn could capture
+                if ((move & DOUBLE_PUSH) != 0 && enemyPawnBeside(to, them)) nextEp = (from + to) / 2;
+            } else if (type == ROOK) {
+                if (castlingRooks[us * 2] == from) castlingRooks[us * 2] = -1;
+                if (castlingRooks[us * 2 + 1] == from) castlingRooks[us * 2 + 1] = -1;
+            } else if (type == KING) {
+                castlingRooks[us * 2] = -1;
+                castlingRooks[us * 2 + 1] = -1;
+            }
+        }
+
+        undoCaptured[ply] = captured;
+        epSquare = nextEp;
+        key ^= Zobrist.castling(castlingRooks) ^ Zobrist.ep(epSquare);
+        if (us == BLACK) fullMove++;
+        color = them;
+        ply++;
+    }
+
+    /**
+     * Takes back the last move played with {@link #makeMove(int)}
+     */
+    public void unmakeMove() {
+        if (ply == firstPly) throw new IllegalStateException("No move to take back");
+        ply--;
+
+        int move = undoMoves[ply];
+        int from = from(move), to = to(move);
+        color ^= 1;
+        int us = color;
+        if (us == BLACK) fullMove--;
+
+        if ((move & CASTLING) != 0) {
+            int kingTarget = castlingKingTarget(from, to), rookTarget = castlingRookTarget(from, to);
+            int king = squares[kingTarget], rook = squares[rookTarget];
+            remove(king, kingTarget);
+            remove(rook, rookTarget);
+            put(king, from);
+            put(rook, to);
+        } else {
+            int piece = squares[to];
+            remove(piece, to);
+            put(promotion(move) == 0 ? piece : us * 6 + PAWN, from);
+            int captured = undoCaptured[ply];
+            if (captured >= 0) {
+                put(captured, (move & EN_PASSANT) != 0 ? to + (us == WHITE ? -8 : 8) : to);
+            }
+        }
+
+        restore(undoState[ply]);
+        key = keys[ply];
+    }
+
+    private boolean enemyPawnBeside(int square, int them) {
+        int pawn = them * 6 + PAWN;
+        int col = square & 7;
+        return (col > 0 && squares[square - 1] == pawn) || (col < 7 && squares[square + 1] == pawn);
+    }
+
+    // The half move clock, followed by the ep square and castling rooks in 7 bits each
+    private long state() {
+        long state = halfMoveClock;
+        state = state << 7 | (epSquare + 1);
+        for (int rook : castlingRooks) state = state << 7 | (rook + 1);
+        return state;
+    }
+
+    private void restore(long state) {
+        for (int i = 3; i >= 0; i--, state >>>= 7) castlingRooks[i] = (int) (state & 0x7f) - 1;
+        epSquare = (int) (state & 0x7f) - 1;
+        halfMoveClock = (int) (state >>> 7);
+    }
+
+    private void put(int piece, int square) {
+        pieces[piece] |= 1L << square;
+        squares[square] = piece;
+        key ^= Zobrist.piece(piece, square);
+    }
+
+    private void remove(int piece, int square) {
+        pieces[piece] &= ~(1L << square);
+        squares[square] = -1;
+        key ^= Zobrist.piece(piece, square);
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        undoMoves = Arrays.copyOf(undoMoves, capacity);
+        undoCaptured = Arrays.copyOf(undoCaptured, capacity);
+        undoState = Arrays.copyOf(undoState, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return toFEN();
+    }
+}
@@ -0,0 +1,238 @@
+package chariot.util;
+
+import java.util.*;
+
+import static chariot.util.Bitboards.*;
+
+/**
+ * Converts the moves of whole games, giving the UCI, SAN and FEN of each ply.
+ * <p>
+ * The moves are played on a single {@link Position}, and the legal moves of each position are generated once,
+ * both to read the next move and to find the disambiguation and checkmate symbol of the previous one.
+ * {@snippet :
+ * List<Replay.Ply> plies = Replay.fromSAN(pgn.moveListSAN());
+ * List<String> fens = plies.stream().map(Replay.Ply::fen).toList();
+ * }
+ */
+public final class Replay {
+
+    private Replay() {}
+
+    /**
+     * @param uci the move in UCI, with castling as the king moving to its destination as in {@link Board.Move#uci()}
+     * @param san the move in SAN, with + or # when checking
+     * @param fen the position after the move
+     */
+    public record Ply(String uci, String san, String fen) {}
+
+    /**
+     * @param moves the moves in UCI, from the standard position
+     * @throws IllegalArgumentException if a move isn't legal
+     */
+    public static List<Ply> fromUCI(List<String> moves) {
+        return fromUCI(Board.fromStandardPosition(), moves);
+    }
+
+    /**
+     * @param board the position before the first move
+     * @param moves the moves in UCI
+     * @throws IllegalArgumentException if a move isn't legal
+     */
+    public static List<Ply> fromUCI(Board board, List<String> moves) {
+        return replay(board, moves, true);
+    }
+
+    /**
+     * @param moves the moves in SAN, from the standard position, i.e. {@code Pgn.moveListSAN()}
+     * @throws IllegalArgumentException if a move isn't legal
+     */
+    public static List<Ply> fromSAN(List<String> moves) {
+        return fromSAN(Board.fromStandardPosition(), moves);
+    }
+
+    /**
+     * @param board the position before the first move
+     * @param moves the moves in SAN
+     * @throws IllegalArgumentException if a move isn't legal
+     */
+    public static List<Ply> fromSAN(Board board, List<String> moves) {
+        return replay(board, moves, false);
+    }
+
+    private static List<Ply> replay(Board board, List<String> moves, boolean uci) {
+        var position = Position.of(board);
+        var plies = new ArrayList<Ply>(moves.size());
+        int[] legal = new int[MAX_MOVES];
+        int[] next = new int[MAX_MOVES];
+        int count = position.legalMoves(legal);
+        var builder = new StringBuilder(10);
+
+        for (String text : moves) {
+            int move = uci ? parseUCI(text, legal, count) : parseSAN(position, text, legal, count);
+            if (move == -1) {
+                throw new IllegalArgumentException("Invalid move " + text + " at ply " + (plies.size() + 1) + " in " + position.toFEN());
+            }
+
+            builder.setLength(0);
+            appendSAN(builder, position, move, legal, count);
+            position.makeMove(move);
+            int nextCount = position.legalMoves(next);
+            if (position.inCheck()) builder.append(nextCount == 0 ? '#' : '+');
+
+            plies.add(new Ply(uci(move), builder.toString(), position.toFEN()));
+
+            int[] swap = legal;
+            legal = next;
+            next = swap;
+            count = nextCount;
+        }
+        return plies;
+    }
+
+    static String uci(int move) {
+        int from = from(move);
+        int to = (move & CASTLING) != 0 ? castlingKingTarget(from, to(move)) : to(move);
+        String uci = coordinate(from).name() + coordinate(to).name();
+        int promotion = promotion(move);
+        return promotion == 0 ? uci : uci + Character.toLowerCase(Board.PieceType.values()[promotion].toChar());
+    }
+
+    /**
+     * Reads e2e4, e7e8q and castling as e1g1 or as the king moving to the rook, e1h1.
+     * A promotion without a piece becomes a queen.
+     */
+    private static int parseUCI(String uci, int[] legal, int count) {
+        if (uci == null || uci.length() < 4 || uci.length() > 5) return -1;
+        int from = square(uci, 0), to = square(uci, 2);
+        if (from < 0 || to < 0) return -1;
+        int promotion = uci.length() == 5 ? promotionType(uci.charAt(4)) : QUEEN;
+        if (promotion < 0) return -1;
+
+        for (int i = 0; i < count; i++) {
+            int move = legal[i];
+            if (from(move) != from) continue;
+            if ((move & CASTLING) != 0) {
+                if (to(move) == to || castlingKingTarget(from, to(move)) == to) return move;
+            } else if (to(move) == to && (promotion(move) == 0 || promotion(move) == promotion)) {
+                return move;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads Nf3, exd6, Raxd1, N1c3, Qh4e1, e8=Q, e8Q, O-O, 0-0-0,
+     * ignoring the check symbols and annotations, i.e. + # ! ?
+     */
+    private static int parseSAN(Position position, String san, int[] legal, int count) {
+        if (san == null) return -1;
+        int end = san.length();
+        while (end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0) end--;
+        String text = san.substring(0, end).replace('0', 'O');
+
+        if (text.equals("O-O") || text.equals("O-O-O")) {
+            boolean kingSide = text.equals("O-O");
+            for (int i = 0; i < count; i++) {
+                int move = legal[i];
+                if ((move & CASTLING) != 0 && (to(move) > from(move)) == kingSide) return move;
+            }
+            return -1;
+        }
+
+        int promotion = 0;
+        if (end >= 3 && promotionType(text.charAt(end - 1)) > 0) {
+            int rank = text.charAt(end - 2) == '=' ? end - 3 : end - 2;
+            if (Character.isDigit(text.charAt(rank))) {
+                promotion = promotionType(text.charAt(end - 1));
+                end = rank + 1;
+            }
+        }
+        if (end < 2) return -1;
+        int to = square(text, end - 2);
+        if (to < 0) return -1;
+
+        int type = PAWN;
+        int start = 0;
+        int pieceType = "PNBRQK".indexOf(text.charAt(0));
+        if (pieceType >= 0 && end > 2) {
+            type = pieceType;
+            start = 1;
+        }
+        int fromCol = -1, fromRow = -1;
+        for (int i = start; i < end - 2; i++) {
+            char c = text.charAt(i);
+            if (c >= 'a' && c <= 'h') fromCol = c - 'a';
+            else if (c >= '1' && c <= '8') fromRow = c - '1';
+            else if (c != 'x' && c != '-' && c != ':') return -1;
+        }
+
+        int found = -1;
+        for (int i = 0; i < count; i++) {
+            int move = legal[i];
+            if ((move & CASTLING) != 0 || to(move) != to) continue;
+            int from = from(move);
+            if (position.pieceAt(from) % 6 != type) continue;
+            if (fromCol >= 0 && (from & 7) != fromCol) continue;
+            if (fromRow >= 0 && (from >>> 3) != fromRow) continue;
+            if (promotion(move) != 0 && promotion(move) != (promotion == 0 ? QUEEN : promotion)) continue;
+            if (found != -1) return -1; // Ambiguous
+            found = move;
+        }
+        return found;
+    }
+
+    private static void appendSAN(StringBuilder san, Position position, int move, int[] legal, int count) {
+        int from = from(move), to = to(move);
+        if ((move & CASTLING) != 0) {
+            san.append(to > from ? "O-O" : "O-O-O");
+            return;
+        }
+        int type = position.pieceAt(from) % 6;
+        boolean capture = position.pieceAt(to) >= 0 || (move & EN_PASSANT) != 0;
+
+        if (type == PAWN) {
+            if (capture) san.append((char) ('a' + (from & 7))).append('x');
+            san.append(coordinate(to).name());
+            int promotion = promotion(move);
+            if (promotion != 0) san.append('=').append(Board.PieceType.values()[promotion].toChar());
+            return;
+        }
+
+        san.append(Board.PieceType.values()[type].toChar());
+        if (type != KING) {
+            // Other pieces of the same type which can also legally move to the square
+            boolean ambiguous = false, sameCol = false, sameRow = false;
+            for (int i = 0; i < count; i++) {
+                int other = legal[i];
+                int otherFrom = from(other);
+                if (otherFrom == from || to(other) != to || (other & CASTLING) != 0 || position.pieceAt(otherFrom) % 6 != type) continue;
+                ambiguous = true;
+                sameCol |= (otherFrom & 7) == (from & 7);
+                sameRow |= (otherFrom >>> 3) == (from >>> 3);
+            }
+            if (ambiguous) {
+                if (! sameCol) san.append((char) ('a' + (from & 7)));
+                else if (! sameRow) san.append((char) ('1' + (from >>> 3)));
+                else san.append(coordinate(from).name());
+            }
+        }
+        if (capture) san.append('x');
+        san.append(coordinate(to).name());
+    }
+
+    private static int square(String text, int index) {
+        if (text.length() < index + 2) return -1;
+        int col = text.charAt(index) - 'a', row = text.charAt(index + 1) - '1';
+        return col >= 0 && col <= 7 && row >= 0 && row <= 7 ? Bitboards.square(row, col) : -1;
+    }
+
+    private static int promotionType(char c) {
+        return switch (Character.toLowerCase(c)) {
+            case 'q' -> QUEEN;
+            case 'r' -> ROOK;
+            case 'b' -> BISHOP;
+            case 'n' -> KNIGHT;
+            default  -> -1;
+        };
+    }
+}
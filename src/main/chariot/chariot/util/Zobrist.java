@@ -0,0 +1,77 @@
+package chariot.util;
+
+import java.util.*;
+
+import chariot.util.Board.*;
+
+/**
+ * 64-bit Zobrist keys of positions, the xor of a random number per piece on a square,
+ * per castling rook, per en passant file and for black to move.
+ * <p>
+ * A move updates the key by xoring out what it removes and xoring in what it adds,
+ * see {@link #piece(Piece, Coordinate)}, {@link #castling(CastlingRights)}, {@link #ep(String)} and {@link #SIDE}.
+ * The squares and pieces are numbered as in {@link Bitboards}.
+ */
+final class Zobrist {
+
+    private Zobrist() {}
+
+    private static final long[] PIECES = new long[12 * 64];
+    // By square of the rook with the castling right
+    private static final long[] CASTLING = new long[64];
+    private static final long[] EP = new long[8];
+
+    static final long SIDE;
+
+    static {
+        // Fixed seed, so the keys are the same in every run
+        var random = new SplittableRandom(0x5eed_c4a2_1075_2024L);
+        for (int i = 0; i < PIECES.length; i++) PIECES[i] = random.nextLong();
+        for (int i = 0; i < CASTLING.length; i++) CASTLING[i] = random.nextLong();
+        for (int i = 0; i < EP.length; i++) EP[i] = random.nextLong();
+        SIDE = random.nextLong();
+    }
+
+    static long piece(int piece, int square) {
+        return PIECES[piece * 64 + square];
+    }
+
+    static long piece(Piece piece, Coordinate coordinate) {
+        return piece(piece.color().ordinal() * 6 + piece.type().ordinal(), Bitboards.square(coordinate));
+    }
+
+    static long castling(int[] castlingRooks) {
+        long key = 0;
+        for (int rook : castlingRooks) {
+            if (rook >= 0) key ^= CASTLING[rook];
+        }
+        return key;
+    }
+
+    static long castling(CastlingRights rights) {
+        return castling(Bitboards.castlingRooks(rights));
+    }
+
+    static long ep(int epSquare) {
+        return epSquare < 0 ? 0 : EP[epSquare & 7];
+    }
+
+    static long ep(String ep) {
+        return ep(Bitboards.epSquare(ep));
+    }
+
+    static long side(Side side) {
+        return side == Side.BLACK ? SIDE : 0;
+    }
+
+    /**
+     * The key of a position computed from scratch
+     */
+    static long key(Map<Coordinate, Piece> pieceMap, FEN fen) {
+        long key = side(fen.whoseTurn()) ^ castling(fen.castlingRights()) ^ ep(fen.ep());
+        for (var entry : pieceMap.entrySet()) {
+            key ^= piece(entry.getValue(), entry.getKey());
+        }
+        return key;
+    }
+}
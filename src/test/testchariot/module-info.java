@@ -1,6 +1,7 @@
 module testchariot {
     requires chariot;
     requires jdk.httpserver;
+    requires jdk.management; // allocation rate in benchmarks
 
     // Allow chariot module to read our test model classes
     exports tests.internal.yayson to chariot;
@@ -0,0 +1,36 @@
+package tests.api;
+
+import util.*;
+
+import chariot.Client;
+
+import static util.Assert.*;
+
+public class TestClientThreads {
+
+    @Test
+    public void clientsShareTheDispatcher() {
+        var server = TestTimeouts.server(exchange -> {
+            exchange.getResponseHeaders().add("content-type", "application/json");
+            byte[] body = "{\"ok\":true}".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        try {
+            for (int i = 0; i < 10; i++) {
+                var client = Client.basic(c -> c.api(TestTimeouts.uri(server)));
+                assertTrue(client.custom().of(json -> json).path("/api/custom").toOne().request(__ -> {}).isPresent());
+            }
+            assertEquals(1L, threads("chariot-dispatcher"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    static long threads(String name) {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals(name))
+            .count();
+    }
+}
@@ -0,0 +1,48 @@
+package tests.api;
+
+import util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.*;
+
+import chariot.Client;
+
+import static util.Assert.*;
+import static tests.api.TestTimeouts.*;
+
+public class TestCompression {
+
+    @Test
+    public void gzipAndDeflateBodiesAreDecompressed() {
+        var acceptEncoding = new ArrayList<String>();
+        var server = server(exchange -> {
+            acceptEncoding.add(String.valueOf(exchange.getRequestHeaders().getFirst("accept-encoding")));
+            String encoding = exchange.getRequestURI().getPath().substring("/api/".length());
+            var bytes = new ByteArrayOutputStream();
+            try (OutputStream out = encoding.equals("gzip") ? new GZIPOutputStream(bytes) : new DeflaterOutputStream(bytes)) {
+                for (int i = 1; i <= 100; i++) out.write(("{\"n\":" + i + "}\n").getBytes());
+            }
+            exchange.getResponseHeaders().add("content-type", "application/x-ndjson");
+            exchange.getResponseHeaders().add("content-encoding", encoding);
+            exchange.sendResponseHeaders(200, bytes.size());
+            exchange.getResponseBody().write(bytes.toByteArray());
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(uri(server)));
+
+            for (var encoding : List.of("gzip", "deflate")) {
+                var lines = client.custom().of(json -> json).path("/api/" + encoding).toMany()
+                    .request(__ -> {}).stream().toList();
+                assertEquals(100, lines.size(), () -> encoding + " " + lines);
+                assertEquals("{\"n\":1}", lines.get(0));
+                assertEquals("{\"n\":100}", lines.get(99));
+            }
+            assertTrue(acceptEncoding.stream().allMatch(value -> value.contains("gzip") && value.contains("deflate")),
+                    () -> "Accept-Encoding " + acceptEncoding);
+        } finally {
+            server.stop(0);
+        }
+    }
+}
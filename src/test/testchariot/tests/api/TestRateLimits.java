@@ -0,0 +1,174 @@
+package tests.api;
+
+import util.*;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import chariot.Client;
+import chariot.model.*;
+
+import static util.Assert.*;
+
+public class TestRateLimits {
+
+    @Test
+    public void configuredBurstIsNotSpaced() {
+
+        int requests = 10;
+
+        var scenario = Scenario.repeated(requests,
+                List.of(Scenario.path("/api/custom")),
+                List.of(
+                    Scenario.status(200),
+                    Scenario.body("""
+                        {"ok":true}"""),
+                    Scenario.header("content-type", "application/json")));
+
+        try (var stubServer = StubServer.start(scenario)) {
+            var client = Client.basic(c -> c
+                    .api(stubServer.uri())
+                    .rateLimits(r -> r.api(l -> l.burst(requests).parallel(requests))));
+            var endpoint = client.custom().of(json -> json).path("/api/custom").toOne();
+
+            long start = System.currentTimeMillis();
+            var futures = new ArrayList<CompletableFuture<One<String>>>();
+            for (int i = 0; i < requests; i++) futures.add(endpoint.requestAsync(request -> {}));
+            var results = futures.stream().map(CompletableFuture::join).toList();
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertTrue(results.stream().allMatch(One::isPresent));
+            // With the default limits, the requests after the first 4 would be spaced by a second each
+            assertTrue(elapsed < 3_000, "Elapsed " + elapsed + " ms");
+        }
+    }
+
+    @Test
+    public void defaultBurstIsSentInParallel() {
+        var server = TestTimeouts.server(exchange -> {
+            try { Thread.sleep(500); } catch (InterruptedException ie) {}
+            exchange.getResponseHeaders().add("content-type", "application/json");
+            byte[] body = "{\"ok\":true}".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(TestTimeouts.uri(server)));
+
+            long start = System.currentTimeMillis();
+            var futures = new ArrayList<CompletableFuture<One<String>>>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(client.custom().of(json -> json).path("/api/custom/" + i).toOne().requestAsync(request -> {}));
+            }
+            var results = futures.stream().map(CompletableFuture::join).toList();
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertTrue(results.stream().allMatch(One::isPresent));
+            // One at a time would take 2 seconds
+            assertTrue(elapsed < 1_500, "Elapsed " + elapsed + " ms");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void parallelLimitAppliesAfterTheBurst() {
+        var concurrent = new AtomicInteger();
+        var maxConcurrent = new AtomicInteger();
+        var server = TestTimeouts.server(exchange -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try { Thread.sleep(400); } catch (InterruptedException ie) {}
+            concurrent.decrementAndGet();
+            exchange.getResponseHeaders().add("content-type", "application/json");
+            byte[] body = "{\"ok\":true}".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c
+                    .api(TestTimeouts.uri(server))
+                    .rateLimits(r -> r.api(l -> l.burst(2).spacing(Duration.ofMillis(50)).parallel(1))));
+
+            var futures = new ArrayList<CompletableFuture<One<String>>>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(client.custom().of(json -> json).path("/api/custom/" + i).toOne().requestAsync(request -> {}));
+            }
+            var results = futures.stream().map(CompletableFuture::join).toList();
+
+            assertTrue(results.stream().allMatch(One::isPresent));
+            // The 2 requests of the burst, and 1 more at a time
+            assertTrue(maxConcurrent.get() <= 3, () -> "Concurrent " + maxConcurrent.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void retryAfterThrottling() {
+
+        var scenario = throttledThenOk();
+
+        try (var stubServer = StubServer.start(scenario)) {
+            var client = Client.basic(c -> c.api(stubServer.uri()).logging(l -> l.response().off()));
+            var endpoint = client.custom().of(json -> json).path("/api/custom").toOne();
+
+            long start = System.currentTimeMillis();
+            var result = endpoint.request(request -> {});
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertTrue(result.isPresent());
+            // Waited for the Retry-After of 1 second, not a fixed minute
+            assertTrue(elapsed >= 900 && elapsed < 10_000, "Elapsed " + elapsed + " ms");
+        }
+    }
+
+    @Test
+    public void retryBudgetExceeded() {
+
+        var scenario = throttledThenOk();
+
+        try (var stubServer = StubServer.start(scenario)) {
+            var client = Client.basic(c -> c.api(stubServer.uri()).retryBudget(Duration.ofMillis(100)).logging(l -> l.response().off()));
+            var endpoint = client.custom().of(json -> json).path("/api/custom").toOne();
+
+            long start = System.currentTimeMillis();
+            var result = endpoint.request(request -> {});
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertFalse(result.isPresent());
+            assertTrue(elapsed < 900, "Elapsed " + elapsed + " ms");
+        }
+    }
+
+    static Scenario throttledThenOk() {
+        return new Scenario.SScenario(List.of(
+                    new Scenario.Script(
+                        List.of(Scenario.path("/api/custom")),
+                        List.of(
+                            Scenario.status(429),
+                            Scenario.body("Too many requests"),
+                            Scenario.header("retry-after", "1"))),
+                    new Scenario.Script(
+                        List.of(Scenario.path("/api/custom")),
+                        List.of(
+                            Scenario.status(200),
+                            Scenario.body("""
+                                {"ok":true}"""),
+                            Scenario.header("content-type", "application/json")))),
+                List.of(Scenario.timeout(Duration.ofSeconds(2))));
+    }
+
+    @Test
+    public void invalidRateLimit() {
+        try {
+            Client.basic(c -> c.rateLimits(r -> r.explorer(l -> l.burst(0))));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException iae) {
+            assertTrue(iae.getMessage().contains("Burst"));
+        }
+    }
+}
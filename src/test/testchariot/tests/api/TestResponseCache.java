@@ -0,0 +1,157 @@
+package tests.api;
+
+import util.*;
+
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import chariot.Client;
+
+import static util.Assert.*;
+import static tests.api.TestTimeouts.*;
+
+public class TestResponseCache {
+
+    @Test
+    public void notModifiedIsAnsweredFromCache() {
+        var conditional = new ArrayList<String>();
+        var server = server(exchange -> {
+            var ifNoneMatch = exchange.getRequestHeaders().getFirst("if-none-match");
+            conditional.add(String.valueOf(ifNoneMatch));
+            if ("\"v1\"".equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                exchange.getResponseHeaders().add("content-type", "application/json");
+                exchange.getResponseHeaders().add("etag", "\"v1\"");
+                byte[] body = "{\"n\":1}".getBytes();
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(uri(server)).responseCache(10));
+            var endpoint = client.custom().of(json -> json).path("/api/resource").toOne();
+
+            var first = endpoint.request(__ -> {});
+            var second = endpoint.request(__ -> {});
+
+            assertEquals("{\"n\":1}", first.get());
+            assertEquals("{\"n\":1}", second.get());
+            assertEquals(List.of("null", "\"v1\""), conditional);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void freshResponseIsNotRequestedAgain() {
+        var requests = new AtomicInteger();
+        var server = server(exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("content-type", "application/json");
+            exchange.getResponseHeaders().add("cache-control", exchange.getRequestURI().getPath().endsWith("fresh")
+                    ? "max-age=60"
+                    : "no-store");
+            byte[] body = "{\"n\":1}".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(uri(server)).responseCache(10));
+            var fresh = client.custom().of(json -> json).path("/api/fresh").toOne();
+            var noStore = client.custom().of(json -> json).path("/api/nostore").toOne();
+
+            assertEquals("{\"n\":1}", fresh.request(__ -> {}).get());
+            assertEquals("{\"n\":1}", fresh.request(__ -> {}).get());
+            assertEquals(1, requests.get());
+
+            assertEquals("{\"n\":1}", noStore.request(__ -> {}).get());
+            assertEquals("{\"n\":1}", noStore.request(__ -> {}).get());
+            assertEquals(3, requests.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void onlySingleJsonResponsesAreStored() {
+        var requests = new AtomicInteger();
+        var server = server(exchange -> {
+            requests.incrementAndGet();
+            var path = exchange.getRequestURI().getPath();
+            exchange.getResponseHeaders().add("content-type", path.endsWith("pgn") ? "application/x-chess-pgn" : "application/json");
+            exchange.getResponseHeaders().add("cache-control", "max-age=60");
+            byte[] body = path.endsWith("large")
+                ? "{\"n\":\"%s\"}".formatted("x".repeat(2 << 20)).getBytes()
+                : "{\"n\":1}".getBytes();
+            // Chunked, without a content-length
+            exchange.sendResponseHeaders(200, 0);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(uri(server)).responseCache(10));
+            var pgn = client.custom().of(text -> text).path("/api/game/pgn").toOne();
+            var many = client.custom().of(json -> json).path("/api/games").toMany();
+            var large = client.custom().of(json -> json).path("/api/large").toOne();
+
+            pgn.request(__ -> {});
+            pgn.request(__ -> {});
+            assertEquals(2, requests.get());
+
+            assertEquals(List.of("{\"n\":1}"), many.request(__ -> {}).stream().toList());
+            assertEquals(List.of("{\"n\":1}"), many.request(__ -> {}).stream().toList());
+            assertEquals(4, requests.get());
+
+            // Passed on in full, but not kept
+            assertEquals((2 << 20) + 8, large.request(__ -> {}).get().length());
+            assertEquals((2 << 20) + 8, large.request(__ -> {}).get().length());
+            assertEquals(6, requests.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void directoryIsLimitedToMaxEntries() throws Exception {
+        var server = server(exchange -> {
+            exchange.getResponseHeaders().add("content-type", "application/json");
+            exchange.getResponseHeaders().add("cache-control", "max-age=60");
+            byte[] body = "{\"n\":1}".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        var directory = Files.createTempDirectory("chariot-cache");
+        try {
+            Files.writeString(directory.resolve("other.txt"), "Not a cache file");
+            var client = Client.basic(c -> c.api(uri(server)).responseCache(2, directory));
+            var endpoint = client.custom().of(json -> json).path("/api/resource/%s").toOne();
+            for (int i = 0; i < 5; i++) {
+                int n = i;
+                endpoint.request(r -> r.path(n));
+            }
+            assertEquals(3L, fileCount(directory));
+
+            // The files of the earlier session are trimmed to the new limit
+            Client.basic(c -> c.api(uri(server)).responseCache(1, directory));
+            assertEquals(2L, fileCount(directory));
+            assertTrue(Files.exists(directory.resolve("other.txt")), "Other files are left alone");
+        } finally {
+            server.stop(0);
+            try (var files = Files.list(directory)) {
+                for (var file : files.toList()) Files.delete(file);
+            }
+            Files.delete(directory);
+        }
+    }
+
+    static long fileCount(Path directory) throws Exception {
+        try (var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package tests.api;
+
+import util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import chariot.Client;
+
+import static util.Assert.*;
+import static tests.api.TestTimeouts.*;
+
+public class TestSingleFlight {
+
+    @Test
+    public void concurrentIdenticalRequestsShareOneResponse() {
+        var requests = new AtomicInteger();
+        var server = server(exchange -> {
+            int n = requests.incrementAndGet();
+            try { Thread.sleep(300); } catch (InterruptedException ie) {}
+            exchange.getResponseHeaders().add("content-type", "application/json");
+            byte[] body = ("{\"n\":" + n + "}").getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        var executor = Executors.newFixedThreadPool(5);
+        try {
+            var client = Client.basic(c -> c.api(uri(server)));
+            var endpoint = client.custom().of(json -> json).path("/api/resource").toOne();
+
+            var futures = new ArrayList<Future<String>>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(executor.submit(() -> endpoint.request(__ -> {}).get()));
+            }
+            var async = endpoint.requestAsync(__ -> {});
+
+            var results = new ArrayList<String>();
+            for (var future : futures) results.add(future.get(10, TimeUnit.SECONDS));
+            results.add(async.get(10, TimeUnit.SECONDS).get());
+
+            assertEquals(1, requests.get());
+            assertEquals(Collections.nCopies(6, "{\"n\":1}"), results);
+
+            // Not in flight anymore
+            assertEquals("{\"n\":2}", endpoint.request(__ -> {}).get());
+        } catch (Exception e) {
+            fail("Unexpected " + e);
+        } finally {
+            executor.shutdownNow();
+            server.stop(0);
+        }
+    }
+}
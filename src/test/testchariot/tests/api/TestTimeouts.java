@@ -0,0 +1,173 @@
+package tests.api;
+
+import util.*;
+
+import java.io.UncheckedIOException;
+import java.net.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+
+import com.sun.net.httpserver.*;
+
+import chariot.Client;
+
+import static util.Assert.*;
+
+public class TestTimeouts {
+
+    @Test
+    public void requestTimeoutWaitingForResponse() {
+        var stall = new CountDownLatch(1);
+        var server = server(exchange -> {
+            await(stall);
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(uri(server)).logging(l -> l.request().off()));
+            var endpoint = client.custom().of(json -> json).path("/api/stall").toOne();
+
+            long start = System.currentTimeMillis();
+            var result = endpoint.request(request -> request.timeout(Duration.ofMillis(300)));
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertFalse(result.isPresent());
+            assertTrue(elapsed < 2_000, "Elapsed " + elapsed + " ms");
+        } finally {
+            stall.countDown();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void requestTimeoutWaitingForBody() {
+        var stall = new CountDownLatch(1);
+        var server = server(exchange -> {
+            exchange.getResponseHeaders().add("content-type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            exchange.getResponseBody().write("{\"partial\":".getBytes());
+            exchange.getResponseBody().flush();
+            await(stall);
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(uri(server)));
+            var endpoint = client.custom().of(json -> json).path("/api/stall").toOne();
+
+            long start = System.currentTimeMillis();
+            var result = endpoint.request(request -> request.timeout(Duration.ofMillis(500)));
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertFalse(result.isPresent());
+            assertTrue(elapsed < 3_000, "Elapsed " + elapsed + " ms");
+        } finally {
+            stall.countDown();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void streamIdleTimeout() {
+        var stall = new CountDownLatch(1);
+        var server = server(exchange -> {
+            exchange.getResponseHeaders().add("content-type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            exchange.getResponseBody().write("{\"n\":1}\n{}\n".getBytes());
+            exchange.getResponseBody().flush();
+            await(stall);
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(uri(server)).streamIdleTimeout(Duration.ofMillis(500)));
+            var endpoint = client.custom().of(json -> json).path("/api/stream").toMany();
+
+            long start = System.currentTimeMillis();
+            var stream = endpoint.request(request -> request.stream()).stream();
+            var iterator = stream.iterator();
+            assertEquals("{\"n\":1}", iterator.next());
+            try {
+                iterator.hasNext();
+                fail("Expected the stream to time out");
+            } catch (UncheckedIOException uioe) {
+                assertTrue(String.valueOf(uioe.getCause().getMessage()).startsWith("No data received"), () -> "Cause " + uioe.getCause());
+            }
+            long elapsed = System.currentTimeMillis() - start;
+            assertTrue(elapsed < 3_000, "Elapsed " + elapsed + " ms");
+        } finally {
+            stall.countDown();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void bulkResponseOnlyTimesOutWhenIdle() {
+        var server = server(exchange -> {
+            exchange.getResponseHeaders().add("content-type", "text/plain");
+            exchange.sendResponseHeaders(200, 0);
+            for (var line : new String[] { "a", "b", "c" }) {
+                exchange.getResponseBody().write((line + "\n").getBytes());
+                exchange.getResponseBody().flush();
+                try { Thread.sleep(400); } catch (InterruptedException ie) {}
+            }
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(uri(server)));
+            var endpoint = client.custom().of(line -> line).path("/api/export").toMany();
+
+            // The request timeout is for single responses, the bulk download takes longer
+            var result = endpoint.request(request -> request.timeout(Duration.ofMillis(300)));
+            assertEquals(List.of("a", "b", "c"), result.stream().toList());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void slowConsumerDoesntTimeOut() {
+        var server = server(exchange -> {
+            exchange.getResponseHeaders().add("content-type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            exchange.getResponseBody().write("{\"n\":1}\n{\"n\":2}\n".getBytes());
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(uri(server)).streamIdleTimeout(Duration.ofMillis(300)));
+            var endpoint = client.custom().of(json -> json).path("/api/stream").toMany();
+
+            var iterator = endpoint.request(request -> request.stream()).stream().iterator();
+            assertEquals("{\"n\":1}", iterator.next());
+            // Thinking longer than the idle timeout, while the data has already arrived
+            try { Thread.sleep(1_000); } catch (InterruptedException ie) {}
+            assertEquals("{\"n\":2}", iterator.next());
+            assertFalse(iterator.hasNext());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    public static HttpServer server(HttpHandler handler) {
+        try {
+            var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+                var thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.createContext("/", handler);
+            server.start();
+            return server;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static URI uri(HttpServer server) {
+        return URI.create("http://%s:%d".formatted(server.getAddress().getHostString(), server.getAddress().getPort()));
+    }
+
+    public static void await(CountDownLatch latch) {
+        try { latch.await(10, TimeUnit.SECONDS); } catch (InterruptedException ie) {}
+    }
+}
@@ -0,0 +1,116 @@
+package tests.api.bot;
+
+import util.*;
+
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.*;
+
+import chariot.Client;
+import chariot.model.*;
+import chariot.internal.Endpoint;
+
+import static util.Assert.*;
+
+public class TestGameSessions {
+
+    static String gameStart(String gameId) {
+        return """
+            {"type":"gameStart","game":{"gameId":"%1$s","fullId":"%1$sabcd","color":"white",\
+            "fen":"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1","hasMoved":false,"isMyTurn":true,"lastMove":"",\
+            "opponent":{"id":"leela","rating":2390,"username":"leela"},"perf":"classical","rated":true,"secondsLeft":1200,\
+            "source":"friend","status":{"id":20,"name":"started"},"speed":"classical","variant":{"key":"standard","name":"Standard"},\
+            "compat":{"bot":true,"board":true},"id":"%1$s"}}
+            """.formatted(gameId);
+    }
+
+    @Test
+    public void gamesBeyondMaxStreamsAreQueued() {
+        var stall = new CountDownLatch(1);
+        var concurrent = new AtomicInteger();
+        var maxConcurrent = new AtomicInteger();
+        var gamePath = Endpoint.streamBotGameEvents.endpoint().formatted("");
+
+        var server = server(exchange -> {
+            exchange.getResponseHeaders().add("content-type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            var out = exchange.getResponseBody();
+            var path = exchange.getRequestURI().getPath();
+            if (path.startsWith(gamePath)) {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                out.write(TestGameStream.gameFull("").getBytes());
+                out.flush();
+                sleep(200);
+                out.write(TestGameStream.gameState("e2e4", "resign").getBytes());
+                concurrent.decrementAndGet();
+            } else {
+                out.write((gameStart("game1") + gameStart("game2")).getBytes());
+                out.flush();
+                try { stall.await(10, TimeUnit.SECONDS); } catch (InterruptedException ie) {}
+            }
+            exchange.close();
+        });
+
+        var handled = new ConcurrentHashMap<String, List<GameStateEvent.Type>>();
+        var ended = new CountDownLatch(2);
+
+        try {
+            var client = Client.auth(c -> c.api(uri(server)), "token");
+            try (var sessions = client.bot().gameSessions(game -> event -> {
+                    handled.computeIfAbsent(game.gameId(), __ -> new CopyOnWriteArrayList<>()).add(event.type());
+                    if (event instanceof GameStateEvent.State state && state.status() == Enums.Status.resign) ended.countDown();
+                }, params -> params.maxStreams(1))) {
+
+                assertTrue(ended.await(10, TimeUnit.SECONDS), "Games not ended " + handled);
+
+                var metrics = sessions.metrics();
+                for (int i = 0; i < 50 && metrics.completed() < 2; i++) {
+                    sleep(20);
+                    metrics = sessions.metrics();
+                }
+
+                assertEquals(1, maxConcurrent.get(), () -> "Max concurrent game streams");
+                assertEquals(List.of(GameStateEvent.Type.gameFull, GameStateEvent.Type.gameState), handled.get("game1"));
+                assertEquals(List.of(GameStateEvent.Type.gameFull, GameStateEvent.Type.gameState), handled.get("game2"));
+                assertEquals(2L, metrics.opened());
+                assertEquals(2L, metrics.completed());
+                assertEquals(0, metrics.active());
+                assertEquals(0, metrics.queued());
+                var queueTime = metrics.maxQueueTime();
+                assertTrue(queueTime.toMillis() >= 100, () -> "Max queue time " + queueTime);
+            }
+        } catch (InterruptedException ie) {
+            fail("Interrupted");
+        } finally {
+            stall.countDown();
+            server.stop(0);
+        }
+    }
+
+    static HttpServer server(HttpHandler handler) {
+        try {
+            var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+                var thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.createContext("/", handler);
+            server.start();
+            return server;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static URI uri(HttpServer server) {
+        return URI.create("http://%s:%d".formatted(server.getAddress().getHostString(), server.getAddress().getPort()));
+    }
+
+    static void sleep(long millis) {
+        try { Thread.sleep(millis); } catch (InterruptedException ie) {}
+    }
+}
@@ -0,0 +1,70 @@
+package tests.api.bot;
+
+import util.*;
+
+import java.time.Duration;
+import java.util.*;
+
+import chariot.Client;
+import chariot.model.*;
+import chariot.model.Enums.Status;
+import chariot.internal.Endpoint;
+
+import static util.Assert.*;
+
+public class TestGameStream {
+
+    static String gameFull(String moves) {
+        return """
+            {"type":"gameFull","id":"5IrD6Gzz","rated":true,"variant":{"key":"standard","name":"Standard","short":"Std"},\
+            "clock":{"initial":1200000,"increment":10000},"speed":"classical","perf":{"name":"Classical"},"createdAt":1523825103562,\
+            "white":{"id":"lovlas","name":"lovlas","provisional":false,"rating":1500,"title":"IM"},\
+            "black":{"id":"leela","name":"leela","rating":2390,"title":null},"initialFen":"startpos",\
+            "state":%s}
+            """.formatted(gameState(moves, "started").strip());
+    }
+
+    static String gameState(String moves, String status) {
+        return """
+            {"type":"gameState","moves":"%s","wtime":1200000,"btime":1200000,"winc":10000,"binc":10000,"status":"%s"}
+            """.formatted(moves, status);
+    }
+
+    @Test
+    public void resilientGameStreamResumes() {
+
+        String gameId = "5IrD6Gzz";
+        var path = Scenario.path(Endpoint.streamBotGameEvents.endpoint().formatted(gameId));
+        var ndjson = Scenario.header("content-type", "application/x-ndjson");
+
+        // The first connection is lost after the first move,
+        // and the second move is played while reconnecting.
+        var scenario = new Scenario.SScenario(List.of(
+                    new Scenario.Script(List.of(path), List.of(
+                            Scenario.status(200), ndjson,
+                            Scenario.streamBodies(List.of(gameFull(""), gameState("e2e4", "started"))))),
+                    new Scenario.Script(List.of(path), List.of(
+                            Scenario.status(200), ndjson,
+                            Scenario.streamBodies(List.of(gameFull("e2e4 e7e5"), gameState("e2e4 e7e5", "started"), gameState("e2e4 e7e5 f1c4", "resign")))))),
+                List.of(Scenario.timeout(Duration.ofSeconds(5))));
+
+        try (var stubServer = StubServer.start(scenario)) {
+            var client = Client.auth(c -> c.api(stubServer.uri()), "token");
+            var events = client.bot().connectToGameResilient(gameId).stream().toList();
+
+            assertEquals(List.of(
+                        GameStateEvent.Type.gameFull,
+                        GameStateEvent.Type.gameState,
+                        GameStateEvent.Type.gameState,
+                        GameStateEvent.Type.gameState),
+                    events.stream().map(GameStateEvent::type).toList(), () -> "Events " + events);
+
+            var moves = events.stream()
+                .map(event -> event instanceof GameStateEvent.Full full ? full.state() : (GameStateEvent.State) event)
+                .map(GameStateEvent.State::moves)
+                .toList();
+            assertEquals(List.of("", "e2e4", "e2e4 e7e5", "e2e4 e7e5 f1c4"), moves);
+            assertEquals(Status.resign, ((GameStateEvent.State) events.get(3)).status());
+        }
+    }
+}
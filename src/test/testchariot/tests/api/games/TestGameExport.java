@@ -6,6 +6,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.stream.*;
 
 import chariot.Client;
 import chariot.model.*;
@@ -114,4 +115,97 @@ public class TestGameExport {
             assertEquals(expected, result);
         }
     }
+
+    @Test
+    public void gamesByUserIdParallelDecoding() {
+
+        String userId = "lance5500";
+
+        var ids = IntStream.range(0, 200).mapToObj(i -> "g%07d".formatted(i)).toList();
+
+        String responseBody = ids.stream()
+            .map(id -> """
+                {"id":"%s","rated":true,"variant":"standard","speed":"blitz","perf":"blitz","createdAt":1514505150384,\
+                "lastMoveAt":1514505592843,"status":"draw","players":{"white":{"user":{"name":"Lance5500","id":"lance5500"},\
+                "rating":2389},"black":{"user":{"name":"TryingHard87","id":"tryinghard87"},"rating":2498}}}""".formatted(id))
+            .collect(Collectors.joining("\n"));
+
+        var scenario = Scenario.single(
+                List.of(Scenario.path(Endpoint.gamesByUserId.endpoint().formatted(userId))),
+                List.of(
+                    Scenario.status(200),
+                    Scenario.body(responseBody),
+                    Scenario.header("content-type", "application/x-ndjson")));
+
+        try (var stubServer = StubServer.start(scenario)) {
+            var client = Client.basic(c -> c.api(stubServer.uri()).parallelDecoding(4));
+            var result = client.games().byUserId(userId);
+            assertEquals(ids, result.stream().map(Game::id).toList());
+        }
+
+        // The decoding threads end when there is nothing left to decode
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (decoderThreads() > 0 && System.currentTimeMillis() < deadline) {
+            try { Thread.sleep(100); } catch (InterruptedException ie) {}
+        }
+        assertEquals(0L, decoderThreads());
+    }
+
+    @Test
+    public void gamesByUserIdAsync() {
+
+        String userId = "lance5500";
+
+        String responseBody = Stream.of("q7ZvsdUF", "h4kM9pQr")
+            .map(id -> """
+                {"id":"%s","rated":true,"variant":"standard","speed":"blitz","perf":"blitz","createdAt":1514505150384,\
+                "lastMoveAt":1514505592843,"status":"draw","players":{"white":{"user":{"name":"Lance5500","id":"lance5500"},\
+                "rating":2389},"black":{"user":{"name":"TryingHard87","id":"tryinghard87"},"rating":2498}}}""".formatted(id))
+            .collect(Collectors.joining("\n"));
+
+        var scenario = Scenario.single(
+                List.of(Scenario.path(Endpoint.gamesByUserId.endpoint().formatted(userId))),
+                List.of(
+                    Scenario.status(200),
+                    Scenario.body(responseBody),
+                    Scenario.header("content-type", "application/x-ndjson")));
+
+        try (var stubServer = StubServer.start(scenario)) {
+            var client = Client.basic(c -> c.api(stubServer.uri()));
+            var result = client.gamesAsync().byUserId(userId).join();
+            assertEquals(List.of("q7ZvsdUF", "h4kM9pQr"), result.stream().map(Game::id).toList());
+        }
+    }
+
+    @Test
+    public void gamesByUserIdSkipsUnreadableGame() {
+
+        String userId = "lance5500";
+
+        String responseBody = Stream.of(",", " ", ",")
+            .map(separator -> """
+                {"id":"q7ZvsdUF"%s"rated":true,"variant":"standard","speed":"blitz","perf":"blitz","createdAt":1514505150384,\
+                "lastMoveAt":1514505592843,"status":"draw","players":{"white":{"user":{"name":"Lance5500","id":"lance5500"},\
+                "rating":2389},"black":{"user":{"name":"TryingHard87","id":"tryinghard87"},"rating":2498}}}""".formatted(separator))
+            .collect(Collectors.joining("\n"));
+
+        var scenario = Scenario.single(
+                List.of(Scenario.path(Endpoint.gamesByUserId.endpoint().formatted(userId))),
+                List.of(
+                    Scenario.status(200),
+                    Scenario.body(responseBody),
+                    Scenario.header("content-type", "application/x-ndjson")));
+
+        try (var stubServer = StubServer.start(scenario)) {
+            var client = Client.basic(c -> c.api(stubServer.uri()));
+            // The game missing a comma is left out, and the stream continues with the next game
+            assertEquals(2L, client.games().byUserId(userId).stream().count());
+        }
+    }
+
+    static long decoderThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals("chariot-decoder"))
+            .count();
+    }
 }
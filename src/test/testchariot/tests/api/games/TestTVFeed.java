@@ -4,6 +4,7 @@ import util.*;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import chariot.Client;
 import chariot.internal.Endpoint;
@@ -13,6 +14,7 @@ import chariot.model.*;
 import chariot.model.TVFeedEvent.*;
 
 import static util.Assert.*;
+import static tests.api.TestTimeouts.*;
 
 public class TestTVFeed {
 
@@ -93,4 +95,32 @@ public class TestTVFeed {
             assertEquals(expected, result);
         }
     }
+
+    @Test
+    public void tvFeedIsNotReadAheadWithParallelDecoding() {
+        var stall = new CountDownLatch(1);
+        var server = server(exchange -> {
+            exchange.getResponseHeaders().add("content-type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            exchange.getResponseBody().write("""
+                {"t":"fen","d":{"fen":"rnbqk1r1/ppp1ppbp/8/N2p2p1/8/1PQPP3/P1P2PPn/R1B1K1NR","lm":"d2d4","wc":1,"bc":1}}
+                """.getBytes());
+            exchange.getResponseBody().flush();
+            await(stall);
+            exchange.close();
+        });
+        try {
+            var client = Client.basic(c -> c.api(uri(server)).parallelDecoding(4));
+            long start = System.currentTimeMillis();
+            var first = client.games().tvFeed().stream().findFirst();
+            long elapsed = System.currentTimeMillis() - start;
+
+            // The event is passed on while the connection is still open
+            assertTrue(first.orElse(null) instanceof Fen, () -> "First " + first);
+            assertTrue(elapsed < 2_000, "Elapsed " + elapsed + " ms");
+        } finally {
+            stall.countDown();
+            server.stop(0);
+        }
+    }
 }
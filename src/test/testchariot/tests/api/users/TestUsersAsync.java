@@ -0,0 +1,77 @@
+package tests.api.users;
+
+import util.*;
+
+import java.util.*;
+
+import chariot.Client;
+import chariot.model.*;
+import chariot.internal.Endpoint;
+
+import static util.Assert.*;
+
+public class TestUsersAsync {
+
+    @Test
+    public void usersByIdsAsync() {
+
+        String responseBody = """
+            [{"id":"lichess","username":"Lichess","createdAt":1290415680000,"seenAt":1522636452014},\
+            {"id":"thibault","username":"thibault","createdAt":1290415680000,"seenAt":1522636452014}]""";
+
+        var scenario = Scenario.single(
+                List.of(
+                    Scenario.path(Endpoint.usersByIds.endpoint()),
+                    Scenario.body("lichess,thibault")),
+                List.of(
+                    Scenario.status(200),
+                    Scenario.body(responseBody),
+                    Scenario.header("content-type", "application/json")));
+
+        try (var stubServer = StubServer.start(scenario)) {
+            var client = Client.basic(c -> c.api(stubServer.uri()));
+            var future = client.usersAsync().byIds("lichess", "thibault");
+            var result = future.join();
+            assertEquals(List.of("lichess", "thibault"), result.stream().map(User::id).toList());
+        }
+    }
+
+    @Test
+    public void customEndpointAsync() {
+
+        var scenario = Scenario.single(
+                List.of(Scenario.path("/api/custom/42")),
+                List.of(
+                    Scenario.status(200),
+                    Scenario.body("""
+                        {"value":"answer"}"""),
+                    Scenario.header("content-type", "application/json")));
+
+        try (var stubServer = StubServer.start(scenario)) {
+            var client = Client.basic(c -> c.api(stubServer.uri()));
+            var endpoint = client.custom().of(json -> json.strip()).path("/api/custom/%s").toOne();
+            var result = endpoint.requestAsync(request -> request.path(42)).join();
+            assertEquals(One.entry("""
+                {"value":"answer"}"""), result);
+        }
+    }
+
+    @Test
+    public void asyncResponseIsMappedOffTheHttpClientThreads() {
+
+        var scenario = Scenario.single(
+                List.of(Scenario.path("/api/custom/42")),
+                List.of(
+                    Scenario.status(200),
+                    Scenario.body("""
+                        {"value":"answer"}"""),
+                    Scenario.header("content-type", "application/json")));
+
+        try (var stubServer = StubServer.start(scenario)) {
+            var client = Client.basic(c -> c.api(stubServer.uri()));
+            var endpoint = client.custom().of(json -> Thread.currentThread().getName()).path("/api/custom/%s").toOne();
+            var result = endpoint.requestAsync(request -> request.path(42)).join();
+            assertEquals(One.entry("chariot-async"), result);
+        }
+    }
+}
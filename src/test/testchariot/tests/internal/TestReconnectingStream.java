@@ -0,0 +1,73 @@
+package tests.internal;
+
+import util.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import chariot.internal.ReconnectingStream;
+import chariot.internal.ReconnectingStream.Resync;
+import chariot.model.*;
+
+import static util.Assert.*;
+
+public class TestReconnectingStream {
+
+    @Test
+    public void handlerExceptionIsPassedOn() {
+        var connections = new AtomicInteger();
+        var resync = new Resync<String>() {
+            @Override public String next(String event) {
+                if (event.equals("bad")) throw new IllegalStateException("Mapping bug");
+                return event;
+            }
+        };
+
+        var iterator = ReconnectingStream.of(() -> {
+            connections.incrementAndGet();
+            return Many.entries(Stream.of("good", "bad"));
+        }, resync).stream().iterator();
+
+        assertEquals("good", iterator.next());
+        try {
+            iterator.next();
+            fail("Expected the exception of the handler");
+        } catch (IllegalStateException ise) {
+            assertEquals("Mapping bug", ise.getMessage());
+        }
+        assertEquals(1, connections.get());
+    }
+
+    @Test
+    public void backOffGrowsWhenConnectionsEndQuickly() {
+        var connections = new AtomicInteger();
+        var stop = new boolean[1];
+        var resync = new Resync<String>() {
+            @Override public String next(String event) { return event; }
+            @Override public boolean done() { return stop[0]; }
+        };
+
+        // Each connection delivers one event and is then lost
+        var many = ReconnectingStream.of(() -> {
+            connections.incrementAndGet();
+            return Many.entries(Stream.of("event", "lost").map(s -> {
+                if (s.equals("lost")) throw new UncheckedIOException(new IOException("Connection lost"));
+                return s;
+            }));
+        }, resync);
+
+        var consumer = new Thread(() -> many.stream().forEach(__ -> {}));
+        consumer.setDaemon(true);
+        consumer.start();
+
+        // Back off of at least 0.5s, 1s and 2s, so no more than 3 connections within 3.2s,
+        // which would be at least 4 if every event reset the back off to 1s
+        try { Thread.sleep(3_200); } catch (InterruptedException ie) {}
+        stop[0] = true;
+        assertTrue(connections.get() <= 3, () -> "Connections " + connections.get());
+        assertTrue(connections.get() >= 2, () -> "Connections " + connections.get());
+    }
+}
@@ -0,0 +1,168 @@
+package tests.internal.yayson;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.*;
+
+import chariot.internal.ModelMapper;
+import chariot.internal.yayson.Lexer;
+import chariot.internal.yayson.Parser;
+import chariot.internal.yayson.YayMapper;
+import chariot.model.*;
+
+/**
+ * Measures throughput and allocation rate of the json lexing, parsing and mapping,
+ * using fixtures shaped like the Lichess responses for a game export line,
+ * a user, an arena tournament page and a game state event stream.
+ *
+ * Run after a build with:
+ * {@snippet :
+ * java --add-exports chariot/chariot.internal=testchariot --add-exports chariot/chariot.internal.yayson=testchariot -p out/modules -m testchariot/tests.internal.yayson.MappingBenchmark
+ * }
+ * Optional arguments are a filter on the benchmark names and the number of milliseconds to measure each benchmark.
+ */
+public class MappingBenchmark {
+
+    record Benchmark(String name, Supplier<Object> operation) {}
+    record Result(String name, double opsPerSecond, double bytesPerOp, double mbPerSecond) {}
+
+    static volatile Object sink;
+
+    public static void main(String[] args) {
+        String filter = args.length > 0 ? args[0] : "";
+        long millis = args.length > 1 ? Long.parseLong(args[1]) : 1_000;
+
+        var yayMapper = YayMapper.mapper();
+        var gameTree = Parser.fromString(Fixtures.gameExport);
+        var arenaTree = Parser.fromString(Fixtures.arena);
+        var gameStateLines = Fixtures.gameStateStream.lines().toList();
+        var usersArray = Stream.generate(() -> Fixtures.user).limit(50).collect(Collectors.joining(",", "[", "]"));
+
+        var benchmarks = List.of(
+                new Benchmark("Lexer.tokenize game",             () -> Lexer.tokenize(Fixtures.gameExport)),
+                new Benchmark("Lexer.tokenize arena",            () -> Lexer.tokenize(Fixtures.arena)),
+                new Benchmark("Parser.fromString game",          () -> Parser.fromString(Fixtures.gameExport)),
+                new Benchmark("Parser.fromString user",          () -> Parser.fromString(Fixtures.user)),
+                new Benchmark("Parser.fromString arena",         () -> Parser.fromString(Fixtures.arena)),
+                new Benchmark("YayMapper.fromYayTree game",      () -> yayMapper.fromYayTree(gameTree, Game.class)),
+                new Benchmark("YayMapper.fromYayTree arena",     () -> yayMapper.fromYayTree(arenaTree, Arena.class)),
+                new Benchmark("ModelMapper.mapper game",         () -> ModelMapper.mapper(Game.class).apply(Fixtures.gameExport)),
+                new Benchmark("ModelMapper.mapper user",         () -> ModelMapper.mapper(UserData.class).apply(Fixtures.user)),
+                new Benchmark("ModelMapper.mapper arena",        () -> ModelMapper.mapper(Arena.class).apply(Fixtures.arena)),
+                new Benchmark("ModelMapper.mapper gameState",    () -> gameStateLines.stream().map(ModelMapper.mapper(GameStateEvent.class)).toList()),
+                new Benchmark("ModelMapper.mapperArr users[50]", () -> ModelMapper.mapperArr(UserData.class).apply(usersArray))
+                );
+
+        System.out.println("%-34s %14s %14s %12s".formatted("Benchmark", "ops/s", "bytes/op", "MB/s alloc"));
+        benchmarks.stream()
+            .filter(b -> b.name().toLowerCase().contains(filter.toLowerCase()))
+            .map(b -> run(b, millis))
+            .forEach(r -> System.out.println("%-34s %14.1f %14.0f %12.1f".formatted(r.name(), r.opsPerSecond(), r.bytesPerOp(), r.mbPerSecond())));
+    }
+
+    static Result run(Benchmark benchmark, long millis) {
+        // Warm up
+        measure(benchmark, millis);
+        return measure(benchmark, millis);
+    }
+
+    static Result measure(Benchmark benchmark, long millis) {
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long ops = 0;
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long deadline = start + millis * 1_000_000;
+        long now;
+        do {
+            sink = benchmark.operation().get();
+            ops++;
+        } while ((now = System.nanoTime()) < deadline);
+        long bytes = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        double seconds = (now - start) / 1e9;
+        return new Result(benchmark.name(), ops / seconds, (double) bytes / ops, bytes / seconds / (1024 * 1024));
+    }
+
+    static class Fixtures {
+
+        static final String gameExport = """
+            {"id":"q7ZvsdUF","rated":true,"variant":"standard","speed":"blitz","perf":"blitz","createdAt":1514505150384,\
+            "lastMoveAt":1514505592843,"status":"draw","source":"pool","players":{"white":{"user":{"name":"Lance5500","title":"LM",\
+            "patron":true,"id":"lance5500"},"rating":2389,"ratingDiff":4,"analysis":{"inaccuracy":2,"mistake":1,"blunder":0,"acpl":22,"accuracy":91}},\
+            "black":{"user":{"name":"TryingHard87","id":"tryinghard87"},"rating":2498,"ratingDiff":-4,"analysis":{"inaccuracy":1,\
+            "mistake":2,"blunder":1,"acpl":35,"accuracy":84}}},"opening":{"eco":"D31","name":"Semi-Slav Defense: Marshall Gambit","ply":7},\
+            "moves":"d4 d5 c4 c6 Nc3 e6 e4 Nd7 exd5 cxd5 cxd5 exd5 Qxd5 Nb6 Qxd8+ Kxd8 Bf4 Bd6 Bxd6 Nc4 O-O-O Nxd6",\
+            "clocks":[30003,30003,29923,29891,29827,29763,29683,29515,29451,29307,29171,29043,28963,28819,28627,28491],\
+            "analysis":[{"eval":18},{"eval":17},{"eval":3},{"eval":29},{"eval":9},{"eval":24},{"eval":-2,"best":"g1f3",\
+            "variation":"Nf3 Ngf6 Bg5 h6","judgment":{"name":"Inaccuracy","comment":"Inaccuracy. Nf3 was best."}},{"eval":33},\
+            {"mate":3,"best":"c4f7","variation":"Bxf7+ Ke7 Bg5+","judgment":{"name":"Blunder","comment":"Blunder. Bxf7+ was best."}}],\
+            "tournament":"winter17","clock":{"initial":300,"increment":3,"totalTime":420}}""";
+
+        static final String user = """
+            {"id":"georges","username":"Georges","perfs":{"chess960":{"games":2945,"rating":1609,"rd":60,"prog":-22,"prov":true},\
+            "atomic":{"games":2945,"rating":1609,"rd":60,"prog":-22},"blitz":{"games":2945,"rating":1609,"rd":60,"prog":-22},\
+            "bullet":{"games":2945,"rating":1609,"rd":60,"prog":-22},"rapid":{"games":2945,"rating":1609,"rd":60,"prog":-22},\
+            "classical":{"games":2945,"rating":1609,"rd":60,"prog":-22},"correspondence":{"games":2945,"rating":1609,"rd":60,"prog":-22},\
+            "puzzle":{"games":2945,"rating":1609,"rd":60,"prog":-22},"storm":{"runs":44,"score":61},"racer":{"runs":44,"score":61},\
+            "streak":{"runs":44,"score":61}},"flair":"nature.seedling","createdAt":1290415680000,"disabled":false,"tosViolation":false,\
+            "profile":{"country":"EC","location":"Lichess city","bio":"Free bugs!","firstName":"Thibault","lastName":"Duplessis","fideRating":1500,\
+            "uscfRating":1500,"ecfRating":1500,"links":"github.com/ornicar\\r\\nmas.to/@thibault"},"seenAt":1522636452014,"patron":true,\
+            "verified":true,"playTime":{"total":3296897,"tv":12134},"title":"NM","url":"https://lichess.org/@/georges",\
+            "playing":"https://lichess.org/yqfLYJ5E/black","count":{"all":9265,"rated":7157,"ai":531,"draw":340,"drawH":331,"loss":4480,\
+            "lossH":4207,"win":4440,"winH":4378,"bookmark":71,"playing":6,"import":66,"me":0},"streaming":false,"streamer":{"twitch":\
+            {"channel":"https://www.twitch.tv/lichessdotorg"},"youTube":{"channel":"https://www.youtube.com/c/LichessDotOrg"}},\
+            "followable":true,"following":false,"blocking":false,"followsYou":false}""";
+
+        static final String arena = arena(100, 10);
+
+        static final String gameStateStream = gameStateStream(40);
+
+        static String arena(int players, int duels) {
+            var standing = IntStream.range(0, players)
+                .mapToObj(i -> """
+                    {"name":"player%d","rank":%d,"rating":%d,"score":%d,"sheet":{"scores":"5430200220","fire":true},"team":"team%d"}"""
+                    .formatted(i, i + 1, 2600 - i * 3, 90 - i / 2, i % 5))
+                .collect(Collectors.joining(",", "[", "]"));
+            var duelList = IntStream.range(0, duels)
+                .mapToObj(i -> """
+                    {"id":"duel%04d","p":[{"n":"player%d","r":%d,"k":%d},{"n":"player%d","r":%d,"k":%d}]}"""
+                    .formatted(i, i * 2, 2500 - i, i * 2 + 1, i * 2 + 1, 2490 - i, i * 2 + 2))
+                .collect(Collectors.joining(",", "[", "]"));
+            return """
+                {"nbPlayers":%d,"duels":%s,"isFinished":false,"isRecentlyFinished":false,"pairingsClosed":false,\
+                "standing":{"page":1,"players":%s},"featured":{"id":"lNf9tWBi","fen":"r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R",\
+                "orientation":"white","color":"white","lastMove":"b8c6","white":{"rank":1,"name":"player0","rating":2600},\
+                "black":{"rank":2,"name":"player1","rating":2597}},"id":"2Yw3Dobd","createdBy":"lichess","startsAt":"2024-03-10T13:00:00Z",\
+                "system":"arena","fullName":"Hourly Blitz Arena","minutes":57,"perf":{"key":"blitz","name":"Blitz","icon":")"},\
+                "clock":{"limit":180,"increment":0},"variant":"standard","rated":true,"berserkable":true,\
+                "verdicts":{"list":[{"condition":"Rated ≥ 1500 in Blitz","verdict":"ok"}],"accepted":true},\
+                "isStarted":true,"secondsToFinish":2154,"description":"An hourly arena"}""".formatted(players, duelList, standing);
+        }
+
+        static String gameStateStream(int plies) {
+            var moves = List.of("e2e4", "e7e5", "g1f3", "b8c6", "f1b5", "a7a6", "b5a4", "g8f6", "e1g1", "f8e7");
+            var lines = new ArrayList<String>();
+            lines.add("""
+                {"type":"gameFull","id":"5IrD6Gzz","rated":true,"variant":{"key":"standard","name":"Standard","short":"Std"},\
+                "clock":{"initial":1200000,"increment":10000},"speed":"classical","perf":{"name":"Classical"},"createdAt":1523825103562,\
+                "white":{"id":"lovlas","name":"lovlas","provisional":false,"rating":1500,"title":"IM"},\
+                "black":{"id":"leela","name":"leela","rating":2390,"title":null},"initialFen":"startpos",\
+                "state":{"type":"gameState","moves":"","wtime":1200000,"btime":1200000,"winc":10000,"binc":10000,"status":"started"}}""");
+            var played = new ArrayList<String>();
+            for (int i = 0; i < plies; i++) {
+                played.add(moves.get(i % moves.size()));
+                lines.add("""
+                    {"type":"gameState","moves":"%s","wtime":%d,"btime":%d,"winc":10000,"binc":10000,"status":"started"}"""
+                    .formatted(String.join(" ", played), 1200000 - i * 1000, 1200000 - i * 900));
+                if (i % 10 == 9) {
+                    lines.add("""
+                        {"type":"chatLine","username":"lovlas","text":"Good luck","room":"player"}""");
+                }
+            }
+            return String.join("\n", lines);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package tests.internal.yayson;
+
+import java.util.*;
+
+import chariot.internal.yayson.Lexer;
+import chariot.internal.yayson.Parser;
+import chariot.internal.yayson.Parser.*;
+import chariot.internal.yayson.Token;
+import chariot.internal.yayson.Token.*;
+
+/**
+ * Compares {@link Parser#fromString(String)} with the previous list based parser,
+ * which consumed the tokens with {@code ArrayList.remove(0)}.
+ *
+ * Run after a build with:
+ * {@snippet :
+ * java --add-exports chariot/chariot.internal.yayson=testchariot -p out/modules -m testchariot/tests.internal.yayson.ParserBenchmark
+ * }
+ */
+public class ParserBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 20;
+        String json = payload(size);
+        int tokens = Lexer.tokenize(json).size();
+
+        System.out.println("Payload: %d chars, %d tokens".formatted(json.length(), tokens));
+
+        // Warm up
+        for (int i = 0; i < 5; i++) Parser.fromString(json);
+
+        long start = System.nanoTime();
+        var current = Parser.fromString(json);
+        long currentNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        var previous = ListParser.parse(Lexer.tokenize(json));
+        long previousNanos = System.nanoTime() - start;
+
+        System.out.println("Parser:     %6d ms".formatted(currentNanos / 1_000_000));
+        System.out.println("ListParser: %6d ms".formatted(previousNanos / 1_000_000));
+        System.out.println("Same tree:  %s".formatted(Objects.equals(current, previous)));
+    }
+
+    /**
+     * A json array of game export like objects, of at least {@code size} characters.
+     */
+    public static String payload(int size) {
+        var sb = new StringBuilder(size + 1024);
+        sb.append('[');
+        for (int i = 0; sb.length() < size; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("""
+                {"id":"g%07d","rated":true,"variant":"standard","speed":"blitz","createdAt":%d,\
+                "status":"mate","players":{"white":{"user":{"name":"white%d","id":"white%d"},"rating":%d,"ratingDiff":-4},\
+                "black":{"user":{"name":"black%d","id":"black%d"},"rating":%d,"ratingDiff":4}},\
+                "winner":"black","moves":"e4 e5 Nf3 Nc6 Bc4 Nf6 Ng5 d5 exd5 Na5","clock":{"initial":300,"increment":3,"totalTime":420},\
+                "analysis":[{"eval":18},{"eval":-1.5},{"mate":3,"best":"c4f7","judgment":{"name":"Blunder","comment":"Nope\\u2026"}}]}"""
+                .formatted(i, 1514505150384L + i, i, i, 1500 + i % 1000, i, i, 1500 + i % 700));
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    static class ListParser {
+
+        static YayNode parse(List<Token> tokens) {
+            if (tokens.isEmpty()) {
+                return new YayEmpty();
+            }
+            var token = tokens.remove(0);
+
+            if (token instanceof BeginArray) {
+                return parseArray(tokens);
+            } else if (token instanceof BeginObject) {
+                return parseObject(tokens);
+            } else if (token instanceof False) {
+                return new YayBool(false);
+            } else if (token instanceof True) {
+                return new YayBool(true);
+            } else if (token instanceof Null) {
+                return new YayNull();
+            } else if (token instanceof JsonNumber n) {
+                return new YayNumber(n.number(), n.string());
+            } else if (token instanceof JsonString s) {
+                return new YayString(s.string());
+            }
+            return new YayEmpty();
+        }
+
+        static YayArray parseArray(List<Token> tokens) {
+            var yayArray = new YayArray(new ArrayList<>());
+            if (tokens.get(0) instanceof EndArray) {
+                tokens.remove(0);
+                return yayArray;
+            }
+            while (true) {
+                yayArray.value().add(parse(tokens));
+                var t = tokens.remove(0);
+                if (t instanceof EndArray) {
+                    return yayArray;
+                } else if (! (t instanceof ValueSeparator)) {
+                    throw new YayException("Expected comma in array");
+                }
+            }
+        }
+
+        static YayObject parseObject(List<Token> tokens) {
+            var yayObject = new YayObject(new HashMap<String, YayNode>());
+            if (tokens.get(0) instanceof EndObject) {
+                tokens.remove(0);
+                return yayObject;
+            }
+            while (true) {
+                var key = (JsonString) tokens.remove(0);
+                tokens.remove(0);
+                yayObject.value().put(key.string(), parse(tokens));
+                var t = tokens.remove(0);
+                if (t instanceof EndObject) {
+                    return yayObject;
+                } else if (! (t instanceof ValueSeparator)) {
+                    throw new YayException("Expected comma after pair in object");
+                }
+            }
+        }
+    }
+}
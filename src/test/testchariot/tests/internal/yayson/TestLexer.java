@@ -1,5 +1,8 @@
 package tests.internal.yayson;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
 import java.util.List;
 
 import chariot.internal.yayson.Lexer;
@@ -175,7 +178,7 @@ public class TestLexer {
                 Token.BEGIN_OBJECT,
                 new Token.JsonString("key"),
                 Token.NAME_SEPARATOR,
-                new Token.JsonNumber("5.5", Float.valueOf(5.5f)),
+                new Token.JsonNumber("5.5", Double.valueOf(5.5)),
                 Token.END_OBJECT
                 );
         assertEquals(expected, tokens);
@@ -293,5 +296,132 @@ public class TestLexer {
         assertEquals(expected, tokens);
      }
 
-}
+    @Test
+    public void escapedSurrogatePair() {
+        String json = """
+          { "description" : "\\ud83d\\udcdc" }
+          """;
+        var tokens = Lexer.tokenize(json);
+        var expected = List.of(
+                Token.BEGIN_OBJECT,
+                new Token.JsonString("description"),
+                Token.NAME_SEPARATOR,
+                new Token.JsonString("📜", "\\ud83d\\udcdc"),
+                Token.END_OBJECT
+                );
+        assertEquals(expected, tokens);
+     }
 
+    @Test
+    public void escapedBackslashBeforeQuote() {
+        String json = """
+            { "key": "C:\\\\", "next": "value" }
+        """;
+        var tokens = Lexer.tokenize(json);
+        var expected = List.of(
+                Token.BEGIN_OBJECT,
+                new Token.JsonString("key"),
+                Token.NAME_SEPARATOR,
+                new Token.JsonString("C:\\", "C:\\\\"),
+                Token.VALUE_SEPARATOR,
+                new Token.JsonString("next"),
+                Token.NAME_SEPARATOR,
+                new Token.JsonString("value"),
+                Token.END_OBJECT
+                );
+        assertEquals(expected, tokens);
+    }
+
+    @Test
+    public void numberAtEndOfInput() {
+        var tokens = Lexer.tokenize("[1,23");
+        var expected = List.of(
+                Token.BEGIN_ARRAY,
+                new Token.JsonNumber("1", 1),
+                Token.VALUE_SEPARATOR,
+                new Token.JsonNumber("23", 23)
+                );
+        assertEquals(expected, tokens);
+    }
+
+    @Test
+    public void numberTypes() {
+        var tokens = Lexer.tokenize("[12,-3000000000,9223372036854775808,0.1234567891234,1e3]");
+        var expected = List.of(
+                Token.BEGIN_ARRAY,
+                new Token.JsonNumber("12", 12),
+                Token.VALUE_SEPARATOR,
+                new Token.JsonNumber("-3000000000", -3000000000L),
+                Token.VALUE_SEPARATOR,
+                new Token.JsonNumber("9223372036854775808", new BigDecimal("9223372036854775808")),
+                Token.VALUE_SEPARATOR,
+                new Token.JsonNumber("0.1234567891234", 0.1234567891234),
+                Token.VALUE_SEPARATOR,
+                new Token.JsonNumber("1e3", 1000.0),
+                Token.END_ARRAY
+                );
+        assertEquals(expected, tokens);
+    }
+
+    @Test
+    public void skipValue() {
+        String json = """
+            {"skip":{"a":[1,"}]\\"",{"b":null}],"c":"{"},"keep":-1.5e3,"skip2":true,"last":"x"}""";
+        for (var lexer : List.of(new Lexer(json), new Lexer(new StringReader(json) {
+                    // Read a few characters at a time, so skipped values span chunk boundaries
+                    @Override public int read(char[] cbuf, int off, int len) throws IOException {
+                        return super.read(cbuf, off, Math.min(len, 3));
+                    }
+                }))) {
+            assertEquals(Token.BEGIN_OBJECT, lexer.next());
+            assertEquals("skip", ((Token.JsonString) lexer.next()).string());
+            assertEquals(Token.NAME_SEPARATOR, lexer.next());
+            lexer.skipValue();
+            assertEquals(Token.VALUE_SEPARATOR, lexer.next());
+            assertEquals("keep", ((Token.JsonString) lexer.next()).string());
+            assertEquals(Token.NAME_SEPARATOR, lexer.next());
+            lexer.skipValue();
+            assertEquals(Token.VALUE_SEPARATOR, lexer.next());
+            assertEquals("skip2", ((Token.JsonString) lexer.next()).string());
+            assertEquals(Token.NAME_SEPARATOR, lexer.next());
+            lexer.skipValue();
+            assertEquals(Token.VALUE_SEPARATOR, lexer.next());
+            assertEquals("last", ((Token.JsonString) lexer.next()).string());
+            assertEquals(Token.NAME_SEPARATOR, lexer.next());
+            assertEquals("x", ((Token.JsonString) lexer.next()).string());
+            assertEquals(Token.END_OBJECT, lexer.next());
+            assertEquals(null, lexer.next());
+        }
+    }
+
+    @Test
+    public void skipToNesting() {
+        var lexer = new Lexer("""
+            {"a":{"b":[1,{"c":"]"}]},"d":2}
+            {"a":{"b":[1,{"c":"]"}]},"d":2}
+            {"next":true}""");
+        assertEquals(Token.BEGIN_OBJECT, lexer.next());
+        assertEquals("a", ((Token.JsonString) lexer.next()).string());
+        assertEquals(Token.NAME_SEPARATOR, lexer.next());
+        assertEquals(Token.BEGIN_OBJECT, lexer.peek());
+        lexer.skipValue();
+        assertEquals(1, lexer.nesting());
+        assertEquals(Token.VALUE_SEPARATOR, lexer.next());
+        lexer.skipTo(0);
+        assertEquals(0, lexer.nesting());
+
+        assertEquals(Token.BEGIN_OBJECT, lexer.next());
+        assertEquals("a", ((Token.JsonString) lexer.next()).string());
+        assertEquals(Token.NAME_SEPARATOR, lexer.next());
+        assertEquals(Token.BEGIN_OBJECT, lexer.next());
+        assertEquals("b", ((Token.JsonString) lexer.next()).string());
+        assertEquals(Token.NAME_SEPARATOR, lexer.next());
+        assertEquals(Token.BEGIN_ARRAY, lexer.next());
+        assertEquals(3, lexer.nesting());
+        // Give up on the value, and continue with the next one
+        lexer.skipTo(0);
+        assertEquals(0, lexer.nesting());
+        assertEquals(Token.BEGIN_OBJECT, lexer.next());
+        assertEquals("next", ((Token.JsonString) lexer.next()).string());
+    }
+}
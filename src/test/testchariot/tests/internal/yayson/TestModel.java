@@ -4,6 +4,8 @@ import java.time.ZonedDateTime;
 import java.util.*;
 
 import chariot.internal.Util;
+import chariot.internal.yayson.Lexer;
+import chariot.internal.yayson.Parser;
 import chariot.internal.yayson.YayMapper;
 import util.Test;
 
@@ -250,6 +252,24 @@ public class TestModel {
         }
     }
 
+    @Test
+    public void parseSealedInterfaceHierarchy() {
+        var jsonDeep = """
+            { "type": "deep", "depth": 3, "name": "x" }
+            """;
+        var jsonShallow = """
+            { "type": "shallow", "name": "y" }
+            """;
+        var jsonEmpty = """
+            { "unknown": 1 }
+            """;
+
+        assertEquals(new Deep("deep", 3, "x"), mapper.fromString(jsonDeep, Event.class));
+        assertEquals(new Shallow("shallow", "y"), mapper.fromString(jsonShallow, Event.class));
+        // No matching fields, first permitted record
+        assertEquals(new Shallow(null, null), mapper.fromString(jsonEmpty, Event.class));
+    }
+
     @Test
     public void parseEnum() {
 
@@ -319,7 +339,39 @@ public class TestModel {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void parseWideningPrimitives() {
+        var json = """
+            { "l": 5, "d": 3, "f": 2, "i": 7 }
+            """;
+        var first = mapper.fromString(json, Primitives.class);
+        var second = mapper.fromString(json, Primitives.class);
+        assertEquals(new Primitives(5L, 3.0, 2.0f, 7), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void bindSkipsUndeclaredFields() {
+        var json = """
+            { "ignored": { "deep": [1, {"a": [true, null]}, "x"] },
+              "b": true,
+              "nest": { "s": "nested", "skip": [[], {}] },
+              "more": "ignored",
+              "s": "top" }
+            """;
+        var lexer = new Lexer(json);
+        var bound = mapper.fromTokens(lexer.next(), lexer, Top.class);
+        assertEquals(new Top(true, new Nested("nested"), "top"), bound);
+        assertEquals(mapper.fromYayTree(Parser.fromString(json), Top.class), bound);
+        assertEquals(null, lexer.next());
+    }
+
     public record ZDT(String id, ZonedDateTime createdAt) {}
+    public sealed interface Event permits Shallow, Nested2 {}
+    public sealed interface Nested2 extends Event permits Deep {}
+    public record Shallow(String type, String name) implements Event {}
+    public record Deep(String type, Integer depth, String name) implements Nested2 {}
+    public record Primitives(long l, double d, float f, int i) {}
 
     public record Empty() {};
     public record SimpleBool(boolean b) {};
@@ -1,5 +1,10 @@
 package tests.internal.yayson;
 
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.nio.charset.StandardCharsets;
+
 import chariot.internal.yayson.Parser;
 import chariot.internal.yayson.Parser.*;
 import util.Test;
@@ -137,7 +142,7 @@ public class TestParser {
         """;
         var node = Parser.fromString(json);
         if (node instanceof YayObject yo) {
-            assertEquals(5.5f, yo.getNumber("key"));
+            assertEquals(5.5, yo.getNumber("key"));
         } else {
             fail();
         }
@@ -214,4 +219,68 @@ public class TestParser {
             fail();
         }
     }
+
+    @Test
+    public void largePayload() {
+        String json = ParserBenchmark.payload(1 << 20);
+        var node = Parser.fromString(json);
+        if (node instanceof YayArray ya) {
+            assertTrue(ya.value().size() > 1000);
+            if (ya.value().get(ya.value().size()-1) instanceof YayObject last
+                && last.value().get("analysis") instanceof YayArray analysis
+                && analysis.value().get(2) instanceof YayObject mate
+                && mate.value().get("judgment") instanceof YayObject judgment) {
+                assertEquals("Nope\u2026", judgment.getString("comment"));
+            } else {
+                fail("Unexpected last game " + ya.value().get(ya.value().size()-1));
+            }
+        } else {
+            fail();
+        }
+    }
+
+    @Test
+    public void largePayloadFromInputStream() {
+        String json = ParserBenchmark.payload(1 << 20);
+        var node = Parser.fromInputStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(Parser.fromString(json), node);
+    }
+
+    @Test
+    public void streamOfNdjson() {
+        String ndjson = """
+            {"id":"a","name":"\\u00e5sa \\\\ \\\"quoted\\\""}
+            {}
+            {"id":"b","rating":1.5,"tags":["x",null,true]}
+            """;
+        // Read a few bytes at a time, so tokens span chunk boundaries
+        var inputStream = new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)) {
+            @Override public int read(byte[] b, int off, int len) { return super.read(b, off, Math.min(len, 3)); }
+        };
+        var nodes = Parser.stream(inputStream).toList();
+        assertEquals(3, nodes.size());
+        assertEquals(ndjson.lines().map(Parser::fromString).toList(), nodes);
+        if (nodes.get(0) instanceof YayObject yo) {
+            assertEquals("\u00e5sa \\ \"quoted\"", yo.getString("name"));
+        } else {
+            fail();
+        }
+    }
+
+    @Test
+    public void bigDecimalFromTheOriginalText() {
+        String json = """
+            {"small":0.1234567890123456789,"large":123456789012345678.9,"integral":9223372036854775808}
+        """;
+        if (Parser.fromString(json) instanceof YayObject yo) {
+            assertEquals("0.1234567890123456789", ((YayNumber) yo.value().get("small")).bigDecimalValue().toPlainString());
+            assertEquals("123456789012345678.9", ((YayNumber) yo.value().get("large")).bigDecimalValue().toPlainString());
+            assertEquals("9223372036854775808", ((YayNumber) yo.value().get("integral")).bigDecimalValue().toPlainString());
+            // Equal by value, regardless of how the number was written
+            assertEquals(new YayObject(Map.of("n", new YayNumber(5))), Parser.fromString("{\"n\":5}"));
+            assertEquals(new YayNumber(new BigDecimal("9223372036854775808")), yo.value().get("integral"));
+        } else {
+            fail();
+        }
+    }
 }
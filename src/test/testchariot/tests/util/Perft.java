@@ -0,0 +1,80 @@
+package tests.util;
+
+import java.util.*;
+
+import chariot.util.Board;
+import chariot.util.Board.Castling;
+import chariot.util.Position;
+
+/**
+ * Counts the leaf nodes of the move generation tree, to compare with the known counts of well-known positions.
+ * See <a href="https://www.chessprogramming.org/Perft_Results">Perft Results</a>
+ */
+public class Perft {
+
+    /**
+     * The standard positions, with the node counts of depth 1, 2, 3...
+     */
+    public record Fixture(String name, String fen, long... nodes) {}
+
+    public static final List<Fixture> positions = List.of(
+            new Fixture("start",     "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1", 20, 400, 8902, 197281),
+            new Fixture("kiwipete",  "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", 48, 2039, 97862),
+            new Fixture("position3", "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", 14, 191, 2812, 43238),
+            new Fixture("position4", "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", 6, 264, 9467),
+            new Fixture("position5", "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", 44, 1486, 62379),
+            new Fixture("position6", "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10", 46, 2079, 89890)
+            );
+
+    public static final List<Fixture> chess960 = List.of(
+            new Fixture("chess960 1", "bqnb1rkr/pp3ppp/3ppn2/2p5/5P2/P2P4/NPP1P1PP/BQ1BNRKR w HFhf - 2 9", 21, 528, 12189),
+            new Fixture("chess960 2", "2nnrbkr/p1qppppp/8/1ppb4/6PP/3PP3/PPP2P2/BQNNRBKR w HEhe - 1 9", 21, 807, 18002),
+            new Fixture("chess960 3", "b1q1rrkb/pppppppp/3nn3/8/P7/1PPP4/4PPPP/BQNNRKRB w GE - 1 9", 20, 479, 10471),
+            new Fixture("chess960 4", "qbbnnrkr/2pp2pp/p7/1p2pp2/8/P3PP2/1PPP1KPP/QBBNNR1R w hf - 0 9", 22, 593, 13440),
+            new Fixture("chess960 5", "1nbbnrkr/p1p1ppp1/3p4/1p3P1p/3Pq2P/8/PPP1P1P1/QNBBNRKR w HFhf - 0 9", 28, 1120, 31058)
+            );
+
+    public static long perft(Board board, int depth) {
+        if (depth == 0) return 1;
+        var moves = board.validMoves();
+        if (depth == 1) return moves.size();
+        long nodes = 0;
+        for (var move : moves) {
+            nodes += perft(board.play(move), depth - 1);
+        }
+        return nodes;
+    }
+
+    public static long perft(Position position, int depth) {
+        if (depth == 0) return 1;
+        return perft(position, depth, new int[depth + 1][Position.MAX_MOVES]);
+    }
+
+    // One move array per depth, so counting doesn't allocate
+    private static long perft(Position position, int depth, int[][] moves) {
+        int count = position.legalMoves(moves[depth]);
+        if (depth == 1) return count;
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            position.makeMove(moves[depth][i]);
+            nodes += perft(position, depth - 1, moves);
+            position.unmakeMove();
+        }
+        return nodes;
+    }
+
+    /**
+     * The node count below each move, by uci, to find which move differs from a reference count.
+     * Castling is written as the king moving to the rook, as in Chess960 the king move can't be told apart otherwise.
+     */
+    public static Map<String, Long> divide(Board board, int depth) {
+        var nodes = new TreeMap<String, Long>();
+        for (var move : board.validMoves()) {
+            String uci = move instanceof Castling castling
+                ? castling.king().from().name() + castling.rook().from().name()
+                : move.uci();
+            nodes.put(uci, perft(board.play(move), depth - 1));
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,61 @@
+package tests.util;
+
+import java.util.*;
+import java.util.function.LongSupplier;
+
+import chariot.util.Board;
+import chariot.util.Position;
+
+/**
+ * Measures the move generation of {@link Board} and {@link Position} in nodes per second,
+ * by counting the leaf nodes of the standard perft positions.
+ *
+ * Run after a build with:
+ * {@snippet :
+ * java -p out/modules -m testchariot/tests.util.PerftBenchmark
+ * }
+ * Optional arguments are a filter on the position names and the depth.
+ */
+public class PerftBenchmark {
+
+    record Result(String name, long nodes, double boardNodesPerSecond, double positionNodesPerSecond) {}
+
+    static volatile long sink;
+
+    public static void main(String[] args) {
+        String filter = args.length > 0 ? args[0] : "";
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        var positions = new ArrayList<Perft.Fixture>();
+        positions.addAll(Perft.positions);
+        positions.addAll(Perft.chess960);
+
+        System.out.println("%-14s %6s %12s %16s %16s".formatted("Position", "depth", "nodes", "Board nodes/s", "Position nodes/s"));
+        positions.stream()
+            .filter(p -> p.name().toLowerCase().contains(filter.toLowerCase()))
+            .map(p -> run(p, depth))
+            .forEach(r -> System.out.println("%-14s %6d %12d %16.0f %16.0f".formatted(
+                            r.name(), depth, r.nodes(), r.boardNodesPerSecond(), r.positionNodesPerSecond())));
+    }
+
+    static Result run(Perft.Fixture position, int depth) {
+        var board = Board.fromFEN(position.fen());
+        var mutable = Position.of(board);
+        double boardNodesPerSecond = nodesPerSecond(position, depth, () -> Perft.perft(board, depth));
+        double positionNodesPerSecond = nodesPerSecond(position, depth, () -> Perft.perft(mutable, depth));
+        return new Result(position.name(), sink, boardNodesPerSecond, positionNodesPerSecond);
+    }
+
+    static double nodesPerSecond(Perft.Fixture position, int depth, LongSupplier perft) {
+        // Warm up
+        sink = perft.getAsLong();
+        long start = System.nanoTime();
+        long nodes = perft.getAsLong();
+        long nanos = System.nanoTime() - start;
+        sink = nodes;
+        if (depth <= position.nodes().length && nodes != position.nodes()[depth - 1]) {
+            System.err.println("%s depth %d: expected %d nodes but counted %d".formatted(position.name(), depth, position.nodes()[depth - 1], nodes));
+        }
+        return nodes * 1_000_000_000d / nanos;
+    }
+}
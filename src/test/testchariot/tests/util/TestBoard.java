@@ -1,5 +1,7 @@
 package tests.util;
 
+import java.util.*;
+
 import chariot.util.Board;
 import chariot.util.Board.GameState;
 import util.Test;
@@ -158,5 +160,51 @@ public class TestBoard {
         assertEquals(expectedFenAfterKingSide, kingSideByE8G8.toFEN());
     }
 
+    @Test
+    public void noCastlingOntoAttackedSquare() {
+        Board whiteToMove = Board.fromFEN("4k1r1/8/8/8/8/8/8/R3K2R w KQ - 0 1");
+
+        assertTrue(whiteToMove.validMoves().stream().map(m -> m.toString()).toList().contains("e1c1"));
+        assertFalse(whiteToMove.validMoves().stream().map(m -> m.toString()).toList().contains("e1g1"));
+    }
+
+    @Test
+    public void noEnPassantExposingKing() {
+        Board whiteToMove = Board.fromFEN("8/8/8/KPp4r/8/8/8/7k w - c6 0 2");
+
+        assertFalse(whiteToMove.validMoves().stream().map(m -> m.toString()).toList().contains("b5c6"));
+        assertTrue(whiteToMove.validMoves().stream().map(m -> m.toString()).toList().contains("b5b6"));
+    }
+
+    @Test
+    public void promotionsAreValidMoves() {
+        Board whiteToMove = Board.fromFEN("7k/P7/8/8/8/8/8/K7 w - - 0 1");
+
+        var moves = whiteToMove.validMoves().stream().map(m -> m.toString()).toList();
+        assertTrue(moves.containsAll(List.of("a7a8q", "a7a8r", "a7a8b", "a7a8n")), () -> moves.toString());
+        assertFalse(moves.contains("a7a8"), () -> moves.toString());
+        assertEquals("N6k/8/8/8/8/8/8/K7 b - - 0 1", whiteToMove.play("a7a8n").toFEN());
+        assertEquals("Q6k/8/8/8/8/8/8/K7 b - - 0 1", whiteToMove.play("a7a8").toFEN());
+    }
+
+    @Test
+    public void capturedRookLosesCastling() {
+        Board blackToMove = Board.fromFEN("r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 0 1");
 
+        assertEquals("r3k3/8/8/8/8/8/8/R3K2r w Qq - 0 2", blackToMove.play("h8h1").toFEN());
+    }
+
+    @Test
+    public void transpositionsAreEqual() {
+        Board board = Board.fromStandardPosition();
+        Board viaKnightF3 = board.play("Nf3 Nf6 Nc3");
+        Board viaKnightC3 = board.play("Nc3 Nf6 Nf3");
+
+        assertEquals(viaKnightF3.zobristKey(), viaKnightC3.zobristKey());
+        assertEquals(viaKnightF3, viaKnightC3);
+        assertEquals(viaKnightF3.hashCode(), viaKnightC3.hashCode());
+        assertEquals(viaKnightF3, Board.fromFEN(viaKnightF3.toFEN()));
+        assertFalse(viaKnightF3.equals(board.play("Nf3 Nf6 Nc3 Nc6")));
+        assertFalse(board.zobristKey() == Board.fromFEN(standardFen.replace(" w ", " b ")).zobristKey());
+    }
 }
@@ -0,0 +1,46 @@
+package tests.util;
+
+import chariot.util.Board;
+import chariot.util.Board.CastlingRights;
+import util.Test;
+
+import static util.Assert.*;
+
+public class TestPerft {
+
+    static final int maxDepth = 3;
+
+    @Test
+    public void standardPositions() {
+        Perft.positions.forEach(TestPerft::assertNodes);
+    }
+
+    @Test
+    public void chess960Positions() {
+        for (var position : Perft.chess960) {
+            assertTrue(Board.fromFEN(position.fen()) instanceof Board.BoardData board
+                    && board.fen().castlingRights() instanceof CastlingRights.Chess960,
+                    () -> "Chess960 castling rights " + position.fen());
+            assertNodes(position);
+        }
+    }
+
+    @Test
+    public void divideSumsUpToPerft() {
+        var board = Board.fromFEN(Perft.positions.get(1).fen());
+        var divide = Perft.divide(board, 2);
+        assertEquals(48, divide.size());
+        assertEquals(2039L, divide.values().stream().mapToLong(Long::longValue).sum());
+        // Queen side castling, written as the king to the rook
+        assertEquals(Perft.perft(board.play("e1c1"), 1), divide.get("e1a1"));
+    }
+
+    static void assertNodes(Perft.Fixture position) {
+        var board = Board.fromFEN(position.fen());
+        for (int depth = 1; depth <= Math.min(maxDepth, position.nodes().length); depth++) {
+            int d = depth;
+            long nodes = Perft.perft(board, depth);
+            assertEquals(position.nodes()[depth - 1], nodes, () -> "%s depth %d: %s".formatted(position.name(), d, Perft.divide(board, d)));
+        }
+    }
+}
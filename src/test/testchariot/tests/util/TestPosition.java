@@ -0,0 +1,72 @@
+package tests.util;
+
+import java.util.*;
+
+import chariot.util.Board;
+import chariot.util.Position;
+import util.Test;
+
+import static util.Assert.*;
+
+public class TestPosition {
+
+    @Test
+    public void perftMatchesKnownCounts() {
+        for (var position : Perft.positions) {
+            int depth = Math.min(4, position.nodes().length);
+            assertEquals(position.nodes()[depth - 1], Perft.perft(Position.fromFEN(position.fen()), depth), () -> position.name());
+        }
+        for (var position : Perft.chess960) {
+            int depth = position.nodes().length;
+            assertEquals(position.nodes()[depth - 1], Perft.perft(Position.fromFEN(position.fen()), depth), () -> position.name());
+        }
+    }
+
+    @Test
+    public void makeAndUnmakeMatchBoard() {
+        for (var fen : List.of(Perft.positions.get(1).fen(), Perft.positions.get(3).fen(), Perft.chess960.get(0).fen())) {
+            var board = Board.fromFEN(fen);
+            var position = Position.of(board);
+            int[] moves = new int[Position.MAX_MOVES];
+            int count = position.legalMoves(moves);
+            assertEquals(board.validMoves().size(), count);
+            for (int i = 0; i < count; i++) {
+                var move = position.toMove(moves[i]);
+                var played = board.play(move);
+                position.makeMove(moves[i]);
+                assertEquals(played.toFEN(), position.toFEN(), () -> fen + " " + move);
+                assertEquals(played.zobristKey(), position.zobristKey(), () -> fen + " " + move);
+                position.unmakeMove();
+                assertEquals(board.toFEN(), position.toFEN(), () -> fen + " " + move);
+                assertEquals(board.zobristKey(), position.zobristKey(), () -> fen + " " + move);
+            }
+        }
+    }
+
+    @Test
+    public void convertsToAndFromBoard() {
+        var board = Board.fromStandardPosition().play("e4 e5 Nf3 Nc6");
+        var position = Position.of(board);
+        assertEquals(board, position.toBoard());
+
+        position.makeMove(position.fromMove(uci(board, "f1b5")));
+        assertEquals(board.play("Bb5").toFEN(), position.toFEN());
+        assertEquals(1, position.plies());
+        assertEquals(-1, position.fromMove(new Board.FromTo(Board.Coordinate.name("e1"), Board.Coordinate.name("e3"))));
+    }
+
+    @Test
+    public void threefoldRepetition() {
+        var board = Board.fromStandardPosition().play("Na3 Na6 Nb1 Nb8 Na3 Na6 Nb1");
+        var position = Position.of(board);
+        assertFalse(position.threefoldRepetition());
+        position.makeMove(position.fromMove(uci(board, "a6b8")));
+        assertTrue(position.threefoldRepetition(), "Expected threefold repetition");
+        position.unmakeMove();
+        assertFalse(position.threefoldRepetition());
+    }
+
+    static Board.Move uci(Board board, String uci) {
+        return board.validMoves().stream().filter(move -> move.uci().equals(uci)).findAny().orElseThrow();
+    }
+}
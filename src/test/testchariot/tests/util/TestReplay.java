@@ -0,0 +1,83 @@
+package tests.util;
+
+import java.util.*;
+
+import chariot.util.Board;
+import chariot.util.Replay;
+import util.Test;
+
+import static util.Assert.*;
+
+public class TestReplay {
+
+    @Test
+    public void sanAndFenOfEachPly() {
+        var uci = List.of("e2e4", "e7e5", "f1c4", "b8c6", "d1h5", "g8f6", "h5f7");
+        var plies = Replay.fromUCI(uci);
+
+        assertEquals(List.of("e4", "e5", "Bc4", "Nc6", "Qh5", "Nf6", "Qxf7#"), plies.stream().map(Replay.Ply::san).toList());
+        assertEquals(uci, plies.stream().map(Replay.Ply::uci).toList());
+        assertEquals("r1bqkb1r/pppp1Qpp/2n2n2/4p3/2B1P3/8/PPPP1PPP/RNB1K1NR b KQkq - 0 4", plies.get(6).fen());
+    }
+
+    @Test
+    public void fensMatchBoard() {
+        var uci = List.of("e2e4", "g8f6", "e4e5", "d7d5", "e5d6", "e7d6", "g1f3", "f8e7", "f1e2", "e8g8", "e1g1");
+        var plies = Replay.fromUCI(uci);
+
+        assertEquals(List.of("e4", "Nf6", "e5", "d5", "exd6", "exd6", "Nf3", "Be7", "Be2", "O-O", "O-O"),
+                plies.stream().map(Replay.Ply::san).toList());
+        Board board = Board.fromStandardPosition();
+        for (int i = 0; i < uci.size(); i++) {
+            board = board.play(uci.get(i));
+            assertEquals(board.toFEN(), plies.get(i).fen());
+        }
+    }
+
+    @Test
+    public void sanMovesFromPgn() {
+        var san = List.of("e4!", "Nf6", "e5", "d5", "exd6", "exd6?!", "Nf3", "Be7", "Be2", "0-0", "O-O");
+        var plies = Replay.fromSAN(san);
+
+        assertEquals(List.of("e2e4", "g8f6", "e4e5", "d7d5", "e5d6", "e7d6", "g1f3", "f8e7", "f1e2", "e8g8", "e1g1"),
+                plies.stream().map(Replay.Ply::uci).toList());
+        assertEquals(Replay.fromUCI(plies.stream().map(Replay.Ply::uci).toList()), plies);
+    }
+
+    @Test
+    public void promotionAndChess960Castling() {
+        var promotion = Replay.fromUCI(Board.fromFEN("7k/P7/8/8/8/8/8/K7 w - - 0 1"), List.of("a7a8n"));
+        assertEquals("a8=N", promotion.get(0).san());
+        assertEquals("N6k/8/8/8/8/8/8/K7 b - - 0 1", promotion.get(0).fen());
+
+        var queen = Replay.fromSAN(Board.fromFEN("7k/P7/8/8/8/8/8/K7 w - - 0 1"), List.of("a8=Q+"));
+        assertEquals("a7a8q", queen.get(0).uci());
+        assertEquals("a8=Q+", queen.get(0).san());
+
+        // King to the rook is read as castling
+        var castling = Replay.fromUCI(Board.fromFEN("4k3/8/8/8/8/8/8/1RK4R w HB - 0 1"), List.of("c1h1"));
+        assertEquals("O-O", castling.get(0).san());
+        assertEquals("c1g1", castling.get(0).uci());
+        assertEquals("4k3/8/8/8/8/8/8/1R3RK1 b - - 1 1", castling.get(0).fen());
+    }
+
+    @Test
+    public void pinnedPiecesDontNeedDisambiguation() {
+        // The knight on d6 is pinned, so only the knight on e3 can move to f5
+        var plies = Replay.fromUCI(Board.fromFEN("1r6/3k1qN1/1p1n4/3R4/4Pp2/1PQPnK1P/7P/1R1B2b1 b - - 0 43"), List.of("e3f5"));
+        assertEquals("Nf5", plies.get(0).san());
+
+        var knights = Replay.fromUCI(Board.fromFEN("4k3/8/8/8/8/8/8/1N2KN2 w - - 0 1"), List.of("b1d2"));
+        assertEquals("Nbd2", knights.get(0).san());
+    }
+
+    @Test
+    public void invalidMove() {
+        try {
+            Replay.fromSAN(List.of("e4", "e4"));
+            fail("Expected an invalid move");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("ply 2"), () -> e.getMessage());
+        }
+    }
+}
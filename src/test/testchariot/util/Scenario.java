@@ -21,6 +21,13 @@ public sealed interface Scenario {
                 List.of(timeout(Duration.ofSeconds(2))));
     }
 
+    static Scenario repeated(int times, List<RequestProperty> req, List<ResponseProperty> res) {
+        var script = new Script(List.copyOf(req), List.copyOf(res));
+        return new SScenario(
+                Stream.generate(() -> script).limit(times).toList(),
+                List.of(timeout(Duration.ofSeconds(2))));
+    }
+
     static SLogging logging(Consumer<String> log) { return new SLogging(log); }
     static SPath path(String path) { return new SPath(path); }
     static SBody body(String body) { return body(body.getBytes()); }
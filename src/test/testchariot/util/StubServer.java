@@ -18,7 +18,7 @@ public class StubServer implements AutoCloseable {
     private final Consumer<String> log;
     private final HttpServer server;
     private final Set<String> ignoredHeaderNames = Set.of(
-            "connection", "http2-settings", "host", "upgrade", "user-agent");
+            "accept-encoding", "connection", "http2-settings", "host", "upgrade", "user-agent");
 
 
     public static StubServer start(Scenario scenario) {
@@ -227,6 +227,7 @@ public class StubServer implements AutoCloseable {
         exchange.sendResponseHeaders(status, body.length);
         exchange.getResponseBody().write(body);
         exchange.getResponseBody().flush();
+        exchange.close();
     }
 
     void respond(HttpExchange exchange, int status) throws IOException {